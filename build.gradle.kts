@@ -11,6 +11,19 @@ configurations {
     }
 }
 
+// jmh benchmarks - src/jmh/java
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+configurations {
+    getByName("jmhImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+}
+
 allprojects {
     group = property("app.group").toString()
 }
@@ -23,10 +36,15 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.hdrhistogram)
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
 }
 
 // about source and compilation
@@ -35,7 +53,7 @@ java {
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
@@ -48,5 +66,66 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("performance", "small-heap")
+    }
+}
+// -PtestJavaVersion=21 : 테스트만 지정한 JDK 로 실행 (virtual thread 테스트는 Java 21 이상에서만 동작)
+providers.gradleProperty("testJavaVersion").orNull?.let { testJavaVersion ->
+    tasks.withType<Test>().configureEach {
+        javaLauncher.set(javaToolchains.launcherFor {
+            languageVersion.set(JavaLanguageVersion.of(testJavaVersion))
+        })
+    }
+}
+// performance tests - @Tag("performance") 벤치마크 테스트만 별도 실행
+tasks.register<Test>("performanceTest") {
+    group = "verification"
+    description = "Runs benchmark tests tagged with 'performance'."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("performance")
+    }
+    maxHeapSize = "3g"
+    //측정값에 coverage instrumentation 비용이 섞이지 않도록 제외
+    extensions.configure<JacocoTaskExtension> {
+        isEnabled = false
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+// small heap tests - @Tag("small-heap") 테스트만 64MB heap 으로 실행 (내역 수와 무관하게 메모리 사용량이 일정한지 확인)
+tasks.register<Test>("smallHeapTest") {
+    group = "verification"
+    description = "Runs tests tagged with 'small-heap' on a 64MB heap."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("small-heap")
+    }
+    maxHeapSize = "64m"
+    extensions.configure<JacocoTaskExtension> {
+        isEnabled = false
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+// jmh benchmarks - 결과는 build/reports/jmh/results.json 에 JSON 으로 저장
+// ./gradlew jmh -Pjmh.includes=<벤치마크 이름 정규식>
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs JMH benchmarks in src/jmh and writes a JSON report."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val reportFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(reportFile)
+    outputs.upToDateWhen { false }
+    doFirst {
+        reportFile.get().asFile.parentFile.mkdirs()
+    }
+    args("-rf", "json", "-rff", reportFile.get().asFile.absolutePath)
+    project.findProperty("jmh.includes")?.let { args(it.toString()) }
 }
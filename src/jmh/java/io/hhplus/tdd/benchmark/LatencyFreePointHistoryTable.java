@@ -0,0 +1,30 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * throttle 없이 동작하는 PointHistoryTable 대체 객체 - 조회 로직은 기존 테이블과 동일한 전체 스캔
+ * - write-behind 를 끄면 여러 요청 스레드에서 바로 insert 하므로 동기화
+ */
+class LatencyFreePointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private long cursor = 1;
+
+    @Override
+    public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+        table.add(pointHistory);
+        return pointHistory;
+    }
+
+    @Override
+    public synchronized List<PointHistory> selectAllByUserId(long userId) {
+        return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+    }
+}
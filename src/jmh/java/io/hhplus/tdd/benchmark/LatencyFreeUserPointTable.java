@@ -0,0 +1,27 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.dto.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * throttle 없이 동작하는 UserPointTable 대체 객체 - 테이블 지연 대신 서비스 자체 비용만 측정
+ */
+class LatencyFreeUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+}
@@ -0,0 +1,147 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserPointService 충전/사용/내역 조회 처리량 벤치마크
+ * - 테이블 지연(throttle)을 뺀 대체 테이블로 lock/캐시/내역 저장 등 서비스 자체 비용만 측정
+ * - 파라미터: 유저 ID 분포(UNIFORM: 전체 유저 고르게 / HOT: 소수 유저에 요청 집중), 미리 쌓아둘 내역 수
+ * - 스레드 수는 @Threads 가 다른 하위 클래스(Threads1/Threads4/Threads16)로 구분
+ * - 매 iteration 마다 서비스를 새로 만들어 잔고/내역이 누적되지 않도록 함
+ * ./gradlew jmh -Pjmh.includes=UserPointServiceBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public abstract class UserPointServiceBenchmark {
+
+    static final int USER_COUNT = 10_000;
+    static final int HOT_USER_COUNT = 10;
+    //HOT 분포에서 hot user 에게 가는 요청 비율
+    static final double HOT_RATIO = 0.9;
+    //충전/사용 한도에 걸리지 않도록 최대 잔고의 절반에서 시작해서 1P 씩 변경
+    static final long INITIAL_POINT = UserPoint.MAX_POINT / 2;
+    static final long AMOUNT = 1L;
+
+    public enum Distribution {
+        UNIFORM, HOT
+    }
+
+    @State(Scope.Benchmark)
+    public static class ServiceState {
+
+        @Param({"UNIFORM", "HOT"})
+        Distribution distribution;
+
+        @Param({"0", "100000"})
+        int historySize;
+
+        UserPointService userPointService;
+        PointHistoryWriter pointHistoryWriter;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            PointProperties pointProperties = new PointProperties();
+            UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new LatencyFreeUserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+            PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new LatencyFreePointHistoryTable()), pointProperties, PointMetrics.noop());
+            pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+            pointHistoryWriter.start();
+            ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+            userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                    new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+
+            for (long id = 0; id < USER_COUNT; id++) {
+                userPointRepository.insertOrUpdate(id, INITIAL_POINT);
+            }
+            //내역은 전체 유저에게 고르게 분산
+            for (int row = 0; row < historySize; row++) {
+                pointHistoryRepository.insert(row % USER_COUNT, AMOUNT, TransactionType.CHARGE, row);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            pointHistoryWriter.shutdown();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class UserIdState {
+        private final SplittableRandom random = new SplittableRandom();
+
+        long nextId(Distribution distribution) {
+            if (distribution == Distribution.HOT && random.nextDouble() < HOT_RATIO) {
+                return random.nextInt(HOT_USER_COUNT);
+            }
+            return random.nextInt(USER_COUNT);
+        }
+    }
+
+    @Benchmark
+    public UserPoint chargePoint(ServiceState service, UserIdState user) {
+        return service.userPointService.chargePoint(user.nextId(service.distribution), AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint chargePointOnlyReentrantLock(ServiceState service, UserIdState user) {
+        return service.userPointService.chargePointOnlyReentrantLock(user.nextId(service.distribution), AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint usePoint(ServiceState service, UserIdState user) {
+        return service.userPointService.usePoint(user.nextId(service.distribution), AMOUNT);
+    }
+
+    @Benchmark
+    public List<PointHistory> selectUserPointHistory(ServiceState service, UserIdState user) {
+        return service.userPointService.selectUserPointHistory(user.nextId(service.distribution));
+    }
+
+    @Threads(1)
+    public static class Threads1 extends UserPointServiceBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends UserPointServiceBenchmark {
+    }
+
+    @Threads(16)
+    public static class Threads16 extends UserPointServiceBenchmark {
+    }
+}
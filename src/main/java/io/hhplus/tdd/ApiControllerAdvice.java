@@ -1,5 +1,11 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,8 +13,25 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    /**
+     * 대기 한도 초과(LOCK_WAIT_EXCEEDED)는 429 와 다시 요청할 시점(Retry-After, 초 단위 올림 / 최소 1초)으로 응답
+     */
+    @ExceptionHandler(value = TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException e, HttpServletRequest request) {
+        ErrorCode errorCode = e.getErrorCode();
+        request.setAttribute(PointMetrics.ERROR_CODE_ATTRIBUTE, errorCode.name());
+        long retryAfterSeconds = Math.max(1L, (e.getRetryAfter().toMillis() + 999L) / 1000L);
+        return ResponseEntity.status(errorCode.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(new ErrorResponse(errorCode.getCode(), errorCode.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
-    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+    public ResponseEntity<ErrorResponse> handleException(Exception e, HttpServletRequest request) {
+        //http.server.requests 지표에 에러코드 태그로 남기기 위해 기록
+        if (e instanceof CustomException customException) {
+            request.setAttribute(PointMetrics.ERROR_CODE_ATTRIBUTE, customException.getErrorCode().name());
+        }
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
     }
 }
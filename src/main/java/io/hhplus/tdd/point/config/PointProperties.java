@@ -0,0 +1,230 @@
+package io.hhplus.tdd.point.config;
+
+import io.hhplus.tdd.point.repository.HistoryStoreType;
+import io.hhplus.tdd.point.repository.HistoryWriteMode;
+import io.hhplus.tdd.point.repository.store.StoreType;
+import io.hhplus.tdd.point.service.PointEngineType;
+import io.hhplus.tdd.point.service.UseConcurrencyMode;
+import io.hhplus.tdd.point.util.lock.LockMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * 포인트 서비스 설정 값 (application.yml 의 point.* 항목)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "point")
+public class PointProperties {
+
+    private final History history = new History();
+    private final Cache cache = new Cache();
+    private final Lock lock = new Lock();
+    private final Engine engine = new Engine();
+    private final Batch batch = new Batch();
+    private final Journal journal = new Journal();
+    private final Snapshot snapshot = new Snapshot();
+    private final Stats stats = new Stats();
+    private final Idempotency idempotency = new Idempotency();
+    private final HotUser hotUser = new HotUser();
+    private final Lookup lookup = new Lookup();
+    private final Store store = new Store();
+
+    /**
+     * 충전/사용 내역 설정
+     * - store: 유저별 내역 인덱스 저장 방식 OBJECT(PointHistory 객체) / COLUMNAR(primitive 컬럼 chunk)
+     * - writeMode: 유저 lock 안에서 잔고/내역 저장 순서 SEQUENTIAL(잔고 저장 후 내역 저장) / PIPELINED(동시에 저장)
+     *   (write-behind 사용 시 내역은 큐에 넣기만 하므로 PIPELINED 여도 SEQUENTIAL 로 처리)
+     *   (point.store.type=TABLE 은 여러 유저의 내역 저장을 한 건씩 처리하므로 동시에 요청하는 유저가 많으면 PIPELINED 효과가 거의 없음)
+     * - pipelineThreads: PIPELINED 내역 저장을 동시에 진행하는 최대 스레드 수, 넘으면 요청 스레드가 대기
+     */
+    @Getter
+    @Setter
+    public static class History {
+        private final WriteBehind writeBehind = new WriteBehind();
+        private HistoryStoreType store = HistoryStoreType.OBJECT;
+        private HistoryWriteMode writeMode = HistoryWriteMode.SEQUENTIAL;
+        private int pipelineThreads = 16;
+    }
+
+    /**
+     * 충전/사용 내역 비동기 저장(write-behind) 설정
+     * - enabled: false 이면 요청 스레드에서 바로 내역 저장
+     * - queueCapacity: 저장 대기 큐 최대 크기, 가득 차면 요청 스레드가 대기
+     * - batchSize: 백그라운드 writer 가 한번에 꺼내서 저장하는 최대 건수
+     * - retryBackoff: 내역 저장 실패 시 첫 재시도 전 대기 시간, 재시도마다 2배씩 늘어남
+     * - maxRetryBackoff: 재시도 전 대기 시간 상한
+     */
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        private boolean enabled = true;
+        private int queueCapacity = 10_000;
+        private int batchSize = 100;
+        private Duration retryBackoff = Duration.ofMillis(10);
+        private Duration maxRetryBackoff = Duration.ofSeconds(1);
+    }
+
+    /**
+     * 유저 포인트 잔고 캐시 설정
+     * - enabled: false 이면 매번 UserPointTable 조회
+     * - maxSize: 캐시할 최대 유저 수, 넘으면 가장 오래 사용하지 않은 유저부터 제거
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private int maxSize = 100_000;
+    }
+
+    /**
+     * 유저별 lock 설정
+     * - mode: MAP(유저별 lock 계속 보관) / STRIPED(고정 개수 lock 공유) / REF_COUNTED(사용 중인 lock 만 보관)
+     * - stripes: STRIPED 모드의 lock 개수, 2의 거듭제곱으로 올림
+     * - waitTimeout: lock 획득 최대 대기 시간, 넘으면 LOCK_WAIT_EXCEEDED(429) - 0 이면 제한 없음
+     * - maxQueuedWaiters: 같은 lock 에 이미 대기 중인 스레드가 이 수 이상이면 기다리지 않고 LOCK_WAIT_EXCEEDED(429) - 0 이면 제한 없음
+     * - retryAfter: LOCK_WAIT_EXCEEDED 응답의 Retry-After 헤더 값 (초 단위로 올림)
+     */
+    @Getter
+    @Setter
+    public static class Lock {
+        private LockMode mode = LockMode.MAP;
+        private int stripes = 1024;
+        private Duration waitTimeout = Duration.ZERO;
+        private int maxQueuedWaiters = 0;
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+
+    /**
+     * 충전/사용 처리 엔진 설정
+     * - type: LOCK(유저별 ReentrantLock) / LOCK_FREE(Compare and Swap) / COMBINING(같은 유저 동시 요청 합쳐서 저장)
+     * - useMode: LOCK 엔진의 포인트 사용 방식 PESSIMISTIC(유저 lock, 기본값) / OPTIMISTIC(버전 비교 후 저장)
+     *   (OPTIMISTIC 도 저장 시점에는 유저 lock 을 잡으므로 경합이 적어도 빨라지지 않고, 경합이 많으면 재시도 후 lock 으로 넘어가서 더 느림 -> 필요할 때만 선택)
+     */
+    @Getter
+    @Setter
+    public static class Engine {
+        private PointEngineType type = PointEngineType.LOCK;
+        private UseConcurrencyMode useMode = UseConcurrencyMode.PESSIMISTIC;
+        private final Optimistic optimistic = new Optimistic();
+    }
+
+    /**
+     * 낙관적 포인트 사용(useMode=OPTIMISTIC) 재시도 설정
+     * - maxAttempts: 버전 충돌 시 최대 시도 횟수, 넘으면 유저 lock 으로 처리
+     * - backoff: 첫 재시도 전 최대 대기 시간, 재시도마다 2배씩 늘어나고 0 ~ 최대 대기 시간 사이에서 무작위로 대기
+     * - maxBackoff: 재시도 전 대기 시간 상한
+     */
+    @Getter
+    @Setter
+    public static class Optimistic {
+        private int maxAttempts = 5;
+        private Duration backoff = Duration.ofMillis(1);
+        private Duration maxBackoff = Duration.ofMillis(20);
+    }
+
+    /**
+     * 일괄 충전/사용(POST /point/batch) 설정
+     * - maxOperations: 요청 1번에 담을 수 있는 최대 충전/사용 건수
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        private int maxOperations = 1_000;
+    }
+
+    /**
+     * 잔고/내역 변경 journal(memory-map 세그먼트 파일) 설정
+     * - enabled: true 이면 모든 잔고 저장/내역 기록을 journal 에 남기고 시작 시 journal 로 테이블을 다시 채움
+     * - directory: 세그먼트 파일 저장 경로
+     * - segmentSize: 세그먼트 파일 1개 크기, 가득 차면 다음 세그먼트 파일 생성
+     */
+    @Getter
+    @Setter
+    public static class Journal {
+        private boolean enabled = false;
+        private String directory = "data/journal";
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+    }
+
+    /**
+     * 잔고 snapshot 설정
+     * - enabled: true 이면 interval 마다 모든 유저의 잔고를 내역(변동분)으로부터 다시 계산해서 snapshot 저장
+     * - interval: snapshot 주기, 잔고 재계산 시 읽는 내역은 최근 interval 2번 사이의 내역으로 제한됨
+     */
+    @Getter
+    @Setter
+    public static class Snapshot {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofMinutes(1);
+    }
+
+    /**
+     * 날짜별 충전/사용 합계(GET /point/{id}/stats) 설정
+     * - zone: 내역 처리 시간을 날짜로 나눌 때 기준 시간대
+     */
+    @Getter
+    @Setter
+    public static class Stats {
+        private ZoneId zone = ZoneId.of("Asia/Seoul");
+    }
+
+    /**
+     * 충전/사용 Idempotency-Key 결과 캐시 설정
+     * - enabled: false 이면 Idempotency-Key 헤더를 무시하고 매번 처리
+     * - maxSize: 보관할 최대 키 수, 넘으면 가장 오래된 키부터 제거
+     * - ttl: 키 보관 시간, 지나면 같은 키로 요청해도 다시 처리
+     */
+    @Getter
+    @Setter
+    public static class Idempotency {
+        private boolean enabled = true;
+        private int maxSize = 1_000_000;
+        private Duration ttl = Duration.ofHours(1);
+    }
+
+    /**
+     * 유저 lock 경합이 많은 유저(hot user) 감지 설정
+     * - enabled: true 이면 LOCK 엔진에서 hot user 의 충전/사용을 같은 유저 요청끼리 합쳐서 처리(CombiningPointEngine)
+     * - capacity: 경합 정도를 세는 칸 수 (유저 수와 상관없이 고정 메모리), GET /point/hot-users 로 조회 가능한 최대 유저 수
+     * - window: 경합 정도를 절반으로 줄이는 주기
+     * - threshold: hot user 로 표시하는 경합 정도 - lock 이 잡혀 있을 때 들어온 요청마다 (1 + 기다리던 스레드 수)를 더한 값, window 마다 절반으로 줄어든 값 기준
+     */
+    @Getter
+    @Setter
+    public static class HotUser {
+        private boolean enabled = true;
+        private int capacity = 64;
+        private Duration window = Duration.ofSeconds(1);
+        private long threshold = 32;
+    }
+
+    /**
+     * 여러 유저 잔고 일괄 조회(GET /point?ids=) 설정
+     * - maxIds: 요청 1번에 조회할 수 있는 최대 유저 수
+     * - parallelism: 동시에 조회하는 최대 유저 수 (모든 일괄 조회 요청이 함께 사용하는 조회 스레드 수)
+     * - deadline: 일괄 조회 1번의 제한 시간, 넘으면 끝난 조회 결과만 반환하고 나머지 유저는 LOOKUP_TIMEOUT
+     */
+    @Getter
+    @Setter
+    public static class Lookup {
+        private int maxIds = 1_000;
+        private int parallelism = 256;
+        private Duration deadline = Duration.ofSeconds(1);
+    }
+
+    /**
+     * 잔고/내역 저장소 설정
+     * - type: TABLE(UserPointTable / PointHistoryTable) / IN_MEMORY(지연 없는 동시성 Map / 내역 목록)
+     */
+    @Getter
+    @Setter
+    public static class Store {
+        private StoreType type = StoreType.TABLE;
+    }
+}
@@ -1,23 +1,63 @@
 package io.hhplus.tdd.point.controller;
 
+import io.hhplus.tdd.point.dto.BalanceVerification;
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.HotUser;
 import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.PointStats;
+import io.hhplus.tdd.point.dto.PointTransfer;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointLookup;
+import io.hhplus.tdd.point.service.BalanceSnapshotService;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointHistoryExportService;
+import io.hhplus.tdd.point.service.PointLookupService;
 import io.hhplus.tdd.point.service.UserPointService;
 import io.hhplus.tdd.point.util.exception.CustomException;
 import io.hhplus.tdd.point.util.exception.ErrorCode;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/point")
 public class PointController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final UserPointService userPointService;
+    private final PointBatchService pointBatchService;
+    private final PointHistoryExportService pointHistoryExportService;
+    private final PointLookupService pointLookupService;
+    private final BalanceSnapshotService balanceSnapshotService;
 
-    public PointController(UserPointService userPointService){
+    public PointController(UserPointService userPointService, PointBatchService pointBatchService, PointHistoryExportService pointHistoryExportService, PointLookupService pointLookupService, BalanceSnapshotService balanceSnapshotService){
         this.userPointService = userPointService;
+        this.pointBatchService = pointBatchService;
+        this.pointHistoryExportService = pointHistoryExportService;
+        this.pointLookupService = pointLookupService;
+        this.balanceSnapshotService = balanceSnapshotService;
+    }
+
+    /**
+     * 유저 lock 경합이 많은 유저를 많은 순서대로 최대 limit 명 조회
+     * - routed 가 true 인 유저는 충전/사용을 같은 유저 요청끼리 합쳐서 처리하는 중
+     */
+    @GetMapping("hot-users")
+    public ResponseEntity<List<HotUser>> hotUsers(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(userPointService.selectHotUsers(limit));
     }
 
     /**
@@ -40,13 +80,98 @@ public class PointController {
         return ResponseEntity.ok(userPointService.selectUserPointHistory(id));
     }
 
+    /**
+     * 여러 유저의 포인트를 한번에 조회 (GET /point?ids=11,12,13)
+     * - 유저별 조회를 동시에 진행해서 유저 수와 상관없이 조회 1번에 가까운 시간에 응답
+     * - 제한 시간(point.lookup.deadline) 안에 조회하지 못한 유저는 LOOKUP_TIMEOUT 으로 반환 (나머지 유저는 정상 결과)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<UserPointLookup>> points(
+            @RequestParam List<Long> ids
+    ) throws CustomException {
+        return ResponseEntity.ok(pointLookupService.selectUserPoints(ids));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 cursor 기반으로 limit 건씩 조회
+     * - limit 파라미터가 있을 때만 페이지 조회, 없으면 전체 내역 조회
+     * - 다음 페이지는 응답의 nextCursor 를 after 로 넘겨서 조회, nextCursor 가 null 이면 마지막 페이지
+     */
+    @GetMapping(value = "{id}/histories", params = "limit")
+    public ResponseEntity<PointHistoryPage> historyPage(
+            @PathVariable long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "DESC") HistorySortOrder order
+    ) throws CustomException {
+
+        //페이지 크기 최소/최대 값 체크
+        if (limit < PointHistoryPage.MIN_LIMIT || limit > PointHistoryPage.MAX_LIMIT) {
+            throw new CustomException(ErrorCode.INVALID_PAGE_LIMIT);
+        }
+
+        return ResponseEntity.ok(userPointService.selectUserPointHistoryPage(id, after, limit, order));
+    }
+
+    /**
+     * 특정 유저의 전체 포인트 충전/이용 내역을 한 줄에 한 건씩 JSON(NDJSON)으로 내보내기
+     * - 전체 내역을 메모리에 올리지 않고 조회하면서 바로 응답으로 씀
+     * - Accept-Encoding 에 gzip 이 있으면 gzip 으로 압축 (Content-Encoding: gzip)
+     */
+    @GetMapping(value = "{id}/histories/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @PathVariable long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
+    ) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StreamingResponseBody body = outputStream -> pointHistoryExportService.exportUserPointHistory(id, outputStream, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * 특정 유저의 잔고를 충전/사용 내역으로 다시 계산해서 현재 잔고와 비교
+     * - 마지막 snapshot + 그 뒤 내역만 읽음, matched 가 false 이면 잔고와 내역이 어긋난 상태
+     */
+    @GetMapping("{id}/verify")
+    public ResponseEntity<BalanceVerification> verify(
+            @PathVariable long id
+    ) {
+        return ResponseEntity.ok(balanceSnapshotService.verify(userPointService.selectUserPoint(id)));
+    }
+
+    /**
+     * 특정 유저의 기간(from ~ to, 날짜 포함) 충전/사용 합계와 날짜별 합계 조회
+     * - 내역 저장 시 갱신되는 날짜별 합계만 읽으므로 기간 내 내역 수와 무관하게 응답
+     */
+    @GetMapping("{id}/stats")
+    public ResponseEntity<PointStats> stats(
+            @PathVariable long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) throws CustomException {
+
+        //시작 날짜가 종료 날짜보다 뒤인지 체크
+        if (from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        return ResponseEntity.ok(userPointService.selectUserPointStats(id, from, to));
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
      */
     @PatchMapping("{id}/charge")
     public ResponseEntity<UserPoint> charge(
             @PathVariable long id,
-            @RequestBody long chargeAmount
+            @RequestBody long chargeAmount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) throws CustomException {
 
         //최소 충전 포인트 체크
@@ -58,7 +183,10 @@ public class PointController {
             throw new CustomException(ErrorCode.LIMIT_ONETIME_CHARGE_AMOUNT);
         }
 
-        UserPoint afterChargePoint = userPointService.chargePoint(id, chargeAmount);
+        //Idempotency-Key 가 있으면 같은 키의 재요청은 처음 처리 결과 반환
+        UserPoint afterChargePoint = idempotencyKey == null
+                ? userPointService.chargePoint(id, chargeAmount)
+                : userPointService.chargePoint(id, chargeAmount, validIdempotencyKey(idempotencyKey));
 
         return ResponseEntity.ok(afterChargePoint);
 
@@ -69,7 +197,8 @@ public class PointController {
     @PatchMapping("{id}/use")
     public ResponseEntity<UserPoint> use(
             @PathVariable long id,
-            @RequestBody long usePointAmount
+            @RequestBody long usePointAmount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) throws CustomException {
 
         //사용 포인트 최소/최대 값 체크
@@ -77,8 +206,41 @@ public class PointController {
             throw new CustomException(ErrorCode.INVALID_USE_POINT);
         }
 
-        UserPoint afterUsePoint = userPointService.usePoint(id, usePointAmount);
+        //Idempotency-Key 가 있으면 같은 키의 재요청은 처음 처리 결과 반환
+        UserPoint afterUsePoint = idempotencyKey == null
+                ? userPointService.usePoint(id, usePointAmount)
+                : userPointService.usePoint(id, usePointAmount, validIdempotencyKey(idempotencyKey));
 
         return ResponseEntity.ok(afterUsePoint);
     }
+
+    /**
+     * 여러 유저의 포인트 충전/사용을 한번에 처리
+     * - 유저별로 요청 순서대로 처리하고 요청별 결과(성공 시 유저 포인트, 실패 시 에러코드)를 요청 순서대로 반환
+     */
+    @PostMapping("batch")
+    public ResponseEntity<List<PointOperationResult>> batch(
+            @RequestBody List<PointOperation> operations
+    ) throws CustomException {
+        return ResponseEntity.ok(pointBatchService.process(operations));
+    }
+
+    /**
+     * 유저 간 포인트 송금 - 여러 건을 보내면 하나의 단위로 처리 (모두 반영되거나 하나도 반영되지 않음)
+     * - 응답은 송금에 관련된 유저들의 송금 후 잔고 (유저 ID 순)
+     */
+    @PostMapping("transfer")
+    public ResponseEntity<List<UserPoint>> transfer(
+            @RequestBody List<PointTransfer> transfers
+    ) throws CustomException {
+        return ResponseEntity.ok(userPointService.transfer(transfers));
+    }
+
+    //Idempotency-Key 가 비어 있거나 최대 길이를 넘는지 체크
+    private String validIdempotencyKey(String idempotencyKey) throws CustomException {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > IdempotencyCache.MAX_KEY_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+        return idempotencyKey;
+    }
 }
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 한 유저의 잔고 snapshot - lastHistoryId 까지의 내역(변동분)을 모두 더한 잔고
+ * @param userId 유저 ID
+ * @param point lastHistoryId 까지 반영된 잔고
+ * @param lastHistoryId 반영된 마지막 내역 ID
+ * @param updateMillis 반영된 마지막 내역의 처리 시간
+ */
+public record BalanceSnapshot(
+        long userId,
+        long point,
+        long lastHistoryId,
+        long updateMillis
+) {
+
+    public static BalanceSnapshot empty(long userId) {
+        return new BalanceSnapshot(userId, 0L, 0L, 0L);
+    }
+}
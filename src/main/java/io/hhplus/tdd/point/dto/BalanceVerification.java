@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 저장된 잔고와 내역(변동분)으로 다시 계산한 잔고 비교 결과
+ * @param userId 유저 ID
+ * @param storedPoint 현재 조회되는 잔고
+ * @param rebuiltPoint 마지막 snapshot + 그 뒤 내역으로 다시 계산한 잔고
+ * @param matched 두 잔고가 같으면 true
+ */
+public record BalanceVerification(
+        long userId,
+        long storedPoint,
+        long rebuiltPoint,
+        boolean matched
+) {
+
+    public static BalanceVerification of(UserPoint stored, UserPoint rebuilt) {
+        return new BalanceVerification(stored.id(), stored.point(), rebuilt.point(), stored.point() == rebuilt.point());
+    }
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 한 유저의 하루 충전/사용 합계
+ * @param date 날짜 (point.stats.zone 기준)
+ * @param charged 충전 포인트 합계
+ * @param used 사용 포인트 합계
+ * @param chargeCount 충전 건수
+ * @param useCount 사용 건수
+ */
+public record DailyPointStats(
+        LocalDate date,
+        long charged,
+        long used,
+        long chargeCount,
+        long useCount
+) {
+}
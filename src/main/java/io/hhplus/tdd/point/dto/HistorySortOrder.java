@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 포인트 충전/사용 내역 페이지 정렬 순서
+ * - ASC : 오래된 내역부터 (내역 ID 오름차순)
+ * - DESC : 최신 내역부터 (내역 ID 내림차순)
+ */
+public enum HistorySortOrder {
+    ASC, DESC
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 유저 lock 경합이 많은 유저 (heavy hitter)
+ * @param userId 유저 ID
+ * @param contention 경합 정도 추정치 - lock 이 잡혀 있을 때 들어온 요청마다 (1 + 이미 기다리던 스레드 수)를 더한 값 (window 마다 절반으로 감소)
+ * @param error 추정치에 포함될 수 있는 최대 오차 - 실제 값은 contention - error ~ contention 사이
+ * @param routed true 이면 같은 유저의 요청을 합쳐서 처리(CombiningPointEngine)하는 경로로 보내는 중
+ */
+public record HotUser(
+        long userId,
+        long contention,
+        long error,
+        boolean routed
+) {
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.dto;
+
+import java.util.List;
+
+/**
+ * 포인트 충전/사용 내역 한 페이지 (cursor 기반)
+ * @param histories 정렬 순서대로의 내역
+ * @param nextCursor 다음 페이지 요청 시 after 로 넘길 내역 ID, 마지막 페이지면 null
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextCursor
+) {
+
+    public static final int MIN_LIMIT = 1;
+    public static final int MAX_LIMIT = 100;
+
+    public static PointHistoryPage empty() {
+        return new PointHistoryPage(List.of(), null);
+    }
+}
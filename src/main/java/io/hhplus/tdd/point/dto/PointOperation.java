@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+
+/**
+ * 일괄 처리(POST /point/batch) 요청 1건
+ * @param userId 유저 ID
+ * @param type 충전/사용 구분
+ * @param amount 충전/사용 요청 포인트
+ */
+public record PointOperation(
+        long userId,
+        TransactionType type,
+        long amount
+) {
+
+    /**
+     * 단건 충전/사용 API 와 같은 입력 값 검증
+     * @return 검증 실패 시 에러코드, 통과하면 null
+     */
+    public ErrorCode validate() {
+        if (type == TransactionType.CHARGE) {
+            //최소 충전 포인트 체크
+            if (amount <= UserPoint.MIN_POINT) {
+                return ErrorCode.ZERO_POINT;
+            }
+            //최대 충전 포인트 체크
+            if (amount > UserPoint.MAX_POINT_PER_ONCE) {
+                return ErrorCode.LIMIT_ONETIME_CHARGE_AMOUNT;
+            }
+            return null;
+        }
+        //사용 포인트 최소/최대 값 체크
+        if (type == null || amount < UserPoint.MIN_POINT || amount > UserPoint.MAX_POINT) {
+            return ErrorCode.INVALID_USE_POINT;
+        }
+        return null;
+    }
+}
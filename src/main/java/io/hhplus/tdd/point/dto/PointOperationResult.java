@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+
+/**
+ * 일괄 처리(POST /point/batch) 결과 1건 - 요청 순서와 같은 순서로 반환
+ * @param userId 유저 ID
+ * @param type 충전/사용 구분
+ * @param amount 충전/사용 요청 포인트
+ * @param userPoint 성공 시 이 요청까지 반영된 유저 포인트, 실패 시 null
+ * @param errorCode 실패 시 에러코드, 성공 시 null
+ */
+public record PointOperationResult(
+        long userId,
+        TransactionType type,
+        long amount,
+        UserPoint userPoint,
+        ErrorCode errorCode
+) {
+
+    public static PointOperationResult success(PointOperation operation, UserPoint userPoint) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), userPoint, null);
+    }
+
+    public static PointOperationResult fail(PointOperation operation, ErrorCode errorCode) {
+        return new PointOperationResult(operation.userId(), operation.type(), operation.amount(), null, errorCode);
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 한 유저의 기간별 충전/사용 합계
+ * @param userId 유저 ID
+ * @param from 시작 날짜 (포함)
+ * @param to 종료 날짜 (포함)
+ * @param charged 기간 충전 포인트 합계
+ * @param used 기간 사용 포인트 합계
+ * @param chargeCount 기간 충전 건수
+ * @param useCount 기간 사용 건수
+ * @param days 충전/사용이 있었던 날짜별 합계 (날짜 오름차순)
+ */
+public record PointStats(
+        long userId,
+        LocalDate from,
+        LocalDate to,
+        long charged,
+        long used,
+        long chargeCount,
+        long useCount,
+        List<DailyPointStats> days
+) {
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+
+/**
+ * 송금(POST /point/transfer) 요청 1건 - 보내는 유저의 포인트를 받는 유저에게 옮김
+ * @param fromUserId 보내는 유저 ID
+ * @param toUserId 받는 유저 ID
+ * @param amount 송금 포인트
+ */
+public record PointTransfer(
+        long fromUserId,
+        long toUserId,
+        long amount
+) {
+
+    /**
+     * 송금 입력 값 검증 - 같은 유저끼리 송금 불가, 송금 포인트는 1회 충전 한도와 같은 범위
+     * @return 검증 실패 시 에러코드, 통과하면 null
+     */
+    public ErrorCode validate() {
+        if (fromUserId == toUserId || amount <= UserPoint.MIN_POINT || amount > UserPoint.MAX_POINT_PER_ONCE) {
+            return ErrorCode.INVALID_TRANSFER;
+        }
+        return null;
+    }
+}
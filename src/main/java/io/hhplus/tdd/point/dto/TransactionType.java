@@ -7,5 +7,14 @@ package io.hhplus.tdd.point.dto;
  * - USE : 사용
  */
 public enum TransactionType {
-    CHARGE, USE
-}
\ No newline at end of file
+    CHARGE, USE;
+
+    /**
+     * 내역의 충전/사용 포인트를 잔고 변동분으로 변환
+     * @param amount 내역의 충전/사용 포인트
+     * @return 충전은 +amount, 사용은 -amount
+     */
+    public long signedAmount(long amount) {
+        return this == CHARGE ? amount : -amount;
+    }
+}
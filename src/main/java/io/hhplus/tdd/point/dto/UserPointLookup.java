@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+
+/**
+ * 일괄 잔고 조회(GET /point?ids=) 결과 1건 - 요청한 유저 ID 순서로 반환
+ * @param id 유저 ID
+ * @param userPoint 성공 시 유저 포인트, 실패 시 null
+ * @param errorCode 실패 시 에러코드 (제한 시간 초과면 LOOKUP_TIMEOUT), 성공 시 null
+ */
+public record UserPointLookup(
+        long id,
+        UserPoint userPoint,
+        ErrorCode errorCode
+) {
+
+    public static UserPointLookup success(long id, UserPoint userPoint) {
+        return new UserPointLookup(id, userPoint, null);
+    }
+
+    public static UserPointLookup fail(long id, ErrorCode errorCode) {
+        return new UserPointLookup(id, null, errorCode);
+    }
+}
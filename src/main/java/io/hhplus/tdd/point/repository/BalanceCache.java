@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 유저 포인트 잔고 캐시 (LRU, 최대 크기 제한)
+ * - 유저 ID 해시로 나눈 segment 별로 LinkedHashMap(access-order) 을 두고 segment 단위로만 동기화
+ * - segment 별 최대 크기를 넘으면 가장 오래 사용하지 않은 유저부터 제거
+ * - 조회 miss 후 테이블에서 읽어온 값은 그 사이 같은 segment 에 쓰기가 없었을 때만 캐시에 올려서
+ *   느린 조회가 먼저 끝난 쓰기 값을 덮어쓰지 않도록 함
+ */
+public class BalanceCache {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public BalanceCache(int maxSize) {
+        int segmentMaxSize = Math.max(1, maxSize / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentMaxSize);
+        }
+    }
+
+    /**
+     * @param id 유저 ID
+     * @return 캐시된 잔고, 없으면 null
+     */
+    public UserPoint get(long id) {
+        UserPoint userPoint = segmentFor(id).get(id);
+        if (userPoint == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return userPoint;
+    }
+
+    /**
+     * 쓰기 결과 반영 - 항상 최신 값으로 덮어씀
+     */
+    public void put(UserPoint userPoint) {
+        segmentFor(userPoint.id()).put(userPoint);
+    }
+
+    /**
+     * 조회 miss 후 읽어온 값을 올리기 전에 현재 쓰기 순번을 받아둠
+     */
+    public long writeVersion(long id) {
+        return segmentFor(id).writeVersion();
+    }
+
+    /**
+     * 조회 miss 로 읽어온 값 반영 - writeVersion 이후 같은 segment 에 쓰기가 없었고 아직 캐시에 없을 때만 올림
+     */
+    public void putIfNotStale(UserPoint userPoint, long writeVersion) {
+        segmentFor(userPoint.id()).putIfNotStale(userPoint, writeVersion);
+    }
+
+    public CacheStats stats() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    private Segment segmentFor(long id) {
+        //상위 비트를 섞어서 연속된 유저 ID 가 고르게 분산되도록 함
+        int hash = Long.hashCode(id);
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * 캐시 통계
+     * @param hitCount 조회 hit 횟수
+     * @param missCount 조회 miss 횟수
+     * @param evictionCount 최대 크기 초과로 제거된 횟수
+     * @param size 현재 캐시된 유저 수
+     */
+    public record CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+    }
+
+    private final class Segment {
+        private final LinkedHashMap<Long, UserPoint> entries;
+        private long writeVersion;
+
+        private Segment(int maxSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    if (size() > maxSize) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized UserPoint get(long id) {
+            return entries.get(id);
+        }
+
+        synchronized void put(UserPoint userPoint) {
+            writeVersion++;
+            entries.put(userPoint.id(), userPoint);
+        }
+
+        synchronized long writeVersion() {
+            return writeVersion;
+        }
+
+        synchronized void putIfNotStale(UserPoint userPoint, long expectedWriteVersion) {
+            if (writeVersion == expectedWriteVersion) {
+                entries.putIfAbsent(userPoint.id(), userPoint);
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
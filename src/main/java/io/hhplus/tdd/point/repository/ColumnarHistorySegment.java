@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+
+import java.util.Arrays;
+
+/**
+ * 내역을 컬럼별 primitive 배열로 보관하는 세그먼트 (HistoryStoreType.COLUMNAR)
+ * - 내역 ID/포인트/처리 시간은 long[], 충전/사용 구분은 byte[] (TransactionType ordinal)
+ * - 유저 ID 는 세그먼트마다 하나라서 컬럼 없이 1번만 보관
+ * - 컬럼은 CHUNK_SIZE 건 단위 chunk 로 나눠서 늘리므로 내역이 많아져도 전체 배열 복사가 없음
+ *   마지막 chunk 만 CHUNK_SIZE 까지 2배씩 늘려서 내역이 적은 유저도 메모리를 적게 씀
+ * - PointHistory 객체는 조회 결과로 반환할 때만 생성 -> 내역 1건당 객체 header/참조 없이 25 bytes
+ */
+final class ColumnarHistorySegment extends HistorySegment {
+
+    private static final int CHUNK_SHIFT = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int INITIAL_CHUNK_CAPACITY = 8;
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+    private final long userId;
+
+    private long[][] ids = new long[0][];
+    private long[][] amounts = new long[0][];
+    private long[][] updateMillis = new long[0][];
+    private byte[][] types = new byte[0][];
+    private int chunkCount;
+
+    ColumnarHistorySegment(long userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        int chunkIndex = (capacity - 1) >>> CHUNK_SHIFT;
+        int rowsInChunk = ((capacity - 1) & CHUNK_MASK) + 1;
+        if (chunkIndex < chunkCount) {
+            //마지막 chunk 가 가득 차면 CHUNK_SIZE 까지 2배로 확장
+            if (rowsInChunk > ids[chunkIndex].length) {
+                int length = Math.min(CHUNK_SIZE, ids[chunkIndex].length * 2);
+                ids[chunkIndex] = Arrays.copyOf(ids[chunkIndex], length);
+                amounts[chunkIndex] = Arrays.copyOf(amounts[chunkIndex], length);
+                updateMillis[chunkIndex] = Arrays.copyOf(updateMillis[chunkIndex], length);
+                types[chunkIndex] = Arrays.copyOf(types[chunkIndex], length);
+            }
+            return;
+        }
+        //새 chunk 추가 - 첫 chunk 는 작게 시작하고 이후 chunk 는 CHUNK_SIZE 로 생성
+        if (chunkCount == ids.length) {
+            int chunkArrayLength = Math.max(1, chunkCount * 2);
+            ids = Arrays.copyOf(ids, chunkArrayLength);
+            amounts = Arrays.copyOf(amounts, chunkArrayLength);
+            updateMillis = Arrays.copyOf(updateMillis, chunkArrayLength);
+            types = Arrays.copyOf(types, chunkArrayLength);
+        }
+        int length = chunkCount == 0 ? INITIAL_CHUNK_CAPACITY : CHUNK_SIZE;
+        ids[chunkCount] = new long[length];
+        amounts[chunkCount] = new long[length];
+        updateMillis[chunkCount] = new long[length];
+        types[chunkCount] = new byte[length];
+        chunkCount++;
+    }
+
+    @Override
+    protected void set(int index, PointHistory pointHistory) {
+        int chunk = index >>> CHUNK_SHIFT;
+        int offset = index & CHUNK_MASK;
+        ids[chunk][offset] = pointHistory.id();
+        amounts[chunk][offset] = pointHistory.amount();
+        updateMillis[chunk][offset] = pointHistory.updateMillis();
+        types[chunk][offset] = (byte) pointHistory.type().ordinal();
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        int fromChunk = from >>> CHUNK_SHIFT;
+        int fromOffset = from & CHUNK_MASK;
+        int toChunk = to >>> CHUNK_SHIFT;
+        int toOffset = to & CHUNK_MASK;
+        ids[toChunk][toOffset] = ids[fromChunk][fromOffset];
+        amounts[toChunk][toOffset] = amounts[fromChunk][fromOffset];
+        updateMillis[toChunk][toOffset] = updateMillis[fromChunk][fromOffset];
+        types[toChunk][toOffset] = types[fromChunk][fromOffset];
+    }
+
+    @Override
+    protected long idAt(int index) {
+        return ids[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    protected PointHistory historyAt(int index) {
+        int chunk = index >>> CHUNK_SHIFT;
+        int offset = index & CHUNK_MASK;
+        return new PointHistory(ids[chunk][offset], userId, amounts[chunk][offset], TRANSACTION_TYPES[types[chunk][offset]], updateMillis[chunk][offset]);
+    }
+
+    @Override
+    protected void visit(int index, HistoryRowVisitor visitor) {
+        int chunk = index >>> CHUNK_SHIFT;
+        int offset = index & CHUNK_MASK;
+        visitor.visit(ids[chunk][offset], amounts[chunk][offset], TRANSACTION_TYPES[types[chunk][offset]], updateMillis[chunk][offset]);
+    }
+
+    /**
+     * chunk 단위로 컬럼을 순서대로 읽어서 인덱스 계산을 건너 뜀
+     */
+    @Override
+    synchronized void scan(HistoryRowVisitor visitor) {
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long[] chunkIds = ids[chunk];
+            long[] chunkAmounts = amounts[chunk];
+            long[] chunkUpdateMillis = updateMillis[chunk];
+            byte[] chunkTypes = types[chunk];
+            int rows = Math.min(chunkIds.length, size - (chunk << CHUNK_SHIFT));
+            for (int offset = 0; offset < rows; offset++) {
+                visitor.visit(chunkIds[offset], chunkAmounts[offset], TRANSACTION_TYPES[chunkTypes[offset]], chunkUpdateMillis[offset]);
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.DailyPointStats;
+import io.hhplus.tdd.point.dto.PointStats;
+import io.hhplus.tdd.point.dto.TransactionType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 유저의 날짜별 충전/사용 합계 - 내역이 저장될 때마다 해당 날짜 합계만 갱신
+ * - 기간 조회는 날짜 범위의 합계만 읽음 -> O(log 날짜 수 + 기간 내 날짜 수), 기간 내 내역 수와 무관
+ */
+final class DailyPointAggregate {
+
+    private static final int CHARGED = 0;
+    private static final int USED = 1;
+    private static final int CHARGE_COUNT = 2;
+    private static final int USE_COUNT = 3;
+
+    //epoch day : [충전 합계, 사용 합계, 충전 건수, 사용 건수]
+    private final TreeMap<Long, long[]> days = new TreeMap<>();
+
+    synchronized void add(long epochDay, TransactionType type, long amount) {
+        long[] totals = days.computeIfAbsent(epochDay, key -> new long[4]);
+        if (type == TransactionType.CHARGE) {
+            totals[CHARGED] += amount;
+            totals[CHARGE_COUNT]++;
+        } else {
+            totals[USED] += amount;
+            totals[USE_COUNT]++;
+        }
+    }
+
+    synchronized PointStats select(long userId, LocalDate from, LocalDate to) {
+        long charged = 0;
+        long used = 0;
+        long chargeCount = 0;
+        long useCount = 0;
+        List<DailyPointStats> dailyStats = new ArrayList<>();
+        for (Map.Entry<Long, long[]> entry : days.subMap(from.toEpochDay(), true, to.toEpochDay(), true).entrySet()) {
+            long[] totals = entry.getValue();
+            charged += totals[CHARGED];
+            used += totals[USED];
+            chargeCount += totals[CHARGE_COUNT];
+            useCount += totals[USE_COUNT];
+            dailyStats.add(new DailyPointStats(LocalDate.ofEpochDay(entry.getKey()), totals[CHARGED], totals[USED], totals[CHARGE_COUNT], totals[USE_COUNT]));
+        }
+        return new PointStats(userId, from, to, charged, used, chargeCount, useCount, Collections.unmodifiableList(dailyStats));
+    }
+
+    static PointStats empty(long userId, LocalDate from, LocalDate to) {
+        return new PointStats(userId, from, to, 0L, 0L, 0L, 0L, List.of());
+    }
+}
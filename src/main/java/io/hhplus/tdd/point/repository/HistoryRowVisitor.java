@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.TransactionType;
+
+/**
+ * 내역을 PointHistory 객체로 만들지 않고 한 건씩 읽는 visitor
+ */
+@FunctionalInterface
+public interface HistoryRowVisitor {
+
+    /**
+     * @param id 내역 ID
+     * @param amount 충전/사용 포인트
+     * @param type 충전/사용 구분
+     * @param updateMillis 처리 시간
+     */
+    void visit(long id, long amount, TransactionType type, long updateMillis);
+}
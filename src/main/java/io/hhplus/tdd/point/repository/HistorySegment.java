@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 유저의 포인트 충전/사용 내역만 모아두는 append-only 세그먼트
+ * - 내역 ID 오름차순으로 뒤에 추가만 하고 수정/삭제는 하지 않음
+ * - 조회 시 해당 유저의 내역 수만큼만 읽기 때문에 전체 내역 수와 무관하게 동작
+ * - 페이지 조회는 cursor(내역 ID) 위치를 이진 탐색으로 찾은 뒤 limit 건만 읽음 -> O(log 내역 수 + limit)
+ * - 내역을 어떤 형태로 보관할지는 하위 클래스에서 결정 (HistoryStoreType)
+ */
+abstract class HistorySegment {
+
+    protected int size;
+
+    static HistorySegment create(HistoryStoreType storeType, long userId) {
+        return storeType == HistoryStoreType.COLUMNAR ? new ColumnarHistorySegment(userId) : new UserHistorySegment();
+    }
+
+    synchronized void append(PointHistory pointHistory) {
+        ensureCapacity(size + 1);
+        //같은 유저의 내역도 write-behind 종료 중에는 요청 스레드가 바로 저장한 내역이 큐에 남은 이전 내역보다 먼저 들어올 수 있으므로
+        //뒤에서부터 자리를 찾아 ID 오름차순 유지
+        int index = size;
+        while (index > 0 && idAt(index - 1) > pointHistory.id()) {
+            move(index - 1, index);
+            index--;
+        }
+        set(index, pointHistory);
+        size++;
+    }
+
+    synchronized List<PointHistory> snapshot() {
+        List<PointHistory> histories = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            histories.add(historyAt(i));
+        }
+        return Collections.unmodifiableList(histories);
+    }
+
+    /**
+     * @param after 이 내역 ID 다음부터 조회 (정렬 순서 기준, 미포함), null 이면 처음부터
+     * @param limit 최대 조회 건수
+     * @param order 정렬 순서
+     */
+    synchronized PointHistoryPage page(Long after, int limit, HistorySortOrder order) {
+        List<PointHistory> histories = new ArrayList<>(Math.min(limit, size));
+        boolean hasNext;
+        if (order == HistorySortOrder.ASC) {
+            //after 보다 큰 첫 번째 위치부터 순서대로
+            int start = after == null ? 0 : indexOfFirstGreaterThan(after);
+            int end = Math.min(size, start + limit);
+            for (int i = start; i < end; i++) {
+                histories.add(historyAt(i));
+            }
+            hasNext = end < size;
+        } else {
+            //after 보다 작은 마지막 위치부터 역순으로
+            int start = after == null ? size : indexOfFirstGreaterThan(after - 1);
+            int end = Math.max(0, start - limit);
+            for (int i = start - 1; i >= end; i--) {
+                histories.add(historyAt(i));
+            }
+            hasNext = end > 0;
+        }
+        Long nextCursor = hasNext && !histories.isEmpty() ? histories.get(histories.size() - 1).id() : null;
+        return new PointHistoryPage(Collections.unmodifiableList(histories), nextCursor);
+    }
+
+    /**
+     * 전체 내역을 입력 순서대로 PointHistory 객체를 만들지 않고 읽음
+     */
+    synchronized void scan(HistoryRowVisitor visitor) {
+        for (int i = 0; i < size; i++) {
+            visit(i, visitor);
+        }
+    }
+
+    /**
+     * 내역 ID 가 after 초과 upTo 이하인 내역만 ID 순서대로 읽음 - 시작 위치는 이진 탐색
+     */
+    synchronized void scan(long after, long upTo, HistoryRowVisitor visitor) {
+        for (int i = indexOfFirstGreaterThan(after); i < size && idAt(i) <= upTo; i++) {
+            visit(i, visitor);
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 내역 ID 가 id 보다 큰 첫 번째 위치, 없으면 size
+     */
+    private int indexOfFirstGreaterThan(long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (idAt(mid) <= id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * capacity 건까지 저장할 수 있도록 공간 확보
+     */
+    protected abstract void ensureCapacity(int capacity);
+
+    protected abstract void set(int index, PointHistory pointHistory);
+
+    /**
+     * from 위치의 내역을 to 위치로 복사
+     */
+    protected abstract void move(int from, int to);
+
+    protected abstract long idAt(int index);
+
+    protected abstract PointHistory historyAt(int index);
+
+    protected abstract void visit(int index, HistoryRowVisitor visitor);
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.repository;
+
+/**
+ * 유저별 포인트 충전/사용 내역 인덱스 저장 방식
+ * - OBJECT : PointHistory 객체 참조를 배열로 보관 (UserHistorySegment)
+ * - COLUMNAR : 내역 ID/포인트/처리 시간/구분을 primitive 배열 chunk 로 나눠서 보관 (ColumnarHistorySegment)
+ */
+public enum HistoryStoreType {
+    OBJECT, COLUMNAR
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.repository;
+
+/**
+ * 충전/사용 시 잔고 저장과 내역 저장 순서
+ * - SEQUENTIAL : 잔고 저장 후 저장된 처리 시간으로 내역 저장
+ * - PIPELINED : 처리 시간을 먼저 정하고 잔고 저장과 내역 저장을 동시에 진행, 한쪽이 실패하면 다른 쪽을 되돌림 (PointWritePipeline)
+ */
+public enum HistoryWriteMode {
+    SEQUENTIAL, PIPELINED
+}
@@ -0,0 +1,189 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointStats;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.store.HistoryStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 충전/사용 내역 저장소
+ * - 내역 저장소(HistoryStore, point.store.type 으로 선택) 앞단에서 유저 ID 별 내역 인덱스를 함께 관리
+ * - 내역 입력 시 저장소 저장 후 해당 유저의 세그먼트에 추가
+ * - 유저별 조회는 전체 테이블을 스캔하지 않고 해당 유저의 세그먼트만 읽음 -> O(해당 유저의 내역 수)
+ * - 페이지 조회는 세그먼트에서 cursor 위치로 바로 이동해서 limit 건만 읽음 -> O(log 해당 유저의 내역 수 + limit)
+ * - 세그먼트 저장 방식은 point.history.store 로 선택 (OBJECT: PointHistory 객체 / COLUMNAR: primitive 컬럼)
+ * - 저장소 호출 시간은 point.table{table=point_history} 타이머로 기록
+ * - 인덱스에 반영된 가장 큰 내역 ID 를 함께 관리 (BalanceSnapshotService 의 checkpoint 기준)
+ * - 내역 저장 시 유저별 날짜별 충전/사용 합계도 함께 갱신 (날짜는 point.stats.zone 기준)
+ * - 이 저장소는 유저 사이의 내역 저장을 직렬화하지 않음 - 내역 ID 발급의 동시성은 HistoryStore 구현이 보장
+ *   -> TABLE 은 TableHistoryStore 에서 테이블 저장을 한 건씩 처리, IN_MEMORY 는 lock 없이 동시에 저장
+ *   -> 서로 다른 유저의 내역은 ID 순서와 다르게 인덱스에 반영될 수 있으므로 lastHistoryId 는 반영된 최대 ID 일 뿐
+ *      그 이하 내역이 모두 반영되었다는 뜻은 아님 (BalanceSnapshotService 가 한 주기 늦게 반영해서 처리)
+ * - journal 복구(restore)는 저장소를 거치지 않고 인덱스에 바로 적재 -> 저장소 throttle 없이 기록 수에 비례하는 시간만 걸림
+ *   -> 복구한 내역은 1부터 ID 를 발급하고, 이후 저장소가 발급한 ID 는 복구한 건수만큼 뒤로 밀어서 겹치지 않게 함
+ */
+@Repository
+public class PointHistoryRepository {
+
+    private final HistoryStore historyStore;
+    private final HistoryStoreType storeType;
+    private final ZoneId statsZone;
+    private final Timer insertTimer;
+
+    //유저 ID : 유저별 내역 세그먼트
+    private final ConcurrentHashMap<Long, HistorySegment> userHistoryIndex = new ConcurrentHashMap<>();
+    //유저 ID : 유저별 날짜별 충전/사용 합계
+    private final ConcurrentHashMap<Long, DailyPointAggregate> userDailyAggregates = new ConcurrentHashMap<>();
+    //인덱스에 반영된 가장 큰 내역 ID
+    private final AtomicLong lastHistoryId = new AtomicLong();
+    //저장소를 거치지 않고 인덱스에 바로 적재한 내역 수 - 요청을 받기 전 journal 복구 스레드에서만 증가
+    private volatile long restoredCount;
+
+    public PointHistoryRepository(HistoryStore historyStore, PointProperties pointProperties, PointMetrics pointMetrics) {
+        this.historyStore = historyStore;
+        this.storeType = pointProperties.getHistory().getStore();
+        this.statsZone = pointProperties.getStats().getZone();
+        this.insertTimer = pointMetrics.tableTimer("point_history", "insert");
+    }
+
+    /**
+     * 내역 저장 후 유저별 인덱스 갱신
+     * @param userId 유저 ID
+     * @param amount 충전/사용 포인트
+     * @param type 충전/사용 구분
+     * @param updateMillis 처리 시간
+     * @return PointHistory 저장된 내역
+     */
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory storedHistory = insertTimer.record(() -> historyStore.insert(userId, amount, type, updateMillis));
+        PointHistory pointHistory = restoredCount == 0 ? storedHistory
+                : new PointHistory(storedHistory.id() + restoredCount, userId, amount, type, updateMillis);
+        index(pointHistory);
+        return pointHistory;
+    }
+
+    /**
+     * journal 복구 - 저장소를 거치지 않고 유저별 인덱스에만 적재 (PointJournalRecovery 가 요청을 받기 전에 기록 순서대로 호출)
+     * @param userId 유저 ID
+     * @param amount 충전/사용 포인트
+     * @param type 충전/사용 구분
+     * @param updateMillis 처리 시간
+     * @return PointHistory 복구된 내역
+     * @throws IllegalStateException 저장소에 내역을 저장한 뒤에 호출된 경우 (내역 ID 가 겹침)
+     */
+    public PointHistory restore(long userId, long amount, TransactionType type, long updateMillis) {
+        if (lastHistoryId.get() != restoredCount) {
+            throw new IllegalStateException("point history restore after insert");
+        }
+        PointHistory pointHistory = new PointHistory(restoredCount + 1, userId, amount, type, updateMillis);
+        index(pointHistory);
+        restoredCount = pointHistory.id();
+        return pointHistory;
+    }
+
+    private void index(PointHistory pointHistory) {
+        userHistoryIndex.computeIfAbsent(pointHistory.userId(), key -> HistorySegment.create(storeType, key)).append(pointHistory);
+        userDailyAggregates.computeIfAbsent(pointHistory.userId(), key -> new DailyPointAggregate())
+                .add(Instant.ofEpochMilli(pointHistory.updateMillis()).atZone(statsZone).toLocalDate().toEpochDay(), pointHistory.type(), pointHistory.amount());
+        lastHistoryId.accumulateAndGet(pointHistory.id(), Math::max);
+    }
+
+    /**
+     * 유저별 내역 조회 - 입력 순서대로 반환
+     * @param userId 유저 ID
+     * @return List<PointHistory> 해당 유저의 충전/사용 내역
+     */
+    public List<PointHistory> selectAllByUserId(long userId) {
+        HistorySegment segment = userHistoryIndex.get(userId);
+        if (segment == null) {
+            return List.of();
+        }
+        return segment.snapshot();
+    }
+
+    /**
+     * 유저별 내역 페이지 조회
+     * @param userId 유저 ID
+     * @param after 이 내역 ID 다음부터 조회 (미포함), null 이면 첫 페이지
+     * @param limit 최대 조회 건수
+     * @param order 정렬 순서 (ASC: 오래된 순 / DESC: 최신 순)
+     * @return PointHistoryPage 내역과 다음 페이지 cursor
+     */
+    public PointHistoryPage selectPageByUserId(long userId, Long after, int limit, HistorySortOrder order) {
+        HistorySegment segment = userHistoryIndex.get(userId);
+        if (segment == null) {
+            return PointHistoryPage.empty();
+        }
+        return segment.page(after, limit, order);
+    }
+
+    /**
+     * 유저별 내역을 PointHistory 객체로 만들지 않고 입력 순서대로 한 건씩 읽음 (집계용)
+     * @param userId 유저 ID
+     * @param visitor 내역 한 건마다 호출
+     */
+    public void scanByUserId(long userId, HistoryRowVisitor visitor) {
+        HistorySegment segment = userHistoryIndex.get(userId);
+        if (segment != null) {
+            segment.scan(visitor);
+        }
+    }
+
+    /**
+     * 유저별 내역 중 내역 ID 가 after 초과 upTo 이하인 내역만 ID 순서대로 읽음 (snapshot 이후 내역 재생용)
+     * @param userId 유저 ID
+     * @param after 이 내역 ID 다음부터 (미포함)
+     * @param upTo 이 내역 ID 까지 (포함)
+     * @param visitor 내역 한 건마다 호출
+     */
+    public void scanByUserId(long userId, long after, long upTo, HistoryRowVisitor visitor) {
+        HistorySegment segment = userHistoryIndex.get(userId);
+        if (segment != null) {
+            segment.scan(after, upTo, visitor);
+        }
+    }
+
+    /**
+     * 유저별 기간 충전/사용 합계 조회 - 저장 시 갱신된 날짜별 합계만 읽음
+     * @param userId 유저 ID
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @return PointStats 기간 합계와 날짜별 합계
+     */
+    public PointStats selectStatsByUserId(long userId, LocalDate from, LocalDate to) {
+        DailyPointAggregate aggregate = userDailyAggregates.get(userId);
+        if (aggregate == null) {
+            return DailyPointAggregate.empty(userId, from, to);
+        }
+        return aggregate.select(userId, from, to);
+    }
+
+    /**
+     * @return 내역이 있는 유저 ID 목록 (읽기 전용 view)
+     */
+    public Set<Long> userIds() {
+        return Collections.unmodifiableSet(userHistoryIndex.keySet());
+    }
+
+    /**
+     * @return 인덱스에 반영된 가장 큰 내역 ID, 내역이 없으면 0
+     */
+    public long lastHistoryId() {
+        return lastHistoryId.get();
+    }
+}
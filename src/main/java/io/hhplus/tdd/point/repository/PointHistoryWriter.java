@@ -0,0 +1,295 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 포인트 충전/사용 내역 비동기 저장(write-behind)
+ * - 요청 스레드는 내역을 bounded queue 에 넣기만 하고 바로 반환 -> 유저 lock 점유 시간에서 내역 저장 시간이 빠짐
+ * - 백그라운드 writer 스레드 1개가 큐에서 batchSize 만큼씩 꺼내 입력 순서대로 저장
+ * - 큐가 가득 차면 요청 스레드가 빈자리가 생길 때까지 대기 (back pressure)
+ * - awaitPending(userId) 로 해당 유저의 저장 대기 중인 내역이 모두 저장될 때까지 대기 -> 조회 시 자신이 쓴 내역 보장
+ * - 종료 시 큐에 남은 내역을 모두 저장한 뒤 종료
+ * - 저장에 실패한 내역은 저장 완료로 표시하지 않고 backoff 를 늘려가며 같은 내역부터 다시 저장 (입력 순서 유지)
+ *   -> 재시도 중에는 뒤 내역도 저장되지 않으므로 awaitPending/flush 는 저장소가 복구될 때까지 대기
+ *   -> 종료 중에는 SHUTDOWN_RETRY_ATTEMPTS 번까지만 시도하고 남은 내역은 저장하지 않은 채 종료 (journal 사용 시 재시작 때 복구)
+ *   -> 실패 횟수/재시도 중 여부는 failedWriteCount()/isStalled() 로 확인 (PointHistoryWriterHealthIndicator)
+ * - point.journal.enabled=true 이면 큐에 넣기 전에 journal 에 먼저 기록 -> 저장 전에 종료되어도 재시작 시 복구
+ * - 대기는 모두 ReentrantLock/Condition 으로 처리 -> virtual thread 가 대기 중에 carrier thread 를 점유(pinning)하지 않음
+ */
+@Slf4j
+@Component
+public class PointHistoryWriter {
+
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final int SHUTDOWN_RETRY_ATTEMPTS = 3;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointJournal pointJournal;
+    private final boolean writeBehindEnabled;
+    private final int batchSize;
+    private final long retryBackoffNanos;
+    private final long maxRetryBackoffNanos;
+    private final BlockingQueue<HistoryEvent> queue;
+
+    //큐 입력 순서와 순번 순서를 일치시키기 위한 lock
+    private final ReentrantLock enqueueLock = new ReentrantLock();
+    //마지막으로 큐에 입력된 순번
+    private long lastEnqueuedSequence;
+    //유저 ID : 해당 유저가 마지막으로 큐에 입력한 순번 (저장 완료되면 제거)
+    private final ConcurrentHashMap<Long, Long> pendingSequenceByUser = new ConcurrentHashMap<>();
+    //저장 완료된 마지막 순번
+    private final ReentrantLock writtenLock = new ReentrantLock();
+    private final Condition writtenCondition = writtenLock.newCondition();
+    private volatile long writtenSequence;
+    //저장 실패 횟수 (재시도 포함), 저장소 복구 전까지 재시도 중인지 여부
+    private final AtomicLong failedWrites = new AtomicLong();
+    private volatile boolean stalled;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public PointHistoryWriter(PointHistoryRepository pointHistoryRepository, PointProperties pointProperties, PointJournal pointJournal) {
+        PointProperties.WriteBehind writeBehind = pointProperties.getHistory().getWriteBehind();
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointJournal = pointJournal;
+        this.writeBehindEnabled = writeBehind.isEnabled();
+        this.batchSize = writeBehind.getBatchSize();
+        this.retryBackoffNanos = writeBehind.getRetryBackoff().toNanos();
+        this.maxRetryBackoffNanos = writeBehind.getMaxRetryBackoff().toNanos();
+        this.queue = new ArrayBlockingQueue<>(writeBehind.getQueueCapacity());
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!writeBehindEnabled || running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drainLoop, "point-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 내역 저장 요청 - write-behind 동작 중이면 큐에 넣고 반환, 아니면 바로 저장
+     * @param userId 유저 ID
+     * @param amount 충전/사용 포인트
+     * @param type 충전/사용 구분
+     * @param updateMillis 처리 시간
+     */
+    public void write(long userId, long amount, TransactionType type, long updateMillis) {
+        pointJournal.appendHistory(userId, amount, type, updateMillis);
+        enqueueLock.lock();
+        try {
+            if (running) {
+                long sequence = lastEnqueuedSequence + 1;
+                queue.put(new HistoryEvent(sequence, userId, amount, type, updateMillis));
+                lastEnqueuedSequence = sequence;
+                pendingSequenceByUser.put(userId, sequence);
+                return;
+            }
+        } catch (InterruptedException e) {
+            //큐 대기 중 인터럽트 되면 내역이 유실되지 않도록 아래에서 요청 스레드가 바로 저장
+            Thread.currentThread().interrupt();
+        } finally {
+            enqueueLock.unlock();
+        }
+
+        pointHistoryRepository.insert(userId, amount, type, updateMillis);
+    }
+
+    /**
+     * 해당 유저의 저장 대기 중인 내역이 모두 저장될 때까지 대기
+     * @param userId 유저 ID
+     */
+    public void awaitPending(long userId) {
+        Long pendingSequence = pendingSequenceByUser.get(userId);
+        if (pendingSequence == null) {
+            return;
+        }
+        awaitWritten(pendingSequence);
+        //writer 가 먼저 저장을 끝내서 남아있는 순번 정리
+        pendingSequenceByUser.remove(userId, pendingSequence);
+    }
+
+    /**
+     * 현재까지 큐에 입력된 모든 내역이 저장될 때까지 대기
+     */
+    public void flush() {
+        long targetSequence;
+        enqueueLock.lock();
+        try {
+            targetSequence = lastEnqueuedSequence;
+        } finally {
+            enqueueLock.unlock();
+        }
+        awaitWritten(targetSequence);
+    }
+
+    /**
+     * 종료 처리 - 새 요청은 바로 저장하도록 전환하고 큐에 남은 내역을 모두 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        enqueueLock.lock();
+        try {
+            if (!running) {
+                return;
+            }
+            running = false;
+        } finally {
+            enqueueLock.unlock();
+        }
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        //writer 스레드가 비정상 종료되어 큐에 남은 내역이 있으면 저장
+        drainRemaining();
+    }
+
+    /**
+     * @return 저장 대기 중인 내역 건수
+     */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * @return 내역 저장 실패 횟수 (재시도 실패 포함)
+     */
+    public long failedWriteCount() {
+        return failedWrites.get();
+    }
+
+    /**
+     * @return 저장에 실패한 내역을 재시도 중이면 true - 저장소가 복구되어 저장에 성공하면 false
+     */
+    public boolean isStalled() {
+        return stalled;
+    }
+
+    private void drainLoop() {
+        List<HistoryEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                HistoryEvent first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                if (!writeBatch(batch)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                //종료는 running 플래그로만 처리하고 남은 내역은 계속 저장
+                log.warn("point-history-writer interrupted, pending={}", queue.size());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void drainRemaining() {
+        List<HistoryEvent> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (!writeBatch(batch)) {
+                return;
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return 모두 저장했으면 true, 종료 중 재시도 한도를 넘겨 저장을 포기했으면 false
+     */
+    private boolean writeBatch(List<HistoryEvent> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            HistoryEvent event = batch.get(i);
+            if (!insertWithRetry(event)) {
+                log.error("point history writer stopped while storage is failing, unwritten={}", batch.size() - i + queue.size());
+                return false;
+            }
+            //저장 완료 표시 - 이후에 같은 유저의 내역이 다시 들어왔으면 제거하지 않음
+            pendingSequenceByUser.remove(event.userId(), event.sequence());
+            writtenLock.lock();
+            try {
+                writtenSequence = event.sequence();
+                writtenCondition.signalAll();
+            } finally {
+                writtenLock.unlock();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 저장에 성공할 때까지 backoff 를 2배씩 늘려가며 재시도 - 종료 중이면 SHUTDOWN_RETRY_ATTEMPTS 번까지만 시도
+     * 종료는 running 플래그로만 처리하므로 대기는 인터럽트 예외 없는 LockSupport.parkNanos 로 처리
+     */
+    private boolean insertWithRetry(HistoryEvent event) {
+        long backoffNanos = retryBackoffNanos;
+        int shutdownAttempts = 0;
+        while (true) {
+            try {
+                pointHistoryRepository.insert(event.userId(), event.amount(), event.type(), event.updateMillis());
+                if (stalled) {
+                    stalled = false;
+                    log.info("point history write recovered. userId={}, failed={}", event.userId(), failedWrites.get());
+                }
+                return true;
+            } catch (RuntimeException e) {
+                failedWrites.incrementAndGet();
+                stalled = true;
+                log.error("point history write failed, retry in {}ms. userId={}, amount={}, type={}",
+                        TimeUnit.NANOSECONDS.toMillis(backoffNanos), event.userId(), event.amount(), event.type(), e);
+                if (!running && ++shutdownAttempts >= SHUTDOWN_RETRY_ATTEMPTS) {
+                    return false;
+                }
+            }
+            LockSupport.parkNanos(backoffNanos);
+            backoffNanos = Math.min(backoffNanos * 2, maxRetryBackoffNanos);
+        }
+    }
+
+    private void awaitWritten(long targetSequence) {
+        boolean interrupted = false;
+        writtenLock.lock();
+        try {
+            while (writtenSequence < targetSequence) {
+                try {
+                    writtenCondition.await(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            writtenLock.unlock();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record HistoryEvent(long sequence, long userId, long amount, TransactionType type, long updateMillis) {
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 내역 write-behind 저장 상태
+ * - 저장에 실패한 내역을 재시도 중이면 DOWN - 저장 대기 건수/실패 횟수를 함께 표시
+ * - 저장 대기 건수/실패 횟수는 gauge 로도 등록
+ */
+@Component
+public class PointHistoryWriterHealthIndicator implements HealthIndicator {
+
+    private final PointHistoryWriter pointHistoryWriter;
+
+    public PointHistoryWriterHealthIndicator(PointHistoryWriter pointHistoryWriter, PointMetrics pointMetrics) {
+        this.pointHistoryWriter = pointHistoryWriter;
+        pointMetrics.gauge("point.history.write_behind.pending", "History events waiting in the write-behind queue", pointHistoryWriter, PointHistoryWriter::pendingCount);
+        pointMetrics.gauge("point.history.write_behind.failures", "History inserts that failed and were retried by the write-behind writer", pointHistoryWriter, PointHistoryWriter::failedWriteCount);
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = pointHistoryWriter.isStalled() ? Health.down() : Health.up();
+        return builder
+                .withDetail("pending", pointHistoryWriter.pendingCount())
+                .withDetail("failedWrites", pointHistoryWriter.failedWriteCount())
+                .build();
+    }
+}
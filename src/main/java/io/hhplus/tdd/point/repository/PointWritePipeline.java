@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * 충전/사용 1건의 잔고 저장 + 내역 저장 (point.history.write-mode)
+ * - SEQUENTIAL: 잔고 저장 후 저장된 처리 시간으로 내역 저장 -> 유저 lock 점유 시간 = 두 저장 시간의 합
+ * - PIPELINED: 처리 시간을 먼저 정하고 내역 저장은 pipeline 스레드, 잔고 저장은 요청 스레드에서 동시에 진행
+ *   -> 유저 lock 점유 시간 = 두 저장 시간 중 긴 쪽
+ *   - 내역 저장 실패 시 잔고를 저장 전 값으로 되돌리고 내역 저장 예외 전달
+ *   - 잔고 저장 실패 시 저장된 내역을 반대 구분(충전 <-> 사용) 내역으로 상쇄하고 잔고 저장 예외 전달 (내역은 삭제할 수 없음)
+ *   - 내역의 처리 시간은 잔고 저장 시간이 아닌 저장 시작 전에 정한 시간
+ * - write-behind 사용 시 내역 저장은 큐에 넣기만 하므로 PIPELINED 여도 SEQUENTIAL 로 처리
+ * - pipeline 스레드는 동시에 최대 point.history.pipeline-threads 개, 넘으면 요청 스레드가 빈 자리가 날 때까지 대기
+ *   spring.threads.virtual.enabled=true 이면 virtual thread 로 실행
+ * - 내역 ID 발급의 동시성은 HistoryStore 구현이 보장 - TABLE 은 테이블 저장을 한 건씩 처리하므로 여러 유저의 내역 저장은 겹치지 않음
+ * - 종료 시 진행 중인 내역 저장이 끝날 때까지 최대 SHUTDOWN_TIMEOUT_MILLIS 대기
+ * 호출자가 유저 lock 을 잡은 상태에서 호출
+ */
+@Component
+public class PointWritePipeline {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    //PIPELINED 일 때만 사용
+    private final SimpleAsyncTaskExecutor historyExecutor;
+
+    public PointWritePipeline(UserPointRepository userPointRepository, PointHistoryWriter pointHistoryWriter, PointProperties pointProperties,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        PointProperties.History history = pointProperties.getHistory();
+        if (history.getWriteMode() == HistoryWriteMode.PIPELINED && !history.getWriteBehind().isEnabled()) {
+            this.historyExecutor = new SimpleAsyncTaskExecutor("point-history-pipeline-");
+            this.historyExecutor.setDaemon(true);
+            this.historyExecutor.setVirtualThreads(virtualThreads);
+            this.historyExecutor.setConcurrencyLimit(Math.max(1, history.getPipelineThreads()));
+            this.historyExecutor.setTaskTerminationTimeout(SHUTDOWN_TIMEOUT_MILLIS);
+        } else {
+            this.historyExecutor = null;
+        }
+    }
+
+    /**
+     * 잔고 저장 + 내역 저장
+     * @param id 유저 ID
+     * @param previousPoint 저장 전 잔고 - 내역 저장 실패 시 이 값으로 되돌림
+     * @param afterPoint 저장할 잔고
+     * @param amount 충전/사용 포인트 (변동분)
+     * @param type 충전/사용 구분
+     * @return UserPoint 저장된 유저 데이터
+     */
+    public UserPoint save(long id, long previousPoint, long afterPoint, long amount, TransactionType type) {
+        if (historyExecutor == null) {
+            UserPoint savedUserPoint = userPointRepository.insertOrUpdate(id, afterPoint);
+            pointHistoryWriter.write(id, amount, type, savedUserPoint.updateMillis());
+            return savedUserPoint;
+        }
+
+        long updateMillis = System.currentTimeMillis();
+        Future<?> historyWrite = historyExecutor.submit(() -> pointHistoryWriter.write(id, amount, type, updateMillis));
+        UserPoint savedUserPoint;
+        try {
+            savedUserPoint = userPointRepository.insertOrUpdate(id, afterPoint);
+        } catch (RuntimeException e) {
+            //잔고 저장 실패 - 저장된 내역은 반대 구분 내역으로 상쇄
+            if (await(historyWrite) == null) {
+                pointHistoryWriter.write(id, amount, reverse(type), System.currentTimeMillis());
+            }
+            throw e;
+        }
+        RuntimeException historyError = await(historyWrite);
+        if (historyError != null) {
+            //내역 저장 실패 - 잔고를 저장 전 값으로 되돌림
+            userPointRepository.insertOrUpdate(id, previousPoint);
+            throw historyError;
+        }
+        return savedUserPoint;
+    }
+
+    /**
+     * 내역 저장 완료 대기 - 결과를 모르는 채로 lock 을 반환하지 않도록 인터럽트에도 계속 대기
+     * @return 내역 저장 예외, 성공 시 null
+     */
+    private RuntimeException await(Future<?> historyWrite) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    historyWrite.get();
+                    return null;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    return e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException("point history write failed", e.getCause());
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 새 내역 저장을 받지 않고 진행 중인 내역 저장이 끝날 때까지 대기
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (historyExecutor != null) {
+            historyExecutor.close();
+        }
+    }
+
+    private TransactionType reverse(TransactionType type) {
+        return type == TransactionType.CHARGE ? TransactionType.USE : TransactionType.CHARGE;
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.dto.PointHistory;
+
+import java.util.Arrays;
+
+/**
+ * PointHistory 객체 참조를 배열로 보관하는 세그먼트 (HistoryStoreType.OBJECT)
+ * - 배열이 가득 차면 2배로 확장
+ * - 조회 시 저장된 객체를 그대로 반환
+ */
+final class UserHistorySegment extends HistorySegment {
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private PointHistory[] entries = new PointHistory[INITIAL_CAPACITY];
+
+    @Override
+    protected void ensureCapacity(int capacity) {
+        //배열이 가득 차면 2배로 확장
+        if (capacity > entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+    }
+
+    @Override
+    protected void set(int index, PointHistory pointHistory) {
+        entries[index] = pointHistory;
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        entries[to] = entries[from];
+    }
+
+    @Override
+    protected long idAt(int index) {
+        return entries[index].id();
+    }
+
+    @Override
+    protected PointHistory historyAt(int index) {
+        return entries[index];
+    }
+
+    @Override
+    protected void visit(int index, HistoryRowVisitor visitor) {
+        PointHistory pointHistory = entries[index];
+        visitor.visit(pointHistory.id(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+    }
+}
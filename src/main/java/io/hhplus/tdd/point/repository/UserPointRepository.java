@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.BalanceStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Repository;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저 포인트 저장소
+ * - 잔고 저장소(BalanceStore, point.store.type 으로 선택) 앞단에 잔고 캐시(read-through / write-through)를 둠
+ * - 조회: 캐시 hit 이면 저장소 조회 없이 반환, miss 면 저장소 조회 후 캐시에 올림
+ * - 충전/사용: 저장소 저장 후 저장된 값을 캐시에 반영 -> 다음 충전/사용의 현재 잔고 조회는 캐시에서 처리
+ * - 이 프로세스가 유일한 쓰기 주체이므로 캐시 값은 저장소와 항상 일치함
+ * - 잔고 저장마다 유저별 버전을 1씩 올림 -> 낙관적 사용(useMode=OPTIMISTIC)이 조회 후 다른 저장이 있었는지 확인하는 데 사용
+ * - point.journal.enabled=true 이면 저장한 잔고를 journal 에 함께 기록 (재시작 시 복구용)
+ * - 저장소 호출 시간은 point.table{table=user_point} 타이머로 기록 (캐시 hit 은 저장소 호출이 없으므로 제외)
+ */
+@Repository
+public class UserPointRepository {
+
+    private final BalanceStore balanceStore;
+    private final BalanceCache balanceCache;
+    private final PointJournal pointJournal;
+    private final Timer selectTimer;
+    private final Timer insertOrUpdateTimer;
+
+    //유저 ID : 잔고 버전 (저장 횟수)
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public UserPointRepository(BalanceStore balanceStore, PointProperties pointProperties, PointMetrics pointMetrics, PointJournal pointJournal) {
+        PointProperties.Cache cache = pointProperties.getCache();
+        this.balanceStore = balanceStore;
+        this.balanceCache = cache.isEnabled() ? new BalanceCache(cache.getMaxSize()) : null;
+        this.pointJournal = pointJournal;
+        this.selectTimer = pointMetrics.tableTimer("user_point", "selectById");
+        this.insertOrUpdateTimer = pointMetrics.tableTimer("user_point", "insertOrUpdate");
+    }
+
+    /**
+     * 유저 포인트 조회
+     * @param id 유저 ID
+     * @return UserPoint 현재 유저 포인트, 없으면 0P
+     */
+    public UserPoint selectById(long id) {
+        if (balanceCache == null) {
+            return selectTimer.record(() -> balanceStore.selectById(id));
+        }
+
+        UserPoint cachedUserPoint = balanceCache.get(id);
+        if (cachedUserPoint != null) {
+            return cachedUserPoint;
+        }
+
+        //저장소 조회 중에 들어온 쓰기 값을 덮어쓰지 않도록 조회 전 쓰기 순번 확인
+        long writeVersion = balanceCache.writeVersion(id);
+        UserPoint userPoint = selectTimer.record(() -> balanceStore.selectById(id));
+        balanceCache.putIfNotStale(userPoint, writeVersion);
+        return userPoint;
+    }
+
+    /**
+     * 유저 포인트 저장 후 journal 기록, 캐시 갱신
+     * @param id 유저 ID
+     * @param amount 저장할 포인트
+     * @return UserPoint 저장된 유저 포인트
+     */
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = insertOrUpdateTimer.record(() -> balanceStore.insertOrUpdate(id, amount));
+        pointJournal.appendBalance(id, userPoint.point(), userPoint.updateMillis());
+        if (balanceCache != null) {
+            balanceCache.put(userPoint);
+        }
+        //캐시 반영 후 버전 증가 - 버전을 먼저 읽고 잔고를 읽은 쪽은 이 저장 이후 잔고를 읽었어도 버전 불일치로 다시 시도함
+        versions.merge(id, 1L, Long::sum);
+        return userPoint;
+    }
+
+    /**
+     * 잔고 버전 조회 - 잔고 조회 전에 읽고, 저장 직전에 다시 읽어서 그 사이 다른 저장이 있었는지 비교
+     * @param id 유저 ID
+     * @return 지금까지 저장된 횟수, 저장 이력이 없으면 0
+     */
+    public long versionOf(long id) {
+        return versions.getOrDefault(id, 0L);
+    }
+
+    /**
+     * @return 캐시 hit/miss/eviction 통계, 캐시 미사용 시 모두 0
+     */
+    public BalanceCache.CacheStats cacheStats() {
+        if (balanceCache == null) {
+            return new BalanceCache.CacheStats(0, 0, 0, 0);
+        }
+        return balanceCache.stats();
+    }
+}
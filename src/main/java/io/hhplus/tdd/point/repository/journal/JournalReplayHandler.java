@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.repository.journal;
+
+import io.hhplus.tdd.point.dto.TransactionType;
+
+/**
+ * journal 재생 시 기록 순서대로 한 건씩 호출되는 handler
+ */
+public interface JournalReplayHandler {
+
+    /**
+     * 잔고 저장 기록
+     * @param userId 유저 ID
+     * @param point 저장된 잔고
+     * @param updateMillis 저장 시간
+     */
+    void onBalance(long userId, long point, long updateMillis);
+
+    /**
+     * 충전/사용 내역 기록
+     * @param userId 유저 ID
+     * @param amount 충전/사용 포인트
+     * @param type 충전/사용 구분
+     * @param updateMillis 처리 시간
+     */
+    void onHistory(long userId, long amount, TransactionType type, long updateMillis);
+}
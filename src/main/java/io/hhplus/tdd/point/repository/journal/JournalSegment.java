@@ -0,0 +1,203 @@
+package io.hhplus.tdd.point.repository.journal;
+
+import io.hhplus.tdd.point.dto.TransactionType;
+import sun.misc.Unsafe;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * journal 세그먼트 파일 1개 - 고정 크기 파일을 memory-map 해서 고정 길이 기록을 순서대로 씀
+ *
+ * 기록 형식 (RECORD_SIZE = 30 bytes, big endian)
+ * - [0] 종류 (1: 잔고 / 2: 내역, 0 이면 기록 끝)
+ * - [1..8] 유저 ID
+ * - [9..16] 잔고 또는 충전/사용 포인트
+ * - [17..24] 처리 시간
+ * - [25] 충전/사용 구분 (TransactionType ordinal, 잔고 기록은 0)
+ * - [26..29] [0..25] 의 CRC32C
+ *
+ * 쓰기는 PointJournal 의 append lock 안에서만 호출
+ * 닫을 때 memory-map 도 바로 해제 (GC 를 기다리지 않고 세그먼트 크기만큼의 가상 메모리/파일 매핑 반환)
+ * -> 해제된 buffer 에 접근하면 JVM 이 비정상 종료되므로 닫은 뒤의 쓰기/fsync 는 IllegalStateException
+ */
+final class JournalSegment {
+
+    static final int RECORD_SIZE = 30;
+    static final byte KIND_END = 0;
+    static final byte KIND_BALANCE = 1;
+    static final byte KIND_HISTORY = 2;
+
+    private static final int CHECKSUM_OFFSET = 26;
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+    private final int index;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    //다음 기록을 쓸 위치
+    private int position;
+    private volatile boolean closed;
+
+    //쓰기/검증용 버퍼 - 쓰기는 append lock, 검증/재생은 시작 시 1개 스레드에서만 사용
+    private final byte[] record = new byte[RECORD_SIZE];
+    private final ByteBuffer recordBuffer = ByteBuffer.wrap(record);
+    private final CRC32C crc = new CRC32C();
+
+    private JournalSegment(int index, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.index = index;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        //기록이 세그먼트 경계에 걸치지 않도록 기록 크기의 배수만 사용
+        this.capacity = buffer.capacity() - buffer.capacity() % RECORD_SIZE;
+    }
+
+    /**
+     * 세그먼트 파일을 열고 segmentSize 만큼 memory-map - 파일이 짧으면(잘린 파일 포함) 0 으로 채워서 늘림
+     */
+    static JournalSegment open(Path path, int index, int segmentSize) {
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            return new JournalSegment(index, path, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("journal segment open failed: " + path, e);
+        }
+    }
+
+    int index() {
+        return index;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    boolean hasRoom() {
+        return position + RECORD_SIZE <= capacity;
+    }
+
+    void write(byte kind, long userId, long value, long updateMillis, byte type) {
+        ensureOpen();
+        recordBuffer.clear();
+        recordBuffer.put(kind).putLong(userId).putLong(value).putLong(updateMillis).put(type);
+        crc.reset();
+        crc.update(record, 0, CHECKSUM_OFFSET);
+        recordBuffer.putInt((int) crc.getValue());
+        buffer.put(position, record);
+        position += RECORD_SIZE;
+    }
+
+    /**
+     * 처음부터 checksum 이 맞는 기록까지를 유효한 기록으로 보고 쓰기 위치를 그 뒤로 설정
+     * - 중간에 잘리거나 깨진 기록(crash 로 일부만 쓰인 기록)부터 세그먼트 끝까지는 0 으로 지움
+     * @return 세그먼트 끝까지 유효한 기록으로 차 있으면 true (다음 세그먼트가 이어짐)
+     */
+    boolean recover() {
+        position = 0;
+        while (position + RECORD_SIZE <= capacity && readValidRecord(position)) {
+            position += RECORD_SIZE;
+        }
+        boolean truncated = false;
+        for (int i = position; i < capacity; i++) {
+            if (buffer.get(i) != 0) {
+                truncated = true;
+                break;
+            }
+        }
+        if (truncated) {
+            for (int i = position; i < capacity; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            force();
+        }
+        return position == capacity;
+    }
+
+    /**
+     * 유효한 기록을 순서대로 handler 에 전달 - recover() 이후에만 호출
+     * @return 재생한 기록 수
+     */
+    long replay(JournalReplayHandler handler) {
+        long count = 0;
+        for (int offset = 0; offset < position; offset += RECORD_SIZE) {
+            buffer.get(offset, record);
+            recordBuffer.clear();
+            byte kind = recordBuffer.get();
+            long userId = recordBuffer.getLong();
+            long value = recordBuffer.getLong();
+            long updateMillis = recordBuffer.getLong();
+            byte type = recordBuffer.get();
+            if (kind == KIND_BALANCE) {
+                handler.onBalance(userId, value, updateMillis);
+            } else {
+                handler.onHistory(userId, value, TRANSACTION_TYPES[type], updateMillis);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    void force() {
+        ensureOpen();
+        buffer.force();
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("journal segment close failed: " + path, e);
+        } finally {
+            unmap(buffer);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("journal segment closed: " + path);
+        }
+    }
+
+    /**
+     * memory-map 해제 - 공개 API 가 없어서 jdk.unsupported 의 Unsafe.invokeCleaner 사용, 사용할 수 없으면 GC 에 맡김
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Field theUnsafe = Unsafe.class.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            ((Unsafe) theUnsafe.get(null)).invokeCleaner(buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            //해제하지 못해도 buffer 를 더 이상 참조하지 않으면 GC 때 해제됨
+        }
+    }
+
+    private boolean readValidRecord(int offset) {
+        buffer.get(offset, record);
+        byte kind = record[0];
+        if (kind != KIND_BALANCE && kind != KIND_HISTORY) {
+            return false;
+        }
+        if (kind == KIND_HISTORY && (record[CHECKSUM_OFFSET - 1] < 0 || record[CHECKSUM_OFFSET - 1] >= TRANSACTION_TYPES.length)) {
+            return false;
+        }
+        crc.reset();
+        crc.update(record, 0, CHECKSUM_OFFSET);
+        recordBuffer.clear();
+        return recordBuffer.getInt(CHECKSUM_OFFSET) == (int) crc.getValue();
+    }
+}
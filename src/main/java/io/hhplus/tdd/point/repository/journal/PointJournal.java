@@ -0,0 +1,330 @@
+package io.hhplus.tdd.point.repository.journal;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 잔고/내역 변경을 디스크에 남기는 append-only journal (point.journal.enabled=true 일 때만 동작)
+ * - 잔고 저장(UserPointRepository.insertOrUpdate)과 내역 저장 요청(PointHistoryWriter.write)을 고정 길이 기록으로 추가
+ * - 기록은 memory-map 된 고정 크기 세그먼트 파일(journal-00000000.log ...)에 순서대로 쓰고 가득 차면 다음 세그먼트로 넘어감
+ * - 기록마다 CRC32C checksum 을 붙여서 시작 시 중간에 잘리거나 깨진 기록부터는 버림
+ * - fsync 는 백그라운드 flusher 스레드 1개가 묶어서 처리 (group commit)
+ *   -> 요청 스레드는 awaitDurable 로 자기 기록까지 fsync 될 때까지만 대기, fsync 중에 들어온 기록은 다음 fsync 에 함께 반영
+ * - 시작 시 기존 세그먼트를 검증하고 PointJournalRecovery 가 replay 로 잔고/내역 저장소를 다시 채움
+ * - 대기는 모두 ReentrantLock/Condition 으로 처리 -> virtual thread pinning 없음
+ */
+@Slf4j
+@Component
+public class PointJournal {
+
+    //기록 1건 크기 (bytes)
+    public static final int RECORD_SIZE = JournalSegment.RECORD_SIZE;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final long IDLE_FLUSH_MILLIS = 100L;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentSize;
+
+    private final Timer fsyncTimer;
+    private final DistributionSummary fsyncRecords;
+    private final Timer durableWaitTimer;
+
+    //기록 순서와 순번을 일치시키기 위한 lock
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private JournalSegment current;
+    //가득 차서 넘어간 뒤 아직 fsync 되지 않은 세그먼트
+    private final List<JournalSegment> unforcedSegments = new ArrayList<>();
+    private volatile long appendedSequence;
+
+    //fsync 완료된 마지막 순번
+    private final ReentrantLock durableLock = new ReentrantLock();
+    private final Condition flushRequested = durableLock.newCondition();
+    private final Condition durableCondition = durableLock.newCondition();
+    private volatile long durableSequence;
+
+    private volatile boolean running;
+    private Thread flusherThread;
+
+    public PointJournal(PointProperties pointProperties, PointMetrics pointMetrics) {
+        PointProperties.Journal journal = pointProperties.getJournal();
+        this.enabled = journal.isEnabled();
+        this.directory = Paths.get(journal.getDirectory());
+        this.segmentSize = Math.toIntExact(journal.getSegmentSize().toBytes());
+        this.fsyncTimer = pointMetrics.timer("point.journal.fsync", "Time spent forcing journal segments to disk");
+        this.fsyncRecords = pointMetrics.summary("point.journal.fsync.records", "Journal records made durable by one fsync");
+        this.durableWaitTimer = pointMetrics.timer("point.journal.durable.wait", "Time a request waits for its journal records to be fsynced");
+    }
+
+    /**
+     * journal 을 사용하지 않는 객체 - Spring 없이 객체를 직접 만드는 테스트/벤치마크용
+     */
+    public static PointJournal disabled() {
+        return new PointJournal(new PointProperties(), PointMetrics.noop());
+    }
+
+    /**
+     * 기존 세그먼트 검증 후 마지막 유효 기록 뒤부터 이어서 쓰도록 열고 flusher 시작
+     * - 잘리거나 깨진 기록이 있는 세그먼트는 그 기록부터 지우고 이후 세그먼트는 삭제
+     */
+    @PostConstruct
+    public void open() {
+        if (!enabled || running) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            List<Path> segmentPaths = segmentPaths();
+            int nextIndex = 0;
+            for (int i = 0; i < segmentPaths.size(); i++) {
+                if (current != null) {
+                    current.close();
+                }
+                current = JournalSegment.open(segmentPaths.get(i), i, segmentSize);
+                nextIndex = i + 1;
+                if (!current.recover()) {
+                    //마지막 유효 기록 이후에 쓰인 세그먼트는 fsync 가 끝나지 않은 기록이므로 삭제
+                    for (int j = i + 1; j < segmentPaths.size(); j++) {
+                        log.warn("point journal discards segment after torn record. segment={}", segmentPaths.get(j));
+                        Files.delete(segmentPaths.get(j));
+                    }
+                    break;
+                }
+            }
+            if (current == null) {
+                current = JournalSegment.open(segmentPath(nextIndex), nextIndex, segmentSize);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("point journal open failed: " + directory, e);
+        }
+
+        running = true;
+        flusherThread = new Thread(this::flushLoop, "point-journal-flusher");
+        flusherThread.setDaemon(true);
+        flusherThread.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 잔고 저장 기록
+     * @return 기록 순번, journal 미사용 시 0
+     */
+    public long appendBalance(long userId, long point, long updateMillis) {
+        return append(JournalSegment.KIND_BALANCE, userId, point, updateMillis, (byte) 0);
+    }
+
+    /**
+     * 충전/사용 내역 기록
+     * @return 기록 순번, journal 미사용 시 0
+     */
+    public long appendHistory(long userId, long amount, TransactionType type, long updateMillis) {
+        return append(JournalSegment.KIND_HISTORY, userId, amount, updateMillis, (byte) type.ordinal());
+    }
+
+    /**
+     * 지금까지 추가된 모든 기록이 fsync 될 때까지 대기 - 유저 lock 을 반환한 뒤 응답 전에 호출
+     */
+    public void syncAppended() {
+        awaitDurable(appendedSequence);
+    }
+
+    /**
+     * sequence 순번 기록까지 fsync 될 때까지 대기 - 인터럽트되어도 fsync 완료까지 계속 대기
+     */
+    public void awaitDurable(long sequence) {
+        if (!running || durableSequence >= sequence) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean interrupted = false;
+        durableLock.lock();
+        try {
+            flushRequested.signal();
+            while (durableSequence < sequence && running) {
+                try {
+                    durableCondition.await();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            durableLock.unlock();
+        }
+        durableWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 세그먼트 순서대로 모든 유효 기록을 재생 - open() 후 첫 기록 추가 전에 호출
+     * @return 재생한 기록 수
+     */
+    public long replay(JournalReplayHandler handler) {
+        if (!enabled) {
+            return 0;
+        }
+        long count = 0;
+        for (int index = 0; index < current.index(); index++) {
+            JournalSegment segment = JournalSegment.open(segmentPath(index), index, segmentSize);
+            try {
+                segment.recover();
+                count += segment.replay(handler);
+            } finally {
+                segment.close();
+            }
+        }
+        return count + current.replay(handler);
+    }
+
+    /**
+     * 종료 처리 - 남은 기록을 모두 fsync 후 flusher 종료
+     */
+    @PreDestroy
+    public void close() {
+        if (!running) {
+            return;
+        }
+        durableLock.lock();
+        try {
+            running = false;
+            flushRequested.signalAll();
+            durableCondition.signalAll();
+        } finally {
+            durableLock.unlock();
+        }
+        try {
+            flusherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        appendLock.lock();
+        try {
+            current.close();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private long append(byte kind, long userId, long value, long updateMillis, byte type) {
+        if (!running) {
+            return 0;
+        }
+        appendLock.lock();
+        try {
+            //종료 확인 후 lock 을 기다리는 사이에 세그먼트가 닫혔을 수 있으므로 다시 확인
+            if (!running) {
+                return 0;
+            }
+            if (!current.hasRoom()) {
+                //가득 찬 세그먼트는 flusher 가 fsync 후 닫음
+                unforcedSegments.add(current);
+                int nextIndex = current.index() + 1;
+                current = JournalSegment.open(segmentPath(nextIndex), nextIndex, segmentSize);
+            }
+            current.write(kind, userId, value, updateMillis, type);
+            return ++appendedSequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void flushLoop() {
+        while (running) {
+            durableLock.lock();
+            try {
+                //대기 중인 요청이 없으면 IDLE_FLUSH_MILLIS 마다 fsync
+                if (running && durableSequence == appendedSequence) {
+                    flushRequested.await(IDLE_FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                log.warn("point-journal-flusher interrupted");
+            } finally {
+                durableLock.unlock();
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("point journal fsync failed", e);
+            }
+        }
+    }
+
+    /**
+     * 현재까지 추가된 기록을 fsync 하고 대기 중인 요청을 깨움
+     */
+    private void flush() {
+        long targetSequence;
+        List<JournalSegment> segments;
+        JournalSegment currentSegment;
+        appendLock.lock();
+        try {
+            targetSequence = appendedSequence;
+            segments = new ArrayList<>(unforcedSegments);
+            unforcedSegments.clear();
+            currentSegment = current;
+        } finally {
+            appendLock.unlock();
+        }
+        if (targetSequence == durableSequence) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        for (JournalSegment segment : segments) {
+            segment.force();
+            segment.close();
+        }
+        currentSegment.force();
+        fsyncTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        fsyncRecords.record(targetSequence - durableSequence);
+
+        durableLock.lock();
+        try {
+            durableSequence = targetSequence;
+            durableCondition.signalAll();
+        } finally {
+            durableLock.unlock();
+        }
+    }
+
+    private List<Path> segmentPaths() throws IOException {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(int index) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+}
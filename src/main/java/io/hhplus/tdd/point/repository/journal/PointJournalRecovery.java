@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.repository.journal;
+
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.store.BalanceStore;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시작 시 journal 을 재생해서 잔고/내역 저장소(BalanceStore / HistoryStore) 복구 (point.journal.enabled=true 일 때만)
+ * - 잔고는 유저별 마지막 기록만 남겨서 유저당 1번 저장
+ * - 내역은 기록 순서대로 PointHistoryRepository 인덱스에 바로 적재 (restore - 내역 저장소 throttle 없음, journal 에 다시 기록하지 않음)
+ * - 요청을 받기 전(빈 초기화 단계)에 끝남
+ */
+@Slf4j
+@Component
+public class PointJournalRecovery {
+
+    private final PointJournal pointJournal;
+    private final BalanceStore balanceStore;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    public PointJournalRecovery(PointJournal pointJournal, BalanceStore balanceStore, PointHistoryRepository pointHistoryRepository) {
+        this.pointJournal = pointJournal;
+        this.balanceStore = balanceStore;
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    @PostConstruct
+    public void recover() {
+        if (!pointJournal.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        //유저 ID : 마지막 잔고
+        Map<Long, Long> balances = new HashMap<>();
+        long records = pointJournal.replay(new JournalReplayHandler() {
+            @Override
+            public void onBalance(long userId, long point, long updateMillis) {
+                balances.put(userId, point);
+            }
+
+            @Override
+            public void onHistory(long userId, long amount, TransactionType type, long updateMillis) {
+                pointHistoryRepository.restore(userId, amount, type, updateMillis);
+            }
+        });
+        balances.forEach(balanceStore::insertOrUpdate);
+        log.info("point journal recovered. records={}, users={}, elapsedMillis={}", records, balances.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.repository.store;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+
+/**
+ * 잔고 저장소 - UserPointRepository 가 잔고를 읽고 쓰는 곳 (point.store.type 으로 구현 선택)
+ * - TABLE : UserPointTable 사용 (TableBalanceStore)
+ * - IN_MEMORY : 지연 없는 동시성 Map 사용 (InMemoryBalanceStore)
+ * 여러 스레드에서 동시에 호출됨
+ */
+public interface BalanceStore {
+
+    /**
+     * 잔고 조회
+     * @param id 유저 ID
+     * @return UserPoint 저장된 유저 포인트, 없으면 0P
+     */
+    UserPoint selectById(long id);
+
+    /**
+     * 잔고 저장
+     * @param id 유저 ID
+     * @param amount 저장할 포인트
+     * @return UserPoint 저장된 유저 포인트 (처리 시간 포함)
+     */
+    UserPoint insertOrUpdate(long id, long amount);
+}
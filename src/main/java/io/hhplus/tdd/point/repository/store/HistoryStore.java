@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.repository.store;
+
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+
+/**
+ * 충전/사용 내역 저장소 - PointHistoryRepository 가 내역을 쓰는 곳 (point.store.type 으로 구현 선택)
+ * - TABLE : PointHistoryTable 사용 (TableHistoryStore)
+ * - IN_MEMORY : 지연 없는 동시성 구조 사용 (InMemoryHistoryStore)
+ * 여러 스레드에서 동시에 호출됨, 내역 ID 는 저장 순서대로 1부터 증가
+ * 조회는 PointHistoryRepository 의 유저별 색인에서만 하므로 저장소는 저장만 담당
+ */
+public interface HistoryStore {
+
+    /**
+     * 내역 저장
+     * @param userId 유저 ID
+     * @param amount 충전/사용 포인트
+     * @param type 충전/사용 구분
+     * @param updateMillis 처리 시간
+     * @return PointHistory 내역 ID 가 발급된 내역
+     */
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+}
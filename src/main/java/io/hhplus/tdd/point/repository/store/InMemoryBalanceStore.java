@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.repository.store;
+
+import io.hhplus.tdd.point.dto.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연 없는 잔고 저장소 (point.store.type=IN_MEMORY)
+ * - UserPointTable 과 같은 동작(없으면 0P, 저장 시 현재 시간 기록)을 throttle 없이 ConcurrentHashMap 으로 처리
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "IN_MEMORY")
+public class InMemoryBalanceStore implements BalanceStore {
+
+    //유저 ID : 유저 포인트
+    private final ConcurrentHashMap<Long, UserPoint> balances = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = balances.get(id);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        balances.put(id, userPoint);
+        return userPoint;
+    }
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.repository.store;
+
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연 없는 내역 저장소 (point.store.type=IN_MEMORY)
+ * - 내역 ID 는 AtomicLong 으로 발급
+ * - 유저별 조회는 PointHistoryRepository 의 색인에서 하므로 내역을 따로 보관하지 않음
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "IN_MEMORY")
+public class InMemoryHistoryStore implements HistoryStore {
+
+    private final AtomicLong cursor = new AtomicLong();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return new PointHistory(cursor.incrementAndGet(), userId, amount, type, updateMillis);
+    }
+}
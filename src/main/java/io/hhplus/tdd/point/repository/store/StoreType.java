@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.repository.store;
+
+/**
+ * 잔고/내역 저장소 구현 (point.store.type)
+ * - TABLE : UserPointTable / PointHistoryTable (호출마다 최대 200~300ms 지연)
+ * - IN_MEMORY : 지연 없는 동시성 Map / 내역 목록 - 저장소 지연을 뺀 서비스 자체 처리량 확인용
+ */
+public enum StoreType {
+    TABLE, IN_MEMORY
+}
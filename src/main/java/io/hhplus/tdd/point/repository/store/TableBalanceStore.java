@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.repository.store;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.dto.UserPoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserPointTable 을 그대로 사용하는 잔고 저장소 (point.store.type=TABLE, 기본값)
+ * - UserPointTable 은 변경하지 않고 공개된 API 만 호출
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "TABLE", matchIfMissing = true)
+public class TableBalanceStore implements BalanceStore {
+
+    private final UserPointTable userPointTable;
+
+    public TableBalanceStore(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointTable.insertOrUpdate(id, amount);
+    }
+}
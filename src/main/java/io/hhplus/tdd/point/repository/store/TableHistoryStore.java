@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.repository.store;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PointHistoryTable 을 그대로 사용하는 내역 저장소 (point.store.type=TABLE, 기본값)
+ * - PointHistoryTable 은 변경하지 않고 공개된 API 만 호출 (조회는 PointHistoryRepository 의 색인에서 하므로 insert 만 사용)
+ * - PointHistoryTable 은 ArrayList / cursor++ 라 동시 호출에 안전하지 않으므로 tableLock 으로 한 건씩 호출
+ *   -> throttle 구간까지 lock 안에 있으므로 서로 다른 유저의 내역 저장도 겹치지 않음
+ *      (write-behind 미사용 + PIPELINED 에서도 여러 유저의 내역 저장 시간은 줄지 않고 유저 lock 점유 시간만 줄어듦)
+ */
+@Component
+@ConditionalOnProperty(prefix = "point.store", name = "type", havingValue = "TABLE", matchIfMissing = true)
+public class TableHistoryStore implements HistoryStore {
+
+    private final PointHistoryTable pointHistoryTable;
+    //테이블 호출 직렬화 - 대기 중 virtual thread pinning 이 없도록 synchronized 대신 사용
+    private final ReentrantLock tableLock = new ReentrantLock();
+
+    public TableHistoryStore(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        tableLock.lock();
+        try {
+            return pointHistoryTable.insert(userId, amount, type, updateMillis);
+        } finally {
+            tableLock.unlock();
+        }
+    }
+}
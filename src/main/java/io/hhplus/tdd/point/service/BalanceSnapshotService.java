@@ -0,0 +1,170 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.BalanceSnapshot;
+import io.hhplus.tdd.point.dto.BalanceVerification;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 충전/사용 내역(변동분)을 이벤트로 보고 잔고를 다시 계산하는 snapshot 관리
+ * - 내역의 amount 는 모든 엔진에서 변동분(충전 +amount / 사용 -amount)으로 기록됨
+ * - point.snapshot.interval 마다 모든 유저의 이전 snapshot 에 그 뒤 내역을 더해서 새 snapshot 저장 (checkpoint)
+ * - 잔고 재계산(rebuild)은 마지막 snapshot + 그 뒤 내역만 읽음 -> 전체 내역 수가 아닌 snapshot 주기 동안의 내역 수에 비례
+ * - 재계산한 잔고는 저장된 잔고 검증(GET /point/{id}/verify)에 사용 - snapshot 을 끄면 매번 전체 내역을 읽음
+ *
+ * 내역 ID 는 저장소(HistoryStore) 저장 순서로 발급되지만 인덱스 반영은 유저 사이에 직렬화되지 않음
+ * -> 다른 유저의 더 큰 ID 가 먼저 반영되어 lastHistoryId 가 앞서 나갈 수 있음 (같은 유저의 내역은 유저 lock / writer 스레드 순서대로 반영)
+ * -> checkpoint 는 직전 checkpoint 때 확인한 최대 내역 ID 까지만 반영해서 한 주기 동안 늦게 들어온 내역이 빠지지 않도록 함
+ */
+@Slf4j
+@Component
+public class BalanceSnapshotService {
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final boolean enabled;
+    private final Duration interval;
+    private final Timer checkpointTimer;
+    private final DistributionSummary rebuildEvents;
+
+    //유저 ID : 마지막 snapshot
+    private final ConcurrentHashMap<Long, BalanceSnapshot> snapshots = new ConcurrentHashMap<>();
+    //직전 checkpoint 때 확인한 최대 내역 ID - 다음 checkpoint 는 여기까지 반영
+    private volatile long pendingHorizon;
+
+    private ScheduledExecutorService scheduler;
+
+    public BalanceSnapshotService(PointHistoryRepository pointHistoryRepository, PointHistoryWriter pointHistoryWriter, PointProperties pointProperties, PointMetrics pointMetrics) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.enabled = pointProperties.getSnapshot().isEnabled();
+        this.interval = pointProperties.getSnapshot().getInterval();
+        this.checkpointTimer = pointMetrics.timer("point.snapshot.checkpoint", "Time spent checkpointing all balances");
+        this.rebuildEvents = pointMetrics.summary("point.snapshot.rebuild.events", "History rows replayed on top of the snapshot to rebuild one balance");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-balance-snapshotter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint();
+            } catch (RuntimeException e) {
+                log.error("point balance checkpoint failed", e);
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 모든 유저의 snapshot 을 직전 checkpoint 때 확인한 내역 ID 까지 갱신
+     * @return snapshot 이 갱신된 유저 수
+     */
+    public int checkpoint() {
+        long start = System.nanoTime();
+        long horizon = pendingHorizon;
+        pendingHorizon = pointHistoryRepository.lastHistoryId();
+
+        int updated = 0;
+        for (Long userId : pointHistoryRepository.userIds()) {
+            BalanceSnapshot previous = snapshotOf(userId);
+            if (previous.lastHistoryId() >= horizon) {
+                continue;
+            }
+            Accumulator accumulator = new Accumulator(previous);
+            pointHistoryRepository.scanByUserId(userId, previous.lastHistoryId(), horizon, accumulator::add);
+            //반영할 내역이 없는 유저는 이전 snapshot 유지
+            if (accumulator.count > 0) {
+                snapshots.put(userId, new BalanceSnapshot(userId, accumulator.point, horizon, accumulator.updateMillis));
+                updated++;
+            }
+        }
+        checkpointTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return updated;
+    }
+
+    /**
+     * 마지막 snapshot + 그 뒤 내역으로 잔고 재계산
+     * @param id 유저 ID
+     * @return UserPoint 내역으로 다시 계산한 유저 데이터 (updateMillis 는 마지막 내역 처리 시간)
+     */
+    public UserPoint rebuild(long id) {
+        //저장 대기 중인 내역까지 반영
+        pointHistoryWriter.awaitPending(id);
+        BalanceSnapshot snapshot = snapshotOf(id);
+        Accumulator accumulator = new Accumulator(snapshot);
+        pointHistoryRepository.scanByUserId(id, snapshot.lastHistoryId(), Long.MAX_VALUE, accumulator::add);
+        rebuildEvents.record(accumulator.count);
+        return new UserPoint(id, accumulator.point, accumulator.updateMillis);
+    }
+
+    /**
+     * 현재 잔고와 내역으로 다시 계산한 잔고 비교 (GET /point/{id}/verify)
+     * - 검증 중에 같은 유저의 충전/사용이 진행되면 일시적으로 불일치가 나올 수 있음
+     * @param stored 현재 조회되는 유저 데이터
+     * @return BalanceVerification 비교 결과
+     */
+    public BalanceVerification verify(UserPoint stored) {
+        BalanceVerification verification = BalanceVerification.of(stored, rebuild(stored.id()));
+        if (!verification.matched()) {
+            log.warn("point balance mismatch. userId={}, stored={}, rebuilt={}", verification.userId(), verification.storedPoint(), verification.rebuiltPoint());
+        }
+        return verification;
+    }
+
+    /**
+     * @return 유저의 마지막 snapshot, 없으면 잔고 0 인 빈 snapshot
+     */
+    public BalanceSnapshot snapshotOf(long id) {
+        return snapshots.getOrDefault(id, BalanceSnapshot.empty(id));
+    }
+
+    /**
+     * snapshot 잔고에 내역 변동분을 더하는 누적기
+     */
+    private static final class Accumulator {
+        private long point;
+        private long updateMillis;
+        private long count;
+
+        private Accumulator(BalanceSnapshot snapshot) {
+            this.point = snapshot.point();
+            this.updateMillis = snapshot.updateMillis();
+        }
+
+        void add(long id, long amount, TransactionType type, long updateMillis) {
+            point += type.signedAmount(amount);
+            this.updateMillis = Math.max(this.updateMillis, updateMillis);
+            count++;
+        }
+    }
+}
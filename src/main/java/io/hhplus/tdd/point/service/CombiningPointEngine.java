@@ -0,0 +1,318 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.lock.LockWaitPolicy;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 같은 유저에게 동시에 들어온 충전/사용 요청을 하나의 조회-변경-저장으로 합쳐서 처리하는 엔진 (flat combining)
+ * - 요청은 먼저 유저별 대기 큐에 넣고 유저 lock 을 획득
+ * - lock 을 획득한 스레드(combiner)는 큐에 쌓인 요청을 모두 꺼내서 잔고 1번 조회 -> 요청 순서대로 적용 -> 최종 잔고 1번 저장
+ * - 뒤이어 lock 을 획득한 스레드는 자기 요청이 이미 처리됐으면 결과만 받아서 반환
+ *   -> 대기 요청 수와 상관없이 테이블 조회/저장은 묶음당 1번
+ * - 요청별로 적용 시점의 잔고로 최대 잔고/잔고 부족을 검증해서 실패한 요청만 예외, 나머지는 정상 처리
+ * - 요청별 결과 UserPoint 와 내역은 각각 기록
+ * - 일괄 처리(applyInOrder)는 한 유저의 요청 목록을 한번에 큐에 넣어서 같은 방식으로 처리
+ *
+ * lock 은 ConcurrentAndReentraantLockFactory 의 유저 lock 을 그대로 사용하므로 LOCK 엔진의 충전과 섞여도 직렬화됨
+ * lock 대기는 LOCK 엔진과 같은 대기 한도(LockWaitPolicy)를 따름
+ * - submit 1번으로 넣은 요청 묶음(Submission)은 combiner 가 가져가거나(TAKEN) 요청 스레드가 취소하거나(CANCELLED) 둘 중 하나만 성공
+ * - 한도 초과 시 묶음을 취소할 수 있으면 LOCK_WAIT_EXCEEDED, 취소된 요청은 큐 자리에 그대로 두고 combiner 가 건너뜀
+ *   -> 큐에서 빼고 다시 넣지 않으므로 같은 유저의 요청 순서가 바뀌지 않음
+ * - 이미 combiner 가 가져간 묶음은 취소할 수 없으므로 lock 대기열에 다시 서지 않고 그 combiner 의 처리 완료만 대기
+ *   (combiner 는 lock 을 잡고 처리 중이므로 대기는 묶음 1번 처리 시간 이하)
+ */
+@Component
+public class CombiningPointEngine {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final ConcurrentAndReentraantLockFactory concurrentAndReentraantLockFactory;
+    private final LockWaitPolicy lockWaitPolicy;
+    private final PointMetrics.LockMetrics lockMetrics;
+
+    //유저 ID : 처리 대기 요청 큐
+    private final ConcurrentHashMap<Long, ConcurrentLinkedQueue<PointRequest>> pendingRequests = new ConcurrentHashMap<>();
+
+    public CombiningPointEngine(UserPointRepository userPointRepository, PointHistoryWriter pointHistoryWriter, ConcurrentAndReentraantLockFactory concurrentAndReentraantLockFactory, PointProperties pointProperties, PointMetrics pointMetrics) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.concurrentAndReentraantLockFactory = concurrentAndReentraantLockFactory;
+        this.lockWaitPolicy = new LockWaitPolicy(pointProperties.getLock());
+        this.lockMetrics = pointMetrics.lockMetrics("combining");
+    }
+
+    /**
+     * [포인트 충전] 같은 유저의 대기 요청과 합쳐서 충전
+     * @param id 유저 ID
+     * @param chargePointAmount 충전 요청 포인트
+     * @return UserPoint 이 요청까지 반영된 유저 데이터
+     * @throws CustomException 이 요청 적용 시 최대 잔고 초과면 OVER_CHARGE, lock 대기 한도 초과 시 LOCK_WAIT_EXCEEDED
+     */
+    public UserPoint charge(long id, long chargePointAmount) throws CustomException {
+        return submit(id, new PointRequest(new Submission(), TransactionType.CHARGE, chargePointAmount));
+    }
+
+    /**
+     * [포인트 사용] 같은 유저의 대기 요청과 합쳐서 사용
+     * @param id 유저 ID
+     * @param usePointAmount 사용 요청 포인트
+     * @return UserPoint 이 요청까지 반영된 유저 데이터
+     * @throws CustomException 이 요청 적용 시 잔여 포인트 부족이면 NOT_ENOUGH_VALANCE, lock 대기 한도 초과 시 LOCK_WAIT_EXCEEDED
+     */
+    public UserPoint use(long id, long usePointAmount) throws CustomException {
+        return submit(id, new PointRequest(new Submission(), TransactionType.USE, usePointAmount));
+    }
+
+    /**
+     * [일괄 처리] 한 유저의 충전/사용 요청을 순서대로 lock 1번 획득으로 처리
+     * @param id 유저 ID
+     * @param operations 같은 유저의 충전/사용 요청 (요청 순서)
+     * @return 요청 순서와 같은 순서의 요청별 결과, 최대 잔고 초과/잔고 부족은 해당 요청만 실패
+     * @throws TooManyRequestsException lock 대기 한도 초과 시 LOCK_WAIT_EXCEEDED - 요청은 하나도 처리되지 않음
+     */
+    public List<PointOperationResult> applyInOrder(long id, List<PointOperation> operations) {
+        Submission submission = new Submission();
+        List<PointRequest> requests = new ArrayList<>(operations.size());
+        for (PointOperation operation : operations) {
+            requests.add(new PointRequest(submission, operation.type(), operation.amount()));
+        }
+        submit(id, requests);
+
+        List<PointOperationResult> results = new ArrayList<>(operations.size());
+        for (int i = 0; i < requests.size(); i++) {
+            PointRequest request = requests.get(i);
+            if (request.error instanceof CustomException ce) {
+                results.add(PointOperationResult.fail(operations.get(i), ce.getErrorCode()));
+            } else if (request.error != null) {
+                throw request.error;
+            } else {
+                results.add(PointOperationResult.success(operations.get(i), request.result));
+            }
+        }
+        return results;
+    }
+
+    private UserPoint submit(long id, PointRequest request) {
+        submit(id, List.of(request));
+        if (request.error != null) {
+            throw request.error;
+        }
+        return request.result;
+    }
+
+    private void submit(long id, List<PointRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        Submission submission = requests.get(0).submission;
+        ConcurrentLinkedQueue<PointRequest> queue = pendingRequests.computeIfAbsent(id, key -> new ConcurrentLinkedQueue<>());
+        queue.addAll(requests);
+
+        ReentrantLock lock = concurrentAndReentraantLockFactory.getLock(id);
+        long acquiredNanos;
+        try {
+            //lock 획득 - 대기 한도 초과 시 LOCK_WAIT_EXCEEDED
+            acquiredNanos = lockWaitPolicy.lock(lock, lockMetrics);
+        } catch (TooManyRequestsException e) {
+            try {
+                if (submission.cancel()) {
+                    //아직 아무 combiner 도 가져가지 않음 - 취소한 요청은 순서를 바꾸지 않고 제거만 함
+                    queue.removeAll(requests);
+                    throw e;
+                }
+                //이미 combiner 가 가져가서 처리 중 - lock 없이 그 combiner 의 처리 완료만 대기
+                submission.awaitCompletion();
+                return;
+            } finally {
+                concurrentAndReentraantLockFactory.release(id, lock);
+            }
+        }
+        try {
+            //앞선 combiner 가 이미 처리했으면 결과만 반환
+            if (!submission.isCompleted()) {
+                combine(id, queue);
+            }
+        } finally {
+            lock.unlock();
+            lockMetrics.recordHold(acquiredNanos);
+            concurrentAndReentraantLockFactory.release(id, lock);
+        }
+    }
+
+    /**
+     * 유저 lock 을 잡은 상태에서 대기 요청을 모두 꺼내 한번에 처리
+     */
+    private void combine(long id, ConcurrentLinkedQueue<PointRequest> queue) {
+        List<PointRequest> batch = new ArrayList<>();
+        PointRequest polled;
+        while ((polled = queue.poll()) != null) {
+            //대기 한도 초과로 취소된 요청은 건너뜀
+            if (polled.submission.take()) {
+                batch.add(polled);
+            }
+        }
+        //비어 있는 큐는 제거 - 제거 직전에 넣은 요청은 그 스레드가 자기 큐를 직접 처리함
+        if (queue.isEmpty()) {
+            pendingRequests.remove(id, queue);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            //현재 소유 포인트 조회 - 묶음당 1번
+            long point = userPointRepository.selectById(id).point();
+
+            //요청 순서대로 적용, 검증에 실패한 요청은 잔고에 반영하지 않음
+            boolean changed = false;
+            for (PointRequest request : batch) {
+                try {
+                    point = request.apply(point);
+                    changed = true;
+                } catch (CustomException e) {
+                    request.error = e;
+                }
+            }
+
+            //최종 잔고 저장 - 묶음당 1번
+            long updateMillis = changed ? userPointRepository.insertOrUpdate(id, point).updateMillis() : System.currentTimeMillis();
+
+            for (PointRequest request : batch) {
+                if (request.error == null) {
+                    request.result = new UserPoint(id, request.appliedPoint, updateMillis);
+                    //충전/사용 포인트(변동분)를 내역으로 기록 (LOCK 엔진과 동일)
+                    pointHistoryWriter.write(id, request.amount, request.type, updateMillis);
+                }
+            }
+        } catch (RuntimeException e) {
+            //조회/저장 실패 시 묶음 전체 실패
+            for (PointRequest request : batch) {
+                if (request.error == null) {
+                    request.error = e;
+                }
+            }
+        } finally {
+            //결과를 모두 기록한 뒤 완료 표시 - 완료를 기다리는 요청 스레드는 이후에 결과를 읽음
+            for (PointRequest request : batch) {
+                request.submission.complete();
+            }
+        }
+    }
+
+    /**
+     * submit 1번으로 큐에 넣은 요청 묶음의 처리 상태
+     * - combiner 의 가져가기(take)와 요청 스레드의 취소(cancel) 중 먼저 상태를 바꾼 쪽만 성공
+     * - 묶음의 요청은 모두 같은 상태 -> 일괄 처리 요청이 일부만 반영되는 일이 없음
+     */
+    private static final class Submission {
+        private static final int PENDING = 0;
+        private static final int TAKEN = 1;
+        private static final int CANCELLED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        /**
+         * @return 취소되지 않았으면 true - 이미 가져간 묶음은 계속 true
+         */
+        boolean take() {
+            return state.compareAndExchange(PENDING, TAKEN) != CANCELLED;
+        }
+
+        /**
+         * @return 아직 어떤 combiner 도 가져가지 않아서 취소했으면 true
+         */
+        boolean cancel() {
+            return state.compareAndSet(PENDING, CANCELLED);
+        }
+
+        void complete() {
+            completed.countDown();
+        }
+
+        boolean isCompleted() {
+            return completed.getCount() == 0;
+        }
+
+        /**
+         * 처리 완료 대기 - 결과를 모르는 채로 반환하지 않도록 인터럽트에도 계속 대기
+         */
+        void awaitCompletion() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        completed.await();
+                        return;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 충전/사용 요청 - 결과는 유저 lock 안에서 쓰고, 묶음 완료(Submission) 이후에 읽음
+     */
+    private static final class PointRequest {
+        private final Submission submission;
+        private final TransactionType type;
+        private final long amount;
+
+        private long appliedPoint;
+        private UserPoint result;
+        private RuntimeException error;
+
+        private PointRequest(Submission submission, TransactionType type, long amount) {
+            this.submission = submission;
+            this.type = type;
+            this.amount = amount;
+        }
+
+        /**
+         * @param currentPoint 앞선 요청까지 반영된 잔고
+         * @return 이 요청까지 반영된 잔고
+         */
+        long apply(long currentPoint) {
+            if (type == TransactionType.CHARGE) {
+                //최대 잔고 초과 충전 체크
+                if (currentPoint + amount > UserPoint.MAX_POINT) {
+                    throw new CustomException(ErrorCode.OVER_CHARGE);
+                }
+                appliedPoint = currentPoint + amount;
+            } else {
+                //잔여 포인트가 0P 이거나 (잔여 포인트 - 사용 포인트)가 0P 보다 작은지 체크
+                if (currentPoint == UserPoint.MIN_POINT || (currentPoint - amount) < UserPoint.MIN_POINT) {
+                    throw new CustomException(ErrorCode.NOT_ENOUGH_VALANCE);
+                }
+                appliedPoint = currentPoint - amount;
+            }
+            return appliedPoint;
+        }
+    }
+}
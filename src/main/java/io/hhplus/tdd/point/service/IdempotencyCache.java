@@ -0,0 +1,226 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 충전/사용 결과 캐시 (최대 크기 + TTL 제한)
+ * - 처음 들어온 키만 실제로 처리하고 결과(UserPoint 또는 CustomException)를 보관
+ *   -> 같은 키로 재요청하면 lock/테이블을 거치지 않고 보관된 결과를 그대로 반환
+ * - 처리 중인 키로 동시에 들어온 요청은 다시 처리하지 않고 첫 요청의 결과를 기다림 (CompletableFuture, virtual thread pinning 없음)
+ * - 같은 키를 다른 유저/구분/포인트 요청에 재사용하면 IDEMPOTENCY_KEY_REUSED
+ * - CustomException 이 아닌 예외 또는 대기 한도 초과(TooManyRequestsException)로 실패한 요청은 보관하지 않음 -> 재요청 시 다시 처리
+ * - 키 해시로 나눈 segment 별로 입력 순서 LinkedHashMap 을 두고 segment 단위로만 동기화 (BalanceCache 와 같은 구조)
+ *   -> 입력 순서 = 만료 순서이므로 입력 시 앞에서부터 만료된 키를 제거하고, 최대 크기를 넘으면 가장 오래된 키부터 제거
+ *   -> 처리 중인 키는 만료/최대 크기 초과로 제거하지 않음 (제거하면 같은 키의 재요청이 다시 처리됨)
+ *      처리 중인 키가 많으면 최대 크기를 잠시 넘을 수 있고 처리가 끝난 뒤 다음 입력 때 제거
+ */
+@Component
+public class IdempotencyCache {
+
+    //Idempotency-Key 최대 길이 - 키 문자열을 그대로 보관하므로 키당 메모리 상한
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private static final int SEGMENT_COUNT = 64;
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public IdempotencyCache(PointProperties pointProperties, PointMetrics pointMetrics) {
+        PointProperties.Idempotency idempotency = pointProperties.getIdempotency();
+        this.enabled = idempotency.isEnabled();
+        this.ttlMillis = idempotency.getTtl().toMillis();
+        int segmentMaxSize = Math.max(1, idempotency.getMaxSize() / SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(segmentMaxSize);
+        }
+        pointMetrics.gauge("point.idempotency.keys", "Idempotency keys currently remembered", this, cache -> cache.stats().size());
+    }
+
+    /**
+     * Idempotency-Key 를 사용하지 않는 객체 - Spring 없이 객체를 직접 만드는 테스트/벤치마크용
+     */
+    public static IdempotencyCache disabled() {
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getIdempotency().setEnabled(false);
+        return new IdempotencyCache(pointProperties, PointMetrics.noop());
+    }
+
+    /**
+     * 키의 첫 요청이면 operation 실행 후 결과 보관, 이미 있는 키면 보관된 결과 반환 (처리 중이면 완료까지 대기)
+     * @param key Idempotency-Key
+     * @param type 충전/사용 구분
+     * @param userId 유저 ID
+     * @param amount 충전/사용 요청 포인트
+     * @param operation 실제 충전/사용 처리
+     * @return UserPoint 첫 요청의 처리 결과
+     * @throws CustomException 첫 요청의 CustomException, 같은 키를 다른 요청에 재사용하면 IDEMPOTENCY_KEY_REUSED
+     */
+    public UserPoint execute(String key, TransactionType type, long userId, long amount, Supplier<UserPoint> operation) throws CustomException {
+        if (!enabled) {
+            return operation.get();
+        }
+        Segment segment = segmentFor(key);
+        Entry created = new Entry(type, userId, amount, System.currentTimeMillis() + ttlMillis);
+        Entry existing = segment.putIfAbsent(key, created);
+        if (existing != null) {
+            if (!existing.matches(type, userId, amount)) {
+                throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            hitCount.increment();
+            return existing.await();
+        }
+
+        missCount.increment();
+        try {
+            UserPoint userPoint = operation.get();
+            created.result.complete(userPoint);
+            return userPoint;
+        } catch (CustomException e) {
+            //대기 한도 초과는 일시적인 실패이므로 보관하지 않음 - Retry-After 이후 같은 키로 다시 처리
+            if (e instanceof TooManyRequestsException) {
+                segment.remove(key, created);
+            }
+            created.result.completeExceptionally(e);
+            throw e;
+        } catch (RuntimeException e) {
+            //일시적인 실패일 수 있으므로 보관하지 않고 대기 중인 요청에만 전달
+            segment.remove(key, created);
+            created.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public CacheStats stats() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    private Segment segmentFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * 캐시 통계
+     * @param hitCount 보관된 결과를 반환한 횟수 (처리 중 대기 포함)
+     * @param missCount 처음 들어와서 실제로 처리한 횟수
+     * @param evictionCount 만료/최대 크기 초과로 제거된 횟수
+     * @param size 현재 보관 중인 키 수
+     */
+    public record CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+    }
+
+    /**
+     * 키 1개의 요청 내용과 처리 결과
+     */
+    private static final class Entry {
+        private final TransactionType type;
+        private final long userId;
+        private final long amount;
+        private final long expiresAtMillis;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Entry(TransactionType type, long userId, long amount, long expiresAtMillis) {
+            this.type = type;
+            this.userId = userId;
+            this.amount = amount;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean matches(TransactionType type, long userId, long amount) {
+            return this.type == type && this.userId == userId && this.amount == amount;
+        }
+
+        UserPoint await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private final class Segment {
+        private final int maxSize;
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+        private Segment(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * 만료되지 않은 같은 키가 있으면 그 값을 반환, 없으면 entry 입력 후 null 반환
+         */
+        synchronized Entry putIfAbsent(String key, Entry entry) {
+            long now = System.currentTimeMillis();
+            evictExpired(now);
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            entries.put(key, entry);
+            evictOverflow();
+            return null;
+        }
+
+        synchronized void remove(String key, Entry entry) {
+            entries.remove(key, entry);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        //입력 순서 = 만료 순서이므로 앞에서부터 만료되지 않은 키를 만날 때까지만 제거 (처리 중인 키는 건너뜀)
+        private void evictExpired(long now) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.expiresAtMillis > now) {
+                    return;
+                }
+                if (entry.result.isDone()) {
+                    iterator.remove();
+                    evictionCount.increment();
+                }
+            }
+        }
+
+        //최대 크기를 넘으면 오래된 키부터 처리가 끝난 키만 제거
+        private void evictOverflow() {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                if (iterator.next().result.isDone()) {
+                    iterator.remove();
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * lock 없이 Compare and Swap 으로 충전/사용을 처리하는 엔진
+ * - 유저별 (잔고, 버전)을 AtomicReference 로 관리하고 compareAndSet 재시도 루프로 잔고 변경
+ * - 최대 잔고(MAX_POINT)/최소 잔고(MIN_POINT) 검증은 CAS 루프 안에서 처리해서 검증과 변경이 원자적으로 적용됨
+ * - 검증에 실패한 요청은 다른 요청을 기다리지 않고 바로 실패 처리
+ * - 테이블/내역 저장은 버전 순서대로 진행
+ *   -> 자기 차례가 왔을 때 이미 더 최신 버전이 있으면 잔고 저장은 최신 버전에 맡기고 내역만 기록
+ * - 저장에 실패하면 이미 확정된 잔고 변경을 되돌리는 보상 버전을 새로 확정하고 저장한 뒤 원래 예외를 던짐
+ *   -> 보상 버전은 잔고 검증 없이 적용 (실패한 충전 금액을 뒤 요청이 이미 사용했다면 잔고가 일시적으로 최소 잔고보다 작아질 수 있음)
+ *
+ * 이 엔진이 관리하는 잔고가 기준 잔고이므로 같은 유저를 lock 기반 충전/사용과 섞어서 처리하지 않아야 함
+ */
+@Component
+public class LockFreePointEngine {
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+
+    //유저 ID : 유저별 버전 잔고
+    private final ConcurrentHashMap<Long, UserBalance> balances = new ConcurrentHashMap<>();
+
+    public LockFreePointEngine(UserPointRepository userPointRepository, PointHistoryWriter pointHistoryWriter) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+    }
+
+    /**
+     * [포인트 충전] CAS 재시도로 충전 후 버전 순서대로 저장
+     * @param id 유저 ID
+     * @param chargePointAmount 충전 요청 포인트
+     * @return UserPoint 충전 완료된 유저 데이터
+     * @throws CustomException 최대 잔고 초과 시 OVER_CHARGE
+     */
+    public UserPoint charge(long id, long chargePointAmount) throws CustomException {
+        UserBalance balance = balanceOf(id);
+        VersionedPoint committed = balance.apply(currentPoint -> {
+            long afterChargePoint = currentPoint + chargePointAmount;
+            //최대 잔고 초과 충전 체크
+            if (afterChargePoint > UserPoint.MAX_POINT) {
+                throw new CustomException(ErrorCode.OVER_CHARGE);
+            }
+            return afterChargePoint;
+        });
+        return persist(id, balance, committed, chargePointAmount, chargePointAmount, TransactionType.CHARGE);
+    }
+
+    /**
+     * [포인트 사용] CAS 재시도로 차감 후 버전 순서대로 저장
+     * @param id 유저 ID
+     * @param usePointAmount 사용 요청 포인트
+     * @return UserPoint 사용 완료된 유저 데이터
+     * @throws CustomException 잔여 포인트 부족 시 NOT_ENOUGH_VALANCE
+     */
+    public UserPoint use(long id, long usePointAmount) throws CustomException {
+        UserBalance balance = balanceOf(id);
+        VersionedPoint committed = balance.apply(currentPoint -> {
+            //잔여 포인트가 0P 이거나 (잔여 포인트 - 사용 포인트)가 0P 보다 작은지 체크
+            if (currentPoint == UserPoint.MIN_POINT || (currentPoint - usePointAmount) < UserPoint.MIN_POINT) {
+                throw new CustomException(ErrorCode.NOT_ENOUGH_VALANCE);
+            }
+            return currentPoint - usePointAmount;
+        });
+        return persist(id, balance, committed, -usePointAmount, usePointAmount, TransactionType.USE);
+    }
+
+    /**
+     * [포인트 조회] 이 엔진이 관리 중인 유저는 저장 완료 여부와 상관없이 확정된 최신 잔고 반환
+     * @param id 유저 ID
+     * @return UserPoint 현재 유저 데이터
+     */
+    public UserPoint select(long id) {
+        UserBalance balance = balances.get(id);
+        if (balance == null) {
+            return userPointRepository.selectById(id);
+        }
+        VersionedPoint latest = balance.latest();
+        return new UserPoint(id, latest.point(), latest.updateMillis());
+    }
+
+    private UserBalance balanceOf(long id) {
+        UserBalance balance = balances.get(id);
+        if (balance != null) {
+            return balance;
+        }
+        //처음 요청된 유저는 저장된 잔고를 버전 0 으로 적재
+        //computeIfAbsent 안에서 테이블을 조회하면 해시 버킷 monitor 를 잡은 채 대기(virtual thread pinning)하므로 밖에서 조회
+        //동시에 적재하면 먼저 넣은 값을 사용 - 적재 전에는 이 엔진의 변경이 없으므로 늦게 읽은 값을 버려도 안전
+        UserBalance loaded = new UserBalance(userPointRepository.selectById(id));
+        UserBalance existing = balances.putIfAbsent(id, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private UserPoint persist(long id, UserBalance balance, VersionedPoint committed, long delta, long historyAmount, TransactionType type) {
+        balance.awaitTurn(committed.version());
+        RuntimeException failure;
+        VersionedPoint compensation;
+        try {
+            UserPoint userPoint = save(id, balance, committed);
+            pointHistoryWriter.write(id, historyAmount, type, userPoint.updateMillis());
+            return userPoint;
+        } catch (RuntimeException e) {
+            //확정된 잔고 변경을 되돌리는 보상 버전을 확정 - 보상 버전의 차례는 이 버전 차례가 끝난 뒤에 오므로 finally 이후 저장
+            failure = e;
+            compensation = balance.apply(currentPoint -> currentPoint - delta);
+        } finally {
+            balance.completeTurn(committed.version());
+        }
+        compensate(id, balance, compensation, failure);
+        throw failure;
+    }
+
+    /**
+     * 보상 버전 저장 - 보상 저장까지 실패하면 원래 예외에 덧붙이고, 메모리 잔고는 이미 되돌려졌으므로 다음 저장에서 테이블이 맞춰짐
+     */
+    private void compensate(long id, UserBalance balance, VersionedPoint compensation, RuntimeException cause) {
+        balance.awaitTurn(compensation.version());
+        try {
+            save(id, balance, compensation);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        } finally {
+            balance.completeTurn(compensation.version());
+        }
+    }
+
+    private UserPoint save(long id, UserBalance balance, VersionedPoint versionedPoint) {
+        if (balance.latestVersion() > versionedPoint.version()) {
+            //뒤 버전이 이미 있으면 잔고는 뒤 버전이 저장하므로 테이블 저장 생략
+            return new UserPoint(id, versionedPoint.point(), versionedPoint.updateMillis());
+        }
+        return userPointRepository.insertOrUpdate(id, versionedPoint.point());
+    }
+
+    private record VersionedPoint(long point, long version, long updateMillis) {
+    }
+
+    private static final class UserBalance {
+        private final AtomicReference<VersionedPoint> current;
+
+        //저장 완료된 마지막 버전 - virtual thread 가 대기 중 pinning 되지 않도록 synchronized 대신 Condition 으로 대기
+        private final ReentrantLock persistLock = new ReentrantLock();
+        private final Condition persistCondition = persistLock.newCondition();
+        private long persistedVersion;
+
+        private UserBalance(UserPoint userPoint) {
+            this.current = new AtomicReference<>(new VersionedPoint(userPoint.point(), 0L, userPoint.updateMillis()));
+        }
+
+        /**
+         * 현재 잔고에 operator 를 적용한 값으로 compareAndSet, 다른 스레드가 먼저 바꿨으면 다시 시도
+         * operator 에서 예외가 발생하면 잔고는 변경되지 않음
+         */
+        VersionedPoint apply(LongUnaryOperator operator) {
+            while (true) {
+                VersionedPoint currentPoint = current.get();
+                VersionedPoint nextPoint = new VersionedPoint(operator.applyAsLong(currentPoint.point()), currentPoint.version() + 1, System.currentTimeMillis());
+                if (current.compareAndSet(currentPoint, nextPoint)) {
+                    return nextPoint;
+                }
+            }
+        }
+
+        VersionedPoint latest() {
+            return current.get();
+        }
+
+        long latestVersion() {
+            return current.get().version();
+        }
+
+        /**
+         * 바로 앞 버전의 저장이 끝날 때까지 대기 - 차례를 건너뛰면 뒤 버전들이 모두 멈추므로 인터럽트에도 계속 대기
+         */
+        void awaitTurn(long version) {
+            boolean interrupted = false;
+            persistLock.lock();
+            try {
+                while (persistedVersion != version - 1) {
+                    try {
+                        persistCondition.await();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                persistLock.unlock();
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void completeTurn(long version) {
+            persistLock.lock();
+            try {
+                persistedVersion = version;
+                persistCondition.signalAll();
+            } finally {
+                persistLock.unlock();
+            }
+        }
+    }
+}
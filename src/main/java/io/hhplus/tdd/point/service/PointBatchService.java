@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 포인트 충전/사용 일괄 처리 (POST /point/batch)
+ * - 요청을 유저별로 묶어서 유저마다 lock 1번 획득으로 요청 순서대로 처리 (CombiningPointEngine.applyInOrder)
+ * - 서로 다른 유저는 applicationTaskExecutor 에서 병렬 처리
+ *   -> spring.threads.virtual.enabled=true 이면 virtual thread 로 실행됨
+ * - 입력 값 검증/최대 잔고 초과/잔고 부족은 해당 요청만 실패로 반환하고 나머지는 정상 처리
+ * - 한 유저의 처리가 lock 대기 한도 초과(LOCK_WAIT_EXCEEDED) / 저장 실패(OPERATION_FAILED)로 중단되면
+ *   그 유저의 남은 요청만 해당 에러코드로 실패 -> 이미 반영된 다른 유저의 요청은 성공으로 반환
+ * - 요청별 처리 시간은 단건 API 와 같이 point.operation 타이머에 기록 (유저별 처리 시작부터 측정)
+ * - journal 사용 시 전체 요청의 기록이 fsync 된 뒤 응답 (fsync 는 요청 전체에 대해 1번 대기)
+ * - LOCK_FREE 엔진 사용 시 엔진이 관리하는 잔고와 섞이지 않도록 요청별로 LockFreePointEngine 에서 처리
+ */
+@Service
+public class PointBatchService {
+
+    private final CombiningPointEngine combiningPointEngine;
+    private final LockFreePointEngine lockFreePointEngine;
+    private final Executor batchExecutor;
+    private final PointEngineType engineType;
+    private final int maxOperations;
+    private final PointJournal pointJournal;
+    private final PointMetrics pointMetrics;
+
+    public PointBatchService(CombiningPointEngine combiningPointEngine, LockFreePointEngine lockFreePointEngine,
+                             @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor batchExecutor,
+                             PointProperties pointProperties, PointJournal pointJournal, PointMetrics pointMetrics) {
+        this.combiningPointEngine = combiningPointEngine;
+        this.lockFreePointEngine = lockFreePointEngine;
+        this.batchExecutor = batchExecutor;
+        this.engineType = pointProperties.getEngine().getType();
+        this.maxOperations = pointProperties.getBatch().getMaxOperations();
+        this.pointJournal = pointJournal;
+        this.pointMetrics = pointMetrics;
+    }
+
+    /**
+     * [포인트 일괄 충전/사용]
+     * @param operations 충전/사용 요청 목록
+     * @return List<PointOperationResult> 요청 순서와 같은 순서의 요청별 처리 결과
+     * @throws CustomException 요청 건수가 최대 건수를 넘으면 BATCH_SIZE_EXCEEDED
+     */
+    public List<PointOperationResult> process(List<PointOperation> operations) throws CustomException {
+        if (operations.size() > maxOperations) {
+            throw new CustomException(ErrorCode.BATCH_SIZE_EXCEEDED);
+        }
+
+        PointOperationResult[] results = new PointOperationResult[operations.size()];
+
+        //유저 ID : 요청 순번 목록 (유저별 요청 순서 유지)
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperation operation = operations.get(i);
+            ErrorCode invalid = operation.validate();
+            if (invalid != null) {
+                results[i] = PointOperationResult.fail(operation, invalid);
+                continue;
+            }
+            indexesByUser.computeIfAbsent(operation.userId(), key -> new ArrayList<>()).add(i);
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByUser.size());
+        for (Map.Entry<Long, List<Integer>> entry : indexesByUser.entrySet()) {
+            futures.add(CompletableFuture.runAsync(() -> processUser(entry.getKey(), entry.getValue(), operations, results), batchExecutor));
+        }
+        //유저별 실패는 processUser 안에서 요청별 결과로 바꾸므로 여기서는 완료만 대기
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        pointJournal.syncAppended();
+        return Arrays.asList(results);
+    }
+
+    private void processUser(long userId, List<Integer> indexes, List<PointOperation> operations, PointOperationResult[] results) {
+        long startNanos = System.nanoTime();
+        List<PointOperation> userOperations = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            userOperations.add(operations.get(index));
+        }
+
+        try {
+            if (engineType == PointEngineType.LOCK_FREE) {
+                for (int i = 0; i < indexes.size(); i++) {
+                    results[indexes.get(i)] = applyLockFree(userOperations.get(i));
+                }
+            } else {
+                List<PointOperationResult> userResults = combiningPointEngine.applyInOrder(userId, userOperations);
+                for (int i = 0; i < indexes.size(); i++) {
+                    results[indexes.get(i)] = userResults.get(i);
+                }
+            }
+        } catch (CustomException e) {
+            //lock 대기 한도 초과 - 이 유저의 남은 요청은 처리되지 않음
+            failRemaining(indexes, userOperations, results, e.getErrorCode());
+        } catch (RuntimeException e) {
+            //잔고/내역 저장 실패 등 - 이 유저의 남은 요청만 실패
+            failRemaining(indexes, userOperations, results, ErrorCode.OPERATION_FAILED);
+        } finally {
+            for (int index : indexes) {
+                PointOperationResult result = results[index];
+                pointMetrics.recordOperation(result.type(), outcomeOf(result.errorCode()), startNanos);
+            }
+        }
+    }
+
+    private void failRemaining(List<Integer> indexes, List<PointOperation> userOperations, PointOperationResult[] results, ErrorCode errorCode) {
+        for (int i = 0; i < indexes.size(); i++) {
+            if (results[indexes.get(i)] == null) {
+                results[indexes.get(i)] = PointOperationResult.fail(userOperations.get(i), errorCode);
+            }
+        }
+    }
+
+    /**
+     * @return 단건 API 와 같은 outcome 태그 값 - 예상하지 못한 예외(OPERATION_FAILED)는 ERROR
+     */
+    private static String outcomeOf(ErrorCode errorCode) {
+        if (errorCode == null) {
+            return PointMetrics.SUCCESS;
+        }
+        return errorCode == ErrorCode.OPERATION_FAILED ? PointMetrics.ERROR : PointMetrics.outcomeOf(errorCode);
+    }
+
+    private PointOperationResult applyLockFree(PointOperation operation) {
+        try {
+            UserPoint userPoint = operation.type() == TransactionType.CHARGE
+                    ? lockFreePointEngine.charge(operation.userId(), operation.amount())
+                    : lockFreePointEngine.use(operation.userId(), operation.amount());
+            return PointOperationResult.success(operation, userPoint);
+        } catch (CustomException e) {
+            return PointOperationResult.fail(operation, e.getErrorCode());
+        }
+    }
+}
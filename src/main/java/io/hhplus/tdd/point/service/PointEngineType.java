@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * 포인트 충전/사용 처리 엔진 종류
+ * - LOCK : 유저별 ReentrantLock 으로 조회-변경-저장 구간을 직렬화
+ * - LOCK_FREE : 유저별 버전 잔고를 Compare and Swap 재시도로 변경 (LockFreePointEngine)
+ * - COMBINING : 같은 유저의 동시 요청을 모아서 조회-변경-저장 1번으로 처리 (CombiningPointEngine)
+ */
+public enum PointEngineType {
+    LOCK, LOCK_FREE, COMBINING
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 유저의 전체 포인트 충전/사용 내역 내보내기 (GET /point/{id}/histories/export)
+ * - 내역을 오래된 순으로 CHUNK_SIZE 건씩 cursor 페이지 조회하면서 한 줄에 한 건씩 JSON(NDJSON)으로 바로 씀
+ * - 전체 내역 List 나 전체 JSON 문자열을 만들지 않으므로 내역 수와 상관없이 메모리 사용량 일정
+ * - 페이지마다 flush 해서 응답을 chunk 단위로 내보냄
+ * - gzip 요청 시 GZIPOutputStream 으로 감싸서 압축하며 씀
+ */
+@Service
+public class PointHistoryExportService {
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter historyWriter;
+
+    public PointHistoryExportService(PointHistoryRepository pointHistoryRepository, PointHistoryWriter pointHistoryWriter, ObjectMapper objectMapper) {
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.objectMapper = objectMapper;
+        //한 건 쓸 때마다 flush 하지 않고 페이지 단위로 flush
+        this.historyWriter = objectMapper.writerFor(PointHistory.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * [포인트 충전/사용 내역 내보내기]
+     * @param id 유저 ID
+     * @param outputStream 내역을 쓸 스트림 - 닫지 않음
+     * @param gzip true 면 gzip 으로 압축해서 씀
+     * @return 내보낸 내역 건수
+     * @throws IOException 스트림 쓰기 실패
+     */
+    public long exportUserPointHistory(long id, OutputStream outputStream, boolean gzip) throws IOException {
+        if (!gzip) {
+            return writeNdjson(id, outputStream);
+        }
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+        long count = writeNdjson(id, gzipOutputStream);
+        //원본 스트림은 닫지 않고 gzip trailer 까지만 씀
+        gzipOutputStream.finish();
+        return count;
+    }
+
+    private long writeNdjson(long id, OutputStream outputStream) throws IOException {
+        //저장 대기 중인 내역이 있으면 저장 완료까지 대기 후 조회
+        pointHistoryWriter.awaitPending(id);
+
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            //한 건마다 줄바꿈으로 구분하므로 기본 구분자(공백)는 사용하지 않음
+            generator.setRootValueSeparator(null);
+
+            Long after = null;
+            do {
+                PointHistoryPage page = pointHistoryRepository.selectPageByUserId(id, after, CHUNK_SIZE, HistorySortOrder.ASC);
+                for (PointHistory pointHistory : page.histories()) {
+                    historyWriter.writeValue(generator, pointHistory);
+                    generator.writeRaw('\n');
+                    count++;
+                }
+                generator.flush();
+                after = page.nextCursor();
+            } while (after != null);
+        }
+        return count;
+    }
+}
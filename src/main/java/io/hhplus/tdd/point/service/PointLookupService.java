@@ -0,0 +1,165 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointLookup;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 여러 유저 잔고 일괄 조회 (GET /point?ids=)
+ * - 유저별 조회(UserPointService.selectUserPoint)를 조회 전용 스레드에서 동시에 진행
+ *   -> 유저 수가 parallelism 이하이면 응답 시간은 가장 느린 조회 1번과 비슷함
+ * - 동시 조회 수(parallelism)는 모든 일괄 조회 요청이 함께 사용하는 상한 (permits) -> 요청이 몰려도 테이블 동시 조회 수는 제한됨
+ *   (applicationTaskExecutor 는 platform thread 8개라 테이블 throttle 대기 중에 동시 조회 수가 8개로 묶이므로 별도 executor 사용)
+ *   -> 조회마다 permit 을 얻은 뒤 실행하므로 대기 중인 조회가 큐에 쌓이지 않음, 제한 시간까지 permit 을 얻지 못한 유저는 LOOKUP_TIMEOUT
+ *   -> spring.threads.virtual.enabled=true 이면 virtual thread 로 실행
+ * - 제한 시간(deadline) 안에 끝나지 않은 조회는 취소하고 LOOKUP_TIMEOUT 으로 반환, 끝난 조회 결과는 그대로 반환 (부분 결과)
+ * - 종료 시 진행 중인 조회를 인터럽트하고 최대 SHUTDOWN_TIMEOUT_MILLIS 대기
+ * - 유저별 조회 실패는 해당 유저만 실패로 반환
+ */
+@Slf4j
+@Service
+public class PointLookupService {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5_000L;
+
+    private final UserPointService userPointService;
+    private final int maxIds;
+    private final long deadlineNanos;
+    private final SimpleAsyncTaskExecutor lookupExecutor;
+    //동시 조회 수 상한 - 조회가 끝나거나 취소되면 반환
+    private final Semaphore lookupPermits;
+    private final Timer lookupTimer;
+    private final DistributionSummary timedOutIds;
+
+    public PointLookupService(UserPointService userPointService, PointProperties pointProperties, PointMetrics pointMetrics,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        PointProperties.Lookup lookup = pointProperties.getLookup();
+        this.userPointService = userPointService;
+        this.maxIds = lookup.getMaxIds();
+        this.deadlineNanos = lookup.getDeadline().toNanos();
+
+        this.lookupExecutor = new SimpleAsyncTaskExecutor("point-lookup-");
+        this.lookupExecutor.setDaemon(true);
+        this.lookupExecutor.setVirtualThreads(virtualThreads);
+        this.lookupExecutor.setTaskTerminationTimeout(SHUTDOWN_TIMEOUT_MILLIS);
+        this.lookupPermits = new Semaphore(Math.max(1, lookup.getParallelism()));
+
+        this.lookupTimer = pointMetrics.timer("point.lookup.bulk", "Time to look up the balances of several users at once");
+        this.timedOutIds = pointMetrics.summary("point.lookup.bulk.timeouts", "Users per bulk lookup that were not looked up before the deadline");
+    }
+
+    /**
+     * [포인트 일괄 조회]
+     * @param ids 유저 ID 목록
+     * @return List<UserPointLookup> 요청한 유저 ID 순서의 유저별 조회 결과 (중복 ID 는 1번만)
+     * @throws CustomException 유저 수가 최대 유저 수를 넘으면 BATCH_SIZE_EXCEEDED
+     */
+    public List<UserPointLookup> selectUserPoints(List<Long> ids) throws CustomException {
+        if (ids.size() > maxIds) {
+            throw new CustomException(ErrorCode.BATCH_SIZE_EXCEEDED);
+        }
+        long start = System.nanoTime();
+        long deadline = start + deadlineNanos;
+
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        List<Future<UserPoint>> futures = new ArrayList<>(distinctIds.size());
+        for (long id : distinctIds) {
+            futures.add(submit(id, deadline));
+        }
+
+        List<UserPointLookup> results = new ArrayList<>(distinctIds.size());
+        int timedOut = 0;
+        for (int i = 0; i < distinctIds.size(); i++) {
+            UserPointLookup result = await(distinctIds.get(i), futures.get(i), deadline);
+            if (result.errorCode() == ErrorCode.LOOKUP_TIMEOUT) {
+                timedOut++;
+            }
+            results.add(result);
+        }
+
+        lookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        timedOutIds.record(timedOut);
+        return results;
+    }
+
+    /**
+     * 제한 시간까지 permit 을 기다린 뒤 조회 시작
+     * @return 조회 결과 Future, 제한 시간까지 permit 을 얻지 못했으면 null
+     */
+    private Future<UserPoint> submit(long id, long deadline) {
+        try {
+            if (!lookupPermits.tryAcquire(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        //조회가 끝나거나 시작 전에 취소되어도 done() 에서 permit 반환
+        FutureTask<UserPoint> lookup = new FutureTask<>(() -> userPointService.selectUserPoint(id)) {
+            @Override
+            protected void done() {
+                lookupPermits.release();
+            }
+        };
+        try {
+            lookupExecutor.execute(lookup);
+        } catch (RuntimeException e) {
+            //종료 중이라 실행하지 못하면 permit 반환
+            lookup.cancel(false);
+            throw e;
+        }
+        return lookup;
+    }
+
+    /**
+     * 제한 시간까지 남은 시간만큼 조회 결과 대기 - 제한 시간이 지났으면 이미 끝난 조회만 결과 반환
+     */
+    private UserPointLookup await(long id, Future<UserPoint> future, long deadline) {
+        if (future == null) {
+            return UserPointLookup.fail(id, ErrorCode.LOOKUP_TIMEOUT);
+        }
+        try {
+            return UserPointLookup.success(id, future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            //아직 시작하지 않은 조회는 실행하지 않고, 진행 중인 조회는 인터럽트
+            future.cancel(true);
+            return UserPointLookup.fail(id, ErrorCode.LOOKUP_TIMEOUT);
+        } catch (InterruptedException e) {
+            //요청 스레드가 인터럽트되면 나머지 조회도 기다리지 않음
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return UserPointLookup.fail(id, ErrorCode.LOOKUP_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException ce) {
+                return UserPointLookup.fail(id, ce.getErrorCode());
+            }
+            log.warn("point lookup failed. id={}", id, e.getCause());
+            return UserPointLookup.fail(id, ErrorCode.LOOKUP_FAILED);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutor.close();
+    }
+}
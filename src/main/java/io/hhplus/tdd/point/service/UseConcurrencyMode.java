@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * LOCK 엔진의 포인트 사용 동시성 제어 방식
+ * - PESSIMISTIC : 충전과 같이 유저 lock 을 잡고 조회-검증-저장
+ * - OPTIMISTIC : lock 없이 잔고/버전 조회 후 검증, 저장 시점에 버전이 그대로일 때만 저장하고 바뀌었으면 backoff 후 재시도
+ */
+public enum UseConcurrencyMode {
+    PESSIMISTIC, OPTIMISTIC
+}
@@ -1,29 +1,88 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.HotUser;
 import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointStats;
+import io.hhplus.tdd.point.dto.PointTransfer;
 import io.hhplus.tdd.point.dto.TransactionType;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
 import io.hhplus.tdd.point.util.exception.CustomException;
 import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
 import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.lock.LockWaitPolicy;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class UserPointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointHistoryWriter pointHistoryWriter;
+    private final PointWritePipeline pointWritePipeline;
     private final ConcurrentAndReentraantLockFactory concurrentAndReentraantLockFactory;
+    private final LockFreePointEngine lockFreePointEngine;
+    private final CombiningPointEngine combiningPointEngine;
+    private final PointEngineType engineType;
+    private final UseConcurrencyMode useMode;
+    private final int optimisticMaxAttempts;
+    private final long optimisticBackoffNanos;
+    private final long optimisticMaxBackoffNanos;
+    private final PointMetrics pointMetrics;
+    private final PointMetrics.LockMetrics chargeLockMetrics;
+    private final PointMetrics.LockMetrics globalLockMetrics;
+    private final PointMetrics.LockMetrics useLockMetrics;
+    private final LockWaitPolicy lockWaitPolicy;
+    private final PointMetrics.LockMetrics transferLockMetrics;
+    private final int maxTransfers;
+    private final DistributionSummary optimisticAttempts;
+    private final PointJournal pointJournal;
+    private final IdempotencyCache idempotencyCache;
 
-    public UserPointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, ConcurrentAndReentraantLockFactory concurrentAndReentraantLockFactory) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+    public UserPointService(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository, PointHistoryWriter pointHistoryWriter, PointWritePipeline pointWritePipeline, ConcurrentAndReentraantLockFactory concurrentAndReentraantLockFactory, LockFreePointEngine lockFreePointEngine, CombiningPointEngine combiningPointEngine, PointProperties pointProperties, PointMetrics pointMetrics, PointJournal pointJournal, IdempotencyCache idempotencyCache) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointHistoryWriter = pointHistoryWriter;
+        this.pointWritePipeline = pointWritePipeline;
         this.concurrentAndReentraantLockFactory = concurrentAndReentraantLockFactory;
+        this.lockFreePointEngine = lockFreePointEngine;
+        this.combiningPointEngine = combiningPointEngine;
+        this.engineType = pointProperties.getEngine().getType();
+        this.useMode = pointProperties.getEngine().getUseMode();
+        PointProperties.Optimistic optimistic = pointProperties.getEngine().getOptimistic();
+        this.optimisticMaxAttempts = Math.max(1, optimistic.getMaxAttempts());
+        this.optimisticBackoffNanos = optimistic.getBackoff().toNanos();
+        this.optimisticMaxBackoffNanos = optimistic.getMaxBackoff().toNanos();
+        this.pointMetrics = pointMetrics;
+        this.chargeLockMetrics = pointMetrics.lockMetrics("charge");
+        this.globalLockMetrics = pointMetrics.lockMetrics("charge_global_lock");
+        this.useLockMetrics = pointMetrics.lockMetrics("use");
+        this.lockWaitPolicy = new LockWaitPolicy(pointProperties.getLock());
+        this.transferLockMetrics = pointMetrics.lockMetrics("transfer");
+        this.maxTransfers = pointProperties.getBatch().getMaxOperations();
+        this.optimisticAttempts = pointMetrics.summary("point.use.optimistic.attempts", "Attempts an optimistic point use needed, maxAttempts + 1 when it fell back to the user lock");
+        this.pointJournal = pointJournal;
+        this.idempotencyCache = idempotencyCache;
     }
 
     /**
@@ -34,33 +93,75 @@ public class UserPointService {
      * @throws CustomException 예외처리 공통 클래스
      */
     public UserPoint chargePoint(long id, long chargePointAmount) throws CustomException {
+        //처리 시간을 결과(성공/에러코드)별로 기록
+        long startNanos = System.nanoTime();
+        String outcome = PointMetrics.SUCCESS;
+        try {
+            UserPoint userPoint = charge(id, chargePointAmount);
+            //journal 사용 시 lock 반환 후 이 요청의 기록이 fsync 될 때까지 대기
+            pointJournal.syncAppended();
+            return userPoint;
+        } catch (CustomException e) {
+            outcome = PointMetrics.outcomeOf(e.getErrorCode());
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = PointMetrics.ERROR;
+            throw e;
+        } finally {
+            pointMetrics.recordOperation(TransactionType.CHARGE, outcome, startNanos);
+        }
+    }
+
+    /**
+     * [포인트 충전] Idempotency-Key 사용 - 같은 키로 다시 요청하면 lock/테이블을 거치지 않고 처음 처리 결과 반환
+     * @param id 유저 ID
+     * @param chargePointAmount 충전 요청 포인트
+     * @param idempotencyKey 요청 키, null 이면 매번 처리
+     * @return UserPoint 처음 요청의 충전 완료된 유저 데이터
+     * @throws CustomException 처음 요청의 예외, 같은 키를 다른 요청에 사용하면 IDEMPOTENCY_KEY_REUSED
+     */
+    public UserPoint chargePoint(long id, long chargePointAmount, String idempotencyKey) throws CustomException {
+        if (idempotencyKey == null) {
+            return chargePoint(id, chargePointAmount);
+        }
+        return idempotencyCache.execute(idempotencyKey, TransactionType.CHARGE, id, chargePointAmount, () -> chargePoint(id, chargePointAmount));
+    }
+
+    private UserPoint charge(long id, long chargePointAmount) {
+        //LOCK_FREE 엔진 선택 시 CAS 로 처리
+        if (engineType == PointEngineType.LOCK_FREE) {
+            return lockFreePointEngine.charge(id, chargePointAmount);
+        }
+        //COMBINING 엔진 선택 시 또는 lock 경합이 많은 유저(hot user)는 같은 유저의 대기 요청과 합쳐서 처리
+        if (engineType == PointEngineType.COMBINING || concurrentAndReentraantLockFactory.isHot(id)) {
+            return combiningPointEngine.charge(id, chargePointAmount);
+        }
+
         //ReentrantLock 객체 생성
         ReentrantLock lock = concurrentAndReentraantLockFactory.getLock(id);
 
-        //lock 획득
-        lock.lock();
+        //lock 획득 - 대기 시간/대기 스레드 수 기록, 대기 한도 초과 시 LOCK_WAIT_EXCEEDED
+        long acquiredNanos = lock(id, lock, chargeLockMetrics);
         
         try{
             //현재 소유 포인트 조회
-            UserPoint currentUserPoint = userPointTable.selectById(id);
+            UserPoint currentUserPoint = userPointRepository.selectById(id);
 
             //소유 포인트와 충전 포인트 더하기
-            chargePointAmount += currentUserPoint.point();
+            long afterChargePoint = currentUserPoint.point() + chargePointAmount;
             //최대 잔고 초과 충전 체크
-            if(chargePointAmount > UserPoint.MAX_POINT){
+            if(afterChargePoint > UserPoint.MAX_POINT){
                 throw new CustomException(ErrorCode.OVER_CHARGE);
             }
 
-            //충전
-            UserPoint afterChargeUserPoint = userPointTable.insertOrUpdate(id,chargePointAmount);
-
-            //충전 내역 기록
-            pointHistoryTable.insert(id,chargePointAmount, TransactionType.CHARGE,afterChargeUserPoint.updateMillis());
-
-            return afterChargeUserPoint;
+            //충전 + 충전 내역 기록 - 충전 후 잔고가 아닌 충전 포인트(변동분)를 기록
+            //write-behind 큐에 넣고 lock 반환, write-behind 미사용 + PIPELINED 이면 잔고/내역 동시 저장
+            return pointWritePipeline.save(id, currentUserPoint.point(), afterChargePoint, chargePointAmount, TransactionType.CHARGE);
         } finally {
             //lock 반환
             lock.unlock();
+            chargeLockMetrics.recordHold(acquiredNanos);
+            concurrentAndReentraantLockFactory.release(id, lock);
         }
     }
 
@@ -75,33 +176,45 @@ public class UserPointService {
         //ReentrantLock 객체 생성
         ReentrantLock lock = concurrentAndReentraantLockFactory.getReentrantLock();
 
-        //lock 획득
-        lock.lock();
+        //lock 획득 - 대기 시간/대기 스레드 수 기록
+        long acquiredNanos = globalLockMetrics.lock(lock);
 
         try{
             //현재 소유 포인트 조회
-            UserPoint currentUserPoint = userPointTable.selectById(id);
+            UserPoint currentUserPoint = userPointRepository.selectById(id);
 
             //소유 포인트와 충전 포인트 더하기
-            chargePointAmount += currentUserPoint.point();
+            long afterChargePoint = currentUserPoint.point() + chargePointAmount;
             //최대 잔고 초과 충전 체크
-            if(chargePointAmount > UserPoint.MAX_POINT){
+            if(afterChargePoint > UserPoint.MAX_POINT){
                 throw new CustomException(ErrorCode.OVER_CHARGE);
             }
 
             //충전
-            UserPoint afterChargeUserPoint = userPointTable.insertOrUpdate(id,chargePointAmount);
+            UserPoint afterChargeUserPoint = userPointRepository.insertOrUpdate(id,afterChargePoint);
 
-            //충전 내역 기록
-            pointHistoryTable.insert(id,chargePointAmount, TransactionType.CHARGE,afterChargeUserPoint.updateMillis());
+            //충전 내역 기록 - 충전 후 잔고가 아닌 충전 포인트(변동분)를 기록, write-behind 큐에 넣고 lock 반환
+            pointHistoryWriter.write(id,chargePointAmount, TransactionType.CHARGE,afterChargeUserPoint.updateMillis());
 
             return afterChargeUserPoint;
         } finally {
             //lock 반환
             lock.unlock();
+            globalLockMetrics.recordHold(acquiredNanos);
         }
     }
 
+    /**
+     * lock 기반 충전 vs Compare and Swap 충전 성능 비교 테스트용 메소드
+     * @param id 유저 ID
+     * @param chargePointAmount 충전 요청 포인트
+     * @return UserPoint 충전 완료된 유저 데이터
+     * @throws CustomException 예외처리 공통 클래스
+     */
+    public UserPoint chargePointLockFree(long id, long chargePointAmount) throws CustomException {
+        return lockFreePointEngine.charge(id, chargePointAmount);
+    }
+
     /**
      * [포인트 사용] - 입력받은 포인트 만큼 보유 포인트에서 차감 및 사용 내역 저장
      * @param id 유저 ID
@@ -110,26 +223,277 @@ public class UserPointService {
      * @throws CustomException 예외처리 공통 클래스
      */
     public UserPoint usePoint(long id, long usePointAmount) throws CustomException{
+        //처리 시간을 결과(성공/에러코드)별로 기록
+        long startNanos = System.nanoTime();
+        String outcome = PointMetrics.SUCCESS;
+        try {
+            UserPoint userPoint = use(id, usePointAmount);
+            //journal 사용 시 lock 반환 후 이 요청의 기록이 fsync 될 때까지 대기
+            pointJournal.syncAppended();
+            return userPoint;
+        } catch (CustomException e) {
+            outcome = PointMetrics.outcomeOf(e.getErrorCode());
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = PointMetrics.ERROR;
+            throw e;
+        } finally {
+            pointMetrics.recordOperation(TransactionType.USE, outcome, startNanos);
+        }
+    }
 
-        //현재 소유 포인트 조회
-        UserPoint currentUserPoint = userPointTable.selectById(id);
-        long ownUserPoint = currentUserPoint.point();
-        
-        //잔여 포인트가 0P 이거나 (잔여 포인트 - 사용 포인트)가 0P 보다 작은지 체크
-        if(ownUserPoint == UserPoint.MIN_POINT || (ownUserPoint - usePointAmount) < UserPoint.MIN_POINT){
-            throw new CustomException(ErrorCode.NOT_ENOUGH_VALANCE);
+    /**
+     * [포인트 사용] Idempotency-Key 사용 - 같은 키로 다시 요청하면 lock/테이블을 거치지 않고 처음 처리 결과 반환
+     * @param id 유저 ID
+     * @param usePointAmount 사용 요청 포인트
+     * @param idempotencyKey 요청 키, null 이면 매번 처리
+     * @return UserPoint 처음 요청의 사용 완료된 유저 데이터
+     * @throws CustomException 처음 요청의 예외, 같은 키를 다른 요청에 사용하면 IDEMPOTENCY_KEY_REUSED
+     */
+    public UserPoint usePoint(long id, long usePointAmount, String idempotencyKey) throws CustomException {
+        if (idempotencyKey == null) {
+            return usePoint(id, usePointAmount);
+        }
+        return idempotencyCache.execute(idempotencyKey, TransactionType.USE, id, usePointAmount, () -> usePoint(id, usePointAmount));
+    }
+
+    private UserPoint use(long id, long usePointAmount) {
+        //LOCK_FREE 엔진 선택 시 CAS 로 처리
+        if (engineType == PointEngineType.LOCK_FREE) {
+            return lockFreePointEngine.use(id, usePointAmount);
+        }
+        //COMBINING 엔진 선택 시 또는 lock 경합이 많은 유저(hot user)는 같은 유저의 대기 요청과 합쳐서 처리
+        if (engineType == PointEngineType.COMBINING || concurrentAndReentraantLockFactory.isHot(id)) {
+            return combiningPointEngine.use(id, usePointAmount);
+        }
+
+        //PESSIMISTIC 선택 시 충전과 같이 유저 lock 을 잡고 조회-검증-저장
+        if (useMode == UseConcurrencyMode.PESSIMISTIC) {
+            return useWithLock(id, usePointAmount);
+        }
+        return useOptimistic(id, usePointAmount);
+    }
+
+    /**
+     * 낙관적 사용 - lock 없이 조회/검증 후 버전이 그대로일 때만 저장, 바뀌었으면 backoff 후 다시 조회
+     * maxAttempts 번 모두 충돌하면 유저 lock 으로 처리 -> 경합이 심해도 요청마다 처리가 끝나는 것을 보장
+     */
+    private UserPoint useOptimistic(long id, long usePointAmount) {
+        for (int attempt = 1; attempt <= optimisticMaxAttempts; attempt++) {
+            //버전을 먼저 읽고 현재 소유 포인트 조회 - 조회 중에 저장이 끝나도 버전 비교에서 걸러짐
+            long version = userPointRepository.versionOf(id);
+            UserPoint currentUserPoint = userPointRepository.selectById(id);
+
+            //사용 후 잔여 포인트 - 잔고 부족은 재시도 없이 바로 실패
+            long remainingUserPoint = remainingAfterUse(currentUserPoint.point(), usePointAmount);
+
+            UserPoint afterUseUserPoint = saveIfUnchanged(id, version, remainingUserPoint, usePointAmount);
+            if (afterUseUserPoint != null) {
+                optimisticAttempts.record(attempt);
+                return afterUseUserPoint;
+            }
+            if (attempt < optimisticMaxAttempts) {
+                backoff(attempt);
+            }
+        }
+        optimisticAttempts.record(optimisticMaxAttempts + 1);
+        return useWithLock(id, usePointAmount);
+    }
+
+    /**
+     * 버전이 조회 시점 그대로일 때만 저장
+     * 충전/COMBINING 엔진도 같은 유저 lock 안에서 조회-저장하므로 비교-저장 구간만 유저 lock 으로 보호 (행 lock 과 같은 역할)
+     * @return 저장된 유저 포인트, 그 사이 다른 저장이 있었으면 null
+     */
+    private UserPoint saveIfUnchanged(long id, long version, long remainingUserPoint, long usePointAmount) {
+        ReentrantLock lock = concurrentAndReentraantLockFactory.getLock(id);
+        long acquiredNanos = lock(id, lock, useLockMetrics);
+        try {
+            if (userPointRepository.versionOf(id) != version) {
+                return null;
+            }
+            //포인트 사용 + 사용 내역 저장 - 버전이 그대로이므로 저장 전 잔고는 조회한 잔고
+            return pointWritePipeline.save(id, remainingUserPoint + usePointAmount, remainingUserPoint, usePointAmount, TransactionType.USE);
+        } finally {
+            lock.unlock();
+            useLockMetrics.recordHold(acquiredNanos);
+            concurrentAndReentraantLockFactory.release(id, lock);
+        }
+    }
+
+    private UserPoint useWithLock(long id, long usePointAmount) {
+        ReentrantLock lock = concurrentAndReentraantLockFactory.getLock(id);
+        long acquiredNanos = lock(id, lock, useLockMetrics);
+        try {
+            //현재 소유 포인트 조회
+            UserPoint currentUserPoint = userPointRepository.selectById(id);
+
+            //사용 후 잔여 포인트
+            long remainingUserPoint = remainingAfterUse(currentUserPoint.point(), usePointAmount);
+
+            //포인트 사용 + 사용 내역 저장
+            return pointWritePipeline.save(id, currentUserPoint.point(), remainingUserPoint, usePointAmount, TransactionType.USE);
+        } finally {
+            lock.unlock();
+            useLockMetrics.recordHold(acquiredNanos);
+            concurrentAndReentraantLockFactory.release(id, lock);
         }
+    }
 
-        //사용 후 잔여 포인트
-        long remainingUserPoint = ownUserPoint - usePointAmount;
+    /**
+     * [포인트 송금] - 송금 목록을 하나의 단위로 처리 (모두 반영되거나 하나도 반영되지 않음)
+     * - 관련된 모든 유저의 lock 을 정해진 순서(lockOrder, 유저 ID)대로 잡음 -> 서로 반대 방향으로 송금해도 교착 상태 없음
+     * - 송금 순서대로 잔고에 적용하면서 검증, 하나라도 실패하면 저장 없이 예외
+     * - 잔고 저장 중 실패하면 앞서 저장한 잔고를 원래대로 되돌림
+     * - 보내는 유저는 USE, 받는 유저는 CHARGE 내역으로 기록
+     * @param transfers 송금 목록 (송금 순서)
+     * @return List<UserPoint> 송금에 관련된 유저들의 송금 후 잔고 (유저 ID 순)
+     * @throws CustomException 송금 입력 값 오류 INVALID_TRANSFER, 최대 건수 초과 BATCH_SIZE_EXCEEDED, LOCK_FREE 엔진 TRANSFER_NOT_SUPPORTED,
+     *                         잔고 부족 NOT_ENOUGH_VALANCE, 최대 잔고 초과 OVER_CHARGE, lock 대기 한도 초과 LOCK_WAIT_EXCEEDED
+     */
+    public List<UserPoint> transfer(List<PointTransfer> transfers) throws CustomException {
+        if (transfers.isEmpty()) {
+            throw new CustomException(ErrorCode.INVALID_TRANSFER);
+        }
+        if (transfers.size() > maxTransfers) {
+            throw new CustomException(ErrorCode.BATCH_SIZE_EXCEEDED);
+        }
+        for (PointTransfer transfer : transfers) {
+            ErrorCode invalid = transfer.validate();
+            if (invalid != null) {
+                throw new CustomException(invalid);
+            }
+        }
+        //LOCK_FREE 엔진은 엔진이 관리하는 잔고가 기준이므로 테이블 잔고를 직접 바꾸는 송금과 섞을 수 없음
+        if (engineType == PointEngineType.LOCK_FREE) {
+            throw new CustomException(ErrorCode.TRANSFER_NOT_SUPPORTED);
+        }
 
-        //포인트 사용
-        UserPoint afterUseUserPoint = userPointTable.insertOrUpdate(id,remainingUserPoint);
+        //관련 유저를 lock 획득 순서로 정렬
+        List<Long> userIds = new ArrayList<>();
+        for (PointTransfer transfer : transfers) {
+            userIds.add(transfer.fromUserId());
+            userIds.add(transfer.toUserId());
+        }
+        List<Long> lockOrder = userIds.stream()
+                .distinct()
+                .sorted(Comparator.comparingLong((Long id) -> concurrentAndReentraantLockFactory.lockOrder(id)).thenComparingLong(id -> id))
+                .toList();
 
-        //사용 내역 저장
-        pointHistoryTable.insert(id,usePointAmount, TransactionType.USE,afterUseUserPoint.updateMillis());
+        List<ReentrantLock> locks = new ArrayList<>(lockOrder.size());
+        long acquiredNanos = 0L;
+        List<UserPoint> result;
+        try {
+            for (long id : lockOrder) {
+                ReentrantLock lock = concurrentAndReentraantLockFactory.getLock(id);
+                long lockAcquiredNanos = lock(id, lock, transferLockMetrics);
+                if (locks.isEmpty()) {
+                    acquiredNanos = lockAcquiredNanos;
+                }
+                locks.add(lock);
+            }
+            result = applyTransfers(lockOrder, transfers);
+        } finally {
+            //lock 반환 - 잡은 순서의 역순
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+                concurrentAndReentraantLockFactory.release(lockOrder.get(i), locks.get(i));
+            }
+            if (!locks.isEmpty()) {
+                transferLockMetrics.recordHold(acquiredNanos);
+            }
+        }
+        //journal 사용 시 lock 반환 후 이 송금의 기록이 fsync 될 때까지 대기
+        pointJournal.syncAppended();
+        return result;
+    }
+
+    /**
+     * 모든 관련 유저의 lock 을 잡은 상태에서 송금 적용
+     */
+    private List<UserPoint> applyTransfers(List<Long> userIds, List<PointTransfer> transfers) {
+        //현재 소유 포인트 조회 - 유저 ID : 잔고
+        Map<Long, UserPoint> currentUserPoints = new HashMap<>();
+        Map<Long, Long> balances = new HashMap<>();
+        for (long id : userIds) {
+            UserPoint currentUserPoint = userPointRepository.selectById(id);
+            currentUserPoints.put(id, currentUserPoint);
+            balances.put(id, currentUserPoint.point());
+        }
+
+        //송금 순서대로 적용 - 하나라도 실패하면 아무것도 저장하지 않음
+        for (PointTransfer transfer : transfers) {
+            long remainingUserPoint = remainingAfterUse(balances.get(transfer.fromUserId()), transfer.amount());
+            long afterChargePoint = balances.get(transfer.toUserId()) + transfer.amount();
+            //최대 잔고 초과 충전 체크
+            if (afterChargePoint > UserPoint.MAX_POINT) {
+                throw new CustomException(ErrorCode.OVER_CHARGE);
+            }
+            balances.put(transfer.fromUserId(), remainingUserPoint);
+            balances.put(transfer.toUserId(), afterChargePoint);
+        }
+
+        //바뀐 잔고 저장 - 저장 중 실패하면 앞서 저장한 잔고를 원래대로 되돌림
+        Map<Long, UserPoint> afterUserPoints = new HashMap<>(currentUserPoints);
+        List<Long> savedIds = new ArrayList<>();
+        try {
+            for (long id : userIds) {
+                long afterPoint = balances.get(id);
+                if (afterPoint != currentUserPoints.get(id).point()) {
+                    afterUserPoints.put(id, userPointRepository.insertOrUpdate(id, afterPoint));
+                    savedIds.add(id);
+                }
+            }
+        } catch (RuntimeException e) {
+            for (long id : savedIds) {
+                userPointRepository.insertOrUpdate(id, currentUserPoints.get(id).point());
+            }
+            throw e;
+        }
 
-        return afterUseUserPoint;
+        //송금 내역 기록 - 보내는 유저는 사용, 받는 유저는 충전
+        for (PointTransfer transfer : transfers) {
+            pointHistoryWriter.write(transfer.fromUserId(), transfer.amount(), TransactionType.USE, afterUserPoints.get(transfer.fromUserId()).updateMillis());
+            pointHistoryWriter.write(transfer.toUserId(), transfer.amount(), TransactionType.CHARGE, afterUserPoints.get(transfer.toUserId()).updateMillis());
+        }
+
+        List<UserPoint> result = new ArrayList<>(userIds.size());
+        userIds.stream().sorted().forEach(id -> result.add(afterUserPoints.get(id)));
+        return result;
+    }
+
+    /**
+     * 유저 lock 을 대기 한도(point.lock.wait-timeout / max-queued-waiters) 안에서 획득
+     * 실패 시 lock 을 반환하므로 호출자는 획득에 성공한 경우에만 unlock/release
+     * @return lock 획득 시간 (LockMetrics.recordHold 에 전달)
+     * @throws TooManyRequestsException 대기 한도 초과 시 LOCK_WAIT_EXCEEDED
+     */
+    private long lock(long id, ReentrantLock lock, PointMetrics.LockMetrics lockMetrics) throws TooManyRequestsException {
+        try {
+            return lockWaitPolicy.lock(lock, lockMetrics);
+        } catch (TooManyRequestsException e) {
+            concurrentAndReentraantLockFactory.release(id, lock);
+            throw e;
+        }
+    }
+
+    private static long remainingAfterUse(long ownUserPoint, long usePointAmount) {
+        //잔여 포인트가 0P 이거나 (잔여 포인트 - 사용 포인트)가 0P 보다 작은지 체크
+        if (ownUserPoint == UserPoint.MIN_POINT || (ownUserPoint - usePointAmount) < UserPoint.MIN_POINT) {
+            throw new CustomException(ErrorCode.NOT_ENOUGH_VALANCE);
+        }
+        return ownUserPoint - usePointAmount;
+    }
+
+    /**
+     * 재시도 전 대기 - 0 ~ min(maxBackoff, backoff * 2^(attempt-1)) 사이 무작위 (full jitter)
+     * 충돌한 요청들이 같은 시점에 다시 조회해서 또 충돌하지 않도록 흩어놓음
+     */
+    private void backoff(int attempt) {
+        long capNanos = Math.min(optimisticMaxBackoffNanos, optimisticBackoffNanos << Math.min(attempt - 1, 20));
+        if (capNanos > 0) {
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(capNanos + 1));
+        }
     }
 
     /**
@@ -138,7 +502,11 @@ public class UserPointService {
      * @return UserPoint 현재 유저 데이터
      */
     public UserPoint selectUserPoint(long id){
-        return userPointTable.selectById(id);
+        //LOCK_FREE 엔진은 아직 테이블에 저장 중인 잔고까지 포함한 최신 잔고 반환
+        if (engineType == PointEngineType.LOCK_FREE) {
+            return lockFreePointEngine.select(id);
+        }
+        return userPointRepository.selectById(id);
     }
 
     /**
@@ -147,7 +515,44 @@ public class UserPointService {
      * @return List<PointHistory> - 포인트 충전/사용 내역 데이터
      */
     public List<PointHistory> selectUserPointHistory(long id){
-        return pointHistoryTable.selectAllByUserId(id);
+        //저장 대기 중인 내역이 있으면 저장 완료까지 대기 후 조회
+        pointHistoryWriter.awaitPending(id);
+        return pointHistoryRepository.selectAllByUserId(id);
+    }
+
+    /**
+     * [포인트 충전/사용 내역 페이지 조회] - cursor 기반으로 limit 건씩 조회
+     * @param id 유저 ID
+     * @param after 이전 페이지의 nextCursor, 첫 페이지는 null
+     * @param limit 최대 조회 건수
+     * @param order 정렬 순서 (ASC: 오래된 순 / DESC: 최신 순)
+     * @return PointHistoryPage - 포인트 충전/사용 내역과 다음 페이지 cursor
+     */
+    public PointHistoryPage selectUserPointHistoryPage(long id, Long after, int limit, HistorySortOrder order){
+        //저장 대기 중인 내역이 있으면 저장 완료까지 대기 후 조회
+        pointHistoryWriter.awaitPending(id);
+        return pointHistoryRepository.selectPageByUserId(id, after, limit, order);
+    }
+
+    /**
+     * [포인트 충전/사용 기간 합계 조회] - 날짜별로 미리 합산된 합계만 읽음
+     * @param id 유저 ID
+     * @param from 시작 날짜 (포함)
+     * @param to 종료 날짜 (포함)
+     * @return PointStats - 기간 충전/사용 합계와 날짜별 합계
+     */
+    public PointStats selectUserPointStats(long id, LocalDate from, LocalDate to){
+        //저장 대기 중인 내역이 있으면 저장 완료까지 대기 후 조회
+        pointHistoryWriter.awaitPending(id);
+        return pointHistoryRepository.selectStatsByUserId(id, from, to);
     }
-}
 
+    /**
+     * [lock 경합 유저 조회] - 유저 lock 경합이 많은 순서대로 조회
+     * @param limit 최대 조회 수
+     * @return List<HotUser> - 경합 추정치와 합쳐서 처리하는 경로로 보내는 중인지 여부
+     */
+    public List<HotUser> selectHotUsers(int limit){
+        return concurrentAndReentraantLockFactory.hotUsers(limit);
+    }
+}
@@ -1,5 +1,7 @@
 package io.hhplus.tdd.point.util.exception;
 
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -7,7 +9,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice // 전역 예외 처리 클래스임을 명시
 public class CustomExceptionHandler {
     @ExceptionHandler(CustomException.class)
-    protected ResponseEntity<ErrorDto> handleCustomException(CustomException e) {
+    protected ResponseEntity<ErrorDto> handleCustomException(CustomException e, HttpServletRequest request) {
+        //http.server.requests 지표에 에러코드 태그로 남기기 위해 기록
+        request.setAttribute(PointMetrics.ERROR_CODE_ATTRIBUTE, e.getErrorCode().name());
         return ErrorDto.toResponseEntity(e.getErrorCode());
     }
-}
\ No newline at end of file
+}
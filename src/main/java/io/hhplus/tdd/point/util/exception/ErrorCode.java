@@ -9,7 +9,18 @@ public enum ErrorCode {
     LIMIT_ONETIME_CHARGE_AMOUNT(ErrorStatusCode.INPUT_VALID, "LIMIT_ONETIME_CHARGE_AMOUNT", "최대 충천 포인트 초과"),
     OVER_CHARGE(ErrorStatusCode.INPUT_VALID, "OVER_CHARGE", "최대 잔고 초과"),
     NOT_ENOUGH_VALANCE(ErrorStatusCode.USER_VALID, "NOT_ENOUGH_VALANCE", "잔여 포인트 부족"),
-    INVALID_USE_POINT(ErrorStatusCode.INPUT_VALID, "INVALID_USE_POINT", "사용 포인트 제한")
+    INVALID_USE_POINT(ErrorStatusCode.INPUT_VALID, "INVALID_USE_POINT", "사용 포인트 제한"),
+    BATCH_SIZE_EXCEEDED(ErrorStatusCode.INPUT_VALID, "BATCH_SIZE_EXCEEDED", "일괄 처리 최대 건수 초과"),
+    INVALID_PAGE_LIMIT(ErrorStatusCode.INPUT_VALID, "INVALID_PAGE_LIMIT", "내역 페이지 크기 제한"),
+    INVALID_DATE_RANGE(ErrorStatusCode.INPUT_VALID, "INVALID_DATE_RANGE", "조회 기간 오류"),
+    INVALID_IDEMPOTENCY_KEY(ErrorStatusCode.INPUT_VALID, "INVALID_IDEMPOTENCY_KEY", "Idempotency-Key 형식 오류"),
+    IDEMPOTENCY_KEY_REUSED(ErrorStatusCode.INPUT_VALID, "IDEMPOTENCY_KEY_REUSED", "다른 요청에 사용된 Idempotency-Key"),
+    LOCK_WAIT_EXCEEDED(ErrorStatusCode.TOO_MANY_REQUESTS, "LOCK_WAIT_EXCEEDED", "같은 유저의 처리 대기 요청 한도 초과"),
+    INVALID_TRANSFER(ErrorStatusCode.INPUT_VALID, "INVALID_TRANSFER", "송금 요청 오류"),
+    TRANSFER_NOT_SUPPORTED(ErrorStatusCode.INPUT_VALID, "TRANSFER_NOT_SUPPORTED", "현재 엔진에서 지원하지 않는 송금"),
+    LOOKUP_TIMEOUT(ErrorStatusCode.TIMEOUT, "LOOKUP_TIMEOUT", "조회 제한 시간 초과"),
+    LOOKUP_FAILED(ErrorStatusCode.SERVER_ERROR, "LOOKUP_FAILED", "조회 실패"),
+    OPERATION_FAILED(ErrorStatusCode.SERVER_ERROR, "OPERATION_FAILED", "충전/사용 처리 실패")
     ;
 
     ErrorCode(int status, String code, String message) {
@@ -25,5 +36,8 @@ public enum ErrorCode {
     static class ErrorStatusCode{
         private final static int INPUT_VALID = 600;
         private final static int USER_VALID = 602;
+        private final static int TOO_MANY_REQUESTS = 429;
+        private final static int SERVER_ERROR = 500;
+        private final static int TIMEOUT = 504;
     }
 }
\ No newline at end of file
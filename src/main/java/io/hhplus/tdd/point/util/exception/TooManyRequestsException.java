@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.util.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 처리 대기 한도를 넘어서 요청을 바로 실패시키는 예외 (HTTP 429)
+ * - retryAfter 는 응답의 Retry-After 헤더로 전달 - 클라이언트가 그 이후에 다시 요청하도록 안내
+ * - 일시적인 실패이므로 Idempotency-Key 결과로 보관하지 않음
+ */
+@Getter
+public class TooManyRequestsException extends CustomException {
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+}
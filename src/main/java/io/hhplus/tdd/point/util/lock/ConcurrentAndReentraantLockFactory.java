@@ -1,19 +1,104 @@
 package io.hhplus.tdd.point.util.lock;
 
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.HotUser;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
 import lombok.Getter;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 유저 ID 별 lock 제공
+ * - point.lock.mode 로 lock 관리 방식 선택
+ *   MAP: 유저별 lock 을 ConcurrentHashMap 에 계속 보관 (기본값)
+ *   STRIPED: 고정 개수(point.lock.stripes) lock 배열을 유저 ID 해시로 공유
+ *   REF_COUNTED: 유저별 lock 을 사용 중일 때만 보관하고 아무도 사용하지 않으면 제거
+ * - getLock 으로 받은 lock 은 unlock 후 release 로 반환
+ * - 메모리에 살아있는 lock 개수는 point.lock.live 게이지로 노출
+ * - getLock 시점에 다른 요청이 이미 lock 을 잡고 있으면 HotUserDetector 에 기록 -> 경합이 많은 유저(hot user) 감지
+ *   hot user 수는 point.lock.hot_users 게이지로 노출
+ *   hot user 별 lock 대기 스레드 수는 point.lock.queue.length 게이지로 노출 (user 태그, hot user 목록이 바뀔 때 갱신 -> 최대 hot user capacity 개)
+ */
 @Component
 public class ConcurrentAndReentraantLockFactory {
-    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+
+    private final LockPool lockPool;
+    private final HotUserDetector hotUserDetector;
+    private final MultiGauge hotUserQueueLength;
     @Getter
     private final ReentrantLock reentrantLock = new ReentrantLock();
 
+    public ConcurrentAndReentraantLockFactory(PointProperties pointProperties, PointMetrics pointMetrics) {
+        PointProperties.Lock lock = pointProperties.getLock();
+        this.lockPool = switch (lock.getMode()) {
+            case MAP -> new MapLockPool();
+            case STRIPED -> new StripedLockPool(lock.getStripes());
+            case REF_COUNTED -> new RefCountedLockPool();
+        };
+        this.hotUserQueueLength = pointMetrics.multiGauge("point.lock.queue.length", "Threads currently waiting on a hot user's lock");
+        this.hotUserDetector = new HotUserDetector(pointProperties.getHotUser(), this::registerHotUserQueueLength);
+        pointMetrics.gauge("point.lock.live", "User locks currently held in memory", this, ConcurrentAndReentraantLockFactory::lockCount);
+        pointMetrics.gauge("point.lock.hot_users", "Users currently routed to the combining path because of lock contention", hotUserDetector, HotUserDetector::hotUserCount);
+    }
+
     public ReentrantLock getLock(long id) {
-        return lockMap.computeIfAbsent(id, key -> new ReentrantLock());
+        ReentrantLock lock = lockPool.acquire(id);
+        hotUserDetector.record(id, lock);
+        return lock;
+    }
+
+    /**
+     * 여러 유저의 lock 을 함께 잡을 때는 이 값 -> 유저 ID 순서로 잡아야 교착 상태(deadlock)가 생기지 않음
+     * @param id 유저 ID
+     * @return lock 획득 순서 (MAP/REF_COUNTED: 유저 ID, STRIPED: lock 번호)
+     */
+    public long lockOrder(long id) {
+        return lockPool.orderKey(id);
+    }
+
+    /**
+     * @return true 이면 lock 경합이 많은 유저 - 같은 유저의 요청을 합쳐서 처리하는 경로로 보냄
+     */
+    public boolean isHot(long id) {
+        return hotUserDetector.isHot(id);
+    }
+
+    /**
+     * @param limit 최대 조회 수
+     * @return lock 경합이 많은 순서대로 최대 limit 명
+     */
+    public List<HotUser> hotUsers(int limit) {
+        return hotUserDetector.topK(limit);
+    }
+
+    /**
+     * getLock 으로 받은 lock 사용 완료 후 반환 (unlock 이후 호출)
+     * @param id 유저 ID
+     * @param lock getLock 으로 받은 lock
+     */
+    public void release(long id, ReentrantLock lock) {
+        lockPool.release(id, lock);
+    }
+
+    /**
+     * hot user 목록이 바뀌면 유저별 대기 스레드 수 게이지를 새 목록으로 교체 (목록에서 빠진 유저의 게이지는 제거)
+     */
+    private void registerHotUserQueueLength(Set<Long> hotUsers) {
+        hotUserQueueLength.register(hotUsers.stream()
+                .<MultiGauge.Row<?>>map(id -> MultiGauge.Row.of(Tags.of("user", String.valueOf(id)), () -> lockPool.queueLength(id)))
+                .toList(), true);
+    }
+
+    /**
+     * @return 현재 메모리에 살아있는 유저 lock 개수
+     */
+    public int lockCount() {
+        return lockPool.size();
     }
 
-}
\ No newline at end of file
+}
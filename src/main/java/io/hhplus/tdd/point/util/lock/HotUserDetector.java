@@ -0,0 +1,204 @@
+package io.hhplus.tdd.point.util.lock;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.HotUser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 유저 lock 경합이 많은 유저(hot user)를 찾는 Space-Saving sketch (point.hot-user.*)
+ * - 다른 요청이 lock 을 잡고 있을 때 들어온 요청만 유저 ID 로 셈 -> 순차 요청만 오는 유저는 올라오지 않음
+ *   한 건마다 1 + 이미 lock 을 기다리던 스레드 수만큼 더함 -> 처리량이 lock 에 묶여 요청 수가 늘지 않아도 대기열 길이로 경합이 드러남
+ * - capacity 개의 칸만 사용 -> 유저 수와 상관없이 메모리 고정
+ *   칸이 가득 찬 상태에서 새 유저가 들어오면 가장 작은 칸을 넘겨받고 그 칸의 값을 오차(error)로 기록
+ * - window 마다 모든 값을 절반으로 줄여서 최근 경합 위주로 유지
+ * - 값이 threshold 이상이 되면 기록 시점에 바로 hot user 로 표시 (window 경계를 기다리지 않음)
+ *   감소된 값이 threshold/2 미만으로 떨어지면 해제 (해제는 window 경계에서만 판단)
+ * - 기록은 tryLock 으로 처리해서 다른 스레드가 기록 중이면 이번 기록은 버림
+ *   -> 요청 스레드는 sketch 때문에 대기하지 않음, 버려지는 기록은 유저와 무관하므로 유저 간 비율은 유지
+ * - hot user 목록이 바뀌면 sketch lock 안에서 listener 에 새 목록 전달 (유저별 지표 갱신)
+ */
+public class HotUserDetector {
+
+    private final boolean enabled;
+    private final int capacity;
+    private final long windowNanos;
+    private final long threshold;
+    private final Consumer<Set<Long>> hotUsersListener;
+
+    private final ReentrantLock sketchLock = new ReentrantLock();
+    private final long[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    //유저 ID : 칸 번호 - 최대 capacity 개
+    private final HashMap<Long, Integer> slotIndex;
+    private int size;
+    private long windowEndNanos;
+
+    //hot user 목록 - 표시(기록 시점)/해제(window 경계) 때 sketch lock 안에서 새 Set 으로 교체하므로 조회는 lock 없이 처리
+    private volatile Set<Long> hotUsers = Set.of();
+
+    public HotUserDetector(PointProperties.HotUser hotUser) {
+        this(hotUser, hotUsers -> {});
+    }
+
+    /**
+     * @param hotUsersListener hot user 목록이 바뀔 때마다 새 목록으로 호출 (sketch lock 안에서 호출되므로 가볍게 처리)
+     */
+    public HotUserDetector(PointProperties.HotUser hotUser, Consumer<Set<Long>> hotUsersListener) {
+        this.hotUsersListener = hotUsersListener;
+        this.enabled = hotUser.isEnabled();
+        this.capacity = Math.max(1, hotUser.getCapacity());
+        this.windowNanos = hotUser.getWindow().toNanos();
+        this.threshold = Math.max(1, hotUser.getThreshold());
+        this.keys = new long[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.slotIndex = new HashMap<>(capacity * 2);
+        this.windowEndNanos = System.nanoTime() + windowNanos;
+    }
+
+    /**
+     * lock 획득 전 경합 정도 기록
+     * @param id 유저 ID
+     * @param lock 유저 lock - 이미 다른 스레드가 잡고 있을 때만 기록
+     */
+    public void record(long id, ReentrantLock lock) {
+        if (!enabled || !lock.isLocked()) {
+            return;
+        }
+        long weight = 1L + lock.getQueueLength();
+        if (!sketchLock.tryLock()) {
+            return;
+        }
+        try {
+            rotateIfExpired(System.nanoTime());
+            increment(id, weight);
+        } finally {
+            sketchLock.unlock();
+        }
+    }
+
+    /**
+     * @return true 이면 같은 유저의 요청을 합쳐서 처리하는 경로로 보냄
+     */
+    public boolean isHot(long id) {
+        return enabled && hotUsers.contains(id);
+    }
+
+    /**
+     * @param limit 최대 조회 수
+     * @return 경합 추정치가 큰 순서대로 최대 limit 명
+     */
+    public List<HotUser> topK(int limit) {
+        if (!enabled || limit <= 0) {
+            return List.of();
+        }
+        List<HotUser> result = new ArrayList<>();
+        sketchLock.lock();
+        try {
+            rotateIfExpired(System.nanoTime());
+            Set<Long> routed = hotUsers;
+            for (int i = 0; i < size; i++) {
+                result.add(new HotUser(keys[i], counts[i], errors[i], routed.contains(keys[i])));
+            }
+        } finally {
+            sketchLock.unlock();
+        }
+        result.sort(Comparator.comparingLong(HotUser::contention).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    private void increment(long id, long weight) {
+        Integer slot = slotIndex.get(id);
+        if (slot != null) {
+            counts[slot] += weight;
+        } else if (size < capacity) {
+            keys[size] = id;
+            counts[size] = weight;
+            errors[size] = 0;
+            slotIndex.put(id, size);
+            size++;
+        } else {
+            //가장 작은 칸을 넘겨받음 - 넘겨받은 값은 이 유저의 값이 아닐 수 있으므로 오차로 기록
+            int min = 0;
+            for (int i = 1; i < size; i++) {
+                if (counts[i] < counts[min]) {
+                    min = i;
+                }
+            }
+            slotIndex.remove(keys[min]);
+            keys[min] = id;
+            errors[min] = counts[min];
+            counts[min] += weight;
+            slotIndex.put(id, min);
+        }
+        //threshold 를 넘으면 window 경계를 기다리지 않고 바로 표시
+        if (counts[slotIndex.get(id)] >= threshold && !hotUsers.contains(id)) {
+            Set<Long> next = new HashSet<>(hotUsers);
+            next.add(id);
+            replaceHotUsers(Set.copyOf(next));
+        }
+    }
+
+    /**
+     * 지난 window 수만큼 모든 값을 절반씩 줄이고 hot user 목록 갱신
+     */
+    private void rotateIfExpired(long now) {
+        if (now < windowEndNanos) {
+            return;
+        }
+        long elapsedWindows = (now - windowEndNanos) / windowNanos + 1;
+        windowEndNanos += elapsedWindows * windowNanos;
+        int shift = (int) Math.min(elapsedWindows, 63);
+
+        int kept = 0;
+        slotIndex.clear();
+        for (int i = 0; i < size; i++) {
+            long count = counts[i] >>> shift;
+            if (count == 0) {
+                continue;
+            }
+            keys[kept] = keys[i];
+            counts[kept] = count;
+            errors[kept] = errors[i] >>> shift;
+            slotIndex.put(keys[kept], kept);
+            kept++;
+        }
+        Arrays.fill(counts, kept, size, 0);
+        size = kept;
+
+        //threshold/2 이상이면 hot user 유지 - 경계 근처에서 경로가 자주 바뀌지 않도록 함
+        Set<Long> previous = hotUsers;
+        Set<Long> next = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            long keepThreshold = previous.contains(keys[i]) ? threshold / 2 : threshold;
+            if (counts[i] >= Math.max(1, keepThreshold)) {
+                next.add(keys[i]);
+            }
+        }
+        if (!next.equals(previous)) {
+            replaceHotUsers(Set.copyOf(next));
+        }
+    }
+
+    private void replaceHotUsers(Set<Long> next) {
+        hotUsers = next;
+        hotUsersListener.accept(next);
+    }
+
+    /**
+     * @return 현재 hot user 수
+     */
+    public int hotUserCount() {
+        return hotUsers.size();
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.util.lock;
+
+/**
+ * 유저별 lock 관리 방식
+ * - MAP : 유저별 lock 을 ConcurrentHashMap 에 계속 보관
+ * - STRIPED : 고정 개수 lock 배열을 유저 ID 해시로 공유
+ * - REF_COUNTED : 사용 중인 유저의 lock 만 보관하고 사용이 끝나면 제거
+ */
+public enum LockMode {
+    MAP, STRIPED, REF_COUNTED
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.util.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 ID 별 lock 관리 방식
+ * - acquire 로 받은 lock 은 사용(lock/unlock)이 끝나면 반드시 release 로 반환
+ */
+interface LockPool {
+
+    ReentrantLock acquire(long id);
+
+    void release(long id, ReentrantLock lock);
+
+    /**
+     * 여러 유저의 lock 을 함께 잡을 때의 순서 - 같은 lock 을 쓰는 유저는 같은 값
+     * @return 유저별 lock 이면 유저 ID
+     */
+    default long orderKey(long id) {
+        return id;
+    }
+
+    /**
+     * @return 현재 메모리에 살아있는 lock 개수
+     */
+    int size();
+
+    /**
+     * lock 을 새로 만들지 않고 대기 스레드 수 조회 (지표용)
+     * @return 유저의 lock 을 기다리는 스레드 수 추정치, 메모리에 lock 이 없으면 0
+     */
+    int queueLength(long id);
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.util.lock;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 lock 대기 한도 (point.lock.wait-timeout / max-queued-waiters)
+ * - 같은 lock 에 이미 maxQueuedWaiters 이상 대기 중이면 기다리지 않고 실패
+ * - waitTimeout 안에 획득하지 못하면 실패
+ * -> 한 유저에게 요청이 몰려도 요청 스레드가 그 유저의 lock 뒤에 한없이 쌓여서 다른 유저의 요청까지 밀리지 않도록 함
+ * - 실패는 LOCK_WAIT_EXCEEDED(429) + Retry-After(retryAfter)
+ * - 두 값이 모두 0 이면 기존과 같이 제한 없이 대기
+ * (STRIPED 모드는 같은 stripe 를 공유하는 유저의 대기 스레드까지 함께 셈)
+ */
+public class LockWaitPolicy {
+
+    private final long waitTimeoutNanos;
+    private final int maxQueuedWaiters;
+    private final Duration retryAfter;
+
+    public LockWaitPolicy(PointProperties.Lock lock) {
+        this.waitTimeoutNanos = lock.getWaitTimeout().toNanos();
+        this.maxQueuedWaiters = lock.getMaxQueuedWaiters();
+        this.retryAfter = lock.getRetryAfter();
+    }
+
+    /**
+     * 대기 한도 안에서 lock 획득
+     * @param lock 유저 lock
+     * @param lockMetrics 대기/점유 시간을 기록할 지표
+     * @return lock 획득 시간 (LockMetrics.recordHold 에 전달)
+     * @throws TooManyRequestsException 대기 한도 초과 시 LOCK_WAIT_EXCEEDED - lock 은 획득하지 않은 상태
+     */
+    public long lock(ReentrantLock lock, PointMetrics.LockMetrics lockMetrics) throws TooManyRequestsException {
+        //이미 잡고 있는 lock(STRIPED 모드에서 같은 stripe 의 다른 유저를 함께 잡는 송금)은 대기 없이 재진입
+        if (maxQueuedWaiters > 0 && !lock.isHeldByCurrentThread() && lock.getQueueLength() >= maxQueuedWaiters) {
+            lockMetrics.recordQueueFull();
+            throw new TooManyRequestsException(ErrorCode.LOCK_WAIT_EXCEEDED, retryAfter);
+        }
+        if (waitTimeoutNanos <= 0) {
+            return lockMetrics.lock(lock);
+        }
+        long acquiredNanos = lockMetrics.tryLock(lock, waitTimeoutNanos);
+        if (acquiredNanos < 0) {
+            throw new TooManyRequestsException(ErrorCode.LOCK_WAIT_EXCEEDED, retryAfter);
+        }
+        return acquiredNanos;
+    }
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.util.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [MAP] 유저 ID 마다 lock 을 생성해서 ConcurrentHashMap 에 보관 (생성된 lock 은 제거하지 않음)
+ */
+final class MapLockPool implements LockPool {
+
+    private final ConcurrentHashMap<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+
+    @Override
+    public ReentrantLock acquire(long id) {
+        return lockMap.computeIfAbsent(id, key -> new ReentrantLock());
+    }
+
+    @Override
+    public void release(long id, ReentrantLock lock) {
+        //유저별 lock 을 계속 보관하므로 반환 시 처리 없음
+    }
+
+    @Override
+    public int size() {
+        return lockMap.size();
+    }
+
+    @Override
+    public int queueLength(long id) {
+        ReentrantLock lock = lockMap.get(id);
+        return lock == null ? 0 : lock.getQueueLength();
+    }
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.util.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [REF_COUNTED] 유저 ID 마다 lock 을 생성하되 사용 중인 스레드 수를 세어서 아무도 사용하지 않으면 제거
+ * - 참조 수 증가/감소와 제거는 ConcurrentHashMap.compute 안에서 처리해서
+ *   제거 직후 다른 스레드가 같은 유저의 새 lock 을 따로 만드는 상황을 막음
+ * - 메모리에는 현재 요청 처리 중인 유저의 lock 만 남음
+ */
+final class RefCountedLockPool implements LockPool {
+
+    private final ConcurrentHashMap<Long, RefCountedLock> lockMap = new ConcurrentHashMap<>();
+
+    @Override
+    public ReentrantLock acquire(long id) {
+        return lockMap.compute(id, (key, lock) -> {
+            RefCountedLock refCountedLock = lock == null ? new RefCountedLock() : lock;
+            refCountedLock.refCount++;
+            return refCountedLock;
+        });
+    }
+
+    @Override
+    public void release(long id, ReentrantLock lock) {
+        lockMap.computeIfPresent(id, (key, current) -> {
+            if (current != lock) {
+                return current;
+            }
+            //마지막 사용자가 반환하면 map 에서 제거
+            return --current.refCount == 0 ? null : current;
+        });
+    }
+
+    @Override
+    public int size() {
+        return lockMap.size();
+    }
+
+    @Override
+    public int queueLength(long id) {
+        RefCountedLock lock = lockMap.get(id);
+        return lock == null ? 0 : lock.getQueueLength();
+    }
+
+    private static final class RefCountedLock extends ReentrantLock {
+        //lockMap.compute 안에서만 변경 (같은 key 의 compute 는 직렬화됨)
+        private int refCount;
+    }
+}
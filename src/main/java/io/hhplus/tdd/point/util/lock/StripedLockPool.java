@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.util.lock;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * [STRIPED] 고정 크기(2의 거듭제곱) lock 배열을 만들어두고 유저 ID 해시로 lock 을 선택
+ * - 유저 수와 상관없이 lock 개수가 고정되어 메모리 사용량이 일정함
+ * - 서로 다른 유저가 같은 lock 을 공유할 수 있음 (정합성은 유지되고 동시 처리량만 일부 감소)
+ */
+final class StripedLockPool implements LockPool {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    StripedLockPool(int stripeCount) {
+        //2의 거듭제곱으로 올림해서 나머지 연산 대신 비트 마스크로 인덱스 계산
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public ReentrantLock acquire(long id) {
+        return stripes[indexFor(id)];
+    }
+
+    @Override
+    public void release(long id, ReentrantLock lock) {
+        //고정된 lock 배열을 재사용하므로 반환 시 처리 없음
+    }
+
+    /**
+     * 서로 다른 유저가 같은 lock 을 공유하므로 유저 ID 가 아닌 lock 번호 순서로 잡아야 교착 상태가 생기지 않음
+     */
+    @Override
+    public long orderKey(long id) {
+        return indexFor(id);
+    }
+
+    @Override
+    public int size() {
+        return stripes.length;
+    }
+
+    /**
+     * 같은 lock 을 공유하는 다른 유저의 대기 스레드도 포함
+     */
+    @Override
+    public int queueLength(long id) {
+        return stripes[indexFor(id)].getQueueLength();
+    }
+
+    int indexFor(long id) {
+        return (int) mix(id) & mask;
+    }
+
+    /**
+     * 연속된 유저 ID 도 고르게 분산되도록 64bit 해시 혼합 (MurmurHash3 fmix64)
+     */
+    private static long mix(long id) {
+        long hash = id;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
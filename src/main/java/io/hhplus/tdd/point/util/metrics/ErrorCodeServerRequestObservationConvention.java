@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.util.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔드포인트별 http.server.requests 지표에 error.code 태그 추가
+ * - CustomExceptionHandler 가 처리한 요청은 ErrorCode 이름, 그 외에는 NONE
+ * - 에러코드는 enum 값으로 개수가 고정되어 있으므로 low cardinality 태그로 사용
+ */
+@Component
+public class ErrorCodeServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final String ERROR_CODE_KEY = "error.code";
+    private static final String NONE = "NONE";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        Object errorCode = context.getCarrier().getAttribute(PointMetrics.ERROR_CODE_ATTRIBUTE);
+        return super.getLowCardinalityKeyValues(context)
+                .and(KeyValue.of(ERROR_CODE_KEY, errorCode == null ? NONE : errorCode.toString()));
+    }
+}
@@ -0,0 +1,229 @@
+package io.hhplus.tdd.point.util.metrics;
+
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 포인트 서비스 Micrometer 지표
+ * - point.table: 잔고/내역 저장소 호출 시간 (table, method)
+ * - point.lock.wait / point.lock.hold: 유저 lock 획득 대기 / 점유 시간 (operation)
+ * - point.lock.queued.threads: lock 획득 시점에 같은 lock 을 기다리고 있던 스레드 수 (operation)
+ * - point.lock.queue.length: hot user 별 현재 lock 대기 스레드 수 (user) - ConcurrentAndReentraantLockFactory 에서 등록
+ * - point.lock.rejected: 대기 한도 초과로 lock 을 기다리지 않고 실패한 요청 수 (operation, reason = queue_full / timeout)
+ * - point.operation: 충전/사용 처리 시간 (type, outcome = SUCCESS / ErrorCode / ERROR)
+ * - point.journal.*: journal fsync 시간 / fsync 1번에 묶인 기록 수 / durable 대기 시간
+ * - point.lookup.*: 일괄 잔고 조회 시간 / 제한 시간 안에 조회하지 못한 유저 수
+ * - 타이머는 모두 percentile histogram 을 함께 기록 -> /actuator/prometheus 에서 histogram_quantile 로 조회
+ * 같은 태그 조합의 미터는 한번만 만들어서 재사용
+ */
+@Component
+public class PointMetrics {
+
+    //CustomExceptionHandler 가 처리한 에러코드를 http.server.requests 태그로 넘기기 위한 request attribute
+    public static final String ERROR_CODE_ATTRIBUTE = PointMetrics.class.getName() + ".errorCode";
+    public static final String SUCCESS = "SUCCESS";
+    public static final String ERROR = "ERROR";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Timer> operationTimers = new ConcurrentHashMap<>();
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 등록된 registry 가 없어 아무것도 기록하지 않는 지표 - Spring 없이 객체를 직접 만드는 테스트/벤치마크용
+     */
+    public static PointMetrics noop() {
+        return new PointMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * @param table 테이블 이름 (user_point / point_history)
+     * @param method 호출 메소드 이름
+     * @return 저장소 호출 시간 타이머
+     */
+    public Timer tableTimer(String table, String method) {
+        return Timer.builder("point.table")
+                .description("Time spent inside balance / history store calls")
+                .tag("table", table)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param operation lock 을 사용하는 처리 이름 (charge / charge_global_lock / combining ...)
+     * @return 해당 처리의 lock 대기/점유 지표
+     */
+    public LockMetrics lockMetrics(String operation) {
+        return new LockMetrics(
+                Timer.builder("point.lock.wait")
+                        .description("Time spent waiting to acquire a user lock")
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Timer.builder("point.lock.hold")
+                        .description("Time a user lock is held")
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("point.lock.queued.threads")
+                        .description("Threads already queued on the same lock when a request tries to acquire it")
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                Counter.builder("point.lock.rejected")
+                        .description("Requests failed fast because a user lock had too many waiters")
+                        .tag("operation", operation)
+                        .tag("reason", "queue_full")
+                        .register(meterRegistry),
+                Counter.builder("point.lock.rejected")
+                        .description("Requests failed fast because a user lock had too many waiters")
+                        .tag("operation", operation)
+                        .tag("reason", "timeout")
+                        .register(meterRegistry));
+    }
+
+    /**
+     * 충전/사용 처리 시간 기록
+     * @param type 충전/사용 구분
+     * @param outcome SUCCESS / ErrorCode 이름 / ERROR
+     * @param startNanos System.nanoTime() 기준 시작 시간
+     */
+    public void recordOperation(TransactionType type, String outcome, long startNanos) {
+        operationTimers.computeIfAbsent(type.name() + ":" + outcome, key -> Timer.builder("point.operation")
+                        .description("Point charge/use processing time by outcome")
+                        .tag("type", type.name())
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return 예외에 해당하는 outcome 태그 값 - CustomException 이면 ErrorCode 이름
+     */
+    public static String outcomeOf(ErrorCode errorCode) {
+        return errorCode == null ? ERROR : errorCode.name();
+    }
+
+    /**
+     * @return percentile histogram 을 함께 기록하는 타이머
+     */
+    public Timer timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return percentile histogram 을 함께 기록하는 분포 요약
+     */
+    public DistributionSummary summary(String name, String description) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 태그 값별 게이지 묶음 - register 로 행 목록을 교체
+     */
+    public MultiGauge multiGauge(String name, String description) {
+        return MultiGauge.builder(name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    public <T> void gauge(String name, String description, T target, ToDoubleFunction<T> value) {
+        Gauge.builder(name, target, value)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 유저 lock 대기/점유 시간 기록
+     */
+    public static final class LockMetrics {
+        private final Timer waitTimer;
+        private final Timer holdTimer;
+        private final DistributionSummary queuedThreads;
+        private final Counter queueFullRejected;
+        private final Counter timeoutRejected;
+
+        private LockMetrics(Timer waitTimer, Timer holdTimer, DistributionSummary queuedThreads, Counter queueFullRejected, Counter timeoutRejected) {
+            this.waitTimer = waitTimer;
+            this.holdTimer = holdTimer;
+            this.queuedThreads = queuedThreads;
+            this.queueFullRejected = queueFullRejected;
+            this.timeoutRejected = timeoutRejected;
+        }
+
+        /**
+         * lock 획득 - 대기 스레드 수와 대기 시간 기록
+         * @return lock 획득 시간 (recordHold 에 전달)
+         */
+        public long lock(ReentrantLock lock) {
+            queuedThreads.record(lock.getQueueLength());
+            long waitStart = System.nanoTime();
+            lock.lock();
+            long acquiredNanos = System.nanoTime();
+            waitTimer.record(acquiredNanos - waitStart, TimeUnit.NANOSECONDS);
+            return acquiredNanos;
+        }
+
+        /**
+         * 최대 timeoutNanos 동안 lock 획득 시도 - 대기 스레드 수와 대기 시간 기록
+         * 인터럽트되면 인터럽트 상태를 유지하고 획득 실패로 처리
+         * @return lock 획득 시간 (recordHold 에 전달), 시간 안에 획득하지 못하면 -1
+         */
+        public long tryLock(ReentrantLock lock, long timeoutNanos) {
+            queuedThreads.record(lock.getQueueLength());
+            long waitStart = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            long now = System.nanoTime();
+            waitTimer.record(now - waitStart, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                timeoutRejected.increment();
+                return -1L;
+            }
+            return now;
+        }
+
+        /**
+         * 대기 스레드 수 한도 초과로 lock 을 기다리지 않고 실패한 요청 기록
+         */
+        public void recordQueueFull() {
+            queueFullRejected.increment();
+        }
+
+        /**
+         * lock 반환 후 점유 시간 기록
+         * @param acquiredNanos lock 이 반환한 획득 시간
+         */
+        public void recordHold(long acquiredNanos) {
+            holdTimer.record(System.nanoTime() - acquiredNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
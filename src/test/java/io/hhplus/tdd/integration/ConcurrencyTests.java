@@ -1,7 +1,29 @@
 package io.hhplus.tdd.integration;
 
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointTransfer;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.HistoryWriteMode;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UseConcurrencyMode;
 import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,9 +31,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 public class ConcurrencyTests {
@@ -22,7 +50,7 @@ public class ConcurrencyTests {
     @Test
     @DisplayName("[ConccurentHashMap+ReentrantLock]한명의 유저가 1,000 포인트씩 100번의 포인트 충전을 동시 요청했을때 모두 정상적으로 반영되어야 한다.")
     void concurrencyTest() throws InterruptedException, BrokenBarrierException {
-        long id = 11L;
+        long id = 101L;
         long ownPointAmount = 0L;
         long chargePointAmount = 1_000L;
         int threadCount = 100;
@@ -79,7 +107,7 @@ public class ConcurrencyTests {
     @Test
     @DisplayName("[ReentrantLock]한명의 유저가 1,000 포인트씩 100번의 포인트 충전을 동시 요청했을때 모두 정상적으로 반영되어야 한다.")
     void concurrencyTest2() throws InterruptedException, BrokenBarrierException {
-        long id = 11L;
+        long id = 102L;
         long ownPointAmount = 0L;
         long chargePointAmount = 1_000L;
         int threadCount = 100;
@@ -136,7 +164,7 @@ public class ConcurrencyTests {
     @Test
     @DisplayName("[ConccurentHashMap+ReentrantLock]5명의 유저가 1,000 포인트씩 100번의 포인트 충전을 동시 요청했을때 모두 정상적으로 반영되어야 한다.")
     void concurrencyTestFiveUser() throws InterruptedException, BrokenBarrierException {
-        long[] ids = {11L,12L,13L,14L,15L};
+        long[] ids = {111L,112L,113L,114L,115L};
         long ownPointAmount = 0L;
         long chargePointAmount = 1_000L;
         int threadCount = 100;
@@ -200,7 +228,7 @@ public class ConcurrencyTests {
     @Test
     @DisplayName("[ReentrantLock]5명의 유저가 1,000 포인트씩 100번의 포인트 충전을 동시 요청했을때 모두 정상적으로 반영되어야 한다.")
     void concurrencyTest2FiveUser() throws InterruptedException, BrokenBarrierException {
-        long[] ids = {11L,12L,13L,14L,15L};
+        long[] ids = {121L,122L,123L,124L,125L};
         long ownPointAmount = 0L;
         long chargePointAmount = 1_000L;
         int threadCount = 100;
@@ -260,5 +288,306 @@ public class ConcurrencyTests {
         }
 
     }
+
+    @Test
+    @DisplayName("[엔진 비교]ConccurentHashMap+ReentrantLock / ReentrantLock / lock-free(CAS) 엔진에 같은 부하(5명의 유저 x 1,000 포인트 20번)를 주고 처리량을 비교한다.")
+    void compareEngineThroughput() throws InterruptedException, BrokenBarrierException {
+        long chargePointAmount = 1_000L;
+        int threadCount = 20;
+
+        //엔진별로 다른 유저를 사용해서 앞선 테스트/엔진의 잔고와 섞이지 않도록 함
+        double mapLockOps = runChargeLoad(new long[]{21L,22L,23L,24L,25L}, chargePointAmount, threadCount,
+                id -> userPointService.chargePoint(id, chargePointAmount));
+        double globalLockOps = runChargeLoad(new long[]{31L,32L,33L,34L,35L}, chargePointAmount, threadCount,
+                id -> userPointService.chargePointOnlyReentrantLock(id, chargePointAmount));
+        double lockFreeOps = runChargeLoad(new long[]{41L,42L,43L,44L,45L}, chargePointAmount, threadCount,
+                id -> userPointService.chargePointLockFree(id, chargePointAmount));
+
+        System.out.printf("[ConccurentHashMap+ReentrantLock] %.2f ops/s / [ReentrantLock] %.2f ops/s / [lock-free] %.2f ops/s%n",
+                mapLockOps, globalLockOps, lockFreeOps);
+    }
+
+    @Test
+    @DisplayName("[포인트 사용]잔고 10,000 포인트인 유저에게 1,000 포인트 사용 100번과 500 포인트 충전 20번을 동시 요청해도 잔고는 음수가 되지 않고 성공한 요청만 반영되어야 한다.")
+    void concurrentUseNeverGoesNegative() throws InterruptedException, BrokenBarrierException {
+        long id = 51L;
+        long usePointAmount = 1_000L;
+        long chargePointAmount = 500L;
+        int useThreadCount = 100;
+        int chargeThreadCount = 20;
+        int totalThreadCount = useThreadCount + chargeThreadCount;
+
+        long ownPointAmount = userPointService.chargePoint(id, 10_000L).point();
+
+        CyclicBarrier startBarrier = new CyclicBarrier(totalThreadCount + 1);
+        CountDownLatch endLatch = new CountDownLatch(totalThreadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(totalThreadCount);
+
+        //성공한 사용/충전 횟수, 사용 응답으로 받은 잔고 중 최소값
+        AtomicInteger useSuccessCount = new AtomicInteger();
+        AtomicInteger chargeSuccessCount = new AtomicInteger();
+        AtomicLong minRemainingPoint = new AtomicLong(Long.MAX_VALUE);
+        AtomicInteger unexpectedErrorCount = new AtomicInteger();
+
+        for (int i = 0; i < totalThreadCount; i++) {
+            final boolean use = i < useThreadCount;
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    if (use) {
+                        //포인트 사용 - 잔고 부족이면 NOT_ENOUGH_VALANCE 로 실패
+                        UserPoint afterUseUserPoint = userPointService.usePoint(id, usePointAmount);
+                        minRemainingPoint.accumulateAndGet(afterUseUserPoint.point(), Math::min);
+                        useSuccessCount.incrementAndGet();
+                    } else {
+                        userPointService.chargePoint(id, chargePointAmount);
+                        chargeSuccessCount.incrementAndGet();
+                    }
+                } catch (CustomException e) {
+                    //잔고 부족 외의 실패는 없어야 함
+                    if (e.getErrorCode() != ErrorCode.NOT_ENOUGH_VALANCE) {
+                        unexpectedErrorCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                    unexpectedErrorCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startBarrier.await();
+        endLatch.await();
+        executor.shutdown();
+
+        //최종 포인트 검증 - 성공한 충전/사용만 반영되고 음수가 된 적이 없어야 함
+        long expectedPoint = ownPointAmount + chargePointAmount * chargeSuccessCount.get() - usePointAmount * useSuccessCount.get();
+        UserPoint afterAllUserPoint = userPointService.selectUserPoint(id);
+        assertEquals(0, unexpectedErrorCount.get());
+        assertEquals(chargeThreadCount, chargeSuccessCount.get());
+        assertEquals(expectedPoint, afterAllUserPoint.point());
+        assertTrue(afterAllUserPoint.point() >= UserPoint.MIN_POINT);
+        assertTrue(useSuccessCount.get() == 0 || minRemainingPoint.get() >= UserPoint.MIN_POINT);
+        //잔고 10,000 포인트는 충전 순서와 상관없이 모두 사용 가능
+        assertTrue(useSuccessCount.get() >= 10);
+    }
+
+    @Test
+    @DisplayName("[포인트 송금]4명의 유저 사이에 임의 방향 송금(2건 묶음 포함) 40번을 동시 요청해도 교착 없이 끝나고 전체 포인트 합은 유지되어야 한다.")
+    void concurrentTransferWithoutDeadlock() throws InterruptedException, BrokenBarrierException {
+        long[] ids = {61L, 62L, 63L, 64L};
+        long transferPointAmount = 1_000L;
+        int threadCount = 40;
+
+        long totalPointAmount = 0L;
+        for (long id : ids) {
+            totalPointAmount += userPointService.chargePoint(id, 10_000L).point();
+        }
+
+        CyclicBarrier startBarrier = new CyclicBarrier(threadCount + 1);
+        CountDownLatch endLatch = new CountDownLatch(threadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        AtomicInteger transferSuccessCount = new AtomicInteger();
+        AtomicInteger unexpectedErrorCount = new AtomicInteger();
+
+        for (int i = 0; i < threadCount; i++) {
+            final int seed = i;
+            executor.submit(() -> {
+                try {
+                    //서로 반대 방향 송금이 동시에 들어가도록 임의의 유저 선택, 짝수 번째는 받은 유저가 다시 송금하는 2건 묶음
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    int fromIndex = random.nextInt(ids.length);
+                    int toIndex = (fromIndex + 1 + random.nextInt(ids.length - 1)) % ids.length;
+                    int nextIndex = (toIndex + 1 + random.nextInt(ids.length - 1)) % ids.length;
+                    List<PointTransfer> transfers = seed % 2 == 0
+                            ? List.of(new PointTransfer(ids[fromIndex], ids[toIndex], transferPointAmount), new PointTransfer(ids[toIndex], ids[nextIndex], transferPointAmount))
+                            : List.of(new PointTransfer(ids[fromIndex], ids[toIndex], transferPointAmount));
+                    startBarrier.await();
+                    userPointService.transfer(transfers);
+                    transferSuccessCount.incrementAndGet();
+                } catch (CustomException e) {
+                    //잔고 부족 외의 실패는 없어야 함
+                    if (e.getErrorCode() != ErrorCode.NOT_ENOUGH_VALANCE) {
+                        unexpectedErrorCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                    unexpectedErrorCount.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        startBarrier.await();
+        long start = System.nanoTime();
+        //교착 상태면 제한 시간 안에 끝나지 않음
+        boolean completed = endLatch.await(60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdownNow();
+
+        long afterTotalPointAmount = 0L;
+        for (long id : ids) {
+            long point = userPointService.selectUserPoint(id).point();
+            assertTrue(point >= UserPoint.MIN_POINT);
+            afterTotalPointAmount += point;
+        }
+        System.out.printf("[송금] 성공 %d/%d 건 / %,d ms (%.2f transfers/s)%n",
+                transferSuccessCount.get(), threadCount, elapsedNanos / 1_000_000, transferSuccessCount.get() / (elapsedNanos / 1_000_000_000.0));
+        assertTrue(completed);
+        assertEquals(0, unexpectedErrorCount.get());
+        assertEquals(totalPointAmount, afterTotalPointAmount);
+    }
+
+    @Test
+    @DisplayName("[잔고/내역 동시 저장]write-behind 를 끄고 한명의 유저에게 충전/사용 20번씩 동시 요청 시 SEQUENTIAL / PIPELINED 저장 방식별 1건 응답시간과 lock 점유 시간을 비교한다.")
+    void comparePipelinedWrite() throws InterruptedException, BrokenBarrierException {
+        long[] ids = {71L};
+        WriteLoad sequential = runWriteLoad(HistoryWriteMode.SEQUENTIAL, ids, 20);
+        WriteLoad pipelined = runWriteLoad(HistoryWriteMode.PIPELINED, ids, 20);
+
+        System.out.printf("[SEQUENTIAL] 1건 응답 평균: %.1f ms / lock 점유 평균: %.1f ms%n", sequential.operationMillis(), sequential.lockHoldMillis());
+        System.out.printf("[PIPELINED] 1건 응답 평균: %.1f ms / lock 점유 평균: %.1f ms%n", pipelined.operationMillis(), pipelined.lockHoldMillis());
+        //lock 점유 시간이 (잔고 저장 + 내역 저장)에서 max(잔고 저장, 내역 저장)으로 줄어듦
+        assertTrue(pipelined.lockHoldMillis() < sequential.lockHoldMillis());
+    }
+
+    @Test
+    @DisplayName("[잔고/내역 동시 저장]write-behind 를 끄고 5명의 유저에게 충전/사용 10번씩 동시 요청 시 SEQUENTIAL / PIPELINED 저장 방식별 1건 응답시간과 lock 점유 시간을 측정한다.")
+    void comparePipelinedWriteMultipleUsers() throws InterruptedException, BrokenBarrierException {
+        long[] ids = {76L, 77L, 78L, 79L, 80L};
+        WriteLoad sequential = runWriteLoad(HistoryWriteMode.SEQUENTIAL, ids, 10);
+        WriteLoad pipelined = runWriteLoad(HistoryWriteMode.PIPELINED, ids, 10);
+
+        //TABLE 은 여러 유저의 내역 저장이 한 건씩 처리되므로 내역 저장 대기 시간이 lock 점유 시간 대부분을 차지 -> PIPELINED 효과가 거의 없음 (측정만 하고 비교하지 않음)
+        System.out.printf("[SEQUENTIAL][5명] 1건 응답 평균: %.1f ms / lock 점유 평균: %.1f ms%n", sequential.operationMillis(), sequential.lockHoldMillis());
+        System.out.printf("[PIPELINED][5명] 1건 응답 평균: %.1f ms / lock 점유 평균: %.1f ms%n", pipelined.operationMillis(), pipelined.lockHoldMillis());
+    }
+
+    /**
+     * write-behind 없이 writeMode 로 잔고/내역을 저장하는 서비스를 따로 만들어서 유저별 충전/사용을 동시에 요청하고 최종 잔고/내역 검증
+     * - 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+     * - TableHistoryStore 가 테이블 저장을 한 건씩 처리하므로 여러 유저로 측정하면 다른 유저의 내역 저장 대기 시간도 포함됨
+     *   (PIPELINED 는 잔고 저장과 내역 저장(대기 포함)을 겹치게 할 뿐, 여러 유저의 내역 저장 자체는 TABLE 에서 겹치지 않음)
+     * @param ids 요청할 유저 ID 목록
+     * @param threadCount 유저별 충전/사용 각각의 요청 수
+     * @return 충전/사용 1건 평균 응답시간과 평균 lock 점유 시간
+     */
+    private WriteLoad runWriteLoad(HistoryWriteMode writeMode, long[] ids, int threadCount) throws InterruptedException, BrokenBarrierException {
+        long ownPointAmount = 20_000L;
+        long pointAmount = 1_000L;
+
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getHistory().getWriteBehind().setEnabled(false);
+        pointProperties.getHistory().setWriteMode(writeMode);
+        pointProperties.getEngine().setUseMode(UseConcurrencyMode.PESSIMISTIC);
+        pointProperties.getHotUser().setEnabled(false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, pointMetrics, PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, pointMetrics);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, pointMetrics);
+        UserPointService writeModeService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, pointMetrics), pointProperties, pointMetrics, PointJournal.disabled(), IdempotencyCache.disabled());
+        //초기 잔고는 측정에서 제외되도록 테이블에 바로 저장
+        for (long id : ids) {
+            userPointRepository.insertOrUpdate(id, ownPointAmount);
+        }
+
+        int totalThreadCount = ids.length * threadCount * 2;
+        CyclicBarrier startBarrier = new CyclicBarrier(totalThreadCount + 1);
+        CountDownLatch endLatch = new CountDownLatch(totalThreadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(totalThreadCount);
+        for (long id : ids) {
+            for (int i = 0; i < threadCount * 2; i++) {
+                final boolean charge = i % 2 == 0;
+                executor.submit(() -> {
+                    try {
+                        startBarrier.await();
+                        if (charge) {
+                            writeModeService.chargePoint(id, pointAmount);
+                        } else {
+                            writeModeService.usePoint(id, pointAmount);
+                        }
+                    } catch (Exception e) {
+                        System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+        }
+        startBarrier.await();
+        endLatch.await();
+        executor.shutdown();
+
+        for (long id : ids) {
+            //최종 포인트/내역 검증 - 충전/사용이 같은 횟수이므로 잔고는 초기 충전 포인트 그대로
+            assertEquals(ownPointAmount, writeModeService.selectUserPoint(id).point());
+            assertEquals(threadCount * 2, writeModeService.selectUserPointHistory(id).size());
+        }
+        return new WriteLoad(meanMillis(meterRegistry.find("point.operation").timers()), meanMillis(meterRegistry.find("point.lock.hold").timers()));
+    }
+
+    private double meanMillis(Collection<Timer> timers) {
+        double totalMillis = 0;
+        long count = 0;
+        for (Timer timer : timers) {
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+            count += timer.count();
+        }
+        return count == 0 ? 0 : totalMillis / count;
+    }
+
+    private record WriteLoad(double operationMillis, double lockHoldMillis) {
+    }
+
+    /**
+     * 유저별 threadCount 번의 충전을 동시에 요청하고 최종 잔고 검증
+     * @return 초당 처리 건수
+     */
+    private double runChargeLoad(long[] ids, long chargePointAmount, int threadCount, LongConsumer charge) throws InterruptedException, BrokenBarrierException {
+        int totalThreadCount = threadCount * ids.length;
+        long[] ownPointAmounts = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ownPointAmounts[i] = userPointService.selectUserPoint(ids[i]).point();
+        }
+
+        CyclicBarrier startBarrier = new CyclicBarrier(totalThreadCount + 1);
+        CountDownLatch endLatch = new CountDownLatch(totalThreadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(totalThreadCount);
+
+        for (long id : ids) {
+            for (int i = 0; i < threadCount; i++) {
+                final long currentId = id;
+                executor.submit(() -> {
+                    try {
+                        startBarrier.await();
+                        charge.accept(currentId);
+                    } catch (Exception e) {
+                        System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                    } finally {
+                        endLatch.countDown();
+                    }
+                });
+            }
+        }
+
+        startBarrier.await();
+        long start = System.nanoTime();
+        endLatch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        for (int i = 0; i < ids.length; i++) {
+            //최종 포인트 검증
+            long expectedPoint = ownPointAmounts[i] + (chargePointAmount * threadCount);
+            assertEquals(expectedPoint, userPointService.selectUserPoint(ids[i]).point());
+        }
+        return totalThreadCount / (elapsedNanos / 1_000_000_000.0);
+    }
     
 }
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.integration;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * ConcurrencyTests 를 지연 없는 잔고/내역 저장소(point.store.type=IN_MEMORY)로 다시 실행
+ */
+@SpringBootTest(properties = "point.store.type=IN_MEMORY")
+public class InMemoryStoreConcurrencyTests extends ConcurrencyTests {
+}
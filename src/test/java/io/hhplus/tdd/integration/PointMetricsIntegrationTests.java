@@ -0,0 +1,64 @@
+package io.hhplus.tdd.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 충전/사용 후 /actuator/prometheus 에 lock/테이블/처리 결과 지표가 노출되는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+public class PointMetricsIntegrationTests {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    @DisplayName("[지표]충전 성공/잔고 부족/입력 값 오류 후 lock, 테이블, 처리 결과, 엔드포인트 지표가 에러코드 태그와 함께 노출되어야 한다")
+    void exposePointMetrics() throws Exception {
+        //Given
+        long id = 91L;
+        long emptyUserId = 92L;
+
+        //When
+        //충전 성공
+        mockMvc.perform(patch("/point/" + id + "/charge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("1000"))
+                .andExpect(status().isOk());
+        //잔고 부족 - 서비스에서 NOT_ENOUGH_VALANCE
+        mockMvc.perform(patch("/point/" + emptyUserId + "/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("1"));
+        //입력 값 오류 - 컨트롤러에서 ZERO_POINT
+        mockMvc.perform(patch("/point/" + id + "/charge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("0"));
+
+        //Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("point_lock_wait_seconds_count{operation=\"charge\"")))
+                .andExpect(content().string(containsString("point_lock_hold_seconds_count{operation=\"charge\"")))
+                .andExpect(content().string(containsString("point_lock_queued_threads_count{operation=\"charge\"")))
+                .andExpect(content().string(containsString("point_lock_live ")))
+                .andExpect(content().string(containsString("point_table_seconds_count{method=\"insertOrUpdate\",table=\"user_point\"")))
+                .andExpect(content().string(containsString("point_table_seconds_bucket{method=\"selectById\",table=\"user_point\"")))
+                .andExpect(content().string(containsString("point_operation_seconds_count{outcome=\"SUCCESS\",type=\"CHARGE\"")))
+                .andExpect(content().string(containsString("point_operation_seconds_count{outcome=\"NOT_ENOUGH_VALANCE\",type=\"USE\"")))
+                .andExpect(content().string(containsString("error_code=\"ZERO_POINT\"")));
+    }
+}
@@ -8,6 +8,7 @@ import io.hhplus.tdd.point.util.exception.CustomException;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
 
 import java.util.List;
 
@@ -16,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class) // @Order 어노테이션을 기준으로 순서 지정
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS) // 같은 context 를 쓰는 다른 테스트가 남긴 잔고/내역 없이 시나리오 시작
 public class UserPointServiceIntegrationTests {
 
     @Autowired
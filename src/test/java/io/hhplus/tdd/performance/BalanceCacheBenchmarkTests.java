@@ -0,0 +1,103 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.repository.BalanceCache;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ConcurrencyTests 와 같은 동시 충전 시나리오에서 잔고 캐시 사용 여부에 따른 충전/조회 응답시간 비교
+ * - 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+ * ./gradlew performanceTest --tests "*BalanceCacheBenchmarkTests"
+ */
+@Tag("performance")
+public class BalanceCacheBenchmarkTests {
+
+    private static final long ID = 11L;
+    private static final long CHARGE_POINT_AMOUNT = 1_000L;
+    private static final int THREAD_COUNT = 50;
+
+    @ParameterizedTest
+    @DisplayName("[잔고 캐시 성능]한명의 유저에게 50번 동시 충전 후 50번 조회 시 평균 응답시간 비교")
+    @ValueSource(booleans = {false, true})
+    void compareLatency(boolean cacheEnabled) throws Exception {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getCache().setEnabled(cacheEnabled);
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        pointHistoryWriter.start();
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+
+        AtomicLong chargeServiceNanos = new AtomicLong();
+        CyclicBarrier startBarrier = new CyclicBarrier(THREAD_COUNT + 1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    long start = System.nanoTime();
+                    userPointService.chargePoint(ID, CHARGE_POINT_AMOUNT);
+                    chargeServiceNanos.addAndGet(System.nanoTime() - start);
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long chargeStart = System.nanoTime();
+        endLatch.await();
+        long chargeElapsedNanos = System.nanoTime() - chargeStart;
+        executor.shutdown();
+
+        long selectStart = System.nanoTime();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            userPointService.selectUserPoint(ID);
+        }
+        long selectElapsedNanos = System.nanoTime() - selectStart;
+        pointHistoryWriter.shutdown();
+
+        //Then
+        BalanceCache.CacheStats stats = userPointRepository.cacheStats();
+        System.out.printf("[cache=%s] 충전 전체: %,d ms / 충전 평균 응답(대기 포함): %,d ms / 조회 평균: %.2f ms / hit=%d miss=%d eviction=%d%n",
+                cacheEnabled,
+                chargeElapsedNanos / 1_000_000,
+                chargeServiceNanos.get() / THREAD_COUNT / 1_000_000,
+                selectElapsedNanos / (double) THREAD_COUNT / 1_000_000,
+                stats.hitCount(), stats.missCount(), stats.evictionCount());
+        assertEquals(CHARGE_POINT_AMOUNT * THREAD_COUNT, userPointService.selectUserPoint(ID).point());
+    }
+}
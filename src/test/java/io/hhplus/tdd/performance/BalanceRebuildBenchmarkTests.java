@@ -0,0 +1,87 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.BalanceSnapshotService;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 한 유저의 내역 수에 따른 잔고 재계산 시간 비교 - snapshot 없이 전체 내역 / checkpoint 후 snapshot + 이후 내역
+ * - checkpoint 뒤에 내역 TAIL_COUNT 건(snapshot 주기 동안 쌓인 내역)을 추가한 상태에서 재계산
+ * - 테이블은 내역을 보관하지 않는 대체 객체를 사용해서 인덱스 읽기 시간만 측정
+ * ./gradlew performanceTest --tests "*BalanceRebuildBenchmarkTests"
+ */
+@Tag("performance")
+public class BalanceRebuildBenchmarkTests {
+
+    private static final long USER_ID = 11L;
+    private static final int TAIL_COUNT = 1_000;
+    private static final int REBUILD_COUNT = 21;
+
+    @ParameterizedTest
+    @DisplayName("[잔고 재계산 성능]내역 100k / 1M / 10M 건인 유저의 전체 재계산과 snapshot 기반 재계산 시간 비교")
+    @ValueSource(ints = {100_000, 1_000_000, 10_000_000})
+    void compareRebuild(int historyCount) {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new HistoryStoreMemoryBenchmarkTests.NonRetainingPointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        long expectedPoint = 0;
+        for (int row = 0; row < historyCount; row++) {
+            expectedPoint += insert(pointHistoryRepository, row);
+        }
+        BalanceSnapshotService fullRebuild = new BalanceSnapshotService(pointHistoryRepository, pointHistoryWriter, pointProperties, PointMetrics.noop());
+        BalanceSnapshotService snapshotRebuild = new BalanceSnapshotService(pointHistoryRepository, pointHistoryWriter, pointProperties, PointMetrics.noop());
+        //첫 checkpoint 는 기준 내역 ID 확인, 두번째 checkpoint 에서 반영
+        snapshotRebuild.checkpoint();
+        long checkpointStart = System.nanoTime();
+        snapshotRebuild.checkpoint();
+        long checkpointNanos = System.nanoTime() - checkpointStart;
+        for (int row = historyCount; row < historyCount + TAIL_COUNT; row++) {
+            expectedPoint += insert(pointHistoryRepository, row);
+        }
+
+        //When
+        double fullMicros = medianMicros(fullRebuild);
+        double snapshotMicros = medianMicros(snapshotRebuild);
+
+        //Then
+        System.out.printf("[내역 %,d건 + 이후 %,d건] 전체 재계산: %,.1f us / snapshot + 이후 내역 재계산: %,.1f us / checkpoint: %,d ms%n",
+                historyCount, TAIL_COUNT, fullMicros, snapshotMicros, checkpointNanos / 1_000_000);
+        assertEquals(expectedPoint, fullRebuild.rebuild(USER_ID).point());
+        assertEquals(expectedPoint, snapshotRebuild.rebuild(USER_ID).point());
+    }
+
+    //충전 3번에 사용 1번 비율로 저장하고 잔고 변동분 반환
+    private long insert(PointHistoryRepository pointHistoryRepository, int row) {
+        TransactionType type = row % 4 == 3 ? TransactionType.USE : TransactionType.CHARGE;
+        long amount = type == TransactionType.CHARGE ? 300L : 500L;
+        pointHistoryRepository.insert(USER_ID, amount, type, row);
+        return type.signedAmount(amount);
+    }
+
+    private double medianMicros(BalanceSnapshotService balanceSnapshotService) {
+        //JIT 워밍업
+        balanceSnapshotService.rebuild(USER_ID);
+        long[] elapsed = new long[REBUILD_COUNT];
+        for (int i = 0; i < REBUILD_COUNT; i++) {
+            long start = System.nanoTime();
+            balanceSnapshotService.rebuild(USER_ID);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[REBUILD_COUNT / 2] / 1_000.0;
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 1,000건의 충전을 개별 PATCH /point/{id}/charge 로 보낼 때와 POST /point/batch 1번으로 보낼 때 처리 시간 비교
+ * - 50명의 유저에게 20건씩, 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+ * - 모드마다 애플리케이션을 새로 띄워서 잔고/내역이 섞이지 않도록 함
+ * ./gradlew performanceTest --tests "*BatchEndpointBenchmarkTests"
+ */
+@Tag("performance")
+public class BatchEndpointBenchmarkTests {
+
+    private static final int USER_COUNT = 50;
+    private static final int CHARGE_PER_USER = 20;
+    private static final long CHARGE_POINT_AMOUNT = 1_000L;
+
+    @ParameterizedTest
+    @DisplayName("[일괄 처리 성능]1,000건 충전을 개별 요청 / 일괄 요청으로 보낼 때 처리 시간 비교")
+    @ValueSource(booleans = {false, true})
+    void compareBatchThroughput(boolean batch) throws Exception {
+        //Given
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                .properties("server.port=0")
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/point/";
+            HttpClient httpClient = HttpClient.newHttpClient();
+            int operationCount = USER_COUNT * CHARGE_PER_USER;
+
+            //When
+            long start = System.nanoTime();
+            if (batch) {
+                StringJoiner body = new StringJoiner(",", "[", "]");
+                for (int i = 0; i < operationCount; i++) {
+                    body.add("{\"userId\":" + (i % USER_COUNT) + ",\"type\":\"CHARGE\",\"amount\":" + CHARGE_POINT_AMOUNT + "}");
+                }
+                HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "batch"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                assertEquals(200, response.statusCode());
+            } else {
+                List<CompletableFuture<HttpResponse<Void>>> futures = new ArrayList<>(operationCount);
+                for (int i = 0; i < operationCount; i++) {
+                    futures.add(httpClient.sendAsync(HttpRequest.newBuilder(URI.create(baseUrl + (i % USER_COUNT) + "/charge"))
+                            .header("Content-Type", "application/json")
+                            .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(CHARGE_POINT_AMOUNT)))
+                            .build(), HttpResponse.BodyHandlers.discarding()));
+                }
+                for (CompletableFuture<HttpResponse<Void>> future : futures) {
+                    assertEquals(200, future.join().statusCode());
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            //Then
+            System.out.printf("[batch=%s] %,d건 충전 완료: %,d ms (%.2f ops/s)%n",
+                    batch,
+                    operationCount,
+                    elapsedNanos / 1_000_000,
+                    operationCount / (elapsedNanos / 1_000_000_000.0));
+            for (int id = 0; id < USER_COUNT; id++) {
+                HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + id)).GET().build(), HttpResponse.BodyHandlers.ofString());
+                assertEquals(true, response.body().contains("\"point\":" + CHARGE_POINT_AMOUNT * CHARGE_PER_USER));
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPointLookup;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.PointLookupService;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 500명의 유저 잔고를 한번에 조회할 때 단건 조회 반복 대비 일괄 조회(GET /point?ids=) 응답 시간 비교
+ * - 잔고 캐시는 꺼서 모든 조회가 UserPointTable throttle(최대 200ms)을 거치도록 함
+ * - 단건 조회 반복은 50명만 조회해서 500명 기준으로 환산
+ * ./gradlew performanceTest --tests "*BulkLookupBenchmarkTests"
+ */
+@Tag("performance")
+public class BulkLookupBenchmarkTests {
+
+    private static final int USER_COUNT = 500;
+    private static final int SEQUENTIAL_SAMPLE_COUNT = 50;
+
+    @ParameterizedTest
+    @DisplayName("[일괄 조회 성능]500명 잔고 조회 시 단건 조회 반복 / 동시 조회 수별 일괄 조회 응답 시간 비교")
+    @ValueSource(ints = {64, 256, 512})
+    void compareLookupLatency(int parallelism) {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getCache().setEnabled(false);
+        pointProperties.getLookup().setParallelism(parallelism);
+        pointProperties.getLookup().setDeadline(Duration.ofSeconds(10));
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+        PointLookupService pointLookupService = new PointLookupService(userPointService, pointProperties, PointMetrics.noop(), false);
+        List<Long> ids = LongStream.rangeClosed(1, USER_COUNT).boxed().toList();
+
+        //When
+        long sequentialStart = System.nanoTime();
+        for (int i = 0; i < SEQUENTIAL_SAMPLE_COUNT; i++) {
+            userPointService.selectUserPoint(ids.get(i));
+        }
+        long sequentialElapsedNanos = (System.nanoTime() - sequentialStart) * (USER_COUNT / SEQUENTIAL_SAMPLE_COUNT);
+
+        long bulkStart = System.nanoTime();
+        List<UserPointLookup> results = pointLookupService.selectUserPoints(ids);
+        long bulkElapsedNanos = System.nanoTime() - bulkStart;
+        pointLookupService.shutdown();
+
+        //Then
+        long successCount = results.stream().filter(result -> result.errorCode() == null).count();
+        System.out.printf("[parallelism=%d] 단건 조회 %d번 반복(환산): %,d ms / 일괄 조회: %,d ms (성공 %d 건)%n",
+                parallelism,
+                USER_COUNT,
+                sequentialElapsedNanos / 1_000_000,
+                bulkElapsedNanos / 1_000_000,
+                successCount);
+        assertEquals(USER_COUNT, successCount);
+    }
+}
@@ -0,0 +1,92 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.PointEngineType;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * ConcurrencyTests.concurrencyTest 와 같이 한명의 유저에게 100번 동시 충전 시 LOCK / COMBINING 엔진 처리 시간 비교
+ * - 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용, 잔고 캐시는 꺼서 매 조회마다 테이블 조회
+ * ./gradlew performanceTest --tests "*CombiningBenchmarkTests"
+ */
+@Tag("performance")
+public class CombiningBenchmarkTests {
+
+    private static final long ID = 11L;
+    private static final long CHARGE_POINT_AMOUNT = 1_000L;
+    private static final int THREAD_COUNT = 100;
+
+    @ParameterizedTest
+    @DisplayName("[요청 합치기 성능]한명의 유저에게 100번 동시 충전 시 처리 시간 비교")
+    @EnumSource(value = PointEngineType.class, names = {"LOCK", "COMBINING"})
+    void compareHotUserThroughput(PointEngineType engineType) throws Exception {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getCache().setEnabled(false);
+        pointProperties.getEngine().setType(engineType);
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        pointHistoryWriter.start();
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+
+        CyclicBarrier startBarrier = new CyclicBarrier(THREAD_COUNT + 1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    userPointService.chargePoint(ID, CHARGE_POINT_AMOUNT);
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long start = System.nanoTime();
+        endLatch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+        pointHistoryWriter.shutdown();
+
+        //Then
+        System.out.printf("[engine=%s] 충전 완료: %,d ms (%.2f ops/s)%n",
+                engineType,
+                elapsedNanos / 1_000_000,
+                THREAD_COUNT / (elapsedNanos / 1_000_000_000.0));
+        assertEquals(CHARGE_POINT_AMOUNT * THREAD_COUNT, userPointService.selectUserPoint(ID).point());
+        assertEquals(THREAD_COUNT, userPointService.selectUserPointHistory(ID).size());
+    }
+}
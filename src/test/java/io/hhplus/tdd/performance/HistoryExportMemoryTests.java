@@ -0,0 +1,113 @@
+package io.hhplus.tdd.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.PointHistoryExportService;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 작은 heap(64MB)에서 유저 내역 5M 건 NDJSON 내보내기
+ * - 내보내기가 전체 내역 List/JSON 문자열을 만들면 5M 건(약 400MB JSON)은 64MB heap 에서 OutOfMemoryError
+ * - 내역은 페이지 요청 시마다 생성하는 저장소로 대체해서 heap 에는 내보내기 자체가 쓰는 메모리만 남김
+ * ./gradlew smallHeapTest --tests "*HistoryExportMemoryTests"
+ */
+@Tag("small-heap")
+public class HistoryExportMemoryTests {
+
+    private static final long USER_ID = 1L;
+    private static final long HISTORY_COUNT = 5_000_000L;
+
+    @ParameterizedTest
+    @DisplayName("[내역 내보내기 메모리]64MB heap 에서 유저 내역 5M 건을 압축 없이/gzip 으로 내보내기")
+    @ValueSource(booleans = {false, true})
+    void exportFiveMillionRows(boolean gzip) throws Exception {
+        //Given
+        GeneratedPointHistoryRepository pointHistoryRepository = new GeneratedPointHistoryRepository(HISTORY_COUNT);
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, new PointProperties(), PointJournal.disabled());
+        PointHistoryExportService pointHistoryExportService = new PointHistoryExportService(pointHistoryRepository, pointHistoryWriter, new ObjectMapper());
+        CountingOutputStream outputStream = new CountingOutputStream();
+
+        //When
+        long start = System.nanoTime();
+        long count = pointHistoryExportService.exportUserPointHistory(USER_ID, outputStream, gzip);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        //Then
+        Runtime runtime = Runtime.getRuntime();
+        System.out.printf("[gzip=%s] %,d건 / %,d bytes / %,d ms / max heap %,d MB%n",
+                gzip, count, outputStream.bytes, elapsedMillis, runtime.maxMemory() / 1024 / 1024);
+        assertEquals(HISTORY_COUNT, count);
+        if (!gzip) {
+            assertEquals(HISTORY_COUNT, outputStream.lines);
+        }
+    }
+
+    /**
+     * 내역을 보관하지 않고 페이지 요청 시마다 내역 ID 1 ~ historyCount 범위로 생성하는 저장소
+     */
+    static class GeneratedPointHistoryRepository extends PointHistoryRepository {
+        private final long historyCount;
+
+        GeneratedPointHistoryRepository(long historyCount) {
+            super(new TableHistoryStore(new PointHistoryTable()), new PointProperties(), PointMetrics.noop());
+            this.historyCount = historyCount;
+        }
+
+        @Override
+        public PointHistoryPage selectPageByUserId(long userId, Long after, int limit, HistorySortOrder order) {
+            long start = after == null ? 1 : after + 1;
+            long end = Math.min(historyCount, start + limit - 1);
+            List<PointHistory> histories = new ArrayList<>(limit);
+            for (long id = start; id <= end; id++) {
+                histories.add(new PointHistory(id, userId, 1_000L, TransactionType.CHARGE, id));
+            }
+            return new PointHistoryPage(Collections.unmodifiableList(histories), end < historyCount ? end : null);
+        }
+    }
+
+    /**
+     * 쓴 바이트 수와 줄 수만 세고 버리는 스트림
+     */
+    static class CountingOutputStream extends OutputStream {
+        private long bytes;
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 한 유저의 내역 수가 늘어날 때 cursor 페이지 조회 응답시간 비교
+ * - 전체 조회: 유저의 전체 내역을 복사 (GET /point/{id}/histories)
+ * - 페이지 조회: 첫 페이지 / 1000번째 페이지 (GET /point/{id}/histories?after=&limit=20)
+ *
+ * 페이지 조회 p99 가 내역 수, 페이지 위치와 무관하게 일정한지 확인
+ * ./gradlew performanceTest --tests "*HistoryPaginationBenchmarkTests"
+ */
+@Tag("performance")
+public class HistoryPaginationBenchmarkTests {
+
+    private static final long USER_ID = 1L;
+    private static final int LIMIT = 20;
+    private static final int PAGE_NUMBER = 1_000;
+    private static final int LOOKUP_COUNT = 2_000;
+
+    @ParameterizedTest
+    @DisplayName("[내역 페이지 조회 성능]유저 내역 100k / 1M / 5M 건에서 전체 조회와 첫 페이지, 1000번째 페이지 p99 비교")
+    @ValueSource(ints = {100_000, 1_000_000, 5_000_000})
+    void comparePageLatency(int historyCount) {
+        //Given
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryLookupBenchmarkTests.LatencyFreePointHistoryTable()), new PointProperties(), PointMetrics.noop());
+        for (int row = 0; row < historyCount; row++) {
+            pointHistoryRepository.insert(USER_ID, 1_000L, TransactionType.CHARGE, row);
+        }
+        //최신 순 1000번째 페이지의 cursor - 앞의 999 페이지를 건너뛴 위치
+        long pageCursor = historyCount - (long) (PAGE_NUMBER - 1) * LIMIT + 1;
+
+        //When
+        long fullP99 = p99Nanos(() -> pointHistoryRepository.selectAllByUserId(USER_ID), 20);
+        long firstPageP99 = p99Nanos(() -> pointHistoryRepository.selectPageByUserId(USER_ID, null, LIMIT, HistorySortOrder.DESC), LOOKUP_COUNT);
+        long thousandthPageP99 = p99Nanos(() -> pointHistoryRepository.selectPageByUserId(USER_ID, pageCursor, LIMIT, HistorySortOrder.DESC), LOOKUP_COUNT);
+
+        //Then
+        System.out.printf("[유저 내역 %,d건] 전체 조회 p99: %,d ns / 첫 페이지 p99: %,d ns / 1000번째 페이지 p99: %,d ns%n",
+                historyCount, fullP99, firstPageP99, thousandthPageP99);
+        PointHistoryPage page = pointHistoryRepository.selectPageByUserId(USER_ID, pageCursor, LIMIT, HistorySortOrder.DESC);
+        List<Long> ids = page.histories().stream().map(PointHistory::id).toList();
+        assertEquals(pageCursor - 1, ids.get(0));
+        assertEquals(LIMIT, ids.size());
+    }
+
+    private long p99Nanos(Supplier<?> lookup, int count) {
+        //JIT 워밍업
+        for (int i = 0; i < count; i++) {
+            lookup.get();
+        }
+        long[] elapsed = new long[count];
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            lookup.get();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[(int) Math.ceil(count * 0.99) - 1];
+    }
+}
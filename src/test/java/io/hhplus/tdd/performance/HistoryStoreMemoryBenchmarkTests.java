@@ -0,0 +1,129 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.HistoryStoreType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 유저별 내역 인덱스 저장 방식(OBJECT / COLUMNAR)에 따른 heap 사용량과 전체 스캔 시간 비교
+ * - 테이블은 내역을 보관하지 않는 대체 객체를 사용해서 인덱스가 차지하는 heap 만 측정
+ * - 스캔: 모든 유저의 내역을 읽어서 충전 포인트 합계 계산
+ *   기존 방식(selectAllByUserId 로 PointHistory 목록 조회 후 합계) / scanByUserId(객체 생성 없이 읽기)
+ * - OBJECT 50M 건은 performanceTest heap(3g)을 넘어서 10M 건까지만 측정
+ * ./gradlew performanceTest --tests "*HistoryStoreMemoryBenchmarkTests"
+ */
+@Tag("performance")
+public class HistoryStoreMemoryBenchmarkTests {
+
+    private static final int USER_COUNT = 1_000;
+    private static final int SCAN_COUNT = 5;
+
+    @ParameterizedTest
+    @DisplayName("[내역 저장 방식 성능]OBJECT / COLUMNAR 저장 방식별 내역 10M / 50M 건 heap 사용량과 스캔 시간 비교")
+    @CsvSource({"OBJECT,10000000", "COLUMNAR,10000000", "COLUMNAR,50000000"})
+    void compareHeapAndScan(HistoryStoreType storeType, int historyCount) {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getHistory().setStore(storeType);
+        long heapBefore = usedHeapAfterGc();
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new NonRetainingPointHistoryTable()), pointProperties, PointMetrics.noop());
+        long expectedChargeSum = 0;
+        for (int row = 0; row < historyCount; row++) {
+            TransactionType type = row % 4 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            pointHistoryRepository.insert(row % USER_COUNT, row % 1_000, type, row);
+            if (type == TransactionType.CHARGE) {
+                expectedChargeSum += row % 1_000;
+            }
+        }
+        long heapBytes = usedHeapAfterGc() - heapBefore;
+
+        //When
+        long listScanMillis = medianMillis(() -> {
+            long sum = 0;
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                for (PointHistory pointHistory : pointHistoryRepository.selectAllByUserId(userId)) {
+                    if (pointHistory.type() == TransactionType.CHARGE) {
+                        sum += pointHistory.amount();
+                    }
+                }
+            }
+            return sum;
+        });
+        long visitorScanMillis = medianMillis(() -> {
+            LongAdder sum = new LongAdder();
+            for (long userId = 0; userId < USER_COUNT; userId++) {
+                pointHistoryRepository.scanByUserId(userId, (id, amount, type, updateMillis) -> {
+                    if (type == TransactionType.CHARGE) {
+                        sum.add(amount);
+                    }
+                });
+            }
+            return sum.sum();
+        });
+
+        //Then
+        System.out.printf("[%s %,d건] heap: %,d MB (%.1f bytes/건) / 목록 조회 스캔: %,d ms / scanByUserId 스캔: %,d ms%n",
+                storeType, historyCount, heapBytes / 1024 / 1024, heapBytes / (double) historyCount, listScanMillis, visitorScanMillis);
+        LongAdder sum = new LongAdder();
+        for (long userId = 0; userId < USER_COUNT; userId++) {
+            pointHistoryRepository.scanByUserId(userId, (id, amount, type, updateMillis) -> {
+                if (type == TransactionType.CHARGE) {
+                    sum.add(amount);
+                }
+            });
+        }
+        assertEquals(expectedChargeSum, sum.sum());
+        Reference.reachabilityFence(pointHistoryRepository);
+    }
+
+    private long medianMillis(LongSupplier scan) {
+        //JIT 워밍업
+        scan.getAsLong();
+        long[] elapsed = new long[SCAN_COUNT];
+        for (int i = 0; i < SCAN_COUNT; i++) {
+            long start = System.nanoTime();
+            scan.getAsLong();
+            elapsed[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[SCAN_COUNT / 2];
+    }
+
+    private long usedHeapAfterGc() {
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoryMXBean.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * throttle 없이 내역 ID 만 발급하고 내역은 보관하지 않는 PointHistoryTable 대체 객체
+     */
+    static class NonRetainingPointHistoryTable extends PointHistoryTable {
+        private long cursor = 1;
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            return new PointHistory(cursor++, userId, amount, type, updateMillis);
+        }
+    }
+}
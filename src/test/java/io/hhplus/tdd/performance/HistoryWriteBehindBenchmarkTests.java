@@ -0,0 +1,134 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 한명의 유저(hot user)에게 동시 충전 요청 시 write-behind 사용 여부에 따른 lock 점유 시간/처리량 비교
+ * - 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+ * ./gradlew performanceTest --tests "*HistoryWriteBehindBenchmarkTests"
+ */
+@Tag("performance")
+public class HistoryWriteBehindBenchmarkTests {
+
+    private static final long ID = 11L;
+    private static final long CHARGE_POINT_AMOUNT = 1_000L;
+    private static final int THREAD_COUNT = 30;
+
+    @ParameterizedTest
+    @DisplayName("[write-behind 성능]한명의 유저에게 30번 동시 충전 시 lock 점유 시간과 처리량 비교")
+    @ValueSource(booleans = {false, true})
+    void compareLockHoldTime(boolean writeBehindEnabled) throws Exception {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getHistory().getWriteBehind().setEnabled(writeBehindEnabled);
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        pointHistoryWriter.start();
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        LockHoldRecordingFactory lockFactory = new LockHoldRecordingFactory();
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+
+        CyclicBarrier startBarrier = new CyclicBarrier(THREAD_COUNT + 1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    userPointService.chargePoint(ID, CHARGE_POINT_AMOUNT);
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long start = System.nanoTime();
+        endLatch.await();
+        long chargeElapsedNanos = System.nanoTime() - start;
+        //모든 내역이 저장될 때까지 대기
+        pointHistoryWriter.flush();
+        long flushedElapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+        pointHistoryWriter.shutdown();
+
+        //Then
+        System.out.printf("[write-behind=%s] 평균 lock 점유: %,d ms / 충전 완료: %,d ms (%.2f ops/s) / 내역 저장 완료: %,d ms%n",
+                writeBehindEnabled,
+                lockFactory.averageHoldMillis(),
+                chargeElapsedNanos / 1_000_000,
+                THREAD_COUNT / (chargeElapsedNanos / 1_000_000_000.0),
+                flushedElapsedNanos / 1_000_000);
+        assertEquals(CHARGE_POINT_AMOUNT * THREAD_COUNT, userPointService.selectUserPoint(ID).point());
+        assertEquals(THREAD_COUNT, userPointService.selectUserPointHistory(ID).size());
+    }
+
+    /**
+     * lock 획득 ~ 반환까지의 점유 시간을 기록하는 lock factory
+     */
+    static class LockHoldRecordingFactory extends ConcurrentAndReentraantLockFactory {
+        private final AtomicLong totalHoldNanos = new AtomicLong();
+        private final AtomicLong holdCount = new AtomicLong();
+        private final ReentrantLock lock = new ReentrantLock() {
+            private long acquiredAt;
+
+            @Override
+            public void lock() {
+                super.lock();
+                acquiredAt = System.nanoTime();
+            }
+
+            @Override
+            public void unlock() {
+                totalHoldNanos.addAndGet(System.nanoTime() - acquiredAt);
+                holdCount.incrementAndGet();
+                super.unlock();
+            }
+        };
+
+        LockHoldRecordingFactory() {
+            super(new PointProperties(), PointMetrics.noop());
+        }
+
+        @Override
+        public ReentrantLock getLock(long id) {
+            return lock;
+        }
+
+        long averageHoldMillis() {
+            return holdCount.get() == 0 ? 0 : totalHoldNanos.get() / holdCount.get() / 1_000_000;
+        }
+    }
+}
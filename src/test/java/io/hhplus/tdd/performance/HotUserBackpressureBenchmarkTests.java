@@ -0,0 +1,122 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 한명의 유저(hot user)에게 요청이 몰릴 때 lock 대기 한도 사용 여부에 따른 다른 유저의 응답시간 비교
+ * - 요청 스레드 수가 정해진 Tomcat 을 고정 크기 스레드풀(REQUEST_THREADS)로 흉내
+ * - hot user 충전 HOT_REQUESTS 번을 먼저 넣고 바로 뒤에 다른 유저 충전 COLD_REQUESTS 번 요청
+ * - 응답시간은 스레드풀 대기 시간을 포함한 요청 제출 ~ 응답까지
+ * - 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+ * ./gradlew performanceTest --tests "*HotUserBackpressureBenchmarkTests"
+ */
+@Tag("performance")
+public class HotUserBackpressureBenchmarkTests {
+
+    private static final long HOT_ID = 1L;
+    private static final long CHARGE_POINT_AMOUNT = 1_000L;
+    private static final int REQUEST_THREADS = 20;
+    private static final int HOT_REQUESTS = 40;
+    private static final int COLD_REQUESTS = 20;
+
+    @ParameterizedTest(name = "[대기 한도={0}]")
+    @DisplayName("[lock 대기 한도 성능]hot user 에게 40번 충전이 몰린 직후 다른 유저 20명의 충전 응답시간 비교")
+    @ValueSource(booleans = {false, true})
+    void compareColdUserLatency(boolean bounded) throws Exception {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        if (bounded) {
+            pointProperties.getLock().setMaxQueuedWaiters(4);
+            pointProperties.getLock().setWaitTimeout(Duration.ofSeconds(1));
+        }
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        pointHistoryWriter.start();
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        AtomicInteger hotSuccessCount = new AtomicInteger();
+        AtomicInteger hotRejectedCount = new AtomicInteger();
+        List<Future<?>> hotFutures = new ArrayList<>();
+        List<Future<Long>> coldFutures = new ArrayList<>();
+
+        //When
+        long start = System.nanoTime();
+        for (int i = 0; i < HOT_REQUESTS; i++) {
+            hotFutures.add(requestThreads.submit(() -> {
+                try {
+                    userPointService.chargePoint(HOT_ID, CHARGE_POINT_AMOUNT);
+                    hotSuccessCount.incrementAndGet();
+                } catch (TooManyRequestsException e) {
+                    hotRejectedCount.incrementAndGet();
+                }
+            }));
+        }
+        for (int i = 0; i < COLD_REQUESTS; i++) {
+            final long coldId = 100L + i;
+            final long submitted = System.nanoTime();
+            coldFutures.add(requestThreads.submit(() -> {
+                userPointService.chargePoint(coldId, CHARGE_POINT_AMOUNT);
+                return System.nanoTime() - submitted;
+            }));
+        }
+        long[] coldLatencyNanos = new long[COLD_REQUESTS];
+        for (int i = 0; i < COLD_REQUESTS; i++) {
+            coldLatencyNanos[i] = coldFutures.get(i).get();
+        }
+        long coldElapsedNanos = System.nanoTime() - start;
+        for (Future<?> hotFuture : hotFutures) {
+            hotFuture.get();
+        }
+        long hotElapsedNanos = System.nanoTime() - start;
+        requestThreads.shutdown();
+        pointHistoryWriter.shutdown();
+
+        //Then
+        Arrays.sort(coldLatencyNanos);
+        System.out.printf("[대기 한도=%s] 다른 유저 응답 p50: %,d ms / max: %,d ms / 다른 유저 완료: %,d ms / hot user 성공: %d, 429: %d (완료 %,d ms)%n",
+                bounded,
+                coldLatencyNanos[COLD_REQUESTS / 2] / 1_000_000,
+                coldLatencyNanos[COLD_REQUESTS - 1] / 1_000_000,
+                coldElapsedNanos / 1_000_000,
+                hotSuccessCount.get(), hotRejectedCount.get(),
+                hotElapsedNanos / 1_000_000);
+        //429 로 실패한 요청은 잔고에 반영되지 않음
+        assertEquals(HOT_REQUESTS, hotSuccessCount.get() + hotRejectedCount.get());
+        assertEquals(CHARGE_POINT_AMOUNT * hotSuccessCount.get(), userPointService.selectUserPoint(HOT_ID).point());
+    }
+}
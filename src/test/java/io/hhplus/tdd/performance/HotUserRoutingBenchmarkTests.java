@@ -0,0 +1,127 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.HotUser;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * hot user 감지/경로 변경 사용 여부에 따른 hot user 처리 시간과 일반 유저 응답시간 비교
+ * - hot user: 클라이언트 20개가 각자 8번씩 연속 충전 / 일반 유저: 20명이 각자 8번씩 연속 충전
+ * - 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+ * ./gradlew performanceTest --tests "*HotUserRoutingBenchmarkTests"
+ */
+@Tag("performance")
+public class HotUserRoutingBenchmarkTests {
+
+    private static final long HOT_ID = 1L;
+    private static final long CHARGE_POINT_AMOUNT = 1_000L;
+    private static final int CLIENTS = 20;
+    private static final int REQUESTS_PER_CLIENT = 8;
+
+    @ParameterizedTest(name = "[hot user 경로 변경={0}]")
+    @DisplayName("[hot user 경로 변경 성능]hot user 1명(클라이언트 20개)과 일반 유저 20명이 8번씩 연속 충전 시 처리 시간 비교")
+    @ValueSource(booleans = {false, true})
+    void compareHotUserRouting(boolean routingEnabled) throws Exception {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getHotUser().setEnabled(routingEnabled);
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        pointHistoryWriter.start();
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+
+        long[] normalLatencyNanos = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicLong hotDoneNanos = new AtomicLong();
+        CountDownLatch hotLatch = new CountDownLatch(CLIENTS);
+        CyclicBarrier startBarrier = new CyclicBarrier(CLIENTS * 2 + 1);
+        CountDownLatch endLatch = new CountDownLatch(CLIENTS * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS * 2);
+        for (int client = 0; client < CLIENTS; client++) {
+            final int clientIndex = client;
+            //hot user 클라이언트
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        userPointService.chargePoint(HOT_ID, CHARGE_POINT_AMOUNT);
+                    }
+                    hotLatch.countDown();
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+            //일반 유저 클라이언트
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long start = System.nanoTime();
+                        userPointService.chargePoint(100L + clientIndex, CHARGE_POINT_AMOUNT);
+                        normalLatencyNanos[clientIndex * REQUESTS_PER_CLIENT + i] = System.nanoTime() - start;
+                    }
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long start = System.nanoTime();
+        hotLatch.await();
+        hotDoneNanos.set(System.nanoTime() - start);
+        List<HotUser> hotUsers = userPointService.selectHotUsers(3);
+        endLatch.await();
+        executor.shutdown();
+        pointHistoryWriter.shutdown();
+
+        //Then
+        Arrays.sort(normalLatencyNanos);
+        System.out.printf("[hot user 경로 변경=%s] hot user 충전 %d건 완료: %,d ms / 일반 유저 응답 p50: %,d ms / p99: %,d ms / hot users: %s%n",
+                routingEnabled,
+                CLIENTS * REQUESTS_PER_CLIENT,
+                hotDoneNanos.get() / 1_000_000,
+                normalLatencyNanos[normalLatencyNanos.length / 2] / 1_000_000,
+                normalLatencyNanos[normalLatencyNanos.length * 99 / 100] / 1_000_000,
+                hotUsers);
+        assertEquals(CHARGE_POINT_AMOUNT * CLIENTS * REQUESTS_PER_CLIENT, userPointService.selectUserPoint(HOT_ID).point());
+        for (int client = 0; client < CLIENTS; client++) {
+            assertEquals(CHARGE_POINT_AMOUNT * REQUESTS_PER_CLIENT, userPointService.selectUserPoint(100L + client).point());
+        }
+    }
+}
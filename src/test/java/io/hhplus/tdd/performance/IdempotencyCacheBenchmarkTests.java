@@ -0,0 +1,117 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Idempotency-Key 결과 캐시의 키 수에 따른 heap 사용량과 재요청 응답시간 측정
+ * - 키는 UUID 문자열(36자)
+ * - 재요청 응답시간은 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+ * ./gradlew performanceTest --tests "*IdempotencyCacheBenchmarkTests"
+ */
+@Tag("performance")
+public class IdempotencyCacheBenchmarkTests {
+
+    private static final long ID = 11L;
+    private static final int RETRY_COUNT = 20;
+
+    @ParameterizedTest
+    @DisplayName("[Idempotency-Key 성능]키 1M / 5M 건 입력 시 최대 키 수별 heap 사용량")
+    @CsvSource({"1000000,1000000", "5000000,5000000", "5000000,1000000"})
+    void heapPerKey(int keyCount, int maxSize) {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getIdempotency().setMaxSize(maxSize);
+        pointProperties.getIdempotency().setTtl(Duration.ofHours(1));
+        long heapBefore = usedHeapAfterGc();
+        IdempotencyCache idempotencyCache = new IdempotencyCache(pointProperties, PointMetrics.noop());
+
+        //When
+        long start = System.nanoTime();
+        for (int i = 0; i < keyCount; i++) {
+            long amount = i;
+            idempotencyCache.execute(UUID.randomUUID().toString(), TransactionType.CHARGE, ID, amount, () -> new UserPoint(ID, amount, amount));
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long heapBytes = usedHeapAfterGc() - heapBefore;
+
+        //Then
+        IdempotencyCache.CacheStats stats = idempotencyCache.stats();
+        System.out.printf("[키 %,d건 / 최대 %,d건] 보관 키: %,d / heap: %,d MB (%.1f bytes/키) / 입력 평균: %.2f us%n",
+                keyCount, maxSize, stats.size(), heapBytes / 1024 / 1024, heapBytes / (double) stats.size(), elapsedNanos / 1_000.0 / keyCount);
+        assertTrue(stats.size() <= maxSize);
+        Reference.reachabilityFence(idempotencyCache);
+    }
+
+    @Test
+    @DisplayName("[Idempotency-Key 성능]처음 충전 요청과 같은 키 재요청 평균 응답시간 비교")
+    void retryLatency() {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        pointHistoryWriter.start();
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()),
+                pointProperties, PointMetrics.noop(), PointJournal.disabled(), new IdempotencyCache(pointProperties, PointMetrics.noop()));
+
+        //When
+        long firstNanos = 0;
+        long retryNanos = 0;
+        for (int i = 0; i < RETRY_COUNT; i++) {
+            String key = "charge-" + i;
+            long start = System.nanoTime();
+            UserPoint first = userPointService.chargePoint(ID, 1_000L, key);
+            firstNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            UserPoint retry = userPointService.chargePoint(ID, 1_000L, key);
+            retryNanos += System.nanoTime() - start;
+            assertEquals(first, retry);
+        }
+        pointHistoryWriter.shutdown();
+
+        //Then
+        System.out.printf("[Idempotency-Key 재요청] 처음 요청 평균: %.2f ms / 같은 키 재요청 평균: %.2f us%n",
+                firstNanos / 1_000_000.0 / RETRY_COUNT, retryNanos / 1_000.0 / RETRY_COUNT);
+        assertEquals(1_000L * RETRY_COUNT, userPointService.selectUserPoint(ID).point());
+    }
+
+    private long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,189 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.journal.JournalReplayHandler;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * PointJournal 기록 처리량 / group commit fsync 지연 / 재시작 복구 시간 측정
+ * - 기록 100M 건(약 3GB)을 임시 디렉토리에 쓰고 다시 열어서 재생
+ * - 재생은 테이블 대신 기록 수만 세는 handler 사용 (테이블 throttle 제외한 journal 자체 복구 시간)
+ * ./gradlew performanceTest --tests "*JournalBenchmarkTests"
+ */
+@Tag("performance")
+public class JournalBenchmarkTests {
+
+    private static final long RECORD_COUNT = 100_000_000L;
+    private static final int APPEND_THREAD_COUNT = 4;
+    private static final int USER_COUNT = 10_000;
+
+    private static final int COMMIT_THREAD_COUNT = 64;
+    private static final int COMMIT_PER_THREAD = 2_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("[journal 성능]기록 100M 건 추가 처리량과 재시작 시 검증/재생 시간 측정")
+    void appendAndRecover() throws Exception {
+        //Given
+        PointJournal pointJournal = openJournal(PointMetrics.noop());
+        long perThread = RECORD_COUNT / APPEND_THREAD_COUNT;
+        CyclicBarrier startBarrier = new CyclicBarrier(APPEND_THREAD_COUNT + 1);
+        CountDownLatch endLatch = new CountDownLatch(APPEND_THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(APPEND_THREAD_COUNT);
+        for (int t = 0; t < APPEND_THREAD_COUNT; t++) {
+            long offset = t * perThread;
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    for (long i = offset; i < offset + perThread; i++) {
+                        long userId = i % USER_COUNT;
+                        if ((i & 1) == 0) {
+                            pointJournal.appendBalance(userId, i, i);
+                        } else {
+                            pointJournal.appendHistory(userId, i, TransactionType.CHARGE, i);
+                        }
+                    }
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long appendStart = System.nanoTime();
+        endLatch.await();
+        long appendNanos = System.nanoTime() - appendStart;
+        executor.shutdown();
+        //남은 기록 fsync 포함
+        pointJournal.close();
+        long durableNanos = System.nanoTime() - appendStart;
+
+        long recoverStart = System.nanoTime();
+        PointJournal recoveredJournal = openJournal(PointMetrics.noop());
+        long validatedNanos = System.nanoTime() - recoverStart;
+        CountingHandler handler = new CountingHandler();
+        long replayed = recoveredJournal.replay(handler);
+        long recoverNanos = System.nanoTime() - recoverStart;
+        recoveredJournal.close();
+
+        //Then
+        System.out.printf("[journal %,d건] 추가: %,d ms (%,.0f records/s) / fsync 포함: %,d ms / 재시작 검증: %,d ms / 검증+재생: %,d ms (%,.0f records/s)%n",
+                RECORD_COUNT,
+                appendNanos / 1_000_000,
+                RECORD_COUNT / (appendNanos / 1_000_000_000.0),
+                durableNanos / 1_000_000,
+                validatedNanos / 1_000_000,
+                recoverNanos / 1_000_000,
+                RECORD_COUNT / (recoverNanos / 1_000_000_000.0));
+        assertEquals(RECORD_COUNT, replayed);
+        assertEquals(RECORD_COUNT / 2, handler.balances);
+        assertEquals(RECORD_COUNT / 2, handler.histories);
+    }
+
+    @Test
+    @DisplayName("[journal 성능]64개 스레드가 기록마다 fsync 완료를 기다릴 때 group commit 묶음 크기와 대기 시간 측정")
+    void groupCommitLatency() throws Exception {
+        //Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointJournal pointJournal = openJournal(new PointMetrics(meterRegistry));
+        long[][] waitNanos = new long[COMMIT_THREAD_COUNT][COMMIT_PER_THREAD];
+        CyclicBarrier startBarrier = new CyclicBarrier(COMMIT_THREAD_COUNT + 1);
+        CountDownLatch endLatch = new CountDownLatch(COMMIT_THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(COMMIT_THREAD_COUNT);
+        for (int t = 0; t < COMMIT_THREAD_COUNT; t++) {
+            long[] threadWaitNanos = waitNanos[t];
+            long userId = t;
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    for (int i = 0; i < COMMIT_PER_THREAD; i++) {
+                        long start = System.nanoTime();
+                        pointJournal.awaitDurable(pointJournal.appendBalance(userId, i, start));
+                        threadWaitNanos[i] = System.nanoTime() - start;
+                    }
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long start = System.nanoTime();
+        endLatch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+        pointJournal.close();
+
+        //Then
+        long[] sorted = Arrays.stream(waitNanos).flatMapToLong(Arrays::stream).sorted().toArray();
+        Timer fsyncTimer = meterRegistry.get("point.journal.fsync").timer();
+        DistributionSummary fsyncRecords = meterRegistry.get("point.journal.fsync.records").summary();
+        long total = (long) COMMIT_THREAD_COUNT * COMMIT_PER_THREAD;
+        System.out.printf("[journal group commit %d threads] %,d건 / %,d ms (%,.0f durable records/s) / fsync %,d번 (평균 %.3f ms, 평균 %.1f건/fsync, 최대 %.0f건) / 추가~fsync 대기 p50: %.3f ms, p99: %.3f ms, max: %.3f ms%n",
+                COMMIT_THREAD_COUNT, total,
+                elapsedNanos / 1_000_000,
+                total / (elapsedNanos / 1_000_000_000.0),
+                fsyncTimer.count(),
+                fsyncTimer.mean(TimeUnit.MILLISECONDS),
+                fsyncRecords.mean(),
+                fsyncRecords.max(),
+                sorted[(int) (sorted.length * 0.50)] / 1_000_000.0,
+                sorted[(int) (sorted.length * 0.99)] / 1_000_000.0,
+                sorted[sorted.length - 1] / 1_000_000.0);
+        assertEquals(total, (long) fsyncRecords.totalAmount());
+    }
+
+    private PointJournal openJournal(PointMetrics pointMetrics) {
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getJournal().setEnabled(true);
+        pointProperties.getJournal().setDirectory(directory.toString());
+        PointJournal pointJournal = new PointJournal(pointProperties, pointMetrics);
+        pointJournal.open();
+        return pointJournal;
+    }
+
+    /**
+     * 재생된 기록 수만 세는 handler
+     */
+    static class CountingHandler implements JournalReplayHandler {
+        private long balances;
+        private long histories;
+
+        @Override
+        public void onBalance(long userId, long point, long updateMillis) {
+            balances++;
+        }
+
+        @Override
+        public void onHistory(long userId, long amount, TransactionType type, long updateMillis) {
+            histories++;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.lock.LockMode;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 1천만명의 서로 다른 유저가 한번씩 lock 을 사용했을 때 lock 관리 방식별 heap 사용량/처리량 비교
+ * ./gradlew performanceTest --tests "*LockPoolBenchmarkTests"
+ */
+@Tag("performance")
+public class LockPoolBenchmarkTests {
+
+    private static final int USER_COUNT = 10_000_000;
+
+    @ParameterizedTest
+    @DisplayName("[lock 관리 방식 성능]서로 다른 유저 1천만명 lock 획득/반환 시 heap 사용량과 처리량 비교")
+    @EnumSource(LockMode.class)
+    void compareHeapAndThroughput(LockMode lockMode) {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getLock().setMode(lockMode);
+        long heapBefore = usedHeap();
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+
+        //When
+        long start = System.nanoTime();
+        for (long id = 1; id <= USER_COUNT; id++) {
+            ReentrantLock lock = lockFactory.getLock(id);
+            lock.lock();
+            try {
+                //충전 로직 자리
+            } finally {
+                lock.unlock();
+                lockFactory.release(id, lock);
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long heapAfter = usedHeap();
+
+        //Then
+        System.out.printf("[%s] 살아있는 lock: %,d 개 / heap 증가: %,d MB / 처리량: %,.0f ops/s%n",
+                lockMode,
+                lockFactory.lockCount(),
+                (heapAfter - heapBefore) / 1024 / 1024,
+                USER_COUNT / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,92 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 유저별 내역 조회 성능 비교
+ * - 기존 방식: 전체 내역 List 를 stream 으로 필터링 (PointHistoryTable.selectAllByUserId)
+ * - 인덱스 방식: PointHistoryRepository 의 유저별 세그먼트 조회
+ *
+ * 전체 내역 수만 늘리고 조회 대상 유저의 내역 수(100건)는 고정하여
+ * 조회 시간이 전체 내역 수에 비례하는지 확인
+ * ./gradlew performanceTest --tests "*PointHistoryLookupBenchmarkTests"
+ */
+@Tag("performance")
+public class PointHistoryLookupBenchmarkTests {
+
+    private static final long TARGET_USER_ID = 1L;
+    private static final int TARGET_USER_ROWS = 100;
+    private static final int OTHER_USER_COUNT = 10_000;
+    private static final int LOOKUP_COUNT = 20;
+
+    @ParameterizedTest
+    @DisplayName("[내역 조회 성능]전체 내역 10k / 1M / 10M 건에서 기존 방식과 유저별 인덱스 조회 시간 비교")
+    @ValueSource(ints = {10_000, 1_000_000, 10_000_000})
+    void compareLookupLatency(int totalRows) {
+        //Given
+        LatencyFreePointHistoryTable pointHistoryTable = new LatencyFreePointHistoryTable();
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable), new PointProperties(), PointMetrics.noop());
+
+        //조회 대상 유저의 내역을 전체 내역 사이에 고르게 분산시켜 입력
+        int targetInterval = totalRows / TARGET_USER_ROWS;
+        for (int row = 0; row < totalRows; row++) {
+            long userId = row % targetInterval == 0 ? TARGET_USER_ID : 2L + (row % OTHER_USER_COUNT);
+            pointHistoryRepository.insert(userId, 1_000L, TransactionType.CHARGE, row);
+        }
+
+        //When
+        long scanNanos = measure(() -> pointHistoryTable.selectAllByUserId(TARGET_USER_ID));
+        long indexNanos = measure(() -> pointHistoryRepository.selectAllByUserId(TARGET_USER_ID));
+
+        //Then
+        System.out.printf("[전체 내역 %,d건] 기존 전체 스캔: 평균 %,d ns / 유저별 인덱스: 평균 %,d ns%n", totalRows, scanNanos, indexNanos);
+        assertEquals(pointHistoryTable.selectAllByUserId(TARGET_USER_ID), pointHistoryRepository.selectAllByUserId(TARGET_USER_ID));
+    }
+
+    private long measure(Runnable lookup) {
+        //JIT 워밍업
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookup.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookup.run();
+        }
+        return (System.nanoTime() - start) / LOOKUP_COUNT;
+    }
+
+    /**
+     * throttle 없이 동작하는 PointHistoryTable 대체 객체 - 조회 로직은 기존 테이블과 동일한 전체 스캔
+     */
+    static class LatencyFreePointHistoryTable extends PointHistoryTable {
+        private final List<PointHistory> table = new ArrayList<>();
+        private long cursor = 1;
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        @Override
+        public List<PointHistory> selectAllByUserId(long userId) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+}
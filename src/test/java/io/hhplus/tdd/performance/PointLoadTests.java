@@ -0,0 +1,69 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.TddApplication;
+import io.hhplus.tdd.performance.load.LoadEndpoint;
+import io.hhplus.tdd.performance.load.LoadProfile;
+import io.hhplus.tdd.performance.load.LoadReport;
+import io.hhplus.tdd.performance.load.PointLoadGenerator;
+import io.hhplus.tdd.point.repository.store.StoreType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * PointController 에 실제 HTTP 로 조회/충전/사용을 섞어서 일정한 속도로 요청했을 때 API 별 처리량과 응답시간 percentile 측정
+ * - 초당 200건 open-loop, 워밍업 3초 후 10초 측정, 조회:충전:사용 = 70:20:10
+ * - 유저 10,000명, 유저 ID 는 Zipf(1.0) 분포 -> 일부 유저에게 요청이 몰림
+ * - 잔고/내역 저장소(point.store.type)별로 애플리케이션을 새로 띄워서 측정
+ * - 조회/충전은 5xx / 연결 실패 / 시간 초과가 없어야 함
+ * - 사용은 잔고가 부족하면 NOT_ENOUGH_VALANCE 인데 HTTP 로는 ApiControllerAdvice 가 500 으로 응답하므로 실패 건수에 포함됨
+ * ./gradlew performanceTest --tests "*PointLoadTests"
+ */
+@Tag("performance")
+public class PointLoadTests {
+
+    private static final LoadProfile PROFILE = new LoadProfile(
+            200.0,
+            Duration.ofSeconds(3),
+            Duration.ofSeconds(10),
+            new LoadProfile.RequestMix(70, 20, 10),
+            10_000,
+            1.0,
+            1_000L,
+            42L);
+
+    @ParameterizedTest
+    @DisplayName("[부하 테스트]초당 200건 조회/충전/사용 요청 시 저장소 구현별 API 처리량과 p50/p90/p99/p99.9 응답시간")
+    @EnumSource(StoreType.class)
+    void measureLatencyPercentiles(StoreType storeType) {
+        //Given
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                .properties("server.port=0")
+                //application.yml 의 point.store.type 보다 우선하도록 실행 인자로 지정 (properties() 는 기본값이라 yml 에 덮어써짐)
+                .run("--point.store.type=" + storeType)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            PointLoadGenerator loadGenerator = new PointLoadGenerator(HttpClient.newHttpClient(), "http://localhost:" + port + "/point/");
+
+            //When
+            LoadReport report = loadGenerator.run(PROFILE);
+
+            //Then
+            report.print(storeType.name());
+            assertEquals(0, report.endpoints().get(LoadEndpoint.READ).failures());
+            assertEquals(0, report.endpoints().get(LoadEndpoint.CHARGE).failures());
+            for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+                assertTrue(report.endpoints().get(endpoint).count() > 0);
+            }
+        }
+    }
+}
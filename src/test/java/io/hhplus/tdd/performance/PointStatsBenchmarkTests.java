@@ -0,0 +1,90 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointStats;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 한 유저의 30일 기간 충전 합계 조회 시간 비교 - 전체 내역 조회 후 합산 / 날짜별 합계 조회
+ * - 내역은 DAYS 일에 고르게 분포, 기간 내 내역 수는 전체 내역 수에 비례해서 증가
+ * - 테이블은 내역을 보관하지 않는 대체 객체를 사용해서 인덱스/합계 읽기 시간만 측정
+ * ./gradlew performanceTest --tests "*PointStatsBenchmarkTests"
+ */
+@Tag("performance")
+public class PointStatsBenchmarkTests {
+
+    private static final long USER_ID = 11L;
+    private static final int DAYS = 365;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FROM = LocalDate.of(2026, 6, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 6, 30);
+    private static final int QUERY_COUNT = 21;
+
+    @ParameterizedTest
+    @DisplayName("[기간 합계 성능]내역 100k / 1M / 10M 건인 유저의 30일 충전 합계 조회 시간 비교")
+    @ValueSource(ints = {100_000, 1_000_000, 10_000_000})
+    void compareStats(int historyCount) {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        ZoneId zone = pointProperties.getStats().getZone();
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new HistoryStoreMemoryBenchmarkTests.NonRetainingPointHistoryTable()), pointProperties, PointMetrics.noop());
+        long firstMillis = FIRST_DAY.atStartOfDay(zone).toInstant().toEpochMilli();
+        long fromMillis = FROM.atStartOfDay(zone).toInstant().toEpochMilli();
+        long toMillis = TO.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        long stepMillis = DAYS * 86_400_000L / historyCount;
+        long expectedCharged = 0;
+        for (int row = 0; row < historyCount; row++) {
+            long updateMillis = firstMillis + row * stepMillis;
+            pointHistoryRepository.insert(USER_ID, 1_000L, TransactionType.CHARGE, updateMillis);
+            if (updateMillis >= fromMillis && updateMillis < toMillis) {
+                expectedCharged += 1_000L;
+            }
+        }
+
+        //When
+        double scanMicros = medianMicros(() -> {
+            long charged = 0;
+            for (PointHistory pointHistory : pointHistoryRepository.selectAllByUserId(USER_ID)) {
+                if (pointHistory.type() == TransactionType.CHARGE && pointHistory.updateMillis() >= fromMillis && pointHistory.updateMillis() < toMillis) {
+                    charged += pointHistory.amount();
+                }
+            }
+            return charged;
+        });
+        double statsMicros = medianMicros(() -> pointHistoryRepository.selectStatsByUserId(USER_ID, FROM, TO).charged());
+
+        //Then
+        PointStats pointStats = pointHistoryRepository.selectStatsByUserId(USER_ID, FROM, TO);
+        System.out.printf("[내역 %,d건, 기간 내 %,d건] 전체 내역 조회 후 합산: %,.1f us / 날짜별 합계 조회: %,.1f us%n",
+                historyCount, pointStats.chargeCount(), scanMicros, statsMicros);
+        assertEquals(expectedCharged, pointStats.charged());
+    }
+
+    private double medianMicros(LongSupplier query) {
+        //JIT 워밍업
+        query.getAsLong();
+        long[] elapsed = new long[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            long start = System.nanoTime();
+            query.getAsLong();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[QUERY_COUNT / 2] / 1_000.0;
+    }
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.BalanceStore;
+import io.hhplus.tdd.point.repository.store.HistoryStore;
+import io.hhplus.tdd.point.repository.store.InMemoryBalanceStore;
+import io.hhplus.tdd.point.repository.store.InMemoryHistoryStore;
+import io.hhplus.tdd.point.repository.store.StoreType;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 잔고/내역 저장소 구현(point.store.type)별 충전 처리량 비교
+ * - 같은 서비스 구성에 저장소만 바꿔서 정해진 시간 동안 여러 유저에게 충전을 동시 요청
+ * - write-behind 는 꺼서 잔고/내역 저장 시간이 모두 충전 처리량에 반영되도록 함
+ * - IN_MEMORY 는 3초 동안 수십만 건을 처리하므로 최대 잔고를 넘지 않도록 1P 씩 충전
+ * ./gradlew performanceTest --tests "*StoreBenchmarkTests"
+ */
+@Tag("performance")
+public class StoreBenchmarkTests {
+
+    private static final int USER_COUNT = 50;
+    private static final int THREAD_COUNT = 50;
+    private static final long CHARGE_POINT_AMOUNT = 1L;
+    private static final long DURATION_MILLIS = 3_000L;
+
+    @ParameterizedTest
+    @DisplayName("[저장소 성능]50명의 유저에게 50개 스레드가 3초 동안 충전을 동시 요청 시 저장소 구현별 처리량 비교")
+    @EnumSource(StoreType.class)
+    void compareThroughput(StoreType storeType) throws Exception {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getHistory().getWriteBehind().setEnabled(false);
+        BalanceStore balanceStore = storeType == StoreType.TABLE ? new TableBalanceStore(new UserPointTable()) : new InMemoryBalanceStore();
+        HistoryStore historyStore = storeType == StoreType.TABLE ? new TableHistoryStore(new PointHistoryTable()) : new InMemoryHistoryStore();
+        UserPointRepository userPointRepository = new UserPointRepository(balanceStore, pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(historyStore, pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+
+        AtomicLong chargeCount = new AtomicLong();
+        CyclicBarrier startBarrier = new CyclicBarrier(THREAD_COUNT + 1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        userPointService.chargePoint(random.nextLong(1, USER_COUNT + 1), CHARGE_POINT_AMOUNT);
+                        chargeCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long start = System.nanoTime();
+        endLatch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+
+        //Then
+        long totalPointAmount = 0L;
+        long historyCount = 0L;
+        for (long id = 1; id <= USER_COUNT; id++) {
+            totalPointAmount += userPointService.selectUserPoint(id).point();
+            historyCount += pointHistoryRepository.selectAllByUserId(id).size();
+        }
+        System.out.printf("[%s] 충전 %,d 건 / %,d ms (%,.1f ops/s)%n",
+                storeType,
+                chargeCount.get(),
+                elapsedNanos / 1_000_000,
+                chargeCount.get() / (elapsedNanos / 1_000_000_000.0));
+        assertEquals(CHARGE_POINT_AMOUNT * chargeCount.get(), totalPointAmount);
+        assertEquals(chargeCount.get(), historyCount);
+    }
+}
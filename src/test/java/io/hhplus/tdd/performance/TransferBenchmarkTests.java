@@ -0,0 +1,123 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointTransfer;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.lock.LockMode;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 소수의 유저 사이에 임의 방향 송금을 동시에 요청했을 때 lock 관리 방식별 교착 여부/포인트 합 보존/처리량 확인
+ * - STRIPED 모드는 stripe 4개로 줄여서 서로 다른 유저가 같은 lock 을 공유하는 경우까지 포함
+ * - 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+ * ./gradlew performanceTest --tests "*TransferBenchmarkTests"
+ */
+@Tag("performance")
+public class TransferBenchmarkTests {
+
+    private static final long[] IDS = {11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L};
+    private static final long OWN_POINT_AMOUNT = 50_000L;
+    private static final int THREAD_COUNT = 16;
+    private static final int TRANSFER_PER_THREAD = 10;
+
+    @ParameterizedTest
+    @DisplayName("[송금 성능]8명의 유저 사이에 16개 스레드가 임의 방향 송금을 10번씩 동시 요청 시 처리량 비교")
+    @EnumSource(LockMode.class)
+    void compareTransferThroughput(LockMode lockMode) throws Exception {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getLock().setMode(lockMode);
+        pointProperties.getLock().setStripes(4);
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        pointHistoryWriter.start();
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, PointMetrics.noop(), PointJournal.disabled(), IdempotencyCache.disabled());
+        for (long id : IDS) {
+            userPointService.chargePoint(id, OWN_POINT_AMOUNT);
+        }
+
+        AtomicInteger transferSuccessCount = new AtomicInteger();
+        AtomicInteger transferFailCount = new AtomicInteger();
+        CyclicBarrier startBarrier = new CyclicBarrier(THREAD_COUNT + 1);
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int j = 0; j < TRANSFER_PER_THREAD; j++) {
+                        int fromIndex = random.nextInt(IDS.length);
+                        int toIndex = (fromIndex + 1 + random.nextInt(IDS.length - 1)) % IDS.length;
+                        try {
+                            userPointService.transfer(List.of(new PointTransfer(IDS[fromIndex], IDS[toIndex], random.nextLong(1, 5_001))));
+                            transferSuccessCount.incrementAndGet();
+                        } catch (CustomException e) {
+                            transferFailCount.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long start = System.nanoTime();
+        //교착 상태면 제한 시간 안에 끝나지 않음
+        boolean completed = endLatch.await(5, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdownNow();
+        pointHistoryWriter.shutdown();
+
+        //Then
+        long totalPointAmount = 0L;
+        for (long id : IDS) {
+            totalPointAmount += userPointService.selectUserPoint(id).point();
+        }
+        System.out.printf("[%s] 송금 성공 %d 건 / 실패 %d 건 / %,d ms (%.2f transfers/s)%n",
+                lockMode,
+                transferSuccessCount.get(),
+                transferFailCount.get(),
+                elapsedNanos / 1_000_000,
+                transferSuccessCount.get() / (elapsedNanos / 1_000_000_000.0));
+        assertTrue(completed);
+        assertEquals(OWN_POINT_AMOUNT * IDS.length, totalPointAmount);
+    }
+}
@@ -0,0 +1,121 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.UseConcurrencyMode;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 포인트 사용 동시성 제어 방식(PESSIMISTIC / OPTIMISTIC) 비교
+ * - 낮은 경합: 50명의 유저에게 2번씩 동시 사용 / 높은 경합: 한명의 유저에게 50번 동시 사용
+ * - 실제 throttle 이 있는 UserPointTable/PointHistoryTable 사용
+ * ./gradlew performanceTest --tests "*UseConcurrencyBenchmarkTests"
+ */
+@Tag("performance")
+public class UseConcurrencyBenchmarkTests {
+
+    private static final long OWN_POINT_AMOUNT = 100_000L;
+    private static final long USE_POINT_AMOUNT = 1_000L;
+    private static final int REQUEST_COUNT = 100;
+
+    @ParameterizedTest(name = "[{0}] 유저 {1}명")
+    @DisplayName("[사용 동시성 제어 성능]낮은 경합(유저 50명)/높은 경합(유저 1명)에서 비관적/낙관적 사용의 처리량과 응답시간 비교")
+    @CsvSource({
+            "PESSIMISTIC, 50",
+            "OPTIMISTIC, 50",
+            "PESSIMISTIC, 1",
+            "OPTIMISTIC, 1"
+    })
+    void compareUseConcurrency(UseConcurrencyMode useMode, int userCount) throws Exception {
+        //Given
+        PointProperties pointProperties = new PointProperties();
+        pointProperties.getEngine().setUseMode(useMode);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+        UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new UserPointTable()), pointProperties, PointMetrics.noop(), PointJournal.disabled());
+        PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()), pointProperties, PointMetrics.noop());
+        PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository, pointProperties, PointJournal.disabled());
+        pointHistoryWriter.start();
+        ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties, PointMetrics.noop());
+        UserPointService userPointService = new UserPointService(userPointRepository, pointHistoryRepository, pointHistoryWriter, new PointWritePipeline(userPointRepository, pointHistoryWriter, pointProperties, false), lockFactory,
+                new LockFreePointEngine(userPointRepository, pointHistoryWriter), new CombiningPointEngine(userPointRepository, pointHistoryWriter, lockFactory, pointProperties, PointMetrics.noop()), pointProperties, pointMetrics, PointJournal.disabled(), IdempotencyCache.disabled());
+
+        //유저별 잔고 적재 - 사용 요청이 모두 성공할 만큼 충전
+        for (long id = 1; id <= userCount; id++) {
+            userPointRepository.insertOrUpdate(id, OWN_POINT_AMOUNT);
+        }
+
+        long[] latencyNanos = new long[REQUEST_COUNT];
+        CyclicBarrier startBarrier = new CyclicBarrier(REQUEST_COUNT + 1);
+        CountDownLatch endLatch = new CountDownLatch(REQUEST_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUEST_COUNT);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            final int index = i;
+            final long id = i % userCount + 1;
+            executor.submit(() -> {
+                try {
+                    startBarrier.await();
+                    long start = System.nanoTime();
+                    userPointService.usePoint(id, USE_POINT_AMOUNT);
+                    latencyNanos[index] = System.nanoTime() - start;
+                } catch (Exception e) {
+                    System.err.println("스레드 실행 중 오류: " + e.getMessage());
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        //When
+        startBarrier.await();
+        long start = System.nanoTime();
+        endLatch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+        pointHistoryWriter.shutdown();
+
+        //Then
+        Arrays.sort(latencyNanos);
+        //낙관적 사용 1건당 시도 횟수 - maxAttempts + 1 은 유저 lock 으로 처리된 요청 (PESSIMISTIC 은 기록 없음)
+        DistributionSummary attempts = meterRegistry.get("point.use.optimistic.attempts").summary();
+        System.out.printf("[%s / 유저 %d명] 전체: %,d ms (%.2f ops/s) / 응답 p50: %,d ms / p99: %,d ms / 평균 시도: %.2f / 최대 시도: %.0f%n",
+                useMode, userCount,
+                elapsedNanos / 1_000_000,
+                REQUEST_COUNT / (elapsedNanos / 1_000_000_000.0),
+                latencyNanos[REQUEST_COUNT / 2] / 1_000_000,
+                latencyNanos[REQUEST_COUNT * 99 / 100] / 1_000_000,
+                attempts.count() == 0 ? 1.0 : attempts.mean(),
+                attempts.count() == 0 ? 1.0 : attempts.max());
+        long usesPerUser = REQUEST_COUNT / userCount;
+        for (long id = 1; id <= userCount; id++) {
+            assertEquals(OWN_POINT_AMOUNT - USE_POINT_AMOUNT * usesPerUser, userPointService.selectUserPoint(id).point());
+        }
+    }
+}
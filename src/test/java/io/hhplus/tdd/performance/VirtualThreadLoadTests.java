@@ -0,0 +1,86 @@
+package io.hhplus.tdd.performance;
+
+import io.hhplus.tdd.TddApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 10,000건의 포인트 조회 요청을 동시에 보냈을 때 Tomcat 요청 처리 스레드 종류에 따른 처리 시간 비교
+ * - platform thread: 기본 스레드 200개가 UserPointTable throttle(최대 200ms) 동안 묶여서 동시 처리량이 스레드 수로 제한됨
+ * - virtual thread(spring.threads.virtual.enabled=true): throttle 대기 중에 carrier thread 를 반납하므로 요청 수만큼 동시 처리
+ * - 잔고 캐시는 꺼서 모든 조회가 테이블 throttle 을 거치도록 함
+ * - virtual thread 는 Java 21 이상에서만 실행 (./gradlew performanceTest -PtestJavaVersion=21 --tests "*VirtualThreadLoadTests")
+ */
+@Tag("performance")
+public class VirtualThreadLoadTests {
+
+    private static final int REQUEST_COUNT = 10_000;
+    private static final int USER_COUNT = 1_000;
+
+    @ParameterizedTest
+    @DisplayName("[virtual thread 부하]10,000건 동시 조회 요청 처리 시간 비교")
+    @ValueSource(booleans = {false, true})
+    void compareInFlightScaling(boolean virtualThreadEnabled) throws Exception {
+        assumeTrue(!virtualThreadEnabled || Runtime.version().feature() >= 21, "virtual thread 는 Java 21 이상 필요");
+
+        //Given
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreadEnabled,
+                        "point.cache.enabled=false",
+                        //요청 수만큼 연결을 받아둘 수 있도록 연결 수 제한 상향
+                        "server.tomcat.max-connections=" + (REQUEST_COUNT * 2),
+                        "server.tomcat.accept-count=" + REQUEST_COUNT)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(30)).build();
+
+            AtomicInteger okCount = new AtomicInteger();
+            List<CompletableFuture<Void>> futures = new ArrayList<>(REQUEST_COUNT);
+
+            //When
+            long start = System.nanoTime();
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/point/" + (i % USER_COUNT)))
+                        .timeout(Duration.ofMinutes(2))
+                        .GET()
+                        .build();
+                futures.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .thenAccept(response -> {
+                            if (response.statusCode() == 200) {
+                                okCount.incrementAndGet();
+                            }
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            long elapsedNanos = System.nanoTime() - start;
+
+            //Then
+            System.out.printf("[virtual=%s] %,d건 동시 조회 완료: %,d ms (%.2f req/s)%n",
+                    virtualThreadEnabled,
+                    REQUEST_COUNT,
+                    elapsedNanos / 1_000_000,
+                    REQUEST_COUNT / (elapsedNanos / 1_000_000_000.0));
+            assertEquals(REQUEST_COUNT, okCount.get());
+        }
+    }
+}
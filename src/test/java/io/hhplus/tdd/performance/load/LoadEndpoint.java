@@ -0,0 +1,20 @@
+package io.hhplus.tdd.performance.load;
+
+/**
+ * 부하 테스트에서 호출하는 PointController API
+ */
+public enum LoadEndpoint {
+    READ("GET /point/{id}"),
+    CHARGE("PATCH /point/{id}/charge"),
+    USE("PATCH /point/{id}/use");
+
+    private final String description;
+
+    LoadEndpoint(String description) {
+        this.description = description;
+    }
+
+    public String description() {
+        return description;
+    }
+}
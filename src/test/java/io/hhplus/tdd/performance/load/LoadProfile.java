@@ -0,0 +1,54 @@
+package io.hhplus.tdd.performance.load;
+
+import java.time.Duration;
+
+/**
+ * 부하 생성 조건
+ * @param arrivalRate 초당 요청 수 - 응답을 기다리지 않고 일정한 간격으로 요청 (open-loop)
+ * @param warmup 결과에 포함하지 않는 워밍업 시간 (JIT, 캐시, 연결 생성)
+ * @param duration 결과에 포함하는 측정 시간
+ * @param mix 조회/충전/사용 요청 비율
+ * @param userCount 유저 수 - 유저 ID 는 1 ~ userCount
+ * @param zipfExponent 유저 ID Zipf 분포 지수 - 0 이면 균등 분포, 클수록 일부 유저에게 요청이 몰림
+ * @param amount 충전/사용 1건의 포인트
+ * @param seed 요청 종류/유저 ID 난수 seed - 같은 seed 면 같은 요청 순서
+ */
+public record LoadProfile(double arrivalRate, Duration warmup, Duration duration, RequestMix mix,
+                          int userCount, double zipfExponent, long amount, long seed) {
+
+    public LoadProfile {
+        if (arrivalRate <= 0 || duration.isZero() || duration.isNegative() || warmup.isNegative()) {
+            throw new IllegalArgumentException("arrivalRate 와 duration 은 0 보다 커야 함");
+        }
+        if (userCount <= 0 || zipfExponent < 0 || amount <= 0) {
+            throw new IllegalArgumentException("userCount / amount 는 0 보다 크고 zipfExponent 는 0 이상이어야 함");
+        }
+    }
+
+    /**
+     * 조회/충전/사용 요청 비율 (가중치)
+     */
+    public record RequestMix(int read, int charge, int use) {
+
+        public RequestMix {
+            if (read < 0 || charge < 0 || use < 0 || read + charge + use == 0) {
+                throw new IllegalArgumentException("요청 비율은 0 이상이고 합이 0 보다 커야 함");
+            }
+        }
+
+        /**
+         * @param value 0 ~ (read + charge + use - 1) 난수
+         * @return 비율에 따라 고른 API
+         */
+        LoadEndpoint pick(int value) {
+            if (value < read) {
+                return LoadEndpoint.READ;
+            }
+            return value < read + charge ? LoadEndpoint.CHARGE : LoadEndpoint.USE;
+        }
+
+        int total() {
+            return read + charge + use;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.performance.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 - API 별 처리량과 응답시간 percentile
+ * - 응답시간은 요청을 보냈어야 하는 시각부터 응답까지 (서버가 밀려서 늦게 보낸 요청의 대기 시간 포함)
+ * @param measuredSeconds 측정 시간(초) - 워밍업 제외
+ * @param maxSendLagMillis 요청을 보냈어야 하는 시각보다 늦게 보낸 최대 시간(ms)
+ * @param endpoints API 별 결과
+ */
+public record LoadReport(double measuredSeconds, double maxSendLagMillis, Map<LoadEndpoint, EndpointResult> endpoints) {
+
+    /**
+     * API 1개의 측정 결과
+     * @param count 응답 받은 요청 수
+     * @param rejected 4xx / 6xx 응답 수 (잔고 부족 등 검증 실패, lock 대기 한도 초과)
+     * @param failures 5xx 응답 / 연결 실패 / 시간 초과 수
+     * @param latency 응답시간 histogram (나노초)
+     */
+    public record EndpointResult(long count, long rejected, long failures, Histogram latency) {
+
+        public double throughput(double seconds) {
+            return count / seconds;
+        }
+
+        public double percentileMillis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1_000_000.0;
+        }
+
+        public double maxMillis() {
+            return latency.getMaxValue() / 1_000_000.0;
+        }
+    }
+
+    public void print(String title) {
+        System.out.printf("[%s] 측정 %.1f s / 최대 송신 지연 %.2f ms%n", title, measuredSeconds, maxSendLagMillis);
+        endpoints.forEach((endpoint, result) -> System.out.printf(
+                "  %-24s %,7d 건 (%,9.1f req/s) 거절 %,d / 실패 %,d | p50 %8.2f ms | p90 %8.2f ms | p99 %8.2f ms | p99.9 %8.2f ms | max %8.2f ms%n",
+                endpoint.description(),
+                result.count(),
+                result.throughput(measuredSeconds),
+                result.rejected(),
+                result.failures(),
+                result.percentileMillis(50.0),
+                result.percentileMillis(90.0),
+                result.percentileMillis(99.0),
+                result.percentileMillis(99.9),
+                result.maxMillis()));
+    }
+}
@@ -0,0 +1,150 @@
+package io.hhplus.tdd.performance.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * PointController 를 실제 HTTP 로 호출하는 open-loop 부하 생성기
+ * - 요청 간격은 1 / arrivalRate 로 고정, 앞선 요청의 응답을 기다리지 않음 -> 서버가 느려져도 요청이 줄지 않음
+ * - 응답시간은 요청을 보냈어야 하는 시각부터 측정 -> 보내는 쪽이 밀려서 늦게 보낸 요청의 대기 시간도 포함 (coordinated omission 보정)
+ * - 요청 종류는 RequestMix 비율, 유저 ID 는 Zipf 분포로 선택
+ * - 워밍업 구간의 요청은 보내기만 하고 결과에 포함하지 않음
+ * - 요청을 보냈어야 하는 시각보다 실제로 보낸 시각이 늦어진 최대 시간을 함께 기록 -> 크면 부하 생성기가 요청 속도를 따라가지 못한 것
+ */
+public class PointLoadGenerator {
+
+    //응답시간 histogram 최대 값 - 넘는 값은 최대 값으로 기록
+    private static final long HIGHEST_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+    //요청 1건 응답 제한 시간 - 넘으면 실패로 기록
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    //연결 실패 / 시간 초과로 응답이 없을 때 상태 코드 대신 기록하는 값
+    private static final int NO_RESPONSE = -1;
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    /**
+     * @param baseUrl PointController 주소 (예: http://localhost:8080/point/)
+     */
+    public PointLoadGenerator(HttpClient httpClient, String baseUrl) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * 워밍업 + 측정 시간 동안 부하를 보내고, 보낸 요청의 응답을 모두 받은 뒤 결과 반환
+     */
+    public LoadReport run(LoadProfile profile) {
+        SplittableRandom random = new SplittableRandom(profile.seed());
+        ZipfUserIds userIds = new ZipfUserIds(profile.userCount(), profile.zipfExponent());
+        LoadProfile.RequestMix mix = profile.mix();
+        Map<LoadEndpoint, EndpointRecorder> recorders = new EnumMap<>(LoadEndpoint.class);
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            recorders.put(endpoint, new EndpointRecorder());
+        }
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / profile.arrivalRate());
+        long start = System.nanoTime();
+        long measureStart = start + profile.warmup().toNanos();
+        long end = measureStart + profile.duration().toNanos();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        long maxSendLagNanos = 0L;
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedNanos = start + sequence * intervalNanos;
+            if (intendedNanos >= end) {
+                break;
+            }
+            waitUntil(intendedNanos);
+
+            LoadEndpoint endpoint = mix.pick(random.nextInt(mix.total()));
+            long id = userIds.next(random);
+            EndpointRecorder recorder = intendedNanos >= measureStart ? recorders.get(endpoint) : null;
+            if (recorder != null) {
+                maxSendLagNanos = Math.max(maxSendLagNanos, System.nanoTime() - intendedNanos);
+            }
+            inFlight.add(httpClient.sendAsync(request(endpoint, id, profile.amount()), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        if (recorder != null) {
+                            recorder.record(System.nanoTime() - intendedNanos, response == null ? NO_RESPONSE : response.statusCode());
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+
+        Map<LoadEndpoint, LoadReport.EndpointResult> results = new EnumMap<>(LoadEndpoint.class);
+        recorders.forEach((endpoint, recorder) -> results.put(endpoint, recorder.result()));
+        return new LoadReport(profile.duration().toNanos() / 1_000_000_000.0, maxSendLagNanos / 1_000_000.0, results);
+    }
+
+    private HttpRequest request(LoadEndpoint endpoint, long id, long amount) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT);
+        return switch (endpoint) {
+            case READ -> builder.uri(URI.create(baseUrl + id)).GET().build();
+            case CHARGE -> builder.uri(URI.create(baseUrl + id + "/charge"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                    .build();
+            case USE -> builder.uri(URI.create(baseUrl + id + "/use"))
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                    .build();
+        };
+    }
+
+    /**
+     * 요청을 보낼 시각까지 대기 - sleep 오차가 요청 간격보다 커지지 않도록 짧게 나눠서 대기
+     */
+    private void waitUntil(long intendedNanos) {
+        long remaining;
+        while ((remaining = intendedNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(Math.min(remaining, TimeUnit.MICROSECONDS.toNanos(100)));
+        }
+    }
+
+    /**
+     * API 1개의 응답시간/상태 코드 기록 - HTTP client 스레드에서 동시에 기록
+     */
+    private static class EndpointRecorder {
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_LATENCY_NANOS, 3);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        void record(long latencyNanos, int statusCode) {
+            if (statusCode == NO_RESPONSE) {
+                //연결 실패 / 시간 초과 - 응답이 없으므로 응답시간에는 포함하지 않음
+                failures.incrementAndGet();
+                return;
+            }
+            latency.recordValue(Math.min(latencyNanos, HIGHEST_LATENCY_NANOS));
+            count.incrementAndGet();
+            //4xx, 6xx(입력/잔고 검증 실패)는 요청 거절, 5xx 는 서버 실패
+            if (statusCode >= 500 && statusCode < 600) {
+                failures.incrementAndGet();
+            } else if (statusCode >= 400) {
+                rejected.incrementAndGet();
+            }
+        }
+
+        LoadReport.EndpointResult result() {
+            return new LoadReport.EndpointResult(count.get(), rejected.get(), failures.get(), latency.copy());
+        }
+    }
+}
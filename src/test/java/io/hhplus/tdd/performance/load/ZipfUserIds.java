@@ -0,0 +1,35 @@
+package io.hhplus.tdd.performance.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf 분포 유저 ID 생성 - k 번째 유저가 뽑힐 확률은 1/k^exponent 에 비례
+ * - 누적 분포를 미리 계산하고 난수 1개당 이진 탐색 1번 -> O(log userCount)
+ */
+class ZipfUserIds {
+
+    private final double[] cumulative;
+
+    ZipfUserIds(int userCount, double exponent) {
+        this.cumulative = new double[userCount];
+        double sum = 0.0;
+        for (int k = 1; k <= userCount; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < userCount; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @return 유저 ID (1 ~ userCount), 작은 ID 일수록 자주 뽑힘
+     */
+    long next(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        //찾지 못하면 (-(삽입 위치) - 1) 반환 -> 삽입 위치 = 누적 확률이 난수보다 처음 커지는 유저
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1) + 1L;
+    }
+}
@@ -0,0 +1,117 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.BalanceSnapshot;
+import io.hhplus.tdd.point.dto.BalanceVerification;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.BalanceSnapshotService;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * BalanceSnapshotService 의 snapshot 갱신과 내역 기반 잔고 재계산 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BalanceSnapshotServiceTests {
+
+	@Mock
+	private PointHistoryTable pointHistoryTable;//충전/사용 내역 테이블 Mock 객체
+
+	private PointHistoryRepository pointHistoryRepository;
+	private BalanceSnapshotService balanceSnapshotService;
+
+	//유저 ID
+	private final long id = 11L;
+
+	@BeforeEach
+	void setUp(){
+		PointProperties pointProperties = new PointProperties();
+		pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),pointProperties,PointMetrics.noop());
+		PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,pointProperties,PointJournal.disabled());
+		//start() 를 호출하지 않아 주기 실행 없이 checkpoint() 를 직접 호출
+		balanceSnapshotService = new BalanceSnapshotService(pointHistoryRepository,pointHistoryWriter,pointProperties,PointMetrics.noop());
+	}
+
+	@Test
+	@DisplayName("[잔고 재계산]snapshot 이 없으면 전체 내역의 변동분 합계로 잔고 계산")
+	void rebuildWithoutSnapshot(){
+	//Given
+		insert(1,10_000L,TransactionType.CHARGE);
+		insert(2,3_000L,TransactionType.USE);
+		insert(3,500L,TransactionType.CHARGE);
+	//When
+		UserPoint userPoint = balanceSnapshotService.rebuild(id);
+	//Then
+		assertEquals(new UserPoint(id,7_500L,3L),userPoint);
+	}
+
+	@Test
+	@DisplayName("[잔고 snapshot]checkpoint 는 직전 checkpoint 때 확인한 내역 ID 까지 반영하고 재계산은 snapshot 이후 내역만 더함")
+	void checkpointThenRebuild(){
+	//Given
+		insert(1,10_000L,TransactionType.CHARGE);
+		insert(2,3_000L,TransactionType.USE);
+	//When
+		//첫 checkpoint 는 기준 내역 ID(2)만 확인
+		int firstUpdated = balanceSnapshotService.checkpoint();
+		insert(3,1_000L,TransactionType.CHARGE);
+		//두번째 checkpoint 는 내역 ID 2 까지 반영
+		int secondUpdated = balanceSnapshotService.checkpoint();
+		insert(4,2_000L,TransactionType.USE);
+	//Then
+		assertEquals(0,firstUpdated);
+		assertEquals(1,secondUpdated);
+		assertEquals(new BalanceSnapshot(id,7_000L,2L,2L),balanceSnapshotService.snapshotOf(id));
+		assertEquals(new UserPoint(id,6_000L,4L),balanceSnapshotService.rebuild(id));
+	}
+
+	@Test
+	@DisplayName("[잔고 snapshot]유저별 인덱스에 늦게 들어온 더 작은 ID 의 내역도 다음 checkpoint 에 반영")
+	void lateHistoryIncludedInNextCheckpoint(){
+	//Given
+		//내역 ID 2 가 먼저 인덱스에 반영되고 내역 ID 1 은 checkpoint 뒤에 반영
+		insert(2,1_000L,TransactionType.CHARGE);
+		balanceSnapshotService.checkpoint();
+		insert(1,5_000L,TransactionType.CHARGE);
+	//When
+		balanceSnapshotService.checkpoint();
+	//Then
+		assertEquals(new BalanceSnapshot(id,6_000L,2L,2L),balanceSnapshotService.snapshotOf(id));
+		assertEquals(6_000L,balanceSnapshotService.rebuild(id).point());
+	}
+
+	@Test
+	@DisplayName("[잔고 검증]현재 잔고와 내역으로 다시 계산한 잔고가 다르면 불일치로 반환")
+	void verify(){
+	//Given
+		insert(1,10_000L,TransactionType.CHARGE);
+		insert(2,3_000L,TransactionType.USE);
+	//When
+		BalanceVerification matched = balanceSnapshotService.verify(new UserPoint(id,7_000L,2L));
+		BalanceVerification mismatched = balanceSnapshotService.verify(new UserPoint(id,8_000L,2L));
+	//Then
+		assertEquals(new BalanceVerification(id,7_000L,7_000L,true),matched);
+		assertEquals(new BalanceVerification(id,8_000L,7_000L,false),mismatched);
+	}
+
+	//내역 ID 를 처리 시간으로 사용해서 저장
+	private void insert(long historyId, long amount, TransactionType type){
+		when(pointHistoryTable.insert(id,amount,type,historyId)).thenReturn(new PointHistory(historyId,id,amount,type,historyId));
+		pointHistoryRepository.insert(id,amount,type,historyId);
+	}
+}
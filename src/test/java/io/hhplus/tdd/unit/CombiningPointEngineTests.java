@@ -0,0 +1,234 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * CombiningPointEngine 요청 합치기 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class CombiningPointEngineTests {
+
+	@Mock
+	private UserPointRepository userPointRepository;//유저 포인트 Mock 객체
+
+	@Mock
+	private PointHistoryWriter pointHistoryWriter;//내역 저장 Mock 객체
+
+	@Mock
+	private ConcurrentAndReentraantLockFactory concurrentAndReentraantLockFactory;//lock을 위한 객체
+
+	//유저 ID
+	private final long id = 11L;
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[요청 합치기]lock 대기 중 쌓인 충전 요청은 조회/저장 1번으로 처리되고 최대 잔고를 넘는 요청만 실패해야 한다")
+	void combineQueuedCharges() throws InterruptedException {
+	//Given
+		int threadCount = 10;
+		long chargePointAmount = 1_000L;
+		ReentrantLock userLock = new ReentrantLock();
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(userLock);
+		//최대 잔고까지 3_000P 남은 유저
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,UserPoint.MAX_POINT - 3_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,UserPoint.MAX_POINT)).thenReturn(new UserPoint(id,UserPoint.MAX_POINT,currentTimeMillis));
+		CombiningPointEngine combiningPointEngine = new CombiningPointEngine(userPointRepository,pointHistoryWriter,concurrentAndReentraantLockFactory,new PointProperties(),PointMetrics.noop());
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger overChargeCount = new AtomicInteger();
+
+		//유저 lock 을 먼저 잡아서 모든 요청이 큐에 쌓이도록 함
+		userLock.lock();
+		CountDownLatch endLatch = new CountDownLatch(threadCount);
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			executor.submit(() -> {
+				try {
+					combiningPointEngine.charge(id,chargePointAmount);
+					successCount.incrementAndGet();
+				} catch (CustomException e) {
+					overChargeCount.incrementAndGet();
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+		while (userLock.getQueueLength() < threadCount) {
+			Thread.onSpinWait();
+		}
+	//When
+		userLock.unlock();
+		endLatch.await();
+		executor.shutdown();
+	//Then
+		assertEquals(3,successCount.get());
+		assertEquals(threadCount - 3,overChargeCount.get());
+		verify(userPointRepository,times(1)).selectById(id);
+		verify(userPointRepository,times(1)).insertOrUpdate(id,UserPoint.MAX_POINT);
+		//성공한 요청만 내역 기록
+		verify(pointHistoryWriter,times(3)).write(eq(id),anyLong(),eq(TransactionType.CHARGE),eq(currentTimeMillis));
+	}
+
+	@Test
+	@DisplayName("[요청 합치기][잔고 부족]잔고보다 많이 사용하면 저장/내역 기록 없이 실패")
+	void notEnoughValance(){
+	//Given
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,1_000L,currentTimeMillis));
+		CombiningPointEngine combiningPointEngine = new CombiningPointEngine(userPointRepository,pointHistoryWriter,concurrentAndReentraantLockFactory,new PointProperties(),PointMetrics.noop());
+	//When
+		CustomException ce = assertThrows(CustomException.class,() -> combiningPointEngine.use(id,1_001L));
+	//Then
+		assertEquals("NOT_ENOUGH_VALANCE",ce.getErrorCode().getCode());
+		verify(userPointRepository,never()).insertOrUpdate(anyLong(),anyLong());
+		verify(pointHistoryWriter,never()).write(anyLong(),anyLong(),eq(TransactionType.USE),anyLong());
+	}
+
+	@Test
+	@DisplayName("[요청 합치기][사용]단건 사용 요청은 요청한 포인트만큼 차감 후 사용 내역 기록")
+	void use(){
+	//Given
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,1_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,400L)).thenReturn(new UserPoint(id,400L,currentTimeMillis));
+		CombiningPointEngine combiningPointEngine = new CombiningPointEngine(userPointRepository,pointHistoryWriter,concurrentAndReentraantLockFactory,new PointProperties(),PointMetrics.noop());
+	//When
+		UserPoint afterUseUserPoint = combiningPointEngine.use(id,600L);
+	//Then
+		assertEquals(400L,afterUseUserPoint.point());
+		verify(pointHistoryWriter).write(id,600L,TransactionType.USE,currentTimeMillis);
+	}
+
+	@Test
+	@DisplayName("[요청 합치기][대기 한도 초과]wait-timeout 안에 lock 을 얻지 못한 요청은 큐에서 빠져서 다음 combiner 가 처리하지 않음")
+	void lockWaitExceeded() throws Exception {
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLock().setWaitTimeout(Duration.ofMillis(20));
+		ReentrantLock userLock = new ReentrantLock();
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(userLock);
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,1_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,1_500L)).thenReturn(new UserPoint(id,1_500L,currentTimeMillis));
+		CombiningPointEngine combiningPointEngine = new CombiningPointEngine(userPointRepository,pointHistoryWriter,concurrentAndReentraantLockFactory,pointProperties,PointMetrics.noop());
+
+		//다른 스레드가 유저 lock 점유
+		CountDownLatch lockedLatch = new CountDownLatch(1);
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+		Thread holder = new Thread(() -> {
+			userLock.lock();
+			try {
+				lockedLatch.countDown();
+				releaseLatch.await();
+			} catch (InterruptedException ignored) {
+				Thread.currentThread().interrupt();
+			} finally {
+				userLock.unlock();
+			}
+		});
+		holder.start();
+		lockedLatch.await();
+	//When
+		TooManyRequestsException e = assertThrows(TooManyRequestsException.class,() -> combiningPointEngine.charge(id,1_000L));
+		releaseLatch.countDown();
+		holder.join();
+		UserPoint afterChargeUserPoint = combiningPointEngine.charge(id,500L);
+	//Then
+		assertEquals("LOCK_WAIT_EXCEEDED",e.getErrorCode().getCode());
+		//실패한 요청도 lock 반환
+		verify(concurrentAndReentraantLockFactory,times(2)).release(id,userLock);
+		//실패한 1_000P 충전은 반영되지 않고 다음 요청의 500P 만 충전
+		assertEquals(1_500L,afterChargeUserPoint.point());
+		verify(pointHistoryWriter,never()).write(id,1_000L,TransactionType.CHARGE,currentTimeMillis);
+		verify(pointHistoryWriter).write(id,500L,TransactionType.CHARGE,currentTimeMillis);
+	}
+
+	@Test
+	@DisplayName("[요청 합치기][대기 한도 초과]이미 combiner 가 가져간 요청은 대기 한도를 넘어도 취소하지 않고 그 combiner 의 처리 결과를 반환")
+	void lockWaitExceededAfterTaken() throws Exception {
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLock().setWaitTimeout(Duration.ofMillis(200));
+		ReentrantLock userLock = new ReentrantLock();
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(userLock);
+		//combiner 의 조회가 대기 한도보다 오래 걸림
+		when(userPointRepository.selectById(id)).thenAnswer(invocation -> {
+			Thread.sleep(500);
+			return new UserPoint(id,1_000L,currentTimeMillis);
+		});
+		when(userPointRepository.insertOrUpdate(id,3_000L)).thenReturn(new UserPoint(id,3_000L,currentTimeMillis));
+		CombiningPointEngine combiningPointEngine = new CombiningPointEngine(userPointRepository,pointHistoryWriter,concurrentAndReentraantLockFactory,pointProperties,PointMetrics.noop());
+		AtomicInteger successCount = new AtomicInteger();
+
+		//유저 lock 을 먼저 잡아서 두 요청이 모두 큐에 쌓이도록 함
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+		Thread holder = new Thread(() -> {
+			userLock.lock();
+			try {
+				releaseLatch.await();
+			} catch (InterruptedException ignored) {
+				Thread.currentThread().interrupt();
+			} finally {
+				userLock.unlock();
+			}
+		});
+		holder.start();
+		while (!userLock.isLocked()) {
+			Thread.onSpinWait();
+		}
+		CountDownLatch endLatch = new CountDownLatch(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		for (int i = 0; i < 2; i++) {
+			executor.submit(() -> {
+				try {
+					combiningPointEngine.charge(id,1_000L);
+					successCount.incrementAndGet();
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+		while (userLock.getQueueLength() < 2) {
+			Thread.onSpinWait();
+		}
+	//When
+		releaseLatch.countDown();
+		endLatch.await();
+		executor.shutdown();
+	//Then
+		//lock 을 얻은 요청이 두 요청을 함께 처리, 대기 한도를 넘긴 요청도 취소되지 않고 결과를 받음
+		assertEquals(2,successCount.get());
+		verify(userPointRepository,times(1)).selectById(id);
+		verify(userPointRepository,times(1)).insertOrUpdate(id,3_000L);
+		verify(concurrentAndReentraantLockFactory,times(2)).release(id,userLock);
+	}
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.lock.LockMode;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * lock 관리 방식(point.lock.mode)별 유저 lock 제공/반환 테스트
+ */
+class ConcurrentAndReentraantLockFactoryTests {
+
+	//유저 ID
+	private final long id = 11L;
+
+	@Test
+	@DisplayName("[MAP]같은 유저는 항상 같은 lock, 반환 후에도 lock 유지")
+	void mapMode(){
+	//Given
+		ConcurrentAndReentraantLockFactory lockFactory = lockFactory(LockMode.MAP,1024);
+	//When
+		ReentrantLock first = lockFactory.getLock(id);
+		lockFactory.release(id,first);
+		ReentrantLock second = lockFactory.getLock(id);
+		lockFactory.release(id,second);
+	//Then
+		assertSame(first,second);
+		assertEquals(1,lockFactory.lockCount());
+	}
+
+	@Test
+	@DisplayName("[STRIPED]유저 수와 상관없이 lock 개수는 2의 거듭제곱으로 올림한 stripe 수로 고정")
+	void stripedMode(){
+	//Given
+		ConcurrentAndReentraantLockFactory lockFactory = lockFactory(LockMode.STRIPED,1000);
+	//When
+		for (long userId = 1; userId <= 100_000; userId++) {
+			ReentrantLock lock = lockFactory.getLock(userId);
+			lockFactory.release(userId,lock);
+		}
+	//Then
+		assertEquals(1024,lockFactory.lockCount());
+		assertSame(lockFactory.getLock(id),lockFactory.getLock(id));
+	}
+
+	@Test
+	@DisplayName("[REF_COUNTED]사용 중인 동안은 같은 lock, 모두 반환하면 lock 제거")
+	void refCountedMode(){
+	//Given
+		ConcurrentAndReentraantLockFactory lockFactory = lockFactory(LockMode.REF_COUNTED,1024);
+	//When
+		ReentrantLock first = lockFactory.getLock(id);
+		ReentrantLock second = lockFactory.getLock(id);
+	//Then
+		//두 요청이 사용 중이면 같은 lock 공유
+		assertSame(first,second);
+		assertEquals(1,lockFactory.lockCount());
+
+		//하나만 반환하면 lock 유지
+		lockFactory.release(id,first);
+		assertEquals(1,lockFactory.lockCount());
+
+		//모두 반환하면 lock 제거 후 다음 요청은 새 lock
+		lockFactory.release(id,second);
+		assertEquals(0,lockFactory.lockCount());
+		assertNotSame(first,lockFactory.getLock(id));
+	}
+
+	@Test
+	@DisplayName("[hot user 지표]hot user 로 표시된 유저만 point.lock.queue.length 게이지에 유저별 lock 대기 스레드 수가 노출되어야 한다")
+	void hotUserQueueLengthGauge() throws InterruptedException {
+	//Given
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHotUser().setThreshold(1);
+		ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties,new PointMetrics(meterRegistry));
+		ReentrantLock lock = lockFactory.getLock(id);
+		lock.lock();
+	//When
+		//lock 이 잡혀 있을 때 들어온 요청 -> hot user 로 표시되고 lock 대기
+		Thread waiter = new Thread(() -> {
+			ReentrantLock waiterLock = lockFactory.getLock(id);
+			waiterLock.lock();
+			waiterLock.unlock();
+			lockFactory.release(id,waiterLock);
+		});
+		waiter.start();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (lock.getQueueLength() == 0 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		double queueLength = meterRegistry.get("point.lock.queue.length").tag("user",String.valueOf(id)).gauge().value();
+		lock.unlock();
+		lockFactory.release(id,lock);
+		waiter.join(5_000);
+	//Then
+		assertTrue(lockFactory.isHot(id));
+		assertEquals(1.0,queueLength);
+		assertEquals(0.0,meterRegistry.get("point.lock.queue.length").tag("user",String.valueOf(id)).gauge().value());
+		//hot user 가 아닌 유저는 게이지 없음
+		assertNull(meterRegistry.find("point.lock.queue.length").tag("user","12").gauge());
+	}
+
+	private ConcurrentAndReentraantLockFactory lockFactory(LockMode lockMode, int stripes){
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLock().setMode(lockMode);
+		pointProperties.getLock().setStripes(stripes);
+		return new ConcurrentAndReentraantLockFactory(pointProperties,PointMetrics.noop());
+	}
+}
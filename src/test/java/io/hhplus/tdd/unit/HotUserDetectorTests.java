@@ -0,0 +1,109 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.HotUser;
+import io.hhplus.tdd.point.util.lock.HotUserDetector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HotUserDetector 의 lock 경합 유저 감지(Space-Saving) / 감소 / hot user 표시 테스트
+ */
+class HotUserDetectorTests {
+
+	//다른 요청이 잡고 있는 lock
+	private final ReentrantLock contendedLock = new ReentrantLock();
+
+	@BeforeEach
+	void setUp(){
+		contendedLock.lock();
+	}
+
+	@AfterEach
+	void tearDown(){
+		contendedLock.unlock();
+	}
+
+	@Test
+	@DisplayName("[hot user]유저 10,000명 중 경합이 몰린 3명을 고정 크기(16칸) sketch 로 찾음")
+	void findHeavyHitters(){
+	//Given
+		HotUserDetector hotUserDetector = createHotUserDetector(16,Duration.ofHours(1),1_000_000);
+	//When
+		for (int round = 0; round < 10; round++) {
+			for (long id = 1_000; id < 11_000; id++) {
+				hotUserDetector.record(id,contendedLock);
+			}
+			for (int i = 0; i < 2_000; i++) {
+				hotUserDetector.record(1L,contendedLock);
+				hotUserDetector.record(2L,contendedLock);
+				hotUserDetector.record(3L,contendedLock);
+			}
+		}
+		List<HotUser> hotUsers = hotUserDetector.topK(100);
+	//Then
+		//유저 수와 상관없이 최대 capacity 명만 보관
+		assertEquals(16,hotUsers.size());
+		assertEquals(List.of(1L,2L,3L),hotUsers.subList(0,3).stream().map(HotUser::userId).sorted().toList());
+		for (HotUser hotUser : hotUsers.subList(0,3)) {
+			//실제 경합 횟수 20,000 은 추정치 - 오차 ~ 추정치 사이
+			assertTrue(hotUser.contention() >= 20_000);
+			assertTrue(hotUser.contention() - hotUser.error() <= 20_000);
+		}
+	}
+
+	@Test
+	@DisplayName("[hot user]경합 횟수가 threshold 이상이면 hot user, window 가 지나 절반씩 줄어 threshold/2 미만이면 해제")
+	void markAndDecay() throws Exception {
+	//Given
+		HotUserDetector hotUserDetector = createHotUserDetector(16,Duration.ofMillis(50),10);
+	//When
+		for (int i = 0; i < 9; i++) {
+			hotUserDetector.record(1L,contendedLock);
+		}
+		boolean hotBeforeThreshold = hotUserDetector.isHot(1L);
+		hotUserDetector.record(1L,contendedLock);
+		boolean hotAtThreshold = hotUserDetector.isHot(1L);
+		//window 4번 경과 -> 10 / 16 = 0
+		Thread.sleep(200);
+		List<HotUser> hotUsers = hotUserDetector.topK(10);
+	//Then
+		assertFalse(hotBeforeThreshold);
+		assertTrue(hotAtThreshold);
+		assertTrue(hotUsers.isEmpty());
+		assertFalse(hotUserDetector.isHot(1L));
+	}
+
+	@Test
+	@DisplayName("[hot user]lock 을 잡고 있는 요청이 없을 때 들어온 요청은 경합으로 세지 않음")
+	void ignoreUncontended(){
+	//Given
+		HotUserDetector hotUserDetector = createHotUserDetector(16,Duration.ofHours(1),10);
+		ReentrantLock freeLock = new ReentrantLock();
+	//When
+		for (int i = 0; i < 100; i++) {
+			hotUserDetector.record(1L,freeLock);
+		}
+	//Then
+		assertTrue(hotUserDetector.topK(10).isEmpty());
+		assertFalse(hotUserDetector.isHot(1L));
+	}
+
+	private HotUserDetector createHotUserDetector(int capacity, Duration window, long threshold){
+		PointProperties.HotUser hotUser = new PointProperties().getHotUser();
+		hotUser.setCapacity(capacity);
+		hotUser.setWindow(window);
+		hotUser.setThreshold(threshold);
+		return new HotUserDetector(hotUser);
+	}
+}
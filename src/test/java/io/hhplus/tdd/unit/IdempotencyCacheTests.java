@@ -0,0 +1,226 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * IdempotencyCache 의 키별 결과 보관/대기/만료 테스트
+ */
+class IdempotencyCacheTests {
+
+	//유저 ID
+	private final long id = 11L;
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[Idempotency-Key]같은 키로 다시 요청하면 처리하지 않고 처음 결과 반환")
+	void returnFirstResult(){
+	//Given
+		IdempotencyCache idempotencyCache = createIdempotencyCache(1_000,Duration.ofHours(1));
+		AtomicInteger executed = new AtomicInteger();
+	//When
+		UserPoint first = idempotencyCache.execute("key-1",TransactionType.CHARGE,id,1_000L,() -> new UserPoint(id,1_000L * executed.incrementAndGet(),currentTimeMillis));
+		UserPoint retry = idempotencyCache.execute("key-1",TransactionType.CHARGE,id,1_000L,() -> new UserPoint(id,1_000L * executed.incrementAndGet(),currentTimeMillis));
+	//Then
+		assertEquals(1,executed.get());
+		assertSame(first,retry);
+		assertEquals(1,idempotencyCache.stats().hitCount());
+	}
+
+	@Test
+	@DisplayName("[Idempotency-Key]처리 중인 키로 동시에 들어온 요청은 다시 처리하지 않고 첫 요청의 결과를 기다림")
+	void concurrentDuplicatesWaitForFirst() throws Exception {
+	//Given
+		IdempotencyCache idempotencyCache = createIdempotencyCache(1_000,Duration.ofHours(1));
+		AtomicInteger executed = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+		int threadCount = 10;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		List<Future<UserPoint>> results = new ArrayList<>();
+	//When
+		for (int i = 0; i < threadCount; i++) {
+			results.add(executor.submit(() -> idempotencyCache.execute("key-1",TransactionType.CHARGE,id,1_000L,() -> {
+				executed.incrementAndGet();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return new UserPoint(id,1_000L,currentTimeMillis);
+			})));
+		}
+		//첫 요청이 처리 중인 동안 나머지 요청이 대기하도록 잠시 후 완료
+		Thread.sleep(100);
+		release.countDown();
+		for (Future<UserPoint> result : results) {
+			assertEquals(new UserPoint(id,1_000L,currentTimeMillis),result.get());
+		}
+		executor.shutdown();
+	//Then
+		assertEquals(1,executed.get());
+		assertEquals(threadCount - 1,idempotencyCache.stats().hitCount());
+	}
+
+	@Test
+	@DisplayName("[Idempotency-Key]CustomException 결과도 보관해서 재요청 시 같은 예외, 그 외 예외는 보관하지 않고 다시 처리")
+	void customExceptionIsRemembered(){
+	//Given
+		IdempotencyCache idempotencyCache = createIdempotencyCache(1_000,Duration.ofHours(1));
+		AtomicInteger executed = new AtomicInteger();
+	//When
+		for (int i = 0; i < 2; i++) {
+			CustomException ce = assertThrows(CustomException.class,() -> idempotencyCache.execute("key-1",TransactionType.USE,id,5_000L,() -> {
+				executed.incrementAndGet();
+				throw new CustomException(ErrorCode.NOT_ENOUGH_VALANCE);
+			}));
+			assertEquals(ErrorCode.NOT_ENOUGH_VALANCE,ce.getErrorCode());
+		}
+		for (int i = 0; i < 2; i++) {
+			assertThrows(IllegalStateException.class,() -> idempotencyCache.execute("key-2",TransactionType.USE,id,5_000L,() -> {
+				executed.incrementAndGet();
+				throw new IllegalStateException("table unavailable");
+			}));
+		}
+	//Then
+		//key-1 은 1번, key-2 는 2번 처리
+		assertEquals(3,executed.get());
+	}
+
+	@Test
+	@DisplayName("[Idempotency-Key][대기 한도 초과]LOCK_WAIT_EXCEEDED 는 보관하지 않고 재요청 시 다시 처리")
+	void lockWaitExceededIsNotRemembered(){
+	//Given
+		IdempotencyCache idempotencyCache = createIdempotencyCache(1_000,Duration.ofHours(1));
+		AtomicInteger executed = new AtomicInteger();
+	//When
+		CustomException ce = assertThrows(CustomException.class,() -> idempotencyCache.execute("key-1",TransactionType.CHARGE,id,1_000L,() -> {
+			executed.incrementAndGet();
+			throw new TooManyRequestsException(ErrorCode.LOCK_WAIT_EXCEEDED,Duration.ofSeconds(1));
+		}));
+		//Retry-After 이후 같은 키로 재요청
+		UserPoint userPoint = idempotencyCache.execute("key-1",TransactionType.CHARGE,id,1_000L,() -> {
+			executed.incrementAndGet();
+			return new UserPoint(id,1_000L,currentTimeMillis);
+		});
+	//Then
+		assertEquals(ErrorCode.LOCK_WAIT_EXCEEDED,ce.getErrorCode());
+		assertEquals(1_000L,userPoint.point());
+		assertEquals(2,executed.get());
+	}
+
+	@Test
+	@DisplayName("[Idempotency-Key][키 재사용]같은 키를 다른 유저/구분/포인트 요청에 사용하면 IDEMPOTENCY_KEY_REUSED")
+	void keyReusedForDifferentRequest(){
+	//Given
+		IdempotencyCache idempotencyCache = createIdempotencyCache(1_000,Duration.ofHours(1));
+		idempotencyCache.execute("key-1",TransactionType.CHARGE,id,1_000L,() -> new UserPoint(id,1_000L,currentTimeMillis));
+	//When
+		CustomException ce = assertThrows(CustomException.class,() -> idempotencyCache.execute("key-1",TransactionType.CHARGE,id,2_000L,() -> new UserPoint(id,3_000L,currentTimeMillis)));
+	//Then
+		assertEquals("IDEMPOTENCY_KEY_REUSED",ce.getErrorCode().getCode());
+	}
+
+	@Test
+	@DisplayName("[Idempotency-Key]TTL 이 지난 키는 다시 처리하고 최대 키 수를 넘으면 오래된 키부터 제거")
+	void ttlAndMaxSize() throws Exception {
+	//Given
+		IdempotencyCache expiringCache = createIdempotencyCache(1_000,Duration.ofMillis(50));
+		IdempotencyCache boundedCache = createIdempotencyCache(64,Duration.ofHours(1));
+		AtomicInteger executed = new AtomicInteger();
+	//When
+		expiringCache.execute("key-1",TransactionType.CHARGE,id,1_000L,() -> new UserPoint(id,executed.incrementAndGet(),currentTimeMillis));
+		Thread.sleep(100);
+		expiringCache.execute("key-1",TransactionType.CHARGE,id,1_000L,() -> new UserPoint(id,executed.incrementAndGet(),currentTimeMillis));
+		for (int i = 0; i < 10_000; i++) {
+			boundedCache.execute("key-" + i,TransactionType.CHARGE,id,1_000L,() -> new UserPoint(id,1_000L,currentTimeMillis));
+		}
+	//Then
+		assertEquals(2,executed.get());
+		assertTrue(boundedCache.stats().size() <= 64);
+		assertEquals(10_000 - boundedCache.stats().size(),boundedCache.stats().evictionCount());
+	}
+
+	@Test
+	@DisplayName("[Idempotency-Key][최대 크기 초과]처리 중인 키가 최대 키 수보다 많아도 제거하지 않고 재요청은 첫 요청의 결과를 기다려야 한다")
+	void inFlightKeysAreNotEvicted() throws Exception {
+	//Given
+		int maxSize = 64;
+		int keyCount = 200;
+		IdempotencyCache idempotencyCache = createIdempotencyCache(maxSize,Duration.ofHours(1));
+		AtomicInteger executed = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(keyCount);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(keyCount * 2);
+		List<Future<UserPoint>> results = new ArrayList<>();
+	//When
+		for (int i = 0; i < keyCount; i++) {
+			String key = "key-" + i;
+			results.add(executor.submit(() -> idempotencyCache.execute(key,TransactionType.CHARGE,id,1_000L,() -> {
+				executed.incrementAndGet();
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return new UserPoint(id,1_000L,currentTimeMillis);
+			})));
+		}
+		assertTrue(started.await(10,TimeUnit.SECONDS));
+		long inFlightSize = idempotencyCache.stats().size();
+		//처리 중인 키로 재요청
+		for (int i = 0; i < keyCount; i++) {
+			String key = "key-" + i;
+			results.add(executor.submit(() -> idempotencyCache.execute(key,TransactionType.CHARGE,id,1_000L,() -> {
+				executed.incrementAndGet();
+				return new UserPoint(id,2_000L,currentTimeMillis);
+			})));
+		}
+		Thread.sleep(100);
+		release.countDown();
+		for (Future<UserPoint> result : results) {
+			assertEquals(1_000L,result.get().point());
+		}
+		executor.shutdown();
+	//Then
+		assertEquals(keyCount,inFlightSize);
+		assertEquals(keyCount,executed.get());
+		assertEquals(0,idempotencyCache.stats().evictionCount());
+		//처리가 끝난 키는 다음 입력 때 최대 크기까지 제거
+		for (int i = 0; i < 10_000; i++) {
+			idempotencyCache.execute("next-" + i,TransactionType.CHARGE,id,1_000L,() -> new UserPoint(id,1_000L,currentTimeMillis));
+		}
+		assertTrue(idempotencyCache.stats().size() <= maxSize);
+	}
+
+	private IdempotencyCache createIdempotencyCache(int maxSize, Duration ttl){
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getIdempotency().setMaxSize(maxSize);
+		pointProperties.getIdempotency().setTtl(ttl);
+		return new IdempotencyCache(pointProperties,PointMetrics.noop());
+	}
+}
@@ -0,0 +1,165 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * LockFreePointEngine Compare and Swap 충전/사용 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class LockFreePointEngineTests {
+
+	@Mock
+	private UserPointRepository userPointRepository;//유저 포인트 Mock 객체
+
+	@Mock
+	private PointHistoryWriter pointHistoryWriter;//내역 저장 Mock 객체
+
+	//유저 ID
+	private final long id = 11L;
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[CAS 충전]100번 동시 충전 시 모두 반영되고 테이블에는 마지막 잔고가 저장되어야 한다")
+	void concurrentCharge() throws InterruptedException {
+	//Given
+		int threadCount = 100;
+		long chargePointAmount = 1_000L;
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,0L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(eq(id),anyLong())).thenAnswer(invocation -> new UserPoint(id,invocation.getArgument(1),System.currentTimeMillis()));
+		LockFreePointEngine lockFreePointEngine = new LockFreePointEngine(userPointRepository,pointHistoryWriter);
+	//When
+		runConcurrently(threadCount,() -> lockFreePointEngine.charge(id,chargePointAmount));
+	//Then
+		assertEquals(chargePointAmount * threadCount,lockFreePointEngine.select(id).point());
+		//버전 순서대로 저장되므로 테이블에 마지막으로 저장된 값은 최종 잔고
+		ArgumentCaptor<Long> savedPoints = ArgumentCaptor.forClass(Long.class);
+		verify(userPointRepository,atLeastOnce()).insertOrUpdate(eq(id),savedPoints.capture());
+		List<Long> savedPointList = savedPoints.getAllValues();
+		assertEquals(chargePointAmount * threadCount,savedPointList.get(savedPointList.size() - 1));
+		//내역은 요청 건수만큼 기록
+		verify(pointHistoryWriter,times(threadCount)).write(eq(id),anyLong(),eq(TransactionType.CHARGE),anyLong());
+	}
+
+	@Test
+	@DisplayName("[CAS 충전][최대 잔고 초과]최대 잔고까지 남은 포인트보다 많이 동시 충전하면 남은 만큼만 성공해야 한다")
+	void concurrentOverCharge() throws InterruptedException {
+	//Given
+		int threadCount = 10;
+		long chargePointAmount = 1_000L;
+		//최대 잔고까지 3_000P 남은 유저
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,UserPoint.MAX_POINT - 3_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(eq(id),anyLong())).thenAnswer(invocation -> new UserPoint(id,invocation.getArgument(1),System.currentTimeMillis()));
+		LockFreePointEngine lockFreePointEngine = new LockFreePointEngine(userPointRepository,pointHistoryWriter);
+		AtomicInteger overChargeCount = new AtomicInteger();
+	//When
+		runConcurrently(threadCount,() -> {
+			try {
+				lockFreePointEngine.charge(id,chargePointAmount);
+			} catch (CustomException e) {
+				overChargeCount.incrementAndGet();
+			}
+		});
+	//Then
+		assertEquals(UserPoint.MAX_POINT,lockFreePointEngine.select(id).point());
+		assertEquals(threadCount - 3,overChargeCount.get());
+	}
+
+	@Test
+	@DisplayName("[CAS 사용][잔고 부족]잔고보다 많이 사용하면 잔고 변경 없이 실패")
+	void notEnoughValance(){
+	//Given
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,1_000L,currentTimeMillis));
+		LockFreePointEngine lockFreePointEngine = new LockFreePointEngine(userPointRepository,pointHistoryWriter);
+	//When
+		CustomException ce = assertThrows(CustomException.class,() -> lockFreePointEngine.use(id,1_001L));
+	//Then
+		assertEquals("NOT_ENOUGH_VALANCE",ce.getErrorCode().getCode());
+		assertEquals(1_000L,lockFreePointEngine.select(id).point());
+	}
+
+	@Test
+	@DisplayName("[CAS 충전][저장 실패]테이블 저장에 실패하면 확정된 잔고 변경을 되돌리고 예외를 던져야 한다")
+	void chargeStoreFailure(){
+	//Given
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,1_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,3_000L)).thenThrow(new IllegalStateException("store failure"));
+		when(userPointRepository.insertOrUpdate(id,1_000L)).thenReturn(new UserPoint(id,1_000L,currentTimeMillis));
+		LockFreePointEngine lockFreePointEngine = new LockFreePointEngine(userPointRepository,pointHistoryWriter);
+	//When
+		assertThrows(IllegalStateException.class,() -> lockFreePointEngine.charge(id,2_000L));
+	//Then
+		assertEquals(1_000L,lockFreePointEngine.select(id).point());
+		//보상 버전이 되돌린 잔고를 테이블에 저장하고 내역은 기록하지 않음
+		verify(userPointRepository).insertOrUpdate(id,1_000L);
+		verify(pointHistoryWriter,never()).write(anyLong(),anyLong(),any(),anyLong());
+	}
+
+	@Test
+	@DisplayName("[CAS 사용][저장 실패]저장 실패로 되돌린 뒤에도 다음 요청은 되돌린 잔고 기준으로 처리되어야 한다")
+	void useStoreFailureThenCharge(){
+	//Given
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,1_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,400L)).thenThrow(new IllegalStateException("store failure"));
+		when(userPointRepository.insertOrUpdate(eq(id),longThat(point -> point != 400L))).thenAnswer(invocation -> new UserPoint(id,invocation.getArgument(1),System.currentTimeMillis()));
+		LockFreePointEngine lockFreePointEngine = new LockFreePointEngine(userPointRepository,pointHistoryWriter);
+	//When
+		assertThrows(IllegalStateException.class,() -> lockFreePointEngine.use(id,600L));
+		UserPoint userPoint = lockFreePointEngine.charge(id,500L);
+	//Then
+		assertEquals(1_500L,userPoint.point());
+		assertEquals(1_500L,lockFreePointEngine.select(id).point());
+		verify(pointHistoryWriter,never()).write(eq(id),anyLong(),eq(TransactionType.USE),anyLong());
+		verify(pointHistoryWriter).write(eq(id),eq(500L),eq(TransactionType.CHARGE),anyLong());
+	}
+
+	private void runConcurrently(int threadCount, Runnable task) throws InterruptedException {
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch endLatch = new CountDownLatch(threadCount);
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		for (int i = 0; i < threadCount; i++) {
+			executor.submit(() -> {
+				try {
+					startLatch.await();
+					task.run();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+		startLatch.countDown();
+		endLatch.await();
+		executor.shutdown();
+	}
+}
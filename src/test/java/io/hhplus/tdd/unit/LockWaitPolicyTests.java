@@ -0,0 +1,151 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
+import io.hhplus.tdd.point.util.lock.LockWaitPolicy;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LockWaitPolicy 의 lock 대기 한도(대기 스레드 수 / 대기 시간) 테스트
+ */
+class LockWaitPolicyTests {
+
+	private final PointMetrics.LockMetrics lockMetrics = PointMetrics.noop().lockMetrics("charge");
+
+	@Test
+	@DisplayName("[lock 대기 한도]제한이 없으면 기존과 같이 lock 획득")
+	void unlimited(){
+	//Given
+		LockWaitPolicy lockWaitPolicy = createLockWaitPolicy(Duration.ZERO,0);
+		ReentrantLock lock = new ReentrantLock();
+	//When
+		lockWaitPolicy.lock(lock,lockMetrics);
+	//Then
+		assertTrue(lock.isHeldByCurrentThread());
+		lock.unlock();
+	}
+
+	@Test
+	@DisplayName("[lock 대기 한도][대기 시간 초과]wait-timeout 안에 획득하지 못하면 LOCK_WAIT_EXCEEDED")
+	void waitTimeoutExceeded() throws Exception {
+	//Given
+		LockWaitPolicy lockWaitPolicy = createLockWaitPolicy(Duration.ofMillis(50),0);
+		ReentrantLock lock = new ReentrantLock();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		CountDownLatch held = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+		//다른 스레드가 lock 점유
+		executor.submit(() -> {
+			lock.lock();
+			held.countDown();
+			try {
+				done.await();
+			} catch (InterruptedException ignored) {
+			} finally {
+				lock.unlock();
+			}
+		});
+		held.await();
+	//When
+		long start = System.nanoTime();
+		TooManyRequestsException e = assertThrows(TooManyRequestsException.class,() -> lockWaitPolicy.lock(lock,lockMetrics));
+		long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		done.countDown();
+		executor.shutdown();
+	//Then
+		assertEquals(ErrorCode.LOCK_WAIT_EXCEEDED,e.getErrorCode());
+		assertEquals(429,e.getErrorCode().getStatus());
+		assertEquals(Duration.ofSeconds(1),e.getRetryAfter());
+		assertTrue(waitedMillis >= 50);
+		assertFalse(lock.isHeldByCurrentThread());
+	}
+
+	@Test
+	@DisplayName("[lock 대기 한도][대기 스레드 초과]같은 lock 에 max-queued-waiters 이상 대기 중이면 기다리지 않고 LOCK_WAIT_EXCEEDED")
+	void queueFull() throws Exception {
+	//Given
+		int maxQueuedWaiters = 2;
+		LockWaitPolicy lockWaitPolicy = createLockWaitPolicy(Duration.ZERO,maxQueuedWaiters);
+		ReentrantLock lock = new ReentrantLock();
+		lock.lock();
+		//다른 스레드 2개가 같은 lock 대기
+		ExecutorService executor = Executors.newFixedThreadPool(maxQueuedWaiters);
+		for (int i = 0; i < maxQueuedWaiters; i++) {
+			executor.submit(() -> {
+				lock.lock();
+				lock.unlock();
+			});
+		}
+		while (lock.getQueueLength() < maxQueuedWaiters) {
+			Thread.onSpinWait();
+		}
+	//When
+		ExecutorService requester = Executors.newSingleThreadExecutor();
+		long start = System.nanoTime();
+		Throwable thrown = requester.submit(() -> {
+			try {
+				lockWaitPolicy.lock(lock,lockMetrics);
+				lock.unlock();
+				return null;
+			} catch (TooManyRequestsException e) {
+				return e;
+			}
+		}).get(1,TimeUnit.SECONDS);
+		long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		lock.unlock();
+		executor.shutdown();
+		requester.shutdown();
+	//Then
+		//lock 을 기다리지 않고 바로 실패
+		assertTrue(thrown instanceof TooManyRequestsException);
+		assertEquals(ErrorCode.LOCK_WAIT_EXCEEDED,((TooManyRequestsException) thrown).getErrorCode());
+		assertTrue(waitedMillis < 1_000);
+	}
+
+	@Test
+	@DisplayName("[lock 대기 한도]이미 잡고 있는 lock 은 대기 스레드 수와 상관없이 재진입")
+	void reentrantWhenQueueFull() throws Exception {
+	//Given
+		LockWaitPolicy lockWaitPolicy = createLockWaitPolicy(Duration.ZERO,1);
+		ReentrantLock lock = new ReentrantLock();
+		lock.lock();
+		//다른 스레드 1개가 같은 lock 대기
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.submit(() -> {
+			lock.lock();
+			lock.unlock();
+		});
+		while (lock.getQueueLength() < 1) {
+			Thread.onSpinWait();
+		}
+	//When
+		lockWaitPolicy.lock(lock,lockMetrics);
+	//Then
+		assertEquals(2,lock.getHoldCount());
+		lock.unlock();
+		lock.unlock();
+		executor.shutdown();
+	}
+
+	private LockWaitPolicy createLockWaitPolicy(Duration waitTimeout, int maxQueuedWaiters){
+		PointProperties.Lock lock = new PointProperties().getLock();
+		lock.setWaitTimeout(waitTimeout);
+		lock.setMaxQueuedWaiters(maxQueuedWaiters);
+		return new LockWaitPolicy(lock);
+	}
+}
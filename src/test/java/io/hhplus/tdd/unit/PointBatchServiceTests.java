@@ -0,0 +1,169 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PointBatchService 일괄 충전/사용 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PointBatchServiceTests {
+
+	@Mock
+	private UserPointRepository userPointRepository;//유저 포인트 Mock 객체
+
+	@Mock
+	private PointHistoryWriter pointHistoryWriter;//내역 저장 Mock 객체
+
+	@Mock
+	private ConcurrentAndReentraantLockFactory concurrentAndReentraantLockFactory;//lock을 위한 객체
+
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[일괄 처리]유저별로 요청 순서대로 처리하고 유저마다 조회/저장은 1번, 결과는 요청 순서대로 반환")
+	void processGroupedByUser(){
+	//Given
+		when(concurrentAndReentraantLockFactory.getLock(anyLong())).thenAnswer(invocation -> new ReentrantLock());
+		when(userPointRepository.selectById(11L)).thenReturn(new UserPoint(11L,0L,currentTimeMillis));
+		when(userPointRepository.selectById(12L)).thenReturn(new UserPoint(12L,500L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(11L,700L)).thenReturn(new UserPoint(11L,700L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(12L,300L)).thenReturn(new UserPoint(12L,300L,currentTimeMillis));
+
+		List<PointOperation> operations = new ArrayList<>();
+		operations.add(new PointOperation(11L,TransactionType.CHARGE,1_000L));
+		operations.add(new PointOperation(12L,TransactionType.USE,200L));
+		operations.add(new PointOperation(11L,TransactionType.USE,300L));
+		operations.add(new PointOperation(12L,TransactionType.USE,1_000L));//잔고 부족
+		operations.add(new PointOperation(11L,TransactionType.CHARGE,0L));//입력 값 검증 실패
+	//When
+		List<PointOperationResult> results = createPointBatchService(new PointProperties()).process(operations);
+	//Then
+		assertEquals(operations.size(),results.size());
+		assertEquals(1_000L,results.get(0).userPoint().point());
+		assertEquals(300L,results.get(1).userPoint().point());
+		assertEquals(700L,results.get(2).userPoint().point());
+		assertNull(results.get(3).userPoint());
+		assertEquals(ErrorCode.NOT_ENOUGH_VALANCE,results.get(3).errorCode());
+		assertEquals(ErrorCode.ZERO_POINT,results.get(4).errorCode());
+		//유저별 조회/저장 1번
+		verify(userPointRepository,times(1)).selectById(11L);
+		verify(userPointRepository,times(1)).insertOrUpdate(11L,700L);
+		verify(userPointRepository,times(1)).selectById(12L);
+		verify(userPointRepository,times(1)).insertOrUpdate(12L,300L);
+	}
+
+	@Test
+	@DisplayName("[일괄 처리][저장 실패]한 유저의 잔고 저장이 실패하면 그 유저의 요청만 OPERATION_FAILED, 다른 유저는 성공으로 반환하고 요청별 처리 시간 기록")
+	void storeFailureFailsOnlyThatUser(){
+	//Given
+		when(concurrentAndReentraantLockFactory.getLock(anyLong())).thenAnswer(invocation -> new ReentrantLock());
+		when(userPointRepository.selectById(11L)).thenReturn(new UserPoint(11L,0L,currentTimeMillis));
+		when(userPointRepository.selectById(12L)).thenReturn(new UserPoint(12L,500L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(11L,700L)).thenReturn(new UserPoint(11L,700L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(12L,300L)).thenThrow(new IllegalStateException("balance unavailable"));
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		List<PointOperation> operations = List.of(
+				new PointOperation(11L,TransactionType.CHARGE,1_000L),
+				new PointOperation(12L,TransactionType.USE,200L),
+				new PointOperation(11L,TransactionType.USE,300L));
+	//When
+		List<PointOperationResult> results = createPointBatchService(new PointProperties(),new PointMetrics(meterRegistry)).process(operations);
+	//Then
+		assertEquals(1_000L,results.get(0).userPoint().point());
+		assertEquals(ErrorCode.OPERATION_FAILED,results.get(1).errorCode());
+		assertEquals(700L,results.get(2).userPoint().point());
+		assertEquals(1L,meterRegistry.get("point.operation").tags("type","CHARGE","outcome","SUCCESS").timer().count());
+		assertEquals(1L,meterRegistry.get("point.operation").tags("type","USE","outcome","SUCCESS").timer().count());
+		assertEquals(1L,meterRegistry.get("point.operation").tags("type","USE","outcome","ERROR").timer().count());
+	}
+
+	@Test
+	@DisplayName("[일괄 처리][대기 한도 초과]한 유저의 lock 대기가 wait-timeout 을 넘으면 그 유저의 요청만 LOCK_WAIT_EXCEEDED, 다른 유저는 성공으로 반환")
+	void lockWaitExceededFailsOnlyThatUser() throws InterruptedException {
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLock().setWaitTimeout(Duration.ofMillis(20));
+		ReentrantLock heldLock = new ReentrantLock();
+		//다른 스레드가 12번 유저의 lock 점유
+		Thread holder = new Thread(heldLock::lock);
+		holder.start();
+		holder.join();
+		when(concurrentAndReentraantLockFactory.getLock(anyLong())).thenAnswer(invocation -> (long) invocation.getArgument(0) == 12L ? heldLock : new ReentrantLock());
+		when(userPointRepository.selectById(11L)).thenReturn(new UserPoint(11L,0L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(11L,1_000L)).thenReturn(new UserPoint(11L,1_000L,currentTimeMillis));
+
+		List<PointOperation> operations = List.of(
+				new PointOperation(11L,TransactionType.CHARGE,1_000L),
+				new PointOperation(12L,TransactionType.CHARGE,1_000L),
+				new PointOperation(12L,TransactionType.USE,500L));
+	//When
+		List<PointOperationResult> results = createPointBatchService(pointProperties).process(operations);
+	//Then
+		assertEquals(1_000L,results.get(0).userPoint().point());
+		assertEquals(ErrorCode.LOCK_WAIT_EXCEEDED,results.get(1).errorCode());
+		assertEquals(ErrorCode.LOCK_WAIT_EXCEEDED,results.get(2).errorCode());
+		verify(userPointRepository,never()).selectById(12L);
+	}
+
+	@Test
+	@DisplayName("[일괄 처리][최대 건수 초과]요청 건수가 최대 건수를 넘으면 전체 실패")
+	void batchSizeExceeded(){
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getBatch().setMaxOperations(1);
+		List<PointOperation> operations = List.of(
+				new PointOperation(11L,TransactionType.CHARGE,1_000L),
+				new PointOperation(12L,TransactionType.CHARGE,1_000L));
+	//When
+		CustomException ce = assertThrows(CustomException.class,() -> createPointBatchService(pointProperties).process(operations));
+	//Then
+		assertEquals(ErrorCode.BATCH_SIZE_EXCEEDED,ce.getErrorCode());
+	}
+
+	private PointBatchService createPointBatchService(PointProperties pointProperties){
+		return createPointBatchService(pointProperties,PointMetrics.noop());
+	}
+
+	private PointBatchService createPointBatchService(PointProperties pointProperties,PointMetrics pointMetrics){
+		CombiningPointEngine combiningPointEngine = new CombiningPointEngine(userPointRepository,pointHistoryWriter,concurrentAndReentraantLockFactory,pointProperties,PointMetrics.noop());
+		LockFreePointEngine lockFreePointEngine = new LockFreePointEngine(userPointRepository,pointHistoryWriter);
+		return new PointBatchService(combiningPointEngine,lockFreePointEngine,Executors.newFixedThreadPool(2),pointProperties,PointJournal.disabled(),pointMetrics);
+	}
+}
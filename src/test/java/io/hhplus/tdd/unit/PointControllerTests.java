@@ -1,12 +1,27 @@
 package io.hhplus.tdd.unit;
 
 import io.hhplus.tdd.point.controller.PointController;
+import io.hhplus.tdd.point.dto.BalanceVerification;
+import io.hhplus.tdd.point.dto.DailyPointStats;
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.HotUser;
 import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointOperation;
+import io.hhplus.tdd.point.dto.PointOperationResult;
+import io.hhplus.tdd.point.dto.PointStats;
+import io.hhplus.tdd.point.dto.PointTransfer;
 import io.hhplus.tdd.point.dto.TransactionType;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointLookup;
+import io.hhplus.tdd.point.service.BalanceSnapshotService;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointHistoryExportService;
+import io.hhplus.tdd.point.service.PointLookupService;
 import io.hhplus.tdd.point.service.UserPointService;
 import io.hhplus.tdd.point.util.exception.CustomException;
 import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -14,12 +29,23 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -37,6 +63,18 @@ public class PointControllerTests {
     @MockBean
     UserPointService userPointService;
 
+    @MockBean
+    PointBatchService pointBatchService;
+
+    @MockBean
+    PointHistoryExportService pointHistoryExportService;
+
+    @MockBean
+    PointLookupService pointLookupService;
+
+    @MockBean
+    BalanceSnapshotService balanceSnapshotService;
+
     @ParameterizedTest
     @DisplayName("[포인트 충전][충전 금액 부족]입력받은 포인트가 0P 이하 일때 충전 실패, [1회 충전 금액 제한]입력받은 포인트가 100,000P 초과 일때 충전 실패")
     @ValueSource(longs = {0L,100_001L})
@@ -85,6 +123,40 @@ public class PointControllerTests {
                     .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    @DisplayName("[포인트 충전][Idempotency-Key]헤더가 있으면 키와 함께 충전 요청")
+    void chargePointWithIdempotencyKey() throws Exception {
+    //Given
+        long id = 11L;
+        long chargePointAmount = 1_000L;
+        when(userPointService.chargePoint(id,chargePointAmount,"charge-11-1")).thenReturn(new UserPoint(id,chargePointAmount,System.currentTimeMillis()));
+        //When
+        mockMvc.perform(patch("/point/11/charge")
+                        .header(PointController.IDEMPOTENCY_KEY_HEADER,"charge-11-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(chargePointAmount)))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(chargePointAmount));
+        verify(userPointService,never()).chargePoint(id,chargePointAmount);
+    }
+
+    @ParameterizedTest
+    @DisplayName("[포인트 사용][Idempotency-Key 형식 오류]키가 비어 있거나 64자를 넘으면 사용 실패")
+    @ValueSource(ints = {0,65})
+    void invalidIdempotencyKey(int keyLength) throws Exception {
+    //Given
+        String idempotencyKey = keyLength == 0 ? " " : "k".repeat(keyLength);
+        //When
+        mockMvc.perform(patch("/point/11/use")
+                        .header(PointController.IDEMPOTENCY_KEY_HEADER,idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("1000"))
+                //Then
+                .andExpect(status().isInternalServerError());
+        verify(userPointService,never()).usePoint(anyLong(),anyLong(),any());
+    }
+
     @ParameterizedTest
     @DisplayName("[포인트 사용][사용 포인트 제한]사용 포인트가 0P 이하 이거나 최대 잔고인 1,000,000P를 초과하는 경우 사용 실패")
     @ValueSource(longs = {-1L,1_000_001L})
@@ -118,6 +190,113 @@ public class PointControllerTests {
                     .andExpect(jsonPath("$.point").value(remainingUserPoint));
     }
 
+    @Test
+    @DisplayName("[포인트 충전][대기 한도 초과]같은 유저의 lock 대기 한도를 넘으면 429 와 Retry-After 헤더 응답")
+    void chargePointLockWaitExceeded() throws Exception {
+        //Given
+        long id = 11L;
+        long chargePointAmount = 1_000L;
+
+        //lock 대기 한도 초과 시 LOCK_WAIT_EXCEEDED 에러코드 리턴, 1.5초 뒤 재시도 안내
+        when(userPointService.chargePoint(id, chargePointAmount)).thenThrow(new TooManyRequestsException(ErrorCode.LOCK_WAIT_EXCEEDED, Duration.ofMillis(1_500)));
+        //When
+        mockMvc.perform(patch("/point/11/charge")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(chargePointAmount)))
+                    //Then
+                    .andExpect(status().isTooManyRequests())
+                    //초 단위로 올림
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(jsonPath("$.code").value("LOCK_WAIT_EXCEEDED"));
+    }
+
+    @Test
+    @DisplayName("[lock 경합 유저 조회]lock 경합이 많은 순서대로 limit 명 조회")
+    void selectHotUsers() throws Exception {
+        //Given
+        when(userPointService.selectHotUsers(2)).thenReturn(List.of(new HotUser(7L,120L,3L,true),new HotUser(9L,40L,0L,false)));
+        //When
+        mockMvc.perform(get("/point/hot-users").param("limit","2"))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].userId").value(7L))
+                .andExpect(jsonPath("$[0].contention").value(120L))
+                .andExpect(jsonPath("$[0].routed").value(true))
+                .andExpect(jsonPath("$[1].userId").value(9L));
+    }
+
+    @Test
+    @DisplayName("[잔고 검증]현재 잔고와 내역으로 다시 계산한 잔고 비교 결과 반환")
+    void verifyUserPoint() throws Exception {
+        //Given
+        UserPoint userPoint = new UserPoint(11L,5_000L,System.currentTimeMillis());
+        when(userPointService.selectUserPoint(11L)).thenReturn(userPoint);
+        when(balanceSnapshotService.verify(userPoint)).thenReturn(new BalanceVerification(11L,5_000L,4_000L,false));
+        //When
+        mockMvc.perform(get("/point/11/verify"))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.userId").value(11L))
+                .andExpect(jsonPath("$.storedPoint").value(5_000L))
+                .andExpect(jsonPath("$.rebuiltPoint").value(4_000L))
+                .andExpect(jsonPath("$.matched").value(false));
+    }
+
+    @Test
+    @DisplayName("[포인트 일괄 조회]요청한 유저 ID 순서로 유저별 잔고 또는 에러코드 반환")
+    void selectUserPoints() throws Exception {
+        //Given
+        long currentTimeMillis = System.currentTimeMillis();
+        when(pointLookupService.selectUserPoints(List.of(11L,12L))).thenReturn(List.of(
+                UserPointLookup.success(11L,new UserPoint(11L,1_000L,currentTimeMillis)),
+                UserPointLookup.fail(12L,ErrorCode.LOOKUP_TIMEOUT)));
+        //When
+        mockMvc.perform(get("/point").param("ids","11,12"))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(11L))
+                .andExpect(jsonPath("$[0].userPoint.point").value(1_000L))
+                .andExpect(jsonPath("$[1].id").value(12L))
+                .andExpect(jsonPath("$[1].userPoint").doesNotExist())
+                .andExpect(jsonPath("$[1].errorCode").value("LOOKUP_TIMEOUT"));
+    }
+
+    @Test
+    @DisplayName("[포인트 송금]송금 후 관련 유저들의 잔고 반환")
+    void transfer() throws Exception {
+        //Given
+        long currentTimeMillis = System.currentTimeMillis();
+        List<PointTransfer> transfers = List.of(new PointTransfer(11L,12L,3_000L));
+        when(userPointService.transfer(transfers)).thenReturn(List.of(new UserPoint(11L,7_000L,currentTimeMillis),new UserPoint(12L,3_000L,currentTimeMillis)));
+        //When
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"fromUserId\":11,\"toUserId\":12,\"amount\":3000}]"))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(11L))
+                .andExpect(jsonPath("$[0].point").value(7_000L))
+                .andExpect(jsonPath("$[1].id").value(12L))
+                .andExpect(jsonPath("$[1].point").value(3_000L));
+    }
+
+    @Test
+    @DisplayName("[포인트 송금][LOCK_FREE 엔진]송금을 지원하지 않는 엔진이면 송금 실패")
+    void transferNotSupported() throws Exception {
+        //Given
+        List<PointTransfer> transfers = List.of(new PointTransfer(11L,12L,3_000L));
+        //LOCK_FREE 엔진 송금 요청 시 TRANSFER_NOT_SUPPORTED 에러코드 리턴
+        when(userPointService.transfer(transfers)).thenThrow(new CustomException(ErrorCode.TRANSFER_NOT_SUPPORTED));
+        //When
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"fromUserId\":11,\"toUserId\":12,\"amount\":3000}]"))
+                //Then
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"));
+    }
+
     @Test
     @DisplayName("[포인트 사용][잔고 부족]소유 포인트가 0P 이거나 사용할 포인트보다 작은 경우 사용 실패")
     void notEnoughValance() throws Exception {
@@ -179,4 +358,106 @@ public class PointControllerTests {
                 .andExpect(jsonPath("$[1].amount").value(pointHistories.get(1).amount()))
                 .andExpect(jsonPath("$[1].type").value(pointHistories.get(1).type().toString()));
     }
+
+    @Test
+    @DisplayName("[포인트 충전/사용 내역 페이지 조회]limit 이 있으면 cursor 기반 페이지와 다음 cursor 반환")
+    void selectUserPointHistoryPage() throws Exception{
+    //Given
+        long id = 11L;
+        PointHistory useHistory = new PointHistory(5,id,1_000L,TransactionType.USE,System.currentTimeMillis());
+        PointHistory chargeHistory = new PointHistory(4,id,10_000L,TransactionType.CHARGE,System.currentTimeMillis());
+
+        when(userPointService.selectUserPointHistoryPage(id,6L,2,HistorySortOrder.DESC)).thenReturn(new PointHistoryPage(List.of(useHistory,chargeHistory),4L));
+        //When
+        mockMvc.perform(get("/point/11/histories").param("after","6").param("limit","2"))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.histories[0].id").value(5))
+                .andExpect(jsonPath("$.histories[1].id").value(4))
+                .andExpect(jsonPath("$.nextCursor").value(4));
+    }
+
+    @ParameterizedTest
+    @DisplayName("[포인트 충전/사용 내역 페이지 조회][페이지 크기 제한]limit 이 1 미만이거나 100 초과 일때 조회 실패")
+    @ValueSource(ints = {0,101})
+    void validationHistoryPageLimit(int limit) throws Exception{
+        //When
+        mockMvc.perform(get("/point/11/histories").param("limit",String.valueOf(limit)))
+                //Then
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    @DisplayName("[포인트 충전/사용 기간 합계 조회]기간 합계와 날짜별 합계 반환")
+    void selectUserPointStats() throws Exception{
+    //Given
+        long id = 11L;
+        LocalDate from = LocalDate.of(2026,10,1);
+        LocalDate to = LocalDate.of(2026,10,31);
+        when(userPointService.selectUserPointStats(id,from,to)).thenReturn(new PointStats(id,from,to,5_000L,2_000L,2L,1L,
+                List.of(new DailyPointStats(LocalDate.of(2026,10,18),5_000L,2_000L,2L,1L))));
+        //When
+        mockMvc.perform(get("/point/11/stats").param("from","2026-10-01").param("to","2026-10-31"))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.charged").value(5_000L))
+                .andExpect(jsonPath("$.used").value(2_000L))
+                .andExpect(jsonPath("$.days[0].date").value("2026-10-18"))
+                .andExpect(jsonPath("$.days[0].chargeCount").value(2L));
+    }
+
+    @Test
+    @DisplayName("[포인트 충전/사용 기간 합계 조회][조회 기간 오류]시작 날짜가 종료 날짜보다 뒤일때 조회 실패")
+    void invalidStatsDateRange() throws Exception{
+        //When
+        mockMvc.perform(get("/point/11/stats").param("from","2026-10-31").param("to","2026-10-01"))
+                //Then
+                .andExpect(status().isInternalServerError());
+        verify(userPointService,never()).selectUserPointStats(anyLong(),any(),any());
+    }
+
+    @ParameterizedTest
+    @DisplayName("[포인트 충전/사용 내역 내보내기]NDJSON 으로 내보내고 Accept-Encoding 에 gzip 이 있으면 Content-Encoding: gzip")
+    @ValueSource(booleans = {false,true})
+    void exportUserPointHistory(boolean gzip) throws Exception{
+    //Given
+        String ndjson = "{\"id\":1,\"userId\":11,\"amount\":1000,\"type\":\"CHARGE\",\"updateMillis\":0}\n";
+        when(pointHistoryExportService.exportUserPointHistory(eq(11L),any(OutputStream.class),eq(gzip))).thenAnswer(invocation -> {
+            invocation.getArgument(1,OutputStream.class).write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        //When
+        MvcResult mvcResult = mockMvc.perform(get("/point/11/histories/export").header(HttpHeaders.ACCEPT_ENCODING,gzip ? "gzip, deflate" : "identity"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(gzip ? header().string(HttpHeaders.CONTENT_ENCODING,"gzip") : header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(ndjson));
+    }
+
+    @Test
+    @DisplayName("[포인트 일괄 충전/사용]요청별 처리 결과를 요청 순서대로 반환")
+    void batch() throws Exception{
+    //Given
+        long id = 11L;
+        PointOperation charge = new PointOperation(id,TransactionType.CHARGE,1_000L);
+        PointOperation overUse = new PointOperation(id,TransactionType.USE,5_000L);
+
+        when(pointBatchService.process(List.of(charge,overUse))).thenReturn(List.of(
+                PointOperationResult.success(charge,new UserPoint(id,1_000L,System.currentTimeMillis())),
+                PointOperationResult.fail(overUse,ErrorCode.NOT_ENOUGH_VALANCE)));
+        //When
+        mockMvc.perform(post("/point/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"userId\":11,\"type\":\"CHARGE\",\"amount\":1000},{\"userId\":11,\"type\":\"USE\",\"amount\":5000}]"))
+                //Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userPoint.point").value(1_000L))
+                .andExpect(jsonPath("$[0].errorCode").doesNotExist())
+                .andExpect(jsonPath("$[1].userPoint").doesNotExist())
+                .andExpect(jsonPath("$[1].errorCode").value(ErrorCode.NOT_ENOUGH_VALANCE.toString()));
+    }
 }
@@ -0,0 +1,93 @@
+package io.hhplus.tdd.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.PointHistoryExportService;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * PointHistoryExportService NDJSON 내보내기 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PointHistoryExportServiceTests {
+
+	@Mock
+	private PointHistoryTable pointHistoryTable;//충전/사용 내역 Mock 객체
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[내역 내보내기]유저의 내역을 오래된 순으로 한 줄에 한 건씩 JSON 으로 쓰고 다른 유저 내역은 제외")
+	void exportNdjson() throws Exception {
+	//Given
+		PointHistoryExportService pointHistoryExportService = createExportService();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+	//When
+		long count = pointHistoryExportService.exportUserPointHistory(11L,outputStream,false);
+	//Then
+		String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2,count);
+		assertEquals(2,lines.length);
+		assertEquals(new PointHistory(1,11L,10_000L,TransactionType.CHARGE,currentTimeMillis),objectMapper.readValue(lines[0],PointHistory.class));
+		assertEquals(new PointHistory(3,11L,3_000L,TransactionType.USE,currentTimeMillis),objectMapper.readValue(lines[1],PointHistory.class));
+		assertEquals('\n',outputStream.toString(StandardCharsets.UTF_8).charAt(outputStream.size() - 1));
+	}
+
+	@Test
+	@DisplayName("[내역 내보내기]gzip 요청 시 압축을 풀면 압축하지 않은 내보내기 결과와 동일")
+	void exportGzip() throws Exception {
+	//Given
+		PointHistoryExportService pointHistoryExportService = createExportService();
+		ByteArrayOutputStream plainOutputStream = new ByteArrayOutputStream();
+		ByteArrayOutputStream gzipOutputStream = new ByteArrayOutputStream();
+	//When
+		pointHistoryExportService.exportUserPointHistory(11L,plainOutputStream,false);
+		long count = pointHistoryExportService.exportUserPointHistory(11L,gzipOutputStream,true);
+	//Then
+		byte[] unzipped;
+		try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(gzipOutputStream.toByteArray()))) {
+			unzipped = gzipInputStream.readAllBytes();
+		}
+		assertEquals(2,count);
+		assertEquals(plainOutputStream.toString(StandardCharsets.UTF_8),new String(unzipped,StandardCharsets.UTF_8));
+	}
+
+	//유저 11 의 충전/사용 내역 2건과 유저 12 의 충전 내역 1건이 저장된 내보내기 서비스 생성
+	private PointHistoryExportService createExportService(){
+		when(pointHistoryTable.insert(11L,10_000L,TransactionType.CHARGE,currentTimeMillis)).thenReturn(new PointHistory(1,11L,10_000L,TransactionType.CHARGE,currentTimeMillis));
+		when(pointHistoryTable.insert(12L,5_000L,TransactionType.CHARGE,currentTimeMillis)).thenReturn(new PointHistory(2,12L,5_000L,TransactionType.CHARGE,currentTimeMillis));
+		when(pointHistoryTable.insert(11L,3_000L,TransactionType.USE,currentTimeMillis)).thenReturn(new PointHistory(3,11L,3_000L,TransactionType.USE,currentTimeMillis));
+
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),new PointProperties(),PointMetrics.noop());
+		pointHistoryRepository.insert(11L,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryRepository.insert(12L,5_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryRepository.insert(11L,3_000L,TransactionType.USE,currentTimeMillis);
+
+		//start() 를 호출하지 않아 저장 대기 내역 없음
+		PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,new PointProperties(),PointJournal.disabled());
+		return new PointHistoryExportService(pointHistoryRepository,pointHistoryWriter,objectMapper);
+	}
+}
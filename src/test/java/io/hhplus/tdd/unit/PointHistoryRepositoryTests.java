@@ -0,0 +1,332 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.DailyPointStats;
+import io.hhplus.tdd.point.dto.HistorySortOrder;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointHistoryPage;
+import io.hhplus.tdd.point.dto.PointStats;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.HistoryStoreType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.store.HistoryStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PointHistoryRepository 유저별 인덱스 동작 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PointHistoryRepositoryTests {
+
+	@Mock
+	private PointHistoryTable pointHistoryTable;//충전/사용 내역 Mock 객체
+
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[내역 조회]입력한 유저의 내역만 입력 순서대로 조회")
+	void selectAllByUserId(){
+	//Given
+		PointHistory chargeHistory = new PointHistory(1,11L,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		PointHistory otherUserHistory = new PointHistory(2,12L,5_000L,TransactionType.CHARGE,currentTimeMillis);
+		PointHistory useHistory = new PointHistory(3,11L,3_000L,TransactionType.USE,currentTimeMillis);
+
+		when(pointHistoryTable.insert(11L,10_000L,TransactionType.CHARGE,currentTimeMillis)).thenReturn(chargeHistory);
+		when(pointHistoryTable.insert(12L,5_000L,TransactionType.CHARGE,currentTimeMillis)).thenReturn(otherUserHistory);
+		when(pointHistoryTable.insert(11L,3_000L,TransactionType.USE,currentTimeMillis)).thenReturn(useHistory);
+	//When
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),new PointProperties(),PointMetrics.noop());
+		pointHistoryRepository.insert(11L,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryRepository.insert(12L,5_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryRepository.insert(11L,3_000L,TransactionType.USE,currentTimeMillis);
+
+		List<PointHistory> pointHistories = pointHistoryRepository.selectAllByUserId(11L);
+	//Then
+		assertEquals(List.of(chargeHistory,useHistory),pointHistories);
+		assertEquals(List.of(otherUserHistory),pointHistoryRepository.selectAllByUserId(12L));
+	}
+
+	@Test
+	@DisplayName("[journal 복구]복구한 내역은 저장소를 거치지 않고 인덱스에 적재되고 이후 저장한 내역 ID 는 복구한 내역 뒤로 이어져야 한다")
+	void restoreThenInsert(){
+	//Given
+		when(pointHistoryTable.insert(11L,1_000L,TransactionType.USE,currentTimeMillis)).thenReturn(new PointHistory(1,11L,1_000L,TransactionType.USE,currentTimeMillis));
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),new PointProperties(),PointMetrics.noop());
+	//When
+		pointHistoryRepository.restore(11L,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryRepository.restore(12L,5_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryRepository.insert(11L,1_000L,TransactionType.USE,currentTimeMillis);
+	//Then
+		assertEquals(List.of(new PointHistory(1,11L,10_000L,TransactionType.CHARGE,currentTimeMillis),new PointHistory(3,11L,1_000L,TransactionType.USE,currentTimeMillis)),
+				pointHistoryRepository.selectAllByUserId(11L));
+		assertEquals(List.of(new PointHistory(2,12L,5_000L,TransactionType.CHARGE,currentTimeMillis)),pointHistoryRepository.selectAllByUserId(12L));
+		assertEquals(3L,pointHistoryRepository.lastHistoryId());
+		verify(pointHistoryTable,times(1)).insert(anyLong(),anyLong(),any(),anyLong());
+		//저장소에 저장한 뒤에는 복구 불가
+		assertThrows(IllegalStateException.class,() -> pointHistoryRepository.restore(13L,1_000L,TransactionType.CHARGE,currentTimeMillis));
+	}
+
+	@Test
+	@DisplayName("[내역 조회]내역이 없는 유저는 빈 리스트 반환, 반환된 리스트는 수정 불가")
+	void selectEmptyHistory(){
+	//When
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),new PointProperties(),PointMetrics.noop());
+		List<PointHistory> pointHistories = pointHistoryRepository.selectAllByUserId(11L);
+	//Then
+		assertTrue(pointHistories.isEmpty());
+		assertThrows(UnsupportedOperationException.class,() -> pointHistories.add(new PointHistory(1,11L,1L,TransactionType.CHARGE,currentTimeMillis)));
+	}
+
+	@Test
+	@DisplayName("[내역 페이지 조회]최신 순으로 limit 건씩 조회하고 nextCursor 로 다음 페이지 조회, 마지막 페이지는 nextCursor 없음")
+	void selectPageNewestFirst(){
+	//Given
+		PointHistoryRepository pointHistoryRepository = createRepositoryWithHistories(11L,5);
+	//When
+		PointHistoryPage firstPage = pointHistoryRepository.selectPageByUserId(11L,null,2,HistorySortOrder.DESC);
+		PointHistoryPage secondPage = pointHistoryRepository.selectPageByUserId(11L,firstPage.nextCursor(),2,HistorySortOrder.DESC);
+		PointHistoryPage lastPage = pointHistoryRepository.selectPageByUserId(11L,secondPage.nextCursor(),2,HistorySortOrder.DESC);
+	//Then
+		assertEquals(List.of(5L,4L),historyIds(firstPage));
+		assertEquals(4L,firstPage.nextCursor());
+		assertEquals(List.of(3L,2L),historyIds(secondPage));
+		assertEquals(List.of(1L),historyIds(lastPage));
+		assertNull(lastPage.nextCursor());
+	}
+
+	@Test
+	@DisplayName("[내역 페이지 조회]오래된 순으로 cursor 다음 내역부터 조회, 남은 내역이 limit 과 같으면 nextCursor 없음")
+	void selectPageOldestFirst(){
+	//Given
+		PointHistoryRepository pointHistoryRepository = createRepositoryWithHistories(11L,5);
+	//When
+		PointHistoryPage page = pointHistoryRepository.selectPageByUserId(11L,2L,3,HistorySortOrder.ASC);
+	//Then
+		assertEquals(List.of(3L,4L,5L),historyIds(page));
+		assertNull(page.nextCursor());
+	}
+
+	@Test
+	@DisplayName("[내역 페이지 조회]내역 ID 가 뒤바뀐 순서로 저장되어도 페이지는 내역 ID 순서로 조회")
+	void selectPageOutOfOrderInsert(){
+	//Given
+		PointHistory firstHistory = new PointHistory(1,11L,1_000L,TransactionType.CHARGE,currentTimeMillis);
+		PointHistory secondHistory = new PointHistory(2,11L,2_000L,TransactionType.CHARGE,currentTimeMillis);
+		when(pointHistoryTable.insert(11L,2_000L,TransactionType.CHARGE,currentTimeMillis)).thenReturn(secondHistory);
+		when(pointHistoryTable.insert(11L,1_000L,TransactionType.CHARGE,currentTimeMillis)).thenReturn(firstHistory);
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),new PointProperties(),PointMetrics.noop());
+	//When
+		pointHistoryRepository.insert(11L,2_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryRepository.insert(11L,1_000L,TransactionType.CHARGE,currentTimeMillis);
+		PointHistoryPage page = pointHistoryRepository.selectPageByUserId(11L,null,10,HistorySortOrder.ASC);
+	//Then
+		assertEquals(List.of(1L,2L),historyIds(page));
+		assertEquals(List.of(firstHistory,secondHistory),pointHistoryRepository.selectAllByUserId(11L));
+	}
+
+	@Test
+	@DisplayName("[내역 페이지 조회]내역이 없는 유저는 빈 페이지 반환")
+	void selectEmptyPage(){
+	//When
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),new PointProperties(),PointMetrics.noop());
+		PointHistoryPage page = pointHistoryRepository.selectPageByUserId(11L,null,10,HistorySortOrder.DESC);
+	//Then
+		assertTrue(page.histories().isEmpty());
+		assertNull(page.nextCursor());
+	}
+
+	@ParameterizedTest
+	@DisplayName("[내역 저장 방식]OBJECT/COLUMNAR 모두 chunk 경계를 넘는 내역과 순서가 뒤바뀐 내역을 같은 결과로 조회")
+	@EnumSource(HistoryStoreType.class)
+	void sameResultForEachStoreType(HistoryStoreType storeType){
+	//Given
+		int count = 10_000;
+		//테이블이 돌려준 내역 ID 를 그대로 반환 - 내역 ID 5000 은 4999 보다 먼저 저장
+		when(pointHistoryTable.insert(anyLong(),anyLong(),any(),anyLong())).thenAnswer(invocation -> new PointHistory(
+				invocation.getArgument(3,Long.class),invocation.getArgument(0,Long.class),invocation.getArgument(1,Long.class),invocation.getArgument(2,TransactionType.class),invocation.getArgument(3,Long.class)));
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHistory().setStore(storeType);
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),pointProperties,PointMetrics.noop());
+
+		List<PointHistory> expected = new ArrayList<>();
+		for (long id = 1; id <= count; id++) {
+			expected.add(new PointHistory(id,11L,id * 10,id % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE,id));
+		}
+	//When
+		for (int i = 0; i < count; i++) {
+			PointHistory pointHistory = expected.get(i == 4_998 ? 4_999 : i == 4_999 ? 4_998 : i);
+			pointHistoryRepository.insert(pointHistory.userId(),pointHistory.amount(),pointHistory.type(),pointHistory.updateMillis());
+		}
+		List<PointHistory> scanned = new ArrayList<>();
+		pointHistoryRepository.scanByUserId(11L,(id,amount,type,updateMillis) -> scanned.add(new PointHistory(id,11L,amount,type,updateMillis)));
+		PointHistoryPage page = pointHistoryRepository.selectPageByUserId(11L,4_097L,3,HistorySortOrder.DESC);
+	//Then
+		assertEquals(expected,pointHistoryRepository.selectAllByUserId(11L));
+		assertEquals(expected,scanned);
+		assertEquals(List.of(4_096L,4_095L,4_094L),historyIds(page));
+		assertEquals(4_094L,page.nextCursor());
+	}
+
+	//유저의 내역을 내역 ID 1 ~ count 로 저장한 저장소 생성
+	private PointHistoryRepository createRepositoryWithHistories(long userId, int count){
+		for (long amount = 1; amount <= count; amount++) {
+			when(pointHistoryTable.insert(userId,amount,TransactionType.CHARGE,currentTimeMillis)).thenReturn(new PointHistory(amount,userId,amount,TransactionType.CHARGE,currentTimeMillis));
+		}
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),new PointProperties(),PointMetrics.noop());
+		for (long amount = 1; amount <= count; amount++) {
+			pointHistoryRepository.insert(userId,amount,TransactionType.CHARGE,currentTimeMillis);
+		}
+		return pointHistoryRepository;
+	}
+
+	private List<Long> historyIds(PointHistoryPage page){
+		return page.histories().stream().map(PointHistory::id).toList();
+	}
+
+	@Test
+	@DisplayName("[기간 합계 조회]내역 저장 시 갱신된 날짜별 충전/사용 합계를 기간 범위만 조회")
+	void selectStatsByUserId(){
+	//Given
+		ZoneId zone = ZoneId.of("Asia/Seoul");
+		//10/17 23:59(KST) 충전, 10/18 00:00(KST) 충전/사용, 10/20 사용, 다른 유저 10/18 충전
+		long oct17 = LocalDate.of(2026,10,17).atTime(23,59).atZone(zone).toInstant().toEpochMilli();
+		long oct18 = LocalDate.of(2026,10,18).atStartOfDay(zone).toInstant().toEpochMilli();
+		long oct20 = LocalDate.of(2026,10,20).atStartOfDay(zone).toInstant().toEpochMilli();
+		when(pointHistoryTable.insert(anyLong(),anyLong(),any(),anyLong())).thenAnswer(invocation -> new PointHistory(1,
+				invocation.getArgument(0),invocation.getArgument(1),invocation.getArgument(2),invocation.getArgument(3)));
+
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(pointHistoryTable),new PointProperties(),PointMetrics.noop());
+		pointHistoryRepository.insert(11L,1_000L,TransactionType.CHARGE,oct17);
+		pointHistoryRepository.insert(11L,5_000L,TransactionType.CHARGE,oct18);
+		pointHistoryRepository.insert(11L,2_000L,TransactionType.USE,oct18);
+		pointHistoryRepository.insert(11L,500L,TransactionType.USE,oct20);
+		pointHistoryRepository.insert(12L,7_000L,TransactionType.CHARGE,oct18);
+	//When
+		PointStats pointStats = pointHistoryRepository.selectStatsByUserId(11L,LocalDate.of(2026,10,18),LocalDate.of(2026,10,20));
+		PointStats emptyStats = pointHistoryRepository.selectStatsByUserId(13L,LocalDate.of(2026,10,18),LocalDate.of(2026,10,20));
+	//Then
+		assertEquals(new PointStats(11L,LocalDate.of(2026,10,18),LocalDate.of(2026,10,20),5_000L,2_500L,1L,2L,List.of(
+				new DailyPointStats(LocalDate.of(2026,10,18),5_000L,2_000L,1L,1L),
+				new DailyPointStats(LocalDate.of(2026,10,20),0L,500L,0L,1L))),pointStats);
+		assertEquals(0L,emptyStats.charged());
+		assertTrue(emptyStats.days().isEmpty());
+	}
+
+	@Test
+	@DisplayName("[내역 저장][동시 저장]여러 유저의 내역을 동시에 저장해도 내역 ID 는 중복 없이 1부터 연속, 유저별 내역은 ID 오름차순")
+	void concurrentInsertFromMultipleUsers() throws InterruptedException {
+	//Given
+		//throttle 이 있는 실제 PointHistoryTable 사용
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new PointHistoryTable()),new PointProperties(),PointMetrics.noop());
+		int userCount = 4;
+		int insertPerUser = 5;
+		CountDownLatch endLatch = new CountDownLatch(userCount);
+		ExecutorService executor = Executors.newFixedThreadPool(userCount);
+	//When
+		for (int i = 0; i < userCount; i++) {
+			long userId = 11L + i;
+			executor.submit(() -> {
+				try {
+					for (int j = 0; j < insertPerUser; j++) {
+						pointHistoryRepository.insert(userId,1_000L,TransactionType.CHARGE,currentTimeMillis);
+					}
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+		assertTrue(endLatch.await(30,TimeUnit.SECONDS));
+		executor.shutdown();
+	//Then
+		Set<Long> historyIds = new HashSet<>();
+		for (int i = 0; i < userCount; i++) {
+			List<Long> userHistoryIds = pointHistoryRepository.selectAllByUserId(11L + i).stream().map(PointHistory::id).toList();
+			assertEquals(insertPerUser,userHistoryIds.size());
+			for (int j = 1; j < userHistoryIds.size(); j++) {
+				assertTrue(userHistoryIds.get(j - 1) < userHistoryIds.get(j));
+			}
+			historyIds.addAll(userHistoryIds);
+		}
+		assertEquals(LongStream.rangeClosed(1,(long) userCount * insertPerUser).boxed().collect(Collectors.toSet()),historyIds);
+		assertEquals((long) userCount * insertPerUser,pointHistoryRepository.lastHistoryId());
+	}
+
+	@Test
+	@DisplayName("[내역 저장][동시 저장]저장소가 동시 저장을 지원하면 서로 다른 유저의 내역 저장은 한 건씩 처리되지 않고 겹쳐야 한다")
+	void concurrentInsertNotSerializedAcrossUsers() throws InterruptedException {
+	//Given
+		int userCount = 4;
+		//모든 유저의 저장이 저장소 안에 동시에 들어와야 통과하는 저장소 - 한 건씩 처리하면 barrier 대기 시간 초과
+		CyclicBarrier insideStore = new CyclicBarrier(userCount);
+		AtomicLong cursor = new AtomicLong();
+		HistoryStore historyStore = new HistoryStore() {
+			@Override
+			public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+				try {
+					insideStore.await(5,TimeUnit.SECONDS);
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+				return new PointHistory(cursor.incrementAndGet(),userId,amount,type,updateMillis);
+			}
+		};
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(historyStore,new PointProperties(),PointMetrics.noop());
+		AtomicInteger failCount = new AtomicInteger();
+		CountDownLatch endLatch = new CountDownLatch(userCount);
+		ExecutorService executor = Executors.newFixedThreadPool(userCount);
+	//When
+		for (int i = 0; i < userCount; i++) {
+			long userId = 11L + i;
+			executor.submit(() -> {
+				try {
+					pointHistoryRepository.insert(userId,1_000L,TransactionType.CHARGE,currentTimeMillis);
+				} catch (RuntimeException e) {
+					failCount.incrementAndGet();
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+		assertTrue(endLatch.await(30,TimeUnit.SECONDS));
+		executor.shutdown();
+	//Then
+		assertEquals(0,failCount.get());
+		assertEquals(userCount,pointHistoryRepository.lastHistoryId());
+	}
+}
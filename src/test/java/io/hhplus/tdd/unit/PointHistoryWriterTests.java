@@ -0,0 +1,144 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PointHistoryWriter write-behind 동작 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PointHistoryWriterTests {
+
+	@Mock
+	private PointHistoryRepository pointHistoryRepository;//충전/사용 내역 저장소 Mock 객체
+
+	//유저 ID
+	private final long id = 11L;
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[내역 저장]write-behind 사용 시 awaitPending 이후에는 요청한 내역이 입력 순서대로 저장되어 있어야 한다")
+	void awaitPendingAfterWriteBehind(){
+	//Given
+		PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,new PointProperties(),PointJournal.disabled());
+		pointHistoryWriter.start();
+	//When
+		pointHistoryWriter.write(id,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryWriter.write(id,3_000L,TransactionType.USE,currentTimeMillis);
+		pointHistoryWriter.awaitPending(id);
+	//Then
+		InOrder inOrder = inOrder(pointHistoryRepository);
+		inOrder.verify(pointHistoryRepository).insert(id,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		inOrder.verify(pointHistoryRepository).insert(id,3_000L,TransactionType.USE,currentTimeMillis);
+		assertEquals(0,pointHistoryWriter.pendingCount());
+
+		pointHistoryWriter.shutdown();
+	}
+
+	@Test
+	@DisplayName("[내역 저장]종료 시 큐에 남은 내역을 모두 저장해야 한다")
+	void flushOnShutdown(){
+	//Given
+		int writeCount = 100;
+		PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,new PointProperties(),PointJournal.disabled());
+		pointHistoryWriter.start();
+	//When
+		for (int i = 0; i < writeCount; i++) {
+			pointHistoryWriter.write(id,1_000L,TransactionType.CHARGE,currentTimeMillis);
+		}
+		pointHistoryWriter.shutdown();
+	//Then
+		verify(pointHistoryRepository,times(writeCount)).insert(id,1_000L,TransactionType.CHARGE,currentTimeMillis);
+		assertEquals(0,pointHistoryWriter.pendingCount());
+	}
+
+	@Test
+	@DisplayName("[내역 저장]write-behind 미사용 시 요청 스레드에서 바로 저장")
+	void writeThroughWhenDisabled(){
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHistory().getWriteBehind().setEnabled(false);
+		PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,pointProperties,PointJournal.disabled());
+		pointHistoryWriter.start();
+	//When
+		pointHistoryWriter.write(id,1_000L,TransactionType.CHARGE,currentTimeMillis);
+	//Then
+		verify(pointHistoryRepository).insert(id,1_000L,TransactionType.CHARGE,currentTimeMillis);
+	}
+
+	@Test
+	@DisplayName("[내역 저장][저장 실패]저장에 실패한 내역은 저장 완료로 표시하지 않고 성공할 때까지 같은 순서로 재시도해야 한다")
+	void retryFailedInsert(){
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHistory().getWriteBehind().setRetryBackoff(Duration.ofMillis(1));
+		doThrow(new IllegalStateException("store failure")).doThrow(new IllegalStateException("store failure")).doReturn(null)
+				.when(pointHistoryRepository).insert(id,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,pointProperties,PointJournal.disabled());
+		pointHistoryWriter.start();
+	//When
+		pointHistoryWriter.write(id,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		pointHistoryWriter.write(id,3_000L,TransactionType.USE,currentTimeMillis);
+		pointHistoryWriter.awaitPending(id);
+	//Then
+		InOrder inOrder = inOrder(pointHistoryRepository);
+		inOrder.verify(pointHistoryRepository,times(3)).insert(id,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		inOrder.verify(pointHistoryRepository).insert(id,3_000L,TransactionType.USE,currentTimeMillis);
+		assertEquals(2,pointHistoryWriter.failedWriteCount());
+		assertFalse(pointHistoryWriter.isStalled());
+
+		pointHistoryWriter.shutdown();
+	}
+
+	@Test
+	@DisplayName("[내역 저장][저장 실패]저장소가 계속 실패하면 내역은 저장 대기 상태로 남고 종료는 재시도 한도 후 끝나야 한다")
+	void keepPendingWhileStoreFails() throws InterruptedException {
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHistory().getWriteBehind().setRetryBackoff(Duration.ofMillis(1));
+		pointProperties.getHistory().getWriteBehind().setMaxRetryBackoff(Duration.ofMillis(5));
+		doThrow(new IllegalStateException("store failure")).when(pointHistoryRepository).insert(id,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,pointProperties,PointJournal.disabled());
+		pointHistoryWriter.start();
+	//When
+		pointHistoryWriter.write(id,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		CountDownLatch flushed = new CountDownLatch(1);
+		Thread flushThread = new Thread(() -> {
+			pointHistoryWriter.awaitPending(id);
+			flushed.countDown();
+		});
+		flushThread.setDaemon(true);
+		flushThread.start();
+	//Then
+		//저장 완료로 표시되지 않으므로 awaitPending 은 끝나지 않음
+		assertFalse(flushed.await(200,TimeUnit.MILLISECONDS));
+		assertTrue(pointHistoryWriter.isStalled());
+		assertTrue(pointHistoryWriter.failedWriteCount() > 1);
+
+		pointHistoryWriter.shutdown();
+		assertTrue(pointHistoryWriter.isStalled());
+		assertFalse(flushed.await(50,TimeUnit.MILLISECONDS));
+	}
+}
@@ -0,0 +1,202 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.journal.JournalReplayHandler;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.journal.PointJournalRecovery;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PointJournal 기록/재생/crash 복구 테스트
+ * - crash 는 세그먼트 파일을 기록 중간에서 자르거나 기록 일부를 깨뜨려서 재현
+ */
+@ExtendWith(MockitoExtension.class)
+class PointJournalTests {
+
+	@TempDir
+	Path directory;
+
+	@Mock
+	private UserPointTable userPointTable;//유저 포인트 Mock 객체
+
+	@Mock
+	private PointHistoryRepository pointHistoryRepository;//충전/사용 내역 Mock 객체
+
+	@Test
+	@DisplayName("[journal]기록한 잔고/내역을 다시 열었을 때 기록 순서대로 재생")
+	void appendAndReplay(){
+	//Given
+		PointJournal pointJournal = openJournal(DataSize.ofMegabytes(1));
+		pointJournal.appendBalance(11L,10_000L,1L);
+		pointJournal.appendHistory(11L,10_000L,TransactionType.CHARGE,1L);
+		pointJournal.appendBalance(11L,7_000L,2L);
+		pointJournal.appendHistory(11L,3_000L,TransactionType.USE,2L);
+		pointJournal.syncAppended();
+		pointJournal.close();
+	//When
+		PointJournal reopenedJournal = openJournal(DataSize.ofMegabytes(1));
+		List<String> records = replay(reopenedJournal);
+		reopenedJournal.close();
+	//Then
+		assertEquals(List.of("balance:11:10000","history:11:10000:CHARGE","balance:11:7000","history:11:3000:USE"),records);
+	}
+
+	@Test
+	@DisplayName("[journal crash]세그먼트 파일이 기록 중간에서 잘리면 잘린 기록부터 버리고 그 위치부터 이어서 기록")
+	void truncatedMidRecord() throws Exception {
+	//Given
+		PointJournal pointJournal = openJournal(DataSize.ofMegabytes(1));
+		for (long point = 1; point <= 5; point++) {
+			pointJournal.appendBalance(11L,point,point);
+		}
+		pointJournal.close();
+		//4번째 기록 중간에서 자름
+		truncate(directory.resolve("journal-00000000.log"),PointJournal.RECORD_SIZE * 3L + 10);
+	//When
+		PointJournal recoveredJournal = openJournal(DataSize.ofMegabytes(1));
+		List<String> recovered = replay(recoveredJournal);
+		recoveredJournal.appendBalance(11L,100L,100L);
+		recoveredJournal.close();
+	//Then
+		assertEquals(List.of("balance:11:1","balance:11:2","balance:11:3"),recovered);
+		PointJournal reopenedJournal = openJournal(DataSize.ofMegabytes(1));
+		assertEquals(List.of("balance:11:1","balance:11:2","balance:11:3","balance:11:100"),replay(reopenedJournal));
+		reopenedJournal.close();
+	}
+
+	@Test
+	@DisplayName("[journal crash]기록 일부가 깨지면 checksum 이 맞는 기록까지만 재생하고 이후 세그먼트는 삭제")
+	void corruptedRecordDiscardsFollowingSegments() throws Exception {
+	//Given
+		//세그먼트 1개에 기록 4건
+		DataSize segmentSize = DataSize.ofBytes(PointJournal.RECORD_SIZE * 4L);
+		PointJournal pointJournal = openJournal(segmentSize);
+		for (long point = 1; point <= 10; point++) {
+			pointJournal.appendBalance(11L,point,point);
+		}
+		pointJournal.close();
+		//두번째 세그먼트의 두번째 기록(6번째 기록) 잔고 값을 바꿔서 checksum 불일치
+		corrupt(directory.resolve("journal-00000001.log"),PointJournal.RECORD_SIZE + 12);
+	//When
+		PointJournal recoveredJournal = openJournal(segmentSize);
+		List<String> recovered = replay(recoveredJournal);
+		recoveredJournal.close();
+	//Then
+		assertEquals(List.of("balance:11:1","balance:11:2","balance:11:3","balance:11:4","balance:11:5"),recovered);
+		assertFalse(Files.exists(directory.resolve("journal-00000002.log")));
+	}
+
+	@Test
+	@DisplayName("[journal 복구]재생 시 유저별 마지막 잔고만 테이블에 저장하고 내역은 기록 순서대로 인덱스에 적재")
+	void recoverTables(){
+	//Given
+		PointJournal pointJournal = openJournal(DataSize.ofMegabytes(1));
+		pointJournal.appendBalance(11L,10_000L,1L);
+		pointJournal.appendHistory(11L,10_000L,TransactionType.CHARGE,1L);
+		pointJournal.appendBalance(12L,5_000L,2L);
+		pointJournal.appendHistory(12L,5_000L,TransactionType.CHARGE,2L);
+		pointJournal.appendBalance(11L,7_000L,3L);
+		pointJournal.appendHistory(11L,3_000L,TransactionType.USE,3L);
+		pointJournal.close();
+	//When
+		PointJournal recoveredJournal = openJournal(DataSize.ofMegabytes(1));
+		new PointJournalRecovery(recoveredJournal,new TableBalanceStore(userPointTable),pointHistoryRepository).recover();
+		recoveredJournal.close();
+	//Then
+		verify(userPointTable).insertOrUpdate(11L,7_000L);
+		verify(userPointTable).insertOrUpdate(12L,5_000L);
+		verify(userPointTable,times(2)).insertOrUpdate(anyLong(),anyLong());
+		InOrder historyOrder = inOrder(pointHistoryRepository);
+		historyOrder.verify(pointHistoryRepository).restore(11L,10_000L,TransactionType.CHARGE,1L);
+		historyOrder.verify(pointHistoryRepository).restore(12L,5_000L,TransactionType.CHARGE,2L);
+		historyOrder.verify(pointHistoryRepository).restore(11L,3_000L,TransactionType.USE,3L);
+	}
+
+	@Test
+	@DisplayName("[journal 종료]닫힌 뒤(memory-map 해제 후)의 기록 요청은 세그먼트에 쓰지 않고 무시")
+	void appendAfterClose(){
+	//Given
+		//기록 2건씩 들어가는 세그먼트 - 가득 찬 세그먼트는 넘어갈 때 닫힘
+		PointJournal pointJournal = openJournal(DataSize.ofBytes(PointJournal.RECORD_SIZE * 2L));
+		for (int i = 1; i <= 5; i++) {
+			pointJournal.appendBalance(11L,i,i);
+		}
+		pointJournal.close();
+	//When
+		long sequence = pointJournal.appendBalance(11L,6L,6L);
+	//Then
+		assertEquals(0L,sequence);
+		PointJournal reopenedJournal = openJournal(DataSize.ofBytes(PointJournal.RECORD_SIZE * 2L));
+		assertEquals(List.of("balance:11:1","balance:11:2","balance:11:3","balance:11:4","balance:11:5"),replay(reopenedJournal));
+		reopenedJournal.close();
+	}
+
+	private PointJournal openJournal(DataSize segmentSize){
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getJournal().setEnabled(true);
+		pointProperties.getJournal().setDirectory(directory.toString());
+		pointProperties.getJournal().setSegmentSize(segmentSize);
+		PointJournal pointJournal = new PointJournal(pointProperties,PointMetrics.noop());
+		pointJournal.open();
+		return pointJournal;
+	}
+
+	//재생한 기록을 문자열로 변환
+	private List<String> replay(PointJournal pointJournal){
+		List<String> records = new ArrayList<>();
+		pointJournal.replay(new JournalReplayHandler() {
+			@Override
+			public void onBalance(long userId, long point, long updateMillis) {
+				records.add("balance:" + userId + ":" + point);
+			}
+
+			@Override
+			public void onHistory(long userId, long amount, TransactionType type, long updateMillis) {
+				records.add("history:" + userId + ":" + amount + ":" + type);
+			}
+		});
+		return records;
+	}
+
+	private void truncate(Path path, long size) throws Exception {
+		try (FileChannel channel = FileChannel.open(path,StandardOpenOption.WRITE)) {
+			channel.truncate(size);
+		}
+	}
+
+	private void corrupt(Path path, long position) throws Exception {
+		try (RandomAccessFile file = new RandomAccessFile(path.toFile(),"rw")) {
+			file.seek(position);
+			int value = file.read();
+			file.seek(position);
+			file.write(value ^ 0xFF);
+		}
+	}
+}
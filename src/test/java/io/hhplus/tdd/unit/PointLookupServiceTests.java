@@ -0,0 +1,158 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointLookup;
+import io.hhplus.tdd.point.service.PointLookupService;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.ErrorCode;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PointLookupService 일괄 잔고 조회 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PointLookupServiceTests {
+
+	@Mock
+	private UserPointService userPointService;//단건 조회 Mock 객체
+
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[일괄 조회]유저별 조회를 동시에 진행하고 결과는 요청한 유저 ID 순서로 반환, 중복 ID 는 1번만 조회")
+	void selectUserPointsConcurrently(){
+	//Given
+		int userCount = 10;
+		//모든 조회가 동시에 진행 중이어야 latch 가 풀림 - 순서대로 조회하면 제한 시간 초과
+		CountDownLatch allStarted = new CountDownLatch(userCount);
+		when(userPointService.selectUserPoint(anyLong())).thenAnswer(invocation -> {
+			allStarted.countDown();
+			allStarted.await(5,TimeUnit.SECONDS);
+			return new UserPoint(invocation.getArgument(0),1_000L,currentTimeMillis);
+		});
+		//10, 9, ... 1 순서로 요청
+		List<Long> ids = LongStream.rangeClosed(1,userCount).map(i -> userCount + 1 - i).boxed().toList();
+	//When
+		PointLookupService pointLookupService = createPointLookupService(userCount,Duration.ofSeconds(3));
+		List<UserPointLookup> results = pointLookupService.selectUserPoints(Stream.concat(ids.stream(),Stream.of(1L,2L)).toList());
+		pointLookupService.shutdown();
+	//Then
+		assertEquals(userCount,results.size());
+		for (int i = 0; i < userCount; i++) {
+			assertEquals(ids.get(i),results.get(i).id());
+			assertEquals(1_000L,results.get(i).userPoint().point());
+			assertNull(results.get(i).errorCode());
+		}
+		verify(userPointService,times(userCount)).selectUserPoint(anyLong());
+	}
+
+	@Test
+	@DisplayName("[일괄 조회][제한 시간 초과]제한 시간 안에 끝나지 않은 유저만 LOOKUP_TIMEOUT, 나머지 유저는 정상 결과")
+	void selectUserPointsDeadline(){
+	//Given
+		CountDownLatch never = new CountDownLatch(1);
+		when(userPointService.selectUserPoint(11L)).thenReturn(new UserPoint(11L,1_000L,currentTimeMillis));
+		when(userPointService.selectUserPoint(12L)).thenAnswer(invocation -> {
+			never.await();
+			return new UserPoint(12L,2_000L,currentTimeMillis);
+		});
+		when(userPointService.selectUserPoint(13L)).thenReturn(new UserPoint(13L,3_000L,currentTimeMillis));
+	//When
+		PointLookupService pointLookupService = createPointLookupService(4,Duration.ofMillis(100));
+		long start = System.nanoTime();
+		List<UserPointLookup> results = pointLookupService.selectUserPoints(List.of(11L,12L,13L));
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		pointLookupService.shutdown();
+	//Then
+		assertEquals(1_000L,results.get(0).userPoint().point());
+		assertEquals(UserPointLookup.fail(12L,ErrorCode.LOOKUP_TIMEOUT),results.get(1));
+		assertEquals(3_000L,results.get(2).userPoint().point());
+		assertTrue(elapsedMillis < 2_000);
+	}
+
+	@Test
+	@DisplayName("[일괄 조회][동시 조회 수 초과]동시 조회 수만큼 조회 중이면 나머지 유저는 제한 시간까지 시작하지 않고 LOOKUP_TIMEOUT, 취소된 조회의 자리는 반환")
+	void selectUserPointsParallelismLimit(){
+	//Given
+		CountDownLatch never = new CountDownLatch(1);
+		when(userPointService.selectUserPoint(11L)).thenAnswer(invocation -> {
+			never.await();
+			return new UserPoint(11L,1_000L,currentTimeMillis);
+		});
+		when(userPointService.selectUserPoint(13L)).thenReturn(new UserPoint(13L,3_000L,currentTimeMillis));
+		PointLookupService pointLookupService = createPointLookupService(1,Duration.ofMillis(100));
+	//When
+		List<UserPointLookup> results = pointLookupService.selectUserPoints(List.of(11L,12L));
+		//제한 시간 초과로 취소된 조회의 자리가 반환되어 다음 조회는 바로 실행
+		List<UserPointLookup> nextResults = pointLookupService.selectUserPoints(List.of(13L));
+		pointLookupService.shutdown();
+	//Then
+		assertEquals(UserPointLookup.fail(11L,ErrorCode.LOOKUP_TIMEOUT),results.get(0));
+		assertEquals(UserPointLookup.fail(12L,ErrorCode.LOOKUP_TIMEOUT),results.get(1));
+		verify(userPointService,never()).selectUserPoint(12L);
+		assertEquals(3_000L,nextResults.get(0).userPoint().point());
+	}
+
+	@Test
+	@DisplayName("[일괄 조회][조회 실패]조회에 실패한 유저만 실패로 반환")
+	void selectUserPointsFailure(){
+	//Given
+		when(userPointService.selectUserPoint(11L)).thenReturn(new UserPoint(11L,1_000L,currentTimeMillis));
+		when(userPointService.selectUserPoint(12L)).thenThrow(new IllegalStateException("table unavailable"));
+		when(userPointService.selectUserPoint(13L)).thenThrow(new CustomException(ErrorCode.LOCK_WAIT_EXCEEDED));
+	//When
+		PointLookupService pointLookupService = createPointLookupService(4,Duration.ofSeconds(3));
+		List<UserPointLookup> results = pointLookupService.selectUserPoints(List.of(11L,12L,13L));
+		pointLookupService.shutdown();
+	//Then
+		assertEquals(UserPointLookup.success(11L,new UserPoint(11L,1_000L,currentTimeMillis)),results.get(0));
+		assertEquals(UserPointLookup.fail(12L,ErrorCode.LOOKUP_FAILED),results.get(1));
+		assertEquals(UserPointLookup.fail(13L,ErrorCode.LOCK_WAIT_EXCEEDED),results.get(2));
+	}
+
+	@Test
+	@DisplayName("[일괄 조회][최대 유저 수 초과]유저 수가 최대 유저 수를 넘으면 BATCH_SIZE_EXCEEDED")
+	void selectUserPointsSizeExceeded(){
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLookup().setMaxIds(2);
+		PointLookupService pointLookupService = new PointLookupService(userPointService,pointProperties,PointMetrics.noop(),false);
+	//When
+		CustomException ce = assertThrows(CustomException.class,() -> pointLookupService.selectUserPoints(List.of(11L,12L,13L)));
+		pointLookupService.shutdown();
+	//Then
+		assertEquals(ErrorCode.BATCH_SIZE_EXCEEDED,ce.getErrorCode());
+	}
+
+	private PointLookupService createPointLookupService(int parallelism, Duration deadline){
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLookup().setParallelism(parallelism);
+		pointProperties.getLookup().setDeadline(deadline);
+		return new PointLookupService(userPointService,pointProperties,PointMetrics.noop(),false);
+	}
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.store.BalanceStore;
+import io.hhplus.tdd.point.repository.store.HistoryStore;
+import io.hhplus.tdd.point.repository.store.InMemoryBalanceStore;
+import io.hhplus.tdd.point.repository.store.InMemoryHistoryStore;
+import io.hhplus.tdd.point.repository.store.StoreType;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 잔고/내역 저장소 구현(TABLE / IN_MEMORY)이 같은 동작을 하는지 테스트
+ */
+class PointStoreTests {
+
+	//유저 ID
+	private final long id = 11L;
+
+	@ParameterizedTest
+	@DisplayName("[잔고 저장소]저장 이력이 없으면 0P, 저장 후에는 저장한 잔고를 반환")
+	@EnumSource(StoreType.class)
+	void balanceStore(StoreType storeType){
+	//Given
+		BalanceStore balanceStore = createBalanceStore(storeType);
+	//When
+		UserPoint emptyUserPoint = balanceStore.selectById(id);
+		UserPoint savedUserPoint = balanceStore.insertOrUpdate(id,10_000L);
+		UserPoint selectedUserPoint = balanceStore.selectById(id);
+	//Then
+		assertEquals(UserPoint.empty(id).point(),emptyUserPoint.point());
+		assertEquals(10_000L,savedUserPoint.point());
+		assertEquals(savedUserPoint,selectedUserPoint);
+	}
+
+	@ParameterizedTest
+	@DisplayName("[내역 저장소]내역 ID 는 유저와 관계없이 저장 순서대로 1부터 발급")
+	@EnumSource(StoreType.class)
+	void historyStore(StoreType storeType){
+	//Given
+		HistoryStore historyStore = createHistoryStore(storeType);
+		long currentTimeMillis = System.currentTimeMillis();
+	//When
+		PointHistory first = historyStore.insert(id,10_000L,TransactionType.CHARGE,currentTimeMillis);
+		PointHistory second = historyStore.insert(12L,5_000L,TransactionType.CHARGE,currentTimeMillis);
+		PointHistory third = historyStore.insert(id,3_000L,TransactionType.USE,currentTimeMillis);
+	//Then
+		assertEquals(new PointHistory(1L,id,10_000L,TransactionType.CHARGE,currentTimeMillis),first);
+		assertEquals(new PointHistory(2L,12L,5_000L,TransactionType.CHARGE,currentTimeMillis),second);
+		assertEquals(new PointHistory(3L,id,3_000L,TransactionType.USE,currentTimeMillis),third);
+	}
+
+	@Test
+	@DisplayName("[IN_MEMORY 내역 저장소]여러 스레드가 동시에 저장해도 내역 ID 가 중복되지 않음")
+	void inMemoryHistoryStoreConcurrentInsert() throws InterruptedException {
+	//Given
+		HistoryStore historyStore = new InMemoryHistoryStore();
+		int threadCount = 32;
+		int insertPerThread = 1_000;
+		Set<Long> historyIds = ConcurrentHashMap.newKeySet();
+		CountDownLatch endLatch = new CountDownLatch(threadCount);
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+	//When
+		for (int i = 0; i < threadCount; i++) {
+			long userId = i;
+			executor.submit(() -> {
+				try {
+					for (int j = 0; j < insertPerThread; j++) {
+						historyIds.add(historyStore.insert(userId,1_000L,TransactionType.CHARGE,System.currentTimeMillis()).id());
+					}
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+		assertTrue(endLatch.await(10,TimeUnit.SECONDS));
+		executor.shutdown();
+	//Then
+		assertEquals(threadCount * insertPerThread,historyIds.size());
+		assertEquals(threadCount * insertPerThread,historyIds.stream().mapToLong(Long::longValue).max().orElse(0L));
+	}
+
+	private BalanceStore createBalanceStore(StoreType storeType){
+		return storeType == StoreType.TABLE ? new TableBalanceStore(new UserPointTable()) : new InMemoryBalanceStore();
+	}
+
+	private HistoryStore createHistoryStore(StoreType storeType){
+		return storeType == StoreType.TABLE ? new TableHistoryStore(new PointHistoryTable()) : new InMemoryHistoryStore();
+	}
+}
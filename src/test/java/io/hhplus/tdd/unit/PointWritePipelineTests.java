@@ -0,0 +1,196 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.HistoryWriteMode;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PointWritePipeline 잔고/내역 저장 순서(SEQUENTIAL / PIPELINED)와 실패 시 되돌림 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class PointWritePipelineTests {
+
+	@Mock
+	private UserPointRepository userPointRepository;//유저 포인트 Mock 객체
+
+	@Mock
+	private PointHistoryRepository pointHistoryRepository;//충전/사용 내역 Mock 객체
+
+	//내역 저장 writer - start() 를 호출하지 않아 write-behind 없이 바로 pointHistoryRepository 에 저장
+	private PointHistoryWriter pointHistoryWriter;
+
+	//유저 ID
+	private final long id = 11L;
+
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@BeforeEach
+	void setUp(){
+		pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,new PointProperties(),PointJournal.disabled());
+	}
+
+	@Test
+	@DisplayName("[SEQUENTIAL]잔고 저장 후 저장된 처리 시간으로 내역 저장")
+	void sequential(){
+	//Given
+		when(userPointRepository.insertOrUpdate(id,11_000L)).thenReturn(new UserPoint(id,11_000L,currentTimeMillis));
+	//When
+		PointWritePipeline pointWritePipeline = createPointWritePipeline(HistoryWriteMode.SEQUENTIAL);
+		UserPoint savedUserPoint = pointWritePipeline.save(id,10_000L,11_000L,1_000L,TransactionType.CHARGE);
+	//Then
+		assertEquals(new UserPoint(id,11_000L,currentTimeMillis),savedUserPoint);
+		InOrder inOrder = inOrder(userPointRepository,pointHistoryRepository);
+		inOrder.verify(userPointRepository).insertOrUpdate(id,11_000L);
+		inOrder.verify(pointHistoryRepository).insert(id,1_000L,TransactionType.CHARGE,currentTimeMillis);
+	}
+
+	@Test
+	@DisplayName("[PIPELINED]잔고 저장과 내역 저장을 동시에 진행")
+	void pipelined(){
+	//Given
+		//두 저장이 동시에 진행 중이어야 barrier 가 풀림 - 순서대로 저장하면 시간 초과
+		CyclicBarrier bothStarted = new CyclicBarrier(2);
+		when(userPointRepository.insertOrUpdate(id,11_000L)).thenAnswer(invocation -> {
+			bothStarted.await(5,TimeUnit.SECONDS);
+			return new UserPoint(id,11_000L,currentTimeMillis);
+		});
+		when(pointHistoryRepository.insert(eq(id),eq(1_000L),eq(TransactionType.CHARGE),anyLong())).thenAnswer(invocation -> {
+			bothStarted.await(5,TimeUnit.SECONDS);
+			return new PointHistory(1L,id,1_000L,TransactionType.CHARGE,invocation.getArgument(3));
+		});
+	//When
+		PointWritePipeline pointWritePipeline = createPointWritePipeline(HistoryWriteMode.PIPELINED);
+		UserPoint savedUserPoint = pointWritePipeline.save(id,10_000L,11_000L,1_000L,TransactionType.CHARGE);
+	//Then
+		assertEquals(new UserPoint(id,11_000L,currentTimeMillis),savedUserPoint);
+		verify(pointHistoryRepository).insert(eq(id),eq(1_000L),eq(TransactionType.CHARGE),anyLong());
+	}
+
+	@Test
+	@DisplayName("[PIPELINED][내역 저장 실패]잔고를 저장 전 값으로 되돌리고 내역 저장 예외 전달")
+	void pipelinedHistoryFailure(){
+	//Given
+		when(userPointRepository.insertOrUpdate(id,9_000L)).thenReturn(new UserPoint(id,9_000L,currentTimeMillis));
+		when(pointHistoryRepository.insert(eq(id),eq(1_000L),eq(TransactionType.USE),anyLong())).thenThrow(new IllegalStateException("history unavailable"));
+	//When
+		PointWritePipeline pointWritePipeline = createPointWritePipeline(HistoryWriteMode.PIPELINED);
+		IllegalStateException e = assertThrows(IllegalStateException.class,() -> pointWritePipeline.save(id,10_000L,9_000L,1_000L,TransactionType.USE));
+	//Then
+		assertEquals("history unavailable",e.getMessage());
+		verify(userPointRepository).insertOrUpdate(id,10_000L);
+	}
+
+	@Test
+	@DisplayName("[PIPELINED][잔고 저장 실패]저장된 내역을 반대 구분 내역으로 상쇄하고 잔고 저장 예외 전달")
+	void pipelinedBalanceFailure(){
+	//Given
+		when(userPointRepository.insertOrUpdate(id,11_000L)).thenThrow(new IllegalStateException("balance unavailable"));
+	//When
+		PointWritePipeline pointWritePipeline = createPointWritePipeline(HistoryWriteMode.PIPELINED);
+		IllegalStateException e = assertThrows(IllegalStateException.class,() -> pointWritePipeline.save(id,10_000L,11_000L,1_000L,TransactionType.CHARGE));
+	//Then
+		assertEquals("balance unavailable",e.getMessage());
+		verify(pointHistoryRepository).insert(eq(id),eq(1_000L),eq(TransactionType.CHARGE),anyLong());
+		verify(pointHistoryRepository).insert(eq(id),eq(1_000L),eq(TransactionType.USE),anyLong());
+		verify(userPointRepository,never()).insertOrUpdate(id,10_000L);
+	}
+
+	@Test
+	@DisplayName("[PIPELINED][write-behind 사용]내역은 큐에 넣기만 하므로 SEQUENTIAL 과 같이 처리")
+	void pipelinedIgnoredWithWriteBehind(){
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHistory().setWriteMode(HistoryWriteMode.PIPELINED);
+		//저장 시작 전에 정하는 처리 시간과 구분되도록 잔고 저장 시간은 과거 시간
+		long savedMillis = 1_000L;
+		when(userPointRepository.insertOrUpdate(id,11_000L)).thenReturn(new UserPoint(id,11_000L,savedMillis));
+	//When
+		PointWritePipeline pointWritePipeline = new PointWritePipeline(userPointRepository,pointHistoryWriter,pointProperties,false);
+		pointWritePipeline.save(id,10_000L,11_000L,1_000L,TransactionType.CHARGE);
+	//Then
+		//잔고 저장 시간으로 내역 기록
+		verify(pointHistoryRepository).insert(id,1_000L,TransactionType.CHARGE,savedMillis);
+	}
+
+	@Test
+	@DisplayName("[PIPELINED][pipeline-threads]서로 다른 유저가 동시에 저장해도 내역 저장은 pipeline-threads 개까지만 동시에 진행, 종료 후에는 새 저장을 받지 않음")
+	void pipelineThreadsBounded() throws InterruptedException {
+	//Given
+		int threadCount = 8;
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHistory().getWriteBehind().setEnabled(false);
+		pointProperties.getHistory().setWriteMode(HistoryWriteMode.PIPELINED);
+		pointProperties.getHistory().setPipelineThreads(2);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		when(userPointRepository.insertOrUpdate(anyLong(),eq(11_000L))).thenAnswer(invocation -> new UserPoint(invocation.getArgument(0),11_000L,currentTimeMillis));
+		when(pointHistoryRepository.insert(anyLong(),eq(1_000L),eq(TransactionType.CHARGE),anyLong())).thenAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(),Math::max);
+			TimeUnit.MILLISECONDS.sleep(20);
+			running.decrementAndGet();
+			return new PointHistory(1L,invocation.getArgument(0),1_000L,TransactionType.CHARGE,invocation.getArgument(3));
+		});
+		PointWritePipeline pointWritePipeline = new PointWritePipeline(userPointRepository,pointHistoryWriter,pointProperties,false);
+		CountDownLatch endLatch = new CountDownLatch(threadCount);
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+	//When
+		for (int i = 0; i < threadCount; i++) {
+			long userId = i + 1;
+			executor.submit(() -> {
+				try {
+					pointWritePipeline.save(userId,10_000L,11_000L,1_000L,TransactionType.CHARGE);
+				} finally {
+					endLatch.countDown();
+				}
+			});
+		}
+		assertTrue(endLatch.await(10,TimeUnit.SECONDS));
+		executor.shutdown();
+		pointWritePipeline.shutdown();
+	//Then
+		assertTrue(maxRunning.get() <= 2);
+		verify(pointHistoryRepository,times(threadCount)).insert(anyLong(),eq(1_000L),eq(TransactionType.CHARGE),anyLong());
+		assertThrows(TaskRejectedException.class,() -> pointWritePipeline.save(id,10_000L,11_000L,1_000L,TransactionType.CHARGE));
+	}
+
+	private PointWritePipeline createPointWritePipeline(HistoryWriteMode writeMode){
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getHistory().getWriteBehind().setEnabled(false);
+		pointProperties.getHistory().setWriteMode(writeMode);
+		return new PointWritePipeline(userPointRepository,pointHistoryWriter,pointProperties,false);
+	}
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.BalanceCache;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * UserPointRepository 잔고 캐시(read-through / write-through) 동작 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class UserPointRepositoryTests {
+
+	@Mock
+	private UserPointTable userPointTable;//유저 포인트 Mock 객체
+
+	//유저 ID
+	private final long id = 11L;
+	//현재시간
+	private final long currentTimeMillis = System.currentTimeMillis();
+
+	@Test
+	@DisplayName("[캐시]첫 조회는 테이블에서 읽고 이후 조회는 캐시에서 반환")
+	void readThrough(){
+	//Given
+		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis));
+		UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(userPointTable),new PointProperties(),PointMetrics.noop(),PointJournal.disabled());
+	//When
+		UserPoint first = userPointRepository.selectById(id);
+		UserPoint second = userPointRepository.selectById(id);
+	//Then
+		assertEquals(first,second);
+		verify(userPointTable,times(1)).selectById(id);
+		BalanceCache.CacheStats stats = userPointRepository.cacheStats();
+		assertEquals(1,stats.hitCount());
+		assertEquals(1,stats.missCount());
+	}
+
+	@Test
+	@DisplayName("[캐시]저장한 잔고는 테이블 조회 없이 캐시에서 반환")
+	void writeThrough(){
+	//Given
+		when(userPointTable.insertOrUpdate(id,10_000L)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis));
+		UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(userPointTable),new PointProperties(),PointMetrics.noop(),PointJournal.disabled());
+	//When
+		userPointRepository.insertOrUpdate(id,10_000L);
+		UserPoint userPoint = userPointRepository.selectById(id);
+	//Then
+		assertEquals(10_000L,userPoint.point());
+		verify(userPointTable,never()).selectById(id);
+	}
+
+	@Test
+	@DisplayName("[캐시]최대 크기를 넘으면 가장 오래 사용하지 않은 유저부터 제거")
+	void evictLeastRecentlyUsed(){
+	//Given
+		//segment 16개 * segment 당 1명
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getCache().setMaxSize(16);
+		UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(userPointTable),pointProperties,PointMetrics.noop(),PointJournal.disabled());
+		int userCount = 1_000;
+	//When
+		for (long userId = 1; userId <= userCount; userId++) {
+			when(userPointTable.insertOrUpdate(userId,1_000L)).thenReturn(new UserPoint(userId,1_000L,currentTimeMillis));
+			userPointRepository.insertOrUpdate(userId,1_000L);
+		}
+	//Then
+		BalanceCache.CacheStats stats = userPointRepository.cacheStats();
+		assertEquals(16,stats.size());
+		assertEquals(userCount - 16,stats.evictionCount());
+	}
+
+	@Test
+	@DisplayName("[캐시]캐시 미사용 시 매번 테이블 조회")
+	void cacheDisabled(){
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getCache().setEnabled(false);
+		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis));
+		UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(userPointTable),pointProperties,PointMetrics.noop(),PointJournal.disabled());
+	//When
+		userPointRepository.selectById(id);
+		userPointRepository.selectById(id);
+	//Then
+		verify(userPointTable,times(2)).selectById(id);
+	}
+}
@@ -1,25 +1,47 @@
 package io.hhplus.tdd.unit;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
 import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.PointTransfer;
 import io.hhplus.tdd.point.dto.TransactionType;
 import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.PointEngineType;
+import io.hhplus.tdd.point.service.UseConcurrencyMode;
 import io.hhplus.tdd.point.service.UserPointService;
 import io.hhplus.tdd.point.util.exception.CustomException;
+import io.hhplus.tdd.point.util.exception.TooManyRequestsException;
 import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -32,19 +54,27 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 class UserPointServiceTests {
 
 	@Mock
-	private UserPointTable userPointTable;//유저 포인트 Mock 객체
+	private UserPointRepository userPointRepository;//유저 포인트 Mock 객체
 
 	@Mock
-	private PointHistoryTable pointHistoryTable;//충전/사용 내역 Mock 객체
+	private PointHistoryRepository pointHistoryRepository;//충전/사용 내역 Mock 객체
 
 	@Mock
 	private ConcurrentAndReentraantLockFactory concurrentAndReentraantLockFactory;//lock을 위한 객체
 
+	//내역 저장 writer - start() 를 호출하지 않아 write-behind 없이 요청 스레드에서 바로 pointHistoryRepository 에 저장
+	private PointHistoryWriter pointHistoryWriter;
+
 	//유저 ID
 	private final long id = 11L;
 	//현재시간
 	private final long currentTimeMillis = System.currentTimeMillis();
 
+	@BeforeEach
+	void setUp(){
+		pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,new PointProperties(),PointJournal.disabled());
+	}
+
 	@Test
 	@DisplayName("[포인트 충전][최대 잔고 초과]충전 요청 포인트 + 소유 포인트가 1,000,000P 초과 일때 충전 실패")
 	void overChargeAttempt(){
@@ -55,9 +85,9 @@ class UserPointServiceTests {
 		//lock mock 객체
 		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
 		//최대 잔고에 근접한 유저포인트 Mock 객체
-		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,999_999L,currentTimeMillis));
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,999_999L,currentTimeMillis));
 	//When
-		UserPointService userPointService = new UserPointService(userPointTable,pointHistoryTable,concurrentAndReentraantLockFactory);
+		UserPointService userPointService = createUserPointService();
 		CustomException ce = assertThrows(CustomException.class,() -> userPointService.chargePoint(id, chargePointAmount),"충천 포인트 0P");
 	//Then
 		assertEquals(600,ce.getErrorCode().getStatus());
@@ -75,11 +105,11 @@ class UserPointServiceTests {
 		//lock mock 객체
 		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
 		//소유 포인트가 없는 유저포인트 Mock 객체
-		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,0L,currentTimeMillis));
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,0L,currentTimeMillis));
 		//chargePointAmount 만큼 포인트 충전된 Mock 객체
-		when(userPointTable.insertOrUpdate(id,chargePointAmount)).thenReturn(new UserPoint(id,chargePointAmount,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,chargePointAmount)).thenReturn(new UserPoint(id,chargePointAmount,currentTimeMillis));
 	//When
-		UserPointService userPointService = new UserPointService(userPointTable,pointHistoryTable,concurrentAndReentraantLockFactory);
+		UserPointService userPointService = createUserPointService();
 		UserPoint afterChargeUserPoint =  userPointService.chargePoint(id, chargePointAmount);
 	//Then
 		//포인트 정상 충전 확인
@@ -97,22 +127,22 @@ class UserPointServiceTests {
 		//lock mock 객체
 		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
 		//소유 포인트가 없는 유저포인트 Mock 객체
-		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,0L,currentTimeMillis));
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,0L,currentTimeMillis));
 		//chargePointAmount 만큼 포인트 충전된 Mock 객체
-		when(userPointTable.insertOrUpdate(id,chargePointAmount)).thenReturn(new UserPoint(id,chargePointAmount,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,chargePointAmount)).thenReturn(new UserPoint(id,chargePointAmount,currentTimeMillis));
 
 		PointHistory chargePointHistory = new PointHistory(1,id,chargePointAmount,TransactionType.CHARGE,currentTimeMillis);
 		List<PointHistory> pointHistories = new ArrayList<>();
 		pointHistories.add(chargePointHistory);
 		//충전 내역 입력 Mock 객체
-		when(pointHistoryTable.insert(id,chargePointAmount,TransactionType.CHARGE,currentTimeMillis)).thenReturn(chargePointHistory);
+		when(pointHistoryRepository.insert(id,chargePointAmount,TransactionType.CHARGE,currentTimeMillis)).thenReturn(chargePointHistory);
 		//충전 내역 조회 Mock 객체
-		when(pointHistoryTable.selectAllByUserId(id)).thenReturn(pointHistories);
+		when(pointHistoryRepository.selectAllByUserId(id)).thenReturn(pointHistories);
 	//When
-		UserPointService userPointService = new UserPointService(userPointTable,pointHistoryTable,concurrentAndReentraantLockFactory);
+		UserPointService userPointService = createUserPointService();
 		userPointService.chargePoint(id, chargePointAmount);
 
-		List<PointHistory> pointHistory = pointHistoryTable.selectAllByUserId(id);
+		List<PointHistory> pointHistory = pointHistoryRepository.selectAllByUserId(id);
 	//Then
 		//충전 이력 정상 입력 확인
 		assertEquals(1,pointHistory.size());//1회 충전으로 리턴 리스트 사이즈는 1이어야 함
@@ -121,6 +151,27 @@ class UserPointServiceTests {
 		assertEquals(TransactionType.CHARGE,pointHistory.get(0).type());
 	}
 
+	@Test
+	@DisplayName("[포인트 충전]소유 포인트가 있어도 충전 내역에는 충전 후 잔고가 아닌 충전 포인트(변동분) 기록")
+	void recordChargeDeltaHistory(){
+	//Given
+		//충전 포인트
+		long chargePointAmount = 1_000L;
+
+		//lock mock 객체
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
+		//5,000P 를 소유한 유저포인트 Mock 객체
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,5_000L,currentTimeMillis));
+		//충전 후 6,000P 인 Mock 객체
+		when(userPointRepository.insertOrUpdate(id,6_000L)).thenReturn(new UserPoint(id,6_000L,currentTimeMillis));
+	//When
+		UserPointService userPointService = createUserPointService();
+		UserPoint afterChargeUserPoint = userPointService.chargePoint(id, chargePointAmount);
+	//Then
+		assertEquals(6_000L,afterChargeUserPoint.point());
+		verify(pointHistoryRepository).insert(id,chargePointAmount,TransactionType.CHARGE,currentTimeMillis);
+	}
+
 	@ParameterizedTest
 	@DisplayName("[포인트 사용][잔고 부족]소유 포인트가 0P 이거나 사용할 포인트보다 작은 경우 사용 실패")
 	@ValueSource(longs = {0L,10_000L})
@@ -128,10 +179,12 @@ class UserPointServiceTests {
 	//Given
 		long usePointAmount = 100_000L;
 
+		//유저 lock 객체
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
 		//소유 포인트를 ValueSouce에서 입력받는 유저포인트 Mock 객체
-		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,ownPointAmount,currentTimeMillis));
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,ownPointAmount,currentTimeMillis));
 	//When
-		UserPointService userPointService = new UserPointService(userPointTable,pointHistoryTable,concurrentAndReentraantLockFactory);
+		UserPointService userPointService = createUserPointService();
 		CustomException ce = assertThrows(CustomException.class,() -> userPointService.usePoint(id, usePointAmount - ownPointAmount),"잔여 포인트 부족");
 	//Then
 		assertEquals(602,ce.getErrorCode().getStatus());
@@ -147,12 +200,14 @@ class UserPointServiceTests {
 		long ownUserPointAmount = 10_000L;
 		long remainingUserPointAmount = ownUserPointAmount - usePointAmount;
 
+		//유저 lock 객체
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
 		//소유 포인트 10_000P 유저포인트 Mock 객체
-		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,ownUserPointAmount,currentTimeMillis));
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,ownUserPointAmount,currentTimeMillis));
 		//usePointAmount 만큼 포인트 사용 후 remainingUserPointAmount 유저포인트 Mock 객체
-		when(userPointTable.insertOrUpdate(id,remainingUserPointAmount)).thenReturn(new UserPoint(id,remainingUserPointAmount,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,remainingUserPointAmount)).thenReturn(new UserPoint(id,remainingUserPointAmount,currentTimeMillis));
 	//When
-		UserPointService userPointService = new UserPointService(userPointTable,pointHistoryTable,concurrentAndReentraantLockFactory);
+		UserPointService userPointService = createUserPointService();
 		UserPoint afterUseUserPoint =  userPointService.usePoint(id, usePointAmount);
 	//Then
 		//포인트 정상 사용 확인
@@ -168,23 +223,25 @@ class UserPointServiceTests {
 		long ownUserPointAmount = 10_000L;
 		long remainingUserPointAmount = ownUserPointAmount - usePointAmount;
 
+		//유저 lock 객체
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
 		//소유 포인트 10_000P 유저포인트 Mock 객체
-		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,ownUserPointAmount,currentTimeMillis));
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,ownUserPointAmount,currentTimeMillis));
 		//usePointAmount 만큼 포인트 사용 후 remainingUserPointAmount 유저포인트 Mock 객체
-		when(userPointTable.insertOrUpdate(id,remainingUserPointAmount)).thenReturn(new UserPoint(id,remainingUserPointAmount,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,remainingUserPointAmount)).thenReturn(new UserPoint(id,remainingUserPointAmount,currentTimeMillis));
 
 		PointHistory usePointHistory = new PointHistory(1,id,usePointAmount,TransactionType.USE,currentTimeMillis);
 		List<PointHistory> pointHistories = new ArrayList<>();
 		pointHistories.add(usePointHistory);
 		//사용 내역 입력 Mock 객체
-		when(pointHistoryTable.insert(id,usePointAmount,TransactionType.USE,currentTimeMillis)).thenReturn(usePointHistory);
+		when(pointHistoryRepository.insert(id,usePointAmount,TransactionType.USE,currentTimeMillis)).thenReturn(usePointHistory);
 		//사용 내역 조회 Mock 객체
-		when(pointHistoryTable.selectAllByUserId(id)).thenReturn(pointHistories);
+		when(pointHistoryRepository.selectAllByUserId(id)).thenReturn(pointHistories);
 	//When
-		UserPointService userPointService = new UserPointService(userPointTable,pointHistoryTable,concurrentAndReentraantLockFactory);
+		UserPointService userPointService = createUserPointService();
 		userPointService.usePoint(id, usePointAmount);
 
-		List<PointHistory> pointHistory = pointHistoryTable.selectAllByUserId(id);
+		List<PointHistory> pointHistory = pointHistoryRepository.selectAllByUserId(id);
 	//Then
 		//사용 내역 정상 입력 확인
 		assertEquals(1,pointHistory.size());//1회 사용으로 리턴 리스트 사이즈는 1이어야 함
@@ -193,6 +250,221 @@ class UserPointServiceTests {
 		assertEquals(TransactionType.USE,pointHistory.get(0).type());
 	}
 
+	@Test
+	@DisplayName("[포인트 사용][낙관적]조회 후 다른 저장으로 버전이 바뀌면 다시 조회한 잔고로 사용")
+	void useRetriesOnVersionConflict(){
+	//Given
+		long usePointAmount = 1_000L;
+
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
+		//1번째 시도: 버전 0 조회 -> 저장 직전 버전 1 (그 사이 충전) / 2번째 시도: 버전 1 그대로
+		when(userPointRepository.versionOf(id)).thenReturn(0L,1L,1L,1L);
+		//1번째 시도 조회 10_000P, 그 사이 5_000P 충전되어 2번째 시도 조회 15_000P
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis),new UserPoint(id,15_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,14_000L)).thenReturn(new UserPoint(id,14_000L,currentTimeMillis));
+	//When
+		UserPointService userPointService = createUserPointService(noBackoffProperties());
+		UserPoint afterUseUserPoint = userPointService.usePoint(id, usePointAmount);
+	//Then
+		//충돌한 1번째 시도의 값(9_000P)은 저장하지 않고 다시 조회한 잔고로 저장
+		assertEquals(14_000L,afterUseUserPoint.point());
+		verify(userPointRepository,never()).insertOrUpdate(id,9_000L);
+		verify(userPointRepository,times(2)).selectById(id);
+	}
+
+	@Test
+	@DisplayName("[포인트 사용][낙관적]maxAttempts 번 모두 충돌하면 유저 lock 으로 사용")
+	void useFallsBackToLockAfterMaxAttempts(){
+	//Given
+		long usePointAmount = 1_000L;
+		PointProperties pointProperties = noBackoffProperties();
+		int maxAttempts = pointProperties.getEngine().getOptimistic().getMaxAttempts();
+
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
+		//조회할 때마다 버전이 바뀜 -> 낙관적 시도는 항상 충돌
+		AtomicLong version = new AtomicLong();
+		when(userPointRepository.versionOf(id)).thenAnswer(invocation -> version.incrementAndGet());
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,9_000L)).thenReturn(new UserPoint(id,9_000L,currentTimeMillis));
+	//When
+		UserPointService userPointService = createUserPointService(pointProperties);
+		UserPoint afterUseUserPoint = userPointService.usePoint(id, usePointAmount);
+	//Then
+		assertEquals(9_000L,afterUseUserPoint.point());
+		//낙관적 시도 maxAttempts 번 + lock 사용 1번 조회, 저장은 1번
+		verify(userPointRepository,times(maxAttempts + 1)).selectById(id);
+		verify(userPointRepository,times(1)).insertOrUpdate(id,9_000L);
+	}
+
+	@Test
+	@DisplayName("[포인트 사용][비관적]기본값 PESSIMISTIC 은 버전 비교 없이 유저 lock 으로 사용")
+	void usePessimistic(){
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		assertEquals(UseConcurrencyMode.PESSIMISTIC,pointProperties.getEngine().getUseMode());
+
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,9_000L)).thenReturn(new UserPoint(id,9_000L,currentTimeMillis));
+	//When
+		UserPointService userPointService = createUserPointService(pointProperties);
+		UserPoint afterUseUserPoint = userPointService.usePoint(id, 1_000L);
+	//Then
+		assertEquals(9_000L,afterUseUserPoint.point());
+		verify(userPointRepository,never()).versionOf(id);
+	}
+
+	@Test
+	@DisplayName("[포인트 충전][대기 한도 초과]다른 요청이 유저 lock 을 wait-timeout 넘게 점유하면 LOCK_WAIT_EXCEEDED, 조회/저장 없이 lock 반환")
+	void chargeLockWaitExceeded() throws Exception {
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLock().setWaitTimeout(Duration.ofMillis(20));
+		ReentrantLock lock = new ReentrantLock();
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(lock);
+		//다른 스레드가 유저 lock 점유
+		Thread holder = new Thread(lock::lock);
+		holder.start();
+		holder.join();
+	//When
+		UserPointService userPointService = createUserPointService(pointProperties);
+		CustomException ce = assertThrows(CustomException.class,() -> userPointService.chargePoint(id, 1_000L));
+	//Then
+		assertEquals("LOCK_WAIT_EXCEEDED",ce.getErrorCode().getCode());
+		verify(concurrentAndReentraantLockFactory).release(id,lock);
+		verify(userPointRepository,never()).selectById(id);
+	}
+
+	@Test
+	@DisplayName("[포인트 충전][hot user][대기 한도 초과]요청 합치기로 처리하는 유저도 유저 lock 을 wait-timeout 넘게 기다리면 LOCK_WAIT_EXCEEDED")
+	void hotUserLockWaitExceeded() throws Exception {
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getLock().setWaitTimeout(Duration.ofMillis(20));
+		ReentrantLock lock = new ReentrantLock();
+		when(concurrentAndReentraantLockFactory.isHot(id)).thenReturn(true);
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(lock);
+		//다른 스레드가 유저 lock 점유
+		Thread holder = new Thread(lock::lock);
+		holder.start();
+		holder.join();
+	//When
+		UserPointService userPointService = createUserPointService(pointProperties);
+		TooManyRequestsException e = assertThrows(TooManyRequestsException.class,() -> userPointService.chargePoint(id, 1_000L));
+	//Then
+		assertEquals("LOCK_WAIT_EXCEEDED",e.getErrorCode().getCode());
+		verify(concurrentAndReentraantLockFactory).release(id,lock);
+		verify(userPointRepository,never()).selectById(id);
+	}
+
+	@Test
+	@DisplayName("[포인트 사용][hot user]lock 경합이 많은 유저는 버전 비교 없이 같은 유저 요청끼리 합쳐서 사용")
+	void hotUserRoutedToCombining(){
+	//Given
+		when(concurrentAndReentraantLockFactory.isHot(id)).thenReturn(true);
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,9_000L)).thenReturn(new UserPoint(id,9_000L,currentTimeMillis));
+	//When
+		UserPointService userPointService = createUserPointService();
+		UserPoint afterUseUserPoint = userPointService.usePoint(id, 1_000L);
+	//Then
+		assertEquals(9_000L,afterUseUserPoint.point());
+		//낙관적 사용(LOCK 엔진)은 버전을 조회하므로 조회하지 않았으면 합쳐서 처리하는 경로
+		verify(userPointRepository,never()).versionOf(id);
+	}
+
+	@Test
+	@DisplayName("[포인트 송금]보내는 유저 잔고 차감, 받는 유저 잔고 증가 후 사용/충전 내역 기록")
+	void transfer(){
+	//Given
+		long toId = 12L;
+		when(concurrentAndReentraantLockFactory.getLock(id)).thenReturn(new ReentrantLock());
+		when(concurrentAndReentraantLockFactory.getLock(toId)).thenReturn(new ReentrantLock());
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis));
+		when(userPointRepository.selectById(toId)).thenReturn(new UserPoint(toId,1_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(id,7_000L)).thenReturn(new UserPoint(id,7_000L,currentTimeMillis));
+		when(userPointRepository.insertOrUpdate(toId,4_000L)).thenReturn(new UserPoint(toId,4_000L,currentTimeMillis));
+	//When
+		UserPointService userPointService = createUserPointService();
+		List<UserPoint> afterTransferUserPoints = userPointService.transfer(List.of(new PointTransfer(id,toId,3_000L)));
+	//Then
+		assertEquals(List.of(new UserPoint(id,7_000L,currentTimeMillis),new UserPoint(toId,4_000L,currentTimeMillis)),afterTransferUserPoints);
+		verify(pointHistoryRepository).insert(id,3_000L,TransactionType.USE,currentTimeMillis);
+		verify(pointHistoryRepository).insert(toId,3_000L,TransactionType.CHARGE,currentTimeMillis);
+	}
+
+	@Test
+	@DisplayName("[포인트 송금][잔고 부족]여러 건 중 하나라도 잔고가 부족하면 아무 잔고도 저장하지 않음")
+	void transferAllOrNothing(){
+	//Given
+		long secondId = 12L;
+		long thirdId = 13L;
+		for (long userId : new long[]{id,secondId,thirdId}) {
+			when(concurrentAndReentraantLockFactory.getLock(userId)).thenReturn(new ReentrantLock());
+		}
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,10_000L,currentTimeMillis));
+		when(userPointRepository.selectById(secondId)).thenReturn(new UserPoint(secondId,0L,currentTimeMillis));
+		when(userPointRepository.selectById(thirdId)).thenReturn(new UserPoint(thirdId,0L,currentTimeMillis));
+	//When
+		UserPointService userPointService = createUserPointService();
+		//1번째 송금은 가능하지만 2번째 송금은 secondId 잔고(5_000P) 부족
+		CustomException ce = assertThrows(CustomException.class,() -> userPointService.transfer(List.of(
+				new PointTransfer(id,secondId,5_000L),
+				new PointTransfer(secondId,thirdId,6_000L))));
+	//Then
+		assertEquals("NOT_ENOUGH_VALANCE",ce.getErrorCode().getCode());
+		verify(userPointRepository,never()).insertOrUpdate(anyLong(),anyLong());
+		verify(pointHistoryRepository,never()).insert(anyLong(),anyLong(),any(),anyLong());
+	}
+
+	@Test
+	@DisplayName("[포인트 송금]송금 순서와 상관없이 유저 lock 은 항상 유저 ID 순서로 획득")
+	void transferLocksInIdOrder(){
+	//Given
+		long[] userIds = {13L,11L,12L};
+		for (long userId : userIds) {
+			when(concurrentAndReentraantLockFactory.getLock(userId)).thenReturn(new ReentrantLock());
+			when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId,10_000L,currentTimeMillis));
+		}
+		when(userPointRepository.insertOrUpdate(anyLong(),anyLong())).thenAnswer(invocation -> new UserPoint(invocation.getArgument(0),invocation.getArgument(1),currentTimeMillis));
+	//When
+		UserPointService userPointService = createUserPointService();
+		userPointService.transfer(List.of(new PointTransfer(13L,11L,1_000L),new PointTransfer(12L,13L,2_000L)));
+	//Then
+		InOrder inOrder = inOrder(concurrentAndReentraantLockFactory);
+		inOrder.verify(concurrentAndReentraantLockFactory).getLock(11L);
+		inOrder.verify(concurrentAndReentraantLockFactory).getLock(12L);
+		inOrder.verify(concurrentAndReentraantLockFactory).getLock(13L);
+	}
+
+	@ParameterizedTest
+	@DisplayName("[포인트 송금][입력 값 오류]같은 유저에게 송금하거나 송금 포인트가 0P 이하/1회 한도 초과면 INVALID_TRANSFER")
+	@ValueSource(longs = {0L,100_001L})
+	void invalidTransfer(long amount){
+	//When
+		UserPointService userPointService = createUserPointService();
+		CustomException invalidAmount = assertThrows(CustomException.class,() -> userPointService.transfer(List.of(new PointTransfer(id,12L,amount))));
+		CustomException sameUser = assertThrows(CustomException.class,() -> userPointService.transfer(List.of(new PointTransfer(id,id,1_000L))));
+	//Then
+		assertEquals("INVALID_TRANSFER",invalidAmount.getErrorCode().getCode());
+		assertEquals("INVALID_TRANSFER",sameUser.getErrorCode().getCode());
+	}
+
+	@Test
+	@DisplayName("[포인트 송금][LOCK_FREE 엔진]엔진이 잔고를 관리하므로 송금은 TRANSFER_NOT_SUPPORTED")
+	void transferNotSupportedByLockFreeEngine(){
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getEngine().setType(PointEngineType.LOCK_FREE);
+	//When
+		UserPointService userPointService = createUserPointService(pointProperties);
+		CustomException ce = assertThrows(CustomException.class,() -> userPointService.transfer(List.of(new PointTransfer(id,12L,1_000L))));
+	//Then
+		assertEquals("TRANSFER_NOT_SUPPORTED",ce.getErrorCode().getCode());
+		verify(concurrentAndReentraantLockFactory,never()).getLock(anyLong());
+	}
+
 	@Test
 	@DisplayName("[포인트 조회]소유 포인트 조회")
 	void selectOwnPoint(){
@@ -200,9 +472,9 @@ class UserPointServiceTests {
 		long ownUserPointAmount = 10_000L;
 
 		//소유 포인트 10_000P 유저포인트 Mock 객체
-		when(userPointTable.selectById(id)).thenReturn(new UserPoint(id,ownUserPointAmount,currentTimeMillis));
+		when(userPointRepository.selectById(id)).thenReturn(new UserPoint(id,ownUserPointAmount,currentTimeMillis));
 	//When
-		UserPointService userPointService = new UserPointService(userPointTable,pointHistoryTable,concurrentAndReentraantLockFactory);
+		UserPointService userPointService = createUserPointService();
 		UserPoint currentUserPoint = userPointService.selectUserPoint(id);
 	//Then
 		assertEquals(ownUserPointAmount,currentUserPoint.point());
@@ -221,9 +493,9 @@ class UserPointServiceTests {
 		pointHistories.add(chargePointHistory);
 		pointHistories.add(usePointHistory);
 		//사용 내역 조회 Mock 객체
-		when(pointHistoryTable.selectAllByUserId(id)).thenReturn(pointHistories);
+		when(pointHistoryRepository.selectAllByUserId(id)).thenReturn(pointHistories);
 	//When
-		UserPointService userPointService = new UserPointService(userPointTable,pointHistoryTable,concurrentAndReentraantLockFactory);
+		UserPointService userPointService = createUserPointService();
 		List<PointHistory> pointHistorieList = userPointService.selectUserPointHistory(id);
 	//Then
 		//충전 내역 정상 입력 확인
@@ -238,4 +510,23 @@ class UserPointServiceTests {
 		assertEquals(usePointAmount,pointHistorieList.get(1).amount());
 		assertEquals(TransactionType.USE,pointHistorieList.get(1).type());
 	}
+
+	//기본 설정(LOCK 엔진)으로 테스트 대상 서비스 생성
+	private UserPointService createUserPointService(){
+		return createUserPointService(new PointProperties());
+	}
+
+	private UserPointService createUserPointService(PointProperties pointProperties){
+		LockFreePointEngine lockFreePointEngine = new LockFreePointEngine(userPointRepository,pointHistoryWriter);
+		CombiningPointEngine combiningPointEngine = new CombiningPointEngine(userPointRepository,pointHistoryWriter,concurrentAndReentraantLockFactory,pointProperties,PointMetrics.noop());
+		return new UserPointService(userPointRepository,pointHistoryRepository,pointHistoryWriter,new PointWritePipeline(userPointRepository,pointHistoryWriter,pointProperties,false),concurrentAndReentraantLockFactory,lockFreePointEngine,combiningPointEngine,pointProperties,PointMetrics.noop(),PointJournal.disabled(),IdempotencyCache.disabled());
+	}
+
+	//낙관적 사용(OPTIMISTIC), 재시도 전 대기 없음
+	private PointProperties noBackoffProperties(){
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getEngine().setUseMode(UseConcurrencyMode.OPTIMISTIC);
+		pointProperties.getEngine().getOptimistic().setBackoff(Duration.ZERO);
+		return pointProperties;
+	}
 }
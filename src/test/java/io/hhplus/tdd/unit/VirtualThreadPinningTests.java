@@ -0,0 +1,159 @@
+package io.hhplus.tdd.unit;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.config.PointProperties;
+import io.hhplus.tdd.point.dto.PointHistory;
+import io.hhplus.tdd.point.dto.TransactionType;
+import io.hhplus.tdd.point.dto.UserPoint;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryWriter;
+import io.hhplus.tdd.point.repository.PointWritePipeline;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.journal.PointJournal;
+import io.hhplus.tdd.point.repository.store.TableBalanceStore;
+import io.hhplus.tdd.point.repository.store.TableHistoryStore;
+import io.hhplus.tdd.point.service.CombiningPointEngine;
+import io.hhplus.tdd.point.service.IdempotencyCache;
+import io.hhplus.tdd.point.service.LockFreePointEngine;
+import io.hhplus.tdd.point.service.PointEngineType;
+import io.hhplus.tdd.point.service.UserPointService;
+import io.hhplus.tdd.point.util.lock.ConcurrentAndReentraantLockFactory;
+import io.hhplus.tdd.point.util.metrics.PointMetrics;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * virtual thread 로 충전/사용/내역 조회 시 lock 대기 중에 carrier thread pinning 이 발생하지 않는지 확인
+ * - JFR jdk.VirtualThreadPinned 이벤트(threshold 0)를 기록해서 한건도 없어야 함
+ * - virtual thread 는 Java 21 부터 사용 가능하므로 Java 21 이상에서만 실행 (./gradlew test -PtestJavaVersion=21)
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTests {
+
+	//한명의 유저에게 몰리는 동시 요청 수
+	private final int requestCount = 50;
+	//유저 ID
+	private final long id = 11L;
+
+	@TempDir
+	Path tempDir;
+
+	@ParameterizedTest
+	@EnumSource(PointEngineType.class)
+	@DisplayName("[virtual thread]한명의 유저에게 동시 충전/사용/조회 시 pinning 이벤트가 발생하지 않아야 한다")
+	void noPinning(PointEngineType engineType) throws Exception {
+	//Given
+		PointProperties pointProperties = new PointProperties();
+		pointProperties.getEngine().setType(engineType);
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository(new TableHistoryStore(new SleepingPointHistoryTable()),pointProperties,PointMetrics.noop());
+		PointHistoryWriter pointHistoryWriter = new PointHistoryWriter(pointHistoryRepository,pointProperties,PointJournal.disabled());
+		pointHistoryWriter.start();
+		UserPointRepository userPointRepository = new UserPointRepository(new TableBalanceStore(new SleepingUserPointTable()),pointProperties,PointMetrics.noop(),PointJournal.disabled());
+		ConcurrentAndReentraantLockFactory lockFactory = new ConcurrentAndReentraantLockFactory(pointProperties,PointMetrics.noop());
+		UserPointService userPointService = new UserPointService(userPointRepository,pointHistoryRepository,pointHistoryWriter,new PointWritePipeline(userPointRepository,pointHistoryWriter,pointProperties,false),lockFactory,
+				new LockFreePointEngine(userPointRepository,pointHistoryWriter),new CombiningPointEngine(userPointRepository,pointHistoryWriter,lockFactory,pointProperties,PointMetrics.noop()),pointProperties,PointMetrics.noop(),PointJournal.disabled(),IdempotencyCache.disabled());
+
+		Path recordingFile = tempDir.resolve("pinning.jfr");
+		List<RecordedEvent> pinnedEvents = new ArrayList<>();
+	//When
+		try (Recording recording = new Recording()) {
+			recording.enable("jdk.VirtualThreadPinned").withoutThreshold().withStackTrace();
+			recording.start();
+
+			//Java 17 로 컴파일하므로 Executors.newVirtualThreadPerTaskExecutor 는 reflection 으로 호출
+			ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < requestCount; i++) {
+				futures.add(executor.submit(() -> userPointService.chargePoint(id,1_000L)));
+				futures.add(executor.submit(() -> userPointService.usePoint(id,1L)));
+				futures.add(executor.submit(() -> userPointService.selectUserPointHistory(id)));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (Exception ignored) {
+					//잔고 부족 등 비즈니스 예외는 pinning 확인과 무관
+				}
+			}
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(1,TimeUnit.MINUTES));
+			pointHistoryWriter.shutdown();
+
+			recording.stop();
+			recording.dump(recordingFile);
+		}
+		for (RecordedEvent event : RecordingFile.readAllEvents(recordingFile)) {
+			if (event.getEventType().getName().equals("jdk.VirtualThreadPinned")) {
+				pinnedEvents.add(event);
+			}
+		}
+	//Then
+		assertEquals(0,pinnedEvents.size(),() -> "pinned: " + pinnedEvents);
+	}
+
+	/**
+	 * 테이블 지연을 짧은 고정 sleep 으로 대체 - lock 을 잡은 채로 대기하는 구간을 만들기 위함
+	 */
+	static class SleepingUserPointTable extends UserPointTable {
+		private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+		@Override
+		public UserPoint selectById(Long id) {
+			sleep();
+			return table.getOrDefault(id,UserPoint.empty(id));
+		}
+
+		@Override
+		public UserPoint insertOrUpdate(long id, long amount) {
+			sleep();
+			UserPoint userPoint = new UserPoint(id,amount,System.currentTimeMillis());
+			table.put(id,userPoint);
+			return userPoint;
+		}
+	}
+
+	static class SleepingPointHistoryTable extends PointHistoryTable {
+		private final List<PointHistory> table = new ArrayList<>();
+		private long cursor = 1;
+
+		@Override
+		public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+			sleep();
+			PointHistory pointHistory;
+			synchronized (table) {
+				pointHistory = new PointHistory(cursor++,userId,amount,type,updateMillis);
+				table.add(pointHistory);
+			}
+			return pointHistory;
+		}
+	}
+
+	private static void sleep() {
+		try {
+			TimeUnit.MILLISECONDS.sleep(2);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}